@@ -0,0 +1,129 @@
+package com.ecommerce.project.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.DTO.ProductResponse;
+import com.ecommerce.project.model.Address;
+import com.ecommerce.project.model.Cart;
+import com.ecommerce.project.model.CartItem;
+import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.Order;
+import com.ecommerce.project.model.OrderItem;
+import com.ecommerce.project.model.Payment;
+import com.ecommerce.project.model.Product;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, shaped like a typical catalog page,
+ * order and cart so results stay comparable between releases.
+ */
+final class BenchmarkData {
+
+    static final String IMAGE_BASE_URL = "http://localhost:8080/images";
+
+    // Arguments for benchmarks that boot the application on in-memory H2. Command-line arguments,
+    // so they win over the backend's application.properties
+    static final String[] APPLICATION_ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:benchmarks;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                    + "DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            // The Flyway migrations are Postgres-only, so H2 gets its schema from Hibernate
+            "--spring.flyway.enabled=false",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--server.port=0",
+            "--logging.level.root=WARN",
+            "--cloudinary.cloud-name=benchmarks",
+            "--cloudinary.api-key=benchmarks",
+            "--cloudinary.api-secret=benchmarks",
+            "--project.image=target/benchmark-images",
+            "--image.base.url=" + IMAGE_BASE_URL,
+            "--frontend.url=http://localhost:3000",
+            // Keep the background pollers out of the measurements
+            "--orders.pipeline.poll-interval-ms=3600000",
+            "--images.upload.poll-interval-ms=3600000",
+            "--outbox.relay.interval-ms=3600000",
+            "--inventory.hot-sku.rebalance-interval-ms=3600000",
+            "--checkout.reservation.sweep-interval-ms=3600000"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static Product product(long productId) {
+        Category category = new Category(productId % 20, "Category " + productId % 20, null);
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName("Product " + productId);
+        product.setModel("Model-" + productId % 50);
+        product.setDescription("Description of product " + productId + " with enough text to look real");
+        product.setImage(IMAGE_BASE_URL + "/" + productId + ".jpg");
+        product.setThumbnailUrl(IMAGE_BASE_URL + "/" + productId + "-thumbnail.webp");
+        product.setMediumUrl(IMAGE_BASE_URL + "/" + productId + "-medium.webp");
+        product.setLargeUrl(IMAGE_BASE_URL + "/" + productId + "-large.webp");
+        product.setQuantity(100);
+        product.setPrice(19.99 + productId);
+        product.setCategory(category);
+        return product;
+    }
+
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (long productId = 1; productId <= count; productId++) {
+            products.add(product(productId));
+        }
+        return products;
+    }
+
+    static Order order(int itemCount) {
+        Order order = new Order();
+        order.setOrderId(1L);
+        order.setEmail("user@example.com");
+        order.setOrderDate(LocalDate.of(2025, 1, 15));
+        order.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        order.setOrderStatus("ACCEPTED");
+        order.setPayment(new Payment(1L, order, "CARD", "pg-1", "SUCCEEDED", "ok", "stripe"));
+        Address address = new Address();
+        address.setAddressId(7L);
+        order.setAddress(address);
+
+        double totalAmount = 0;
+        for (long itemId = 1; itemId <= itemCount; itemId++) {
+            Product product = product(itemId);
+            order.getOrderItems().add(new OrderItem(itemId, product, order, 2, product.getPrice()));
+            totalAmount += 2 * product.getPrice();
+        }
+        order.setTotalAmount(totalAmount);
+        return order;
+    }
+
+    static Cart cart(int itemCount) {
+        Cart cart = new Cart();
+        cart.setCartId(1L);
+        double totalPrice = 0;
+        for (long itemId = 1; itemId <= itemCount; itemId++) {
+            Product product = product(itemId);
+            cart.getCartItems().add(new CartItem(itemId, cart, product, 1, product.getPrice()));
+            totalPrice += product.getPrice();
+        }
+        cart.setTotalPrice(totalPrice);
+        return cart;
+    }
+
+    static ProductResponse productPage(int pageSize) {
+        List<ProductDTO> content = new ArrayList<>(pageSize);
+        for (Product product : products(pageSize)) {
+            ProductDTO productData = new ProductDTO(product.getProductId(), product.getProductName(), product.getModel(),
+                    product.getImage(), product.getDescription(), product.getQuantity(), product.getPrice());
+            productData.setThumbnailUrl(product.getThumbnailUrl());
+            productData.setMediumUrl(product.getMediumUrl());
+            productData.setLargeUrl(product.getLargeUrl());
+            content.add(productData);
+        }
+        return new ProductResponse(content, 0, pageSize, 10_000L, 10_000 / pageSize, false);
+    }
+}
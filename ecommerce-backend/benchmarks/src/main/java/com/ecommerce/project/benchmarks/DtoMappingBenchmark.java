@@ -0,0 +1,129 @@
+package com.ecommerce.project.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecommerce.project.DTO.CartDto;
+import com.ecommerce.project.DTO.OrderDto;
+import com.ecommerce.project.DTO.OrderItemDto;
+import com.ecommerce.project.DTO.PaymentDTO;
+import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.config.AppConfig;
+import com.ecommerce.project.model.Cart;
+import com.ecommerce.project.model.CartItem;
+import com.ecommerce.project.model.Order;
+import com.ecommerce.project.model.OrderItem;
+import com.ecommerce.project.model.Payment;
+import com.ecommerce.project.model.Product;
+
+/**
+ * Entity to DTO mapping with the application's ModelMapper bean against hand-written mapping
+ * (the code a compile-time mapper would generate), for a catalog page, an order and a cart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "50"})
+    private int itemCount;
+
+    private ModelMapper modelMapper;
+    private List<Product> productPage;
+    private Order order;
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new AppConfig().modelMapper();
+        productPage = BenchmarkData.products(itemCount);
+        order = BenchmarkData.order(itemCount);
+        cart = BenchmarkData.cart(itemCount);
+    }
+
+    @Benchmark
+    public List<ProductDTO> productPageModelMapper() {
+        return productPage.stream()
+                .map(product -> modelMapper.map(product, ProductDTO.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProductDTO> productPageHandWritten() {
+        return productPage.stream()
+                .map(DtoMappingBenchmark::toProductDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public OrderDto orderModelMapper() {
+        OrderDto orderData = modelMapper.map(order, OrderDto.class);
+        orderData.setAddressId(order.getAddress().getAddressId());
+        return orderData;
+    }
+
+    @Benchmark
+    public OrderDto orderHandWritten() {
+        List<OrderItemDto> orderItems = new ArrayList<>(order.getOrderItems().size());
+        for (OrderItem orderItem : order.getOrderItems()) {
+            orderItems.add(new OrderItemDto(orderItem.getOrderItemId(), toProductDTO(orderItem.getProduct()),
+                    orderItem.getQty(), orderItem.getProductPrice()));
+        }
+        Payment payment = order.getPayment();
+        PaymentDTO paymentData = new PaymentDTO(payment.getPaymentId(), payment.getPaymentMethod(), payment.getPgPaymentId(),
+                payment.getPgStatus(), payment.getPgResponseMessage(), payment.getPgName());
+        return new OrderDto(order.getOrderId(), order.getEmail(), orderItems, order.getOrderDate(), paymentData,
+                order.getTotalAmount(), order.getOrderStatus(), order.getAddress().getAddressId());
+    }
+
+    // Same shape as ICartServiceImpl.buildCartDTOWithProducts
+    @Benchmark
+    public CartDto cartModelMapper() {
+        CartDto cartData = modelMapper.map(cart, CartDto.class);
+        cartData.setProducts(cart.getCartItems().stream()
+                .map(cartItem -> {
+                    ProductDTO productData = modelMapper.map(cartItem.getProduct(), ProductDTO.class);
+                    productData.setQuantity(cartItem.getQty());
+                    return productData;
+                })
+                .toList());
+        return cartData;
+    }
+
+    @Benchmark
+    public CartDto cartHandWritten() {
+        List<ProductDTO> products = new ArrayList<>(cart.getCartItems().size());
+        for (CartItem cartItem : cart.getCartItems()) {
+            ProductDTO productData = toProductDTO(cartItem.getProduct());
+            productData.setQuantity(cartItem.getQty());
+            products.add(productData);
+        }
+        return new CartDto(cart.getCartId(), cart.getTotalPrice(), products);
+    }
+
+    private static ProductDTO toProductDTO(Product product) {
+        ProductDTO productData = new ProductDTO(product.getProductId(), product.getProductName(), product.getModel(),
+                product.getImage(), product.getDescription(), product.getQuantity(), product.getPrice());
+        productData.setThumbnailUrl(product.getThumbnailUrl());
+        productData.setMediumUrl(product.getMediumUrl());
+        productData.setLargeUrl(product.getLargeUrl());
+        return productData;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.project.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.CategoryDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.EcommerceApplication;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.service.Interface.IHotSkuStockService;
+
+/**
+ * Checkout stock decrements for one popular product under concurrent buyers: the plain product row
+ * update used by normal checkout against the hot SKU path (in-memory shard pick plus one shard row
+ * update), each in its own transaction like a checkout. Runs against the real application context
+ * on an in-memory H2 database; compare the two scores, not the absolute numbers, with production Postgres.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class HotSkuCheckoutBenchmark {
+
+    // Enough stock that neither product sells out during a run
+    private static final int INITIAL_STOCK = 1_000_000_000;
+    private static final int SHARD_COUNT = 16;
+
+    private ConfigurableApplicationContext applicationContext;
+    private ProductDAO productDAO;
+    private IHotSkuStockService hotSkuStockService;
+    private TransactionTemplate checkoutTransaction;
+    private Long plainProductId;
+    private Long hotProductId;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(EcommerceApplication.class).run(BenchmarkData.APPLICATION_ARGS);
+        productDAO = applicationContext.getBean(ProductDAO.class);
+        hotSkuStockService = applicationContext.getBean(IHotSkuStockService.class);
+        checkoutTransaction = new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+
+        Category category = applicationContext.getBean(CategoryDAO.class).save(new Category(null, "Flash sale", null));
+        plainProductId = saveProduct(category, 1);
+        hotProductId = saveProduct(category, 2);
+        hotSkuStockService.enableHotSku(hotProductId, SHARD_COUNT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void singleProductRow() {
+        checkoutTransaction.executeWithoutResult(status -> {
+            if (productDAO.decrementStockRespectingHolds(plainProductId, 1, "buyer@example.com", LocalDateTime.now()) != 1) {
+                throw new APIErrorHandler("Benchmark product sold out");
+            }
+        });
+    }
+
+    @Benchmark
+    public void hotSkuShards() {
+        checkoutTransaction.executeWithoutResult(status -> hotSkuStockService.decrementStock(hotProductId, 1));
+    }
+
+    private Long saveProduct(Category category, long sequence) {
+        Product product = BenchmarkData.product(sequence);
+        product.setProductId(null);
+        product.setCategory(category);
+        product.setQuantity(INITIAL_STOCK);
+        return productDAO.save(product).getProductId();
+    }
+}
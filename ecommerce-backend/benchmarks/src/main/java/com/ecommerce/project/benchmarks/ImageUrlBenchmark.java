@@ -0,0 +1,58 @@
+package com.ecommerce.project.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.helper.ImageUrlResolver;
+import com.ecommerce.project.model.Product;
+
+/**
+ * Image URL resolution for local file names and absolute (Cloudinary) URLs.
+ * Products store resolved URLs, so this runs once per image write (assignImages) rather than
+ * per product in every catalog, cart and order response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageUrlBenchmark {
+
+    private ImageUrlResolver imageUrlResolver;
+    private ProductImagesDto uploadedImages;
+
+    @Setup
+    public void setUp() {
+        imageUrlResolver = new ImageUrlResolver(BenchmarkData.IMAGE_BASE_URL);
+        uploadedImages = new ProductImagesDto("0b6c5a8e.jpg", "0b6c5a8e-thumbnail.webp", "0b6c5a8e-medium.webp", "0b6c5a8e-large.webp");
+    }
+
+    @Benchmark
+    public String resolveLocalName() {
+        return imageUrlResolver.resolve("0b6c5a8e-2f4d-4c51-9a43-3e2f1d0c7b9a.jpg");
+    }
+
+    @Benchmark
+    public String resolveAbsoluteUrl() {
+        return imageUrlResolver.resolve("https://res.cloudinary.com/demo/image/upload/products/0b6c5a8e.jpg");
+    }
+
+    @Benchmark
+    public Product assignUploadedImages() {
+        Product product = new Product();
+        imageUrlResolver.assignImages(product, uploadedImages);
+        return product;
+    }
+}
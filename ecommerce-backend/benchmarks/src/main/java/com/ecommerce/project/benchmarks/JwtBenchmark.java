@@ -0,0 +1,58 @@
+package com.ecommerce.project.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.project.JwtAuth.jwt.JwtUtils;
+
+/**
+ * Token generation and validation as done on login and on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String issuedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(new StaticMessageSource());
+        // Same values as application.properties
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "mySecretKey123912738aopsgjnspkmndfsopkvajoirjg94gf2opfng2moknm");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 300000000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCookieName", "springBootEcom");
+        issuedToken = jwtUtils.generateTokenFromUsername("user1");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateTokenFromUsername("user1");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateJwtToken(issuedToken);
+    }
+
+    @Benchmark
+    public String readUsername() {
+        return jwtUtils.getUserNameFromJwtToken(issuedToken);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.project.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ecommerce.project.DAO.CategoryDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DTO.ProductResponse;
+import com.ecommerce.project.EcommerceApplication;
+import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.service.Interface.IProductService;
+
+/**
+ * Catalog queries through IProductService.getAllProducts (filter specification, paged query
+ * and DTO mapping) against the real application context on an in-memory H2 database
+ * seeded with 20 categories of 500 products.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductQueryBenchmark {
+
+    private static final int CATEGORY_COUNT = 20;
+    private static final int PRODUCTS_PER_CATEGORY = 500;
+
+    private ConfigurableApplicationContext applicationContext;
+    private IProductService productService;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(EcommerceApplication.class).run(BenchmarkData.APPLICATION_ARGS);
+        productService = applicationContext.getBean(IProductService.class);
+        seedCatalog(applicationContext.getBean(CategoryDAO.class), applicationContext.getBean(ProductDAO.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public ProductResponse firstPageUnfiltered() {
+        return productService.getAllProducts(0, 10, "productId", "asc", null, null, null);
+    }
+
+    @Benchmark
+    public ProductResponse keywordSearch() {
+        return productService.getAllProducts(0, 10, "productId", "asc", "product 12", null, null);
+    }
+
+    @Benchmark
+    public ProductResponse categoryAndModelFilter() {
+        return productService.getAllProducts(0, 10, "price", "desc", null, "Category 7", "model-3");
+    }
+
+    @Benchmark
+    public ProductResponse deepPage() {
+        return productService.getAllProducts(900, 10, "productId", "asc", null, null, null);
+    }
+
+    private void seedCatalog(CategoryDAO categoryDAO, ProductDAO productDAO) {
+        for (int categoryNumber = 0; categoryNumber < CATEGORY_COUNT; categoryNumber++) {
+            Category category = categoryDAO.save(new Category(null, "Category " + categoryNumber, null));
+            List<Product> products = new ArrayList<>(PRODUCTS_PER_CATEGORY);
+            for (int productNumber = 0; productNumber < PRODUCTS_PER_CATEGORY; productNumber++) {
+                long sequence = (long) categoryNumber * PRODUCTS_PER_CATEGORY + productNumber;
+                Product product = BenchmarkData.product(sequence);
+                product.setProductId(null);
+                product.setCategory(category);
+                products.add(product);
+            }
+            productDAO.saveAll(products);
+        }
+    }
+}
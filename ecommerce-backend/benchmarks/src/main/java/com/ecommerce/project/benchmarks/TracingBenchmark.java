@@ -0,0 +1,109 @@
+package com.ecommerce.project.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tracing overhead per request-shaped unit of work: one service observation wrapping three
+ * repository observations, as ObservationAspect creates them.
+ * "off" is the no-op registry; the other values are management.tracing.sampling.probability.
+ * Spans go to an exporter that drops them, so only the instrumentation cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracingBenchmark {
+
+    @Param({"off", "0.0", "0.1", "1.0"})
+    public String samplingProbability;
+
+    private SdkTracerProvider tracerProvider;
+    private ObservationRegistry observationRegistry;
+
+    @Setup
+    public void setUp() {
+        if (samplingProbability.equals("off")) {
+            observationRegistry = ObservationRegistry.NOOP;
+            return;
+        }
+
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(Double.parseDouble(samplingProbability))))
+                .addSpanProcessor(SimpleSpanProcessor.create(new DroppingSpanExporter()))
+                .build();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("benchmark"), new OtelCurrentTraceContext(), event -> {
+        });
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Benchmark
+    public long serviceCallWithThreeQueries() {
+        return Observation.createNotStarted("service.method", observationRegistry)
+                .contextualName("IOrderServiceImpl.placeOrder")
+                .lowCardinalityKeyValue("service", "IOrderServiceImpl")
+                .lowCardinalityKeyValue("method", "placeOrder")
+                .observe(() -> repositoryCall("findById") + repositoryCall("save") + repositoryCall("saveAll"));
+    }
+
+    private long repositoryCall(String methodName) {
+        return Observation.createNotStarted("repository.call", observationRegistry)
+                .contextualName("OrderDAO." + methodName)
+                .lowCardinalityKeyValue("repository", "OrderDAO")
+                .lowCardinalityKeyValue("method", methodName)
+                .observe(() -> (long) methodName.length());
+    }
+
+    private static final class DroppingSpanExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
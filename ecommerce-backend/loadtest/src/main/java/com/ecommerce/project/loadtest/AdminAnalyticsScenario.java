@@ -0,0 +1,57 @@
+package com.ecommerce.project.loadtest;
+
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * One simulated admin: logs in as the admin user and polls the analytics dashboard endpoints
+ * until the deadline, the way an open dashboard would.
+ */
+public class AdminAnalyticsScenario implements Runnable {
+
+    private static final String[] ANALYTICS_PATHS = {
+            "/api/admin/analytics",
+            "/api/admin/analytics/sales?granularity=day",
+            "/api/admin/analytics/top-products?limit=10&sortBy=revenue"
+    };
+    private static final String[] ANALYTICS_ENDPOINTS = {
+            "GET /api/admin/analytics",
+            "GET /api/admin/analytics/sales",
+            "GET /api/admin/analytics/top-products"
+    };
+
+    private final ApiSession apiSession;
+    private final String username;
+    private final String password;
+    private final Instant deadline;
+    private final long thinkTimeMillis;
+    private final Random random;
+
+    public AdminAnalyticsScenario(ApiSession apiSession, String username, String password,
+                                  Instant deadline, long thinkTimeMillis, long randomSeed) {
+        this.apiSession = apiSession;
+        this.username = username;
+        this.password = password;
+        this.deadline = deadline;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.random = new Random(randomSeed);
+    }
+
+    @Override
+    public void run() {
+        if (!apiSession.login(username, password)) {
+            return;
+        }
+
+        while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+            int call = random.nextInt(ANALYTICS_PATHS.length);
+            apiSession.get(ANALYTICS_ENDPOINTS[call], ANALYTICS_PATHS[call]);
+            try {
+                // Dashboards refresh far less often than shoppers click
+                Thread.sleep(thinkTimeMillis * 5);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ecommerce.project.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One logged-in client of the API.
+ * Holds the JWT cookie returned by /api/auth/login and times every call under an endpoint label,
+ * so /api/cart/items/17 and /api/cart/items/42 are reported together.
+ */
+public class ApiSession {
+
+    private static final String JWT_COOKIE_NAME = "springBootEcom";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder latencyRecorder;
+    private final String baseUrl;
+    private String jwtCookie;
+
+    /**
+     * Response of a timed call; body is null when the call failed or returned no JSON.
+     */
+    public record ApiResponse(int status, JsonNode body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public ApiSession(HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder latencyRecorder, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.latencyRecorder = latencyRecorder;
+        this.baseUrl = baseUrl;
+    }
+
+    public boolean login(String username, String password) {
+        String loginBody = objectMapper.createObjectNode()
+                .put("username", username)
+                .put("password", password)
+                .toString();
+        HttpRequest loginRequest = requestTo("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+
+        HttpResponse<String> loginResponse = send("POST /api/auth/login", loginRequest);
+        if (loginResponse == null || loginResponse.statusCode() != 200) {
+            return false;
+        }
+        List<String> setCookies = loginResponse.headers().allValues("Set-Cookie");
+        for (String setCookie : setCookies) {
+            if (setCookie.startsWith(JWT_COOKIE_NAME + "=")) {
+                jwtCookie = setCookie.substring(0, setCookie.indexOf(';') > 0 ? setCookie.indexOf(';') : setCookie.length());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public ApiResponse get(String endpoint, String path) {
+        return call(endpoint, requestTo(path).GET().build());
+    }
+
+    public ApiResponse post(String endpoint, String path, Object jsonBody) {
+        return call(endpoint, withJsonBody(requestTo(path), "POST", jsonBody));
+    }
+
+    public ApiResponse put(String endpoint, String path) {
+        return call(endpoint, requestTo(path).PUT(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    private ApiResponse call(String endpoint, HttpRequest request) {
+        HttpResponse<String> response = send(endpoint, request);
+        if (response == null) {
+            return new ApiResponse(0, null);
+        }
+        return new ApiResponse(response.statusCode(), parseBody(response.body()));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            latencyRecorder.record(endpoint, System.nanoTime() - startedAt, response.statusCode() < 400);
+            return response;
+        } catch (IOException exception) {
+            latencyRecorder.record(endpoint, System.nanoTime() - startedAt, false);
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder requestTo(String path) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (jwtCookie != null) {
+            requestBuilder.header("Cookie", jwtCookie);
+        }
+        return requestBuilder;
+    }
+
+    private HttpRequest withJsonBody(HttpRequest.Builder requestBuilder, String method, Object jsonBody) {
+        try {
+            return requestBuilder
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(jsonBody)))
+                    .build();
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Request body is not serializable", exception);
+        }
+    }
+
+    private JsonNode parseBody(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException exception) {
+            // Some endpoints answer with plain text (e.g. cart deletes)
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.project.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects response times per endpoint label and summarizes them as throughput and percentiles.
+ * Every sample is kept (a two-minute run is a few hundred thousand longs), so percentiles are exact.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * Summary of one endpoint; latencies are in milliseconds.
+     */
+    public record EndpointSummary(String endpoint, long requests, long errors, double throughputPerSecond,
+                                  double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, name -> new EndpointSamples()).add(elapsedNanos, success);
+    }
+
+    public List<EndpointSummary> summarize(double elapsedSeconds) {
+        List<EndpointSummary> summaries = new ArrayList<>();
+        samplesByEndpoint.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> summaries.add(entry.getValue().summarize(entry.getKey(), elapsedSeconds)));
+        return summaries;
+    }
+
+    // Nearest-rank percentile over sorted samples
+    static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static final class EndpointSamples {
+        private long[] elapsedNanos = new long[1024];
+        private int size;
+        private long errors;
+
+        private synchronized void add(long nanos, boolean success) {
+            if (size == elapsedNanos.length) {
+                elapsedNanos = Arrays.copyOf(elapsedNanos, size * 2);
+            }
+            elapsedNanos[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        private synchronized EndpointSummary summarize(String endpoint, double elapsedSeconds) {
+            long[] sortedNanos = Arrays.copyOf(elapsedNanos, size);
+            Arrays.sort(sortedNanos);
+            return new EndpointSummary(endpoint, size, errors,
+                    elapsedSeconds > 0 ? size / elapsedSeconds : 0,
+                    percentileMillis(sortedNanos, 50),
+                    percentileMillis(sortedNanos, 95),
+                    percentileMillis(sortedNanos, 99),
+                    percentileMillis(sortedNanos, 100));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.project.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Entry point of the load test.
+ * Expects the service to run with the "loadtest" profile, so lt-user-0..N and the seeded catalog exist.
+ * Starts one virtual thread per simulated user (about 1 in 50 of them is an admin on the analytics
+ * dashboard), runs for the configured duration, then prints and writes per-endpoint
+ * throughput and p50/p95/p99 latencies.
+ */
+public class LoadTestDriver {
+
+    private static final String SEEDED_USER_PREFIX = "lt-user-";
+    private static final String SEEDED_USER_PASSWORD = "loadtestPass";
+    private static final int CATALOG_PAGE_SIZE = 100;
+    private static final int MAX_CATALOG_PAGES = 20;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // Catalog discovery is timed separately so it doesn't skew the scenario numbers
+        ApiSession discoverySession = new ApiSession(httpClient, objectMapper, new LatencyRecorder(), options.baseUrl());
+        List<Long> productIds = new ArrayList<>();
+        int browsePageCount = discoverCatalog(discoverySession, productIds);
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("No products found at " + options.baseUrl()
+                    + "; start the service with the loadtest profile first");
+        }
+
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        int adminCount = Math.max(1, options.users() / 50);
+        Instant startedAt = Instant.now();
+        Instant deadline = startedAt.plus(options.duration());
+        System.out.printf("Running %d shoppers and %d admins against %s for %ds (%d products)%n",
+                options.users(), adminCount, options.baseUrl(), options.duration().toSeconds(), productIds.size());
+
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                ApiSession session = new ApiSession(httpClient, objectMapper, latencyRecorder, options.baseUrl());
+                virtualUsers.submit(new ShopperScenario(session, SEEDED_USER_PREFIX + (user % options.seededUsers()),
+                        SEEDED_USER_PASSWORD, productIds, browsePageCount, deadline, options.thinkTimeMillis(),
+                        options.randomSeed() + user));
+            }
+            for (int admin = 0; admin < adminCount; admin++) {
+                ApiSession session = new ApiSession(httpClient, objectMapper, latencyRecorder, options.baseUrl());
+                virtualUsers.submit(new AdminAnalyticsScenario(session, options.adminUsername(), options.adminPassword(),
+                        deadline, options.thinkTimeMillis(), options.randomSeed() - admin - 1));
+            }
+        }
+
+        double elapsedSeconds = Duration.between(startedAt, Instant.now()).toMillis() / 1000.0;
+        List<LatencyRecorder.EndpointSummary> summaries = latencyRecorder.summarize(elapsedSeconds);
+        printSummaries(summaries);
+        writeReport(objectMapper, options, elapsedSeconds, summaries);
+        if (options.baseline() != null) {
+            ReportComparison.print(objectMapper.readTree(options.baseline().toFile()), summaries);
+        }
+    }
+
+    // Collects product IDs from the first catalog pages and returns how many pages browsing can hit
+    private static int discoverCatalog(ApiSession session, List<Long> productIds) {
+        int totalPages = 1;
+        long totalProducts = 0;
+        for (int page = 0; page < Math.min(totalPages, MAX_CATALOG_PAGES); page++) {
+            ApiSession.ApiResponse response = session.get("catalog",
+                    "/api/products?pageNumber=" + page + "&pageSize=" + CATALOG_PAGE_SIZE);
+            JsonNode body = response.body();
+            if (!response.isSuccess() || body == null) {
+                break;
+            }
+            for (JsonNode product : body.path("content")) {
+                productIds.add(product.path("productId").asLong());
+            }
+            totalPages = body.path("totalPages").asInt(1);
+            totalProducts = body.path("totalElements").asLong();
+        }
+        return (int) Math.ceil(totalProducts / (double) ShopperScenario.PAGE_SIZE);
+    }
+
+    private static void printSummaries(List<LatencyRecorder.EndpointSummary> summaries) {
+        System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.EndpointSummary summary : summaries) {
+            System.out.printf("%-40s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis());
+        }
+    }
+
+    private static void writeReport(ObjectMapper objectMapper, LoadTestOptions options, double elapsedSeconds,
+                                    List<LatencyRecorder.EndpointSummary> summaries) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("baseUrl", options.baseUrl());
+        report.put("users", options.users());
+        report.put("durationSeconds", elapsedSeconds);
+        report.put("randomSeed", options.randomSeed());
+        report.put("endpoints", summaries);
+
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        objectMapper.writeValue(options.report().toFile(), report);
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.project.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Driver options, read from --key=value arguments.
+ * seededUsers must match loadtest.seed.users of the service, since virtual users log in as lt-user-{n}.
+ * baseline (optional) is an earlier report to compare this run against.
+ */
+public record LoadTestOptions(String baseUrl, int users, Duration duration, int seededUsers,
+                              long randomSeed, long thinkTimeMillis, String adminUsername, String adminPassword, Path report,
+                              String label, Path baseline) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String baseUrl = values.getOrDefault("base-url", "http://localhost:8080");
+        return new LoadTestOptions(
+                baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl,
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "120"))),
+                Integer.parseInt(values.getOrDefault("seeded-users", "1000")),
+                Long.parseLong(values.getOrDefault("random-seed", "42")),
+                Long.parseLong(values.getOrDefault("think-time-ms", "100")),
+                values.getOrDefault("admin-username", "admin"),
+                values.getOrDefault("admin-password", "adminPass"),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.json")),
+                values.getOrDefault("label", ""),
+                values.getOrDefault("baseline", "").isBlank() ? null : Path.of(values.get("baseline")));
+    }
+}
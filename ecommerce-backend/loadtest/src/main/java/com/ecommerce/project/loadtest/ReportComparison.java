@@ -0,0 +1,42 @@
+package com.ecommerce.project.loadtest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Prints throughput and p99 of this run next to an earlier report, per endpoint.
+ * Used to compare two server setups (e.g. platform vs virtual threads) under the same request mix.
+ */
+public final class ReportComparison {
+
+    private ReportComparison() {
+    }
+
+    public static void print(JsonNode baselineReport, List<LatencyRecorder.EndpointSummary> summaries) {
+        Map<String, JsonNode> baselineByEndpoint = new HashMap<>();
+        for (JsonNode endpoint : baselineReport.path("endpoints")) {
+            baselineByEndpoint.put(endpoint.path("endpoint").asText(), endpoint);
+        }
+
+        System.out.printf("%nCompared with baseline \"%s\"%n", baselineReport.path("label").asText());
+        System.out.printf("%-40s %21s %9s %21s %9s%n", "endpoint", "req/s (base -> now)", "change", "p99 ms (base -> now)", "change");
+        for (LatencyRecorder.EndpointSummary summary : summaries) {
+            JsonNode baseline = baselineByEndpoint.get(summary.endpoint());
+            if (baseline == null) {
+                continue;
+            }
+            double baselineThroughput = baseline.path("throughputPerSecond").asDouble();
+            double baselineP99 = baseline.path("p99Millis").asDouble();
+            System.out.printf("%-40s %9.1f -> %9.1f %8.1f%% %9.1f -> %9.1f %8.1f%%%n", summary.endpoint(),
+                    baselineThroughput, summary.throughputPerSecond(), percentChange(baselineThroughput, summary.throughputPerSecond()),
+                    baselineP99, summary.p99Millis(), percentChange(baselineP99, summary.p99Millis()));
+        }
+    }
+
+    private static double percentChange(double baseline, double current) {
+        return baseline == 0 ? 0 : (current - baseline) / baseline * 100;
+    }
+}
@@ -0,0 +1,138 @@
+package com.ecommerce.project.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One simulated shopper: logs in as a seeded user and loops over a weighted mix of
+ * browse, search, cart add, cart update and checkout until the deadline.
+ * Cart updates only target products this shopper added, so they rarely fail for
+ * reasons other than load.
+ */
+public class ShopperScenario implements Runnable {
+
+    // Weights of browse, search, cart add, cart update, checkout (out of 100)
+    private static final int[] ACTION_WEIGHTS = {40, 20, 20, 12, 8};
+    static final int PAGE_SIZE = 20;
+
+    private final ApiSession apiSession;
+    private final String username;
+    private final String password;
+    private final List<Long> productIds;
+    private final int pageCount;
+    private final Instant deadline;
+    private final long thinkTimeMillis;
+    private final Random random;
+
+    private final List<Long> productsInCart = new ArrayList<>();
+    private Long addressId;
+
+    public ShopperScenario(ApiSession apiSession, String username, String password, List<Long> productIds,
+                           int pageCount, Instant deadline, long thinkTimeMillis, long randomSeed) {
+        this.apiSession = apiSession;
+        this.username = username;
+        this.password = password;
+        this.productIds = productIds;
+        this.pageCount = Math.max(1, pageCount);
+        this.deadline = deadline;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.random = new Random(randomSeed);
+    }
+
+    @Override
+    public void run() {
+        if (!apiSession.login(username, password)) {
+            return;
+        }
+        addressId = fetchFirstAddressId();
+
+        while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+            switch (pickAction()) {
+                case 0 -> browse();
+                case 1 -> search();
+                case 2 -> addToCart();
+                case 3 -> updateCart();
+                default -> checkout();
+            }
+            pause();
+        }
+    }
+
+    private void browse() {
+        apiSession.get("GET /api/products",
+                "/api/products?pageNumber=" + random.nextInt(pageCount) + "&pageSize=" + PAGE_SIZE);
+    }
+
+    private void search() {
+        // Matches "LT Product <category>-<n>" names of the seeded catalog
+        apiSession.get("GET /api/products/search",
+                "/api/products/search?q=Product%20" + random.nextInt(20) + "-" + random.nextInt(10) + "&pageSize=" + PAGE_SIZE);
+    }
+
+    private void addToCart() {
+        Long productId = productIds.get(random.nextInt(productIds.size()));
+        ApiSession.ApiResponse response = apiSession.post("POST /api/cart/items",
+                "/api/cart/items?productId=" + productId + "&quantity=1", Map.of());
+        if (response.isSuccess() && !productsInCart.contains(productId)) {
+            productsInCart.add(productId);
+        }
+    }
+
+    private void updateCart() {
+        if (productsInCart.isEmpty()) {
+            addToCart();
+            return;
+        }
+        Long productId = productsInCart.get(random.nextInt(productsInCart.size()));
+        apiSession.put("PUT /api/cart/items/{productId}", "/api/cart/items/" + productId + "?action=increase");
+    }
+
+    private void checkout() {
+        if (addressId == null) {
+            return;
+        }
+        if (productsInCart.isEmpty()) {
+            addToCart();
+        }
+        ApiSession.ApiResponse response = apiSession.post("POST /api/orders", "/api/orders", Map.of("addressId", addressId));
+        if (response.isSuccess()) {
+            productsInCart.clear();
+        }
+    }
+
+    private Long fetchFirstAddressId() {
+        ApiSession.ApiResponse response = apiSession.get("GET /api/addresses", "/api/addresses");
+        JsonNode addresses = response.body();
+        if (addresses == null || !addresses.isArray() || addresses.isEmpty()) {
+            return null;
+        }
+        return addresses.get(0).path("addressId").asLong();
+    }
+
+    private int pickAction() {
+        int roll = random.nextInt(100);
+        for (int action = 0; action < ACTION_WEIGHTS.length; action++) {
+            roll -= ACTION_WEIGHTS[action];
+            if (roll < 0) {
+                return action;
+            }
+        }
+        return ACTION_WEIGHTS.length - 1;
+    }
+
+    private void pause() {
+        if (thinkTimeMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(thinkTimeMillis / 2 + random.nextLong(thinkTimeMillis));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package com.ecommerce.project.DAO;
 
+import com.ecommerce.project.DTO.AddressDto;
 import com.ecommerce.project.model.Address;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * DAO (Data Access Object) for Address entity.
@@ -9,4 +18,20 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
  */
 public interface AddressDAO extends JpaRepository<Address, Long> {
+
+    /**
+     * Fetches addresses with an ID greater than the given one, in ID order, straight into DTOs.
+     * No Address entities are loaded, so their eager users are not fetched one address at a time.
+     */
+    @Query("SELECT new com.ecommerce.project.DTO.AddressDto(a.addressId, a.street, a.buildingName, a.city, a.state, a.country, a.pincode) " +
+            "FROM Address a WHERE a.addressId > :afterAddressId ORDER BY a.addressId")
+    List<AddressDto> fetchAddressesAfter(@Param("afterAddressId") Long afterAddressId, Pageable pageable);
+
+    /**
+     * Streams every address as a DTO, in ID order; must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.ecommerce.project.DTO.AddressDto(a.addressId, a.street, a.buildingName, a.city, a.state, a.country, a.pincode) " +
+            "FROM Address a ORDER BY a.addressId")
+    Stream<AddressDto> streamAllAddresses();
 }
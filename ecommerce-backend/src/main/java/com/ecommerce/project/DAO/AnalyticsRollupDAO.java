@@ -0,0 +1,65 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.AnalyticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DAO (Data Access Object) for AnalyticsRollup entity.
+ * Handles all database operations for the precomputed dashboard counters.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface AnalyticsRollupDAO extends JpaRepository<AnalyticsRollup, Long> {
+
+    /**
+     * Adds to one slot of a counter, creating the row on first use (PostgreSQL upsert).
+     * The increment is a single atomic statement, so concurrent orders never lose updates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_rollups (metric, bucket, slot, item_count, amount) " +
+            "VALUES (:metric, :bucket, :slot, :countDelta, :amountDelta) " +
+            "ON CONFLICT (metric, bucket, slot) DO UPDATE SET " +
+            "item_count = analytics_rollups.item_count + EXCLUDED.item_count, " +
+            "amount = analytics_rollups.amount + EXCLUDED.amount", nativeQuery = true)
+    void addToRollup(@Param("metric") String metric,
+                     @Param("bucket") String bucket,
+                     @Param("slot") int slot,
+                     @Param("countDelta") long countDelta,
+                     @Param("amountDelta") double amountDelta);
+
+    /**
+     * Takes a PostgreSQL advisory lock until the end of the current transaction, if no other session holds it.
+     * Returns false (without waiting) when another session has it.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(@Param("lockKey") long lockKey);
+
+    /**
+     * Sums every counter in one bucket across its slots.
+     * Returns rows of [metric, itemCount, amount].
+     */
+    @Query("SELECT r.metric, SUM(r.itemCount), SUM(r.amount) FROM AnalyticsRollup r " +
+            "WHERE r.bucket = :bucket GROUP BY r.metric")
+    List<Object[]> sumByBucket(@Param("bucket") String bucket);
+
+    /**
+     * Sums the daily buckets between two ISO dates (inclusive) across their slots.
+     * Returns rows of [bucket, metric, itemCount, amount].
+     */
+    @Query("SELECT r.bucket, r.metric, SUM(r.itemCount), SUM(r.amount) FROM AnalyticsRollup r " +
+            "WHERE r.bucket BETWEEN :fromBucket AND :toBucket GROUP BY r.bucket, r.metric ORDER BY r.bucket")
+    List<Object[]> sumDailyBuckets(@Param("fromBucket") String fromBucket, @Param("toBucket") String toBucket);
+
+    /**
+     * Sums every bucket of the given metrics across their slots (used by reconciliation).
+     * Returns rows of [metric, bucket, itemCount, amount].
+     */
+    @Query("SELECT r.metric, r.bucket, SUM(r.itemCount), SUM(r.amount) FROM AnalyticsRollup r " +
+            "WHERE r.metric IN :metrics OR r.metric LIKE :metricPrefix GROUP BY r.metric, r.bucket")
+    List<Object[]> sumByMetrics(@Param("metrics") Collection<String> metrics, @Param("metricPrefix") String metricPrefix);
+}
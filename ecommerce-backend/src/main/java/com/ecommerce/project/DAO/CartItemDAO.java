@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+
 /**
  * DAO (Data Access Object) for CartItem entity.
  * Handles all database operations for individual items in shopping carts.
@@ -35,4 +37,20 @@ public interface CartItemDAO extends JpaRepository<CartItem, Long> {
     @Modifying
     @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartIdentifier")
     void removeAllItemsByCart(@Param("cartIdentifier") Long cartIdentifier);
+
+    /**
+     * Removes several products from a cart in one statement (e.g., the lines of a placed order).
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartIdentifier AND ci.product.id IN :productIdentifiers")
+    void removeCartItemsByProductsAndCart(@Param("cartIdentifier") Long cartIdentifier,
+                                          @Param("productIdentifiers") Collection<Long> productIdentifiers);
+
+    /**
+     * Calculates the total price of the items still in a cart.
+     * Returns 0.0 if the cart is empty.
+     */
+    @Query("SELECT COALESCE(SUM(ci.productPrice * ci.qty), 0.0) FROM CartItem ci WHERE ci.cart.id = :cartIdentifier")
+    Double calculateCartTotal(@Param("cartIdentifier") Long cartIdentifier);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.ChangeEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DAO (Data Access Object) for ChangeEvent entity.
+ * Handles all database operations for the order/product change outbox.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface ChangeEventDAO extends JpaRepository<ChangeEvent, Long> {
+
+    /**
+     * Locks the oldest unpublished events for the relay, skipping rows another relay has locked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM ChangeEvent e WHERE e.publishedAt IS NULL ORDER BY e.eventId")
+    List<ChangeEvent> lockUnpublished(Pageable pageable);
+
+    /**
+     * Returns the highest feed position handed out so far (0 if nothing was published yet).
+     */
+    @Query("SELECT COALESCE(MAX(e.feedPosition), 0) FROM ChangeEvent e")
+    Long fetchLastFeedPosition();
+
+    /**
+     * Fetches published events after a feed position, in feed order.
+     * Uses the unique feed_position index, so the cost does not grow with the cursor like OFFSET does.
+     */
+    @Query("SELECT e FROM ChangeEvent e WHERE e.feedPosition > :afterPosition ORDER BY e.feedPosition")
+    List<ChangeEvent> fetchPublishedAfter(@Param("afterPosition") Long afterPosition, Pageable pageable);
+
+    /**
+     * Removes published events older than the retention window.
+     * The newest published event is always kept so feed positions are never handed out twice.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeEvent e WHERE e.publishedAt IS NOT NULL AND e.publishedAt < :publishedBefore " +
+            "AND e.feedPosition < (SELECT MAX(x.feedPosition) FROM ChangeEvent x)")
+    int removePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DAO (Data Access Object) for IdempotencyKey entity.
+ * Handles all database operations for stored order idempotency keys.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface IdempotencyKeyDAO extends JpaRepository<IdempotencyKey, Long> {
+
+    /**
+     * Finds the stored key a customer sent with an earlier request.
+     * Returns Optional because the key might be new.
+     */
+    Optional<IdempotencyKey> findByEmailAndIdempotencyKey(String email, String idempotencyKey);
+
+    /**
+     * Removes keys whose time-to-live has passed.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt <= :currentTime")
+    int removeExpired(@Param("currentTime") LocalDateTime currentTime);
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.ImageUploadJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DAO (Data Access Object) for ImageUploadJob entity.
+ * Handles all database operations for background product image uploads.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface ImageUploadJobDAO extends JpaRepository<ImageUploadJob, Long> {
+
+    /**
+     * Locks the oldest pending jobs whose backoff has passed, skipping rows another uploader
+     * has locked (lock timeout -2 is rendered as FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ImageUploadJob j WHERE j.status = 'PENDING' AND j.nextAttemptAt <= :currentTime " +
+            "ORDER BY j.jobId")
+    List<ImageUploadJob> lockDueJobs(@Param("currentTime") LocalDateTime currentTime, Pageable pageable);
+
+    /**
+     * Fetches and locks one job, so an uploader can check its claim is still current before acting on it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ImageUploadJob j WHERE j.jobId = :jobIdentifier")
+    Optional<ImageUploadJob> lockById(@Param("jobIdentifier") Long jobIdentifier);
+
+    /**
+     * Counts jobs in a status (used for queue depth).
+     */
+    long countByStatus(String status);
+
+    /**
+     * Puts jobs back in the queue when the uploader that claimed them stopped before finishing.
+     * The stalled uploader may still be running; its claim no longer matches claimedAt once the
+     * job is reclaimed, so its later writes are rejected.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("UPDATE ImageUploadJob j SET j.status = 'PENDING' " +
+            "WHERE j.status = 'UPLOADING' AND j.claimedAt < :claimedBefore")
+    int requeueStalled(@Param("claimedBefore") LocalDateTime claimedBefore);
+}
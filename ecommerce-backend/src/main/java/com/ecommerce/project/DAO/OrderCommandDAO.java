@@ -0,0 +1,70 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.OrderCommand;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DAO (Data Access Object) for OrderCommand entity.
+ * Handles all database operations for the queued checkout (order pipeline) table.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface OrderCommandDAO extends JpaRepository<OrderCommand, Long> {
+
+    /**
+     * Locks the oldest commands with the given status, skipping rows another worker has locked
+     * (lock timeout -2 is rendered as FOR UPDATE SKIP LOCKED), so several instances can share the queue.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM OrderCommand c WHERE c.status = :status ORDER BY c.commandId")
+    List<OrderCommand> lockNextByStatus(@Param("status") String status, Pageable pageable);
+
+    /**
+     * Fetches and locks one command, so a worker can check its claim is still current before acting on it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OrderCommand c WHERE c.commandId = :commandIdentifier")
+    Optional<OrderCommand> lockById(@Param("commandIdentifier") Long commandIdentifier);
+
+    /**
+     * Checks whether a customer has a command in any of the given statuses.
+     */
+    boolean existsByEmailAndStatusIn(String email, Collection<String> statuses);
+
+    /**
+     * Fetches and locks commands whose worker stopped before finishing and that have no attempts left.
+     * Rows a worker still holds are skipped; requeueStalled gets them once it lets go.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM OrderCommand c WHERE c.status = 'PROCESSING' AND c.claimedAt < :claimedBefore " +
+            "AND c.attempts >= :maxAttempts ORDER BY c.commandId")
+    List<OrderCommand> lockExhaustedStalled(@Param("claimedBefore") LocalDateTime claimedBefore,
+                                            @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Puts commands back in the queue when the worker that claimed them stopped before finishing
+     * and they have attempts left (exhausted ones are failed through lockExhaustedStalled instead).
+     * A command a worker is still processing is row-locked by it, so this waits for that worker and
+     * then skips the row (it is no longer PROCESSING). The next claim bumps the attempt number,
+     * so a worker holding the older claim can no longer act on the command.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("UPDATE OrderCommand c SET c.status = 'PENDING' " +
+            "WHERE c.status = 'PROCESSING' AND c.claimedAt < :claimedBefore AND c.attempts < :maxAttempts")
+    int requeueStalled(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("maxAttempts") int maxAttempts);
+}
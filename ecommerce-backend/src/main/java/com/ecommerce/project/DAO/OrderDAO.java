@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 /**
  * DAO (Data Access Object) for Order entity.
  * Handles all database operations for customer orders.
@@ -27,4 +29,25 @@ public interface OrderDAO extends JpaRepository<Order, Long> {
      */
     @Query("SELECT COALESCE(SUM(o.totalAmount), 0.0) FROM Order o")
     Double calculateTotalRevenue();
-}
\ No newline at end of file
+
+    /**
+     * Counts orders in each status (used to reconcile the analytics rollups).
+     * Returns rows of [orderStatus, count].
+     */
+    @Query("SELECT o.orderStatus, COUNT(o) FROM Order o WHERE o.orderStatus IS NOT NULL GROUP BY o.orderStatus")
+    List<Object[]> countOrdersByStatus();
+
+    /**
+     * Counts orders and sums revenue for each order date (used to reconcile the daily rollups).
+     * Returns rows of [orderDate, count, revenue].
+     */
+    @Query("SELECT o.orderDate, COUNT(o), COALESCE(SUM(o.totalAmount), 0.0) FROM Order o " +
+            "WHERE o.orderDate IS NOT NULL GROUP BY o.orderDate")
+    List<Object[]> summarizeOrdersByDate();
+
+    /**
+     * Returns the highest order ID so far (0 if there are no orders).
+     */
+    @Query("SELECT COALESCE(MAX(o.orderId), 0) FROM Order o")
+    Long fetchLastOrderId();
+}
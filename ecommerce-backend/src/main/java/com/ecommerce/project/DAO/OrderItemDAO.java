@@ -1,11 +1,19 @@
 package com.ecommerce.project.DAO;
 
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ecommerce.project.model.OrderItem;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * DAO (Data Access Object) for OrderItem entity.
  * Handles all database operations for individual items within orders.
@@ -14,4 +22,24 @@ import com.ecommerce.project.model.OrderItem;
 @Repository
 public interface OrderItemDAO extends JpaRepository<OrderItem, Long> {
 
+    /**
+     * Streams every order line up to an order ID, grouped by order, as plain columns
+     * [orderId, orderDate, createdAt, totalAmount, orderStatus, productId, categoryId, qty, productPrice].
+     * Used to (re)build the in-memory sales series; must be consumed inside a transaction.
+     * categoryId is null for products without a category.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT o.orderId, o.orderDate, o.createdAt, o.totalAmount, o.orderStatus, p.productId, c.categoryId, oi.qty, oi.ProductPrice " +
+            "FROM OrderItem oi JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+            "WHERE o.orderId <= :lastOrderId ORDER BY o.orderId")
+    Stream<Object[]> streamSalesLines(@Param("lastOrderId") Long lastOrderId);
+
+    /**
+     * Loads the order lines of the given orders, grouped by order, in the same columns as streamSalesLines.
+     * Used when change events move orders into or out of the sales series.
+     */
+    @Query("SELECT o.orderId, o.orderDate, o.createdAt, o.totalAmount, o.orderStatus, p.productId, c.categoryId, oi.qty, oi.ProductPrice " +
+            "FROM OrderItem oi JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+            "WHERE o.orderId IN :orderIds ORDER BY o.orderId")
+    List<Object[]> fetchSalesLines(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -1,10 +1,18 @@
 package com.ecommerce.project.DAO;
 
+import com.ecommerce.project.DTO.PaymentCardDTO;
 import com.ecommerce.project.model.PaymentCard;
 import com.ecommerce.project.model.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DAO (Data Access Object) for PaymentCard entity.
@@ -18,4 +26,20 @@ public interface PaymentCardDAO extends JpaRepository<PaymentCard, Long> {
      * Returns Optional because a user might not have a default card set.
      */
     Optional<PaymentCard> findByUserAndIsDefaultTrue(User user);
+
+    /**
+     * Fetches payment cards with an ID greater than the given one, in ID order, straight into DTOs.
+     * No PaymentCard entities are loaded, so their eager users are not fetched one card at a time.
+     */
+    @Query("SELECT new com.ecommerce.project.DTO.PaymentCardDTO(p.cardId, p.cardNumber, p.cardholderName, p.expiryMonth, p.expiryYear, p.cvv, p.isDefault) " +
+            "FROM PaymentCard p WHERE p.cardId > :afterCardId ORDER BY p.cardId")
+    List<PaymentCardDTO> fetchPaymentCardsAfter(@Param("afterCardId") Long afterCardId, Pageable pageable);
+
+    /**
+     * Streams every payment card as a DTO, in ID order; must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.ecommerce.project.DTO.PaymentCardDTO(p.cardId, p.cardNumber, p.cardholderName, p.expiryMonth, p.expiryYear, p.cvv, p.isDefault) " +
+            "FROM PaymentCard p ORDER BY p.cardId")
+    Stream<PaymentCardDTO> streamAllPaymentCards();
 }
@@ -3,12 +3,21 @@ package com.ecommerce.project.DAO;
 import com.ecommerce.project.model.Category;
 import com.ecommerce.project.model.Product;
 import com.ecommerce.project.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * DAO (Data Access Object) for Product entity.
  * Handles all database operations for products in the store.
@@ -34,4 +43,54 @@ public interface ProductDAO extends JpaRepository<Product, Long>, JpaSpecificati
      * Useful for seller dashboards to manage their inventory.
      */
     Page<Product> findByUser(User user, Pageable pageDetails);
+
+    /**
+     * Locks the given products for update, always in ID order so concurrent
+     * checkouts touching overlapping products cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.productId IN :productIdentifiers ORDER BY p.productId")
+    List<Product> lockAllByIds(@Param("productIdentifiers") Collection<Long> productIdentifiers);
+
+    /**
+     * Decrements stock in a single statement without loading the product row.
+     * Only succeeds while the stock left after other customers' active holds covers the quantity.
+     * Returns the number of updated rows (0 means not enough stock).
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :purchaseQuantity " +
+            "WHERE p.productId = :productIdentifier AND p.quantity - " +
+            "(SELECT COALESCE(SUM(r.quantity), 0) FROM StockReservation r " +
+            "WHERE r.product.productId = :productIdentifier AND r.email <> :userEmail AND r.expiresAt > :currentTime) " +
+            ">= :purchaseQuantity")
+    int decrementStockRespectingHolds(@Param("productIdentifier") Long productIdentifier,
+                                      @Param("purchaseQuantity") Integer purchaseQuantity,
+                                      @Param("userEmail") String userEmail,
+                                      @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Overwrites the stock quantity of a product without loading it, unless it already has that value.
+     * Used to publish the sharded total of a hot product back to its row; an unchanged row is neither
+     * written nor locked. Returns the number of updated rows (0 when the quantity was already current).
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = :quantity WHERE p.productId = :productIdentifier AND p.quantity <> :quantity")
+    int updateQuantityIfChanged(@Param("productIdentifier") Long productIdentifier, @Param("quantity") Integer quantity);
+
+    /**
+     * Checks whether a category already has a product with this name, ignoring case.
+     * Written with lower() so it is answered from the unique (category_id, lower(product_name)) index
+     * instead of loading the category's products.
+     */
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Product p " +
+            "WHERE p.category = :category AND lower(p.productName) = lower(:productName)")
+    boolean existsByCategoryAndProductNameIgnoreCase(@Param("category") Category category,
+                                                     @Param("productName") String productName);
+
+    /**
+     * Returns only the names of the products in a category.
+     * Used to check for duplicate names without loading whole products.
+     */
+    @Query("SELECT p.productName FROM Product p WHERE p.category.categoryId = :categoryIdentifier")
+    List<String> fetchProductNamesByCategory(@Param("categoryIdentifier") Long categoryIdentifier);
 }
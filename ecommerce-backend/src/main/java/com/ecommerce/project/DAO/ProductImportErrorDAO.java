@@ -0,0 +1,20 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.ProductImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * DAO (Data Access Object) for ProductImportError entity.
+ * Handles all database operations for rows rejected by bulk product imports.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface ProductImportErrorDAO extends JpaRepository<ProductImportError, Long> {
+
+    /**
+     * Finds the first rejected rows of an import job, in source order.
+     */
+    List<ProductImportError> findByJobIdOrderByRowNumber(Long jobId, Pageable pageable);
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.ProductImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * DAO (Data Access Object) for ProductImportJob entity.
+ * Handles all database operations for bulk product import jobs.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface ProductImportJobDAO extends JpaRepository<ProductImportJob, Long> {
+
+    /**
+     * Marks a job as running again so it can be resumed. Only failed jobs, and running jobs
+     * that have not committed a chunk since updatedBefore (their importer died), can be claimed,
+     * so two resumes of the same job cannot run at once.
+     * Returns the number of updated rows (0 means the job cannot be resumed).
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("UPDATE ProductImportJob j SET j.status = 'RUNNING', j.lastError = NULL, j.updatedAt = :currentTime " +
+            "WHERE j.jobId = :jobId AND (j.status = 'FAILED' OR (j.status = 'RUNNING' AND j.updatedAt < :updatedBefore))")
+    int claimForResume(@Param("jobId") Long jobId,
+                       @Param("updatedBefore") LocalDateTime updatedBefore,
+                       @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Records a committed chunk: the source rows it covered and how many products and errors it added.
+     * Runs in the chunk's transaction, so the checkpoint only moves when the chunk's products are saved.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("UPDATE ProductImportJob j SET j.rowsProcessed = :rowsProcessed, " +
+            "j.importedCount = j.importedCount + :importedCount, j.failedCount = j.failedCount + :failedCount, " +
+            "j.status = :status, j.updatedAt = :currentTime WHERE j.jobId = :jobId")
+    int recordProgress(@Param("jobId") Long jobId,
+                       @Param("rowsProcessed") long rowsProcessed,
+                       @Param("importedCount") long importedCount,
+                       @Param("failedCount") long failedCount,
+                       @Param("status") String status,
+                       @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Marks a job as failed with the reason it stopped.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("UPDATE ProductImportJob j SET j.status = 'FAILED', j.lastError = :lastError, j.updatedAt = :currentTime " +
+            "WHERE j.jobId = :jobId")
+    int markFailed(@Param("jobId") Long jobId,
+                   @Param("lastError") String lastError,
+                   @Param("currentTime") LocalDateTime currentTime);
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * DAO (Data Access Object) for ProductStockShard entity.
+ * Handles all database operations for sharded stock of hot (flash-sale) products.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface ProductStockShardDAO extends JpaRepository<ProductStockShard, Long> {
+
+    /**
+     * Fetches all shards of a product in shard order.
+     */
+    @Query("SELECT s FROM ProductStockShard s WHERE s.product.productId = :productIdentifier ORDER BY s.shardIndex")
+    List<ProductStockShard> fetchShardsByProduct(@Param("productIdentifier") Long productIdentifier);
+
+    /**
+     * Fetches and locks all shards of a product (used when moving stock between shards).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.product.productId = :productIdentifier ORDER BY s.shardIndex")
+    List<ProductStockShard> lockShardsByProduct(@Param("productIdentifier") Long productIdentifier);
+
+    /**
+     * Takes units from one shard only if it still has enough.
+     * Returns the number of updated rows (0 means the shard ran short).
+     */
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity - :purchaseQuantity " +
+            "WHERE s.product.productId = :productIdentifier AND s.shardIndex = :shardIndex AND s.quantity >= :purchaseQuantity")
+    int decrementShard(@Param("productIdentifier") Long productIdentifier,
+                       @Param("shardIndex") Integer shardIndex,
+                       @Param("purchaseQuantity") Long purchaseQuantity);
+
+    /**
+     * Lists the IDs of products that currently have shards.
+     */
+    @Query("SELECT DISTINCT s.product.productId FROM ProductStockShard s ORDER BY s.product.productId")
+    List<Long> fetchShardedProductIds();
+
+    /**
+     * Removes all shards of a product.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM ProductStockShard s WHERE s.product.productId = :productIdentifier")
+    void removeShardsByProduct(@Param("productIdentifier") Long productIdentifier);
+}
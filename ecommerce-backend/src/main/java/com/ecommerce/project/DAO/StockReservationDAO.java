@@ -0,0 +1,63 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DAO (Data Access Object) for StockReservation entity.
+ * Handles all database operations for checkout stock holds.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface StockReservationDAO extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * Sums the units of a product currently held by other customers.
+     * Expired holds are ignored even if the sweeper has not removed them yet.
+     */
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) FROM StockReservation r " +
+            "WHERE r.product.productId = :productIdentifier AND r.email <> :userEmail AND r.expiresAt > :currentTime")
+    Long sumActiveQuantityHeldByOthers(@Param("productIdentifier") Long productIdentifier,
+                                       @Param("userEmail") String userEmail,
+                                       @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Sums active holds of other customers for several products in one query.
+     * Each row is [productId, heldQuantity]; products without holds are omitted.
+     */
+    @Query("SELECT r.product.productId, SUM(r.quantity) FROM StockReservation r " +
+            "WHERE r.product.productId IN :productIdentifiers AND r.email <> :userEmail AND r.expiresAt > :currentTime " +
+            "GROUP BY r.product.productId")
+    List<Object[]> sumActiveQuantitiesHeldByOthers(@Param("productIdentifiers") Collection<Long> productIdentifiers,
+                                                   @Param("userEmail") String userEmail,
+                                                   @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Finds the active holds owned by a customer.
+     */
+    @Query("SELECT r FROM StockReservation r WHERE r.email = :userEmail AND r.expiresAt > :currentTime")
+    List<StockReservation> findActiveByEmail(@Param("userEmail") String userEmail,
+                                             @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Removes every hold owned by a customer (checkout finished or abandoned).
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.email = :userEmail")
+    int removeAllByEmail(@Param("userEmail") String userEmail);
+
+    /**
+     * Removes holds whose time-to-live has passed.
+     * @Modifying indicates this query changes data in the database.
+     */
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.expiresAt <= :currentTime")
+    int removeExpired(@Param("currentTime") LocalDateTime currentTime);
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.model.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * DAO (Data Access Object) for StoredImage entity.
+ * Handles all database operations for the content-addressed image index.
+ * Extends JpaRepository to get built-in CRUD methods (save, find, delete, etc.).
+ */
+public interface StoredImageDAO extends JpaRepository<StoredImage, Long> {
+
+    /**
+     * Finds the stored copy of an image by the SHA-256 of its content.
+     * Uses the unique index on content_hash; returns Optional because the image might be new.
+     */
+    Optional<StoredImage> findByContentHash(String contentHash);
+}
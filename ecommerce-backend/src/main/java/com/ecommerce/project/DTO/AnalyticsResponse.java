@@ -1,5 +1,8 @@
 package com.ecommerce.project.DTO;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 // AnalyticsResponse - data transfer object for admin dashboard analytics data
 public class AnalyticsResponse {
     // Total number of products in store
@@ -8,16 +11,19 @@ public class AnalyticsResponse {
     private String totalRevenue;
     // Total number of orders placed
     private String totalOrders;
+    // Number of orders in each status
+    private Map<String, Long> ordersByStatus = new LinkedHashMap<>();
 
     // Default constructor
     public AnalyticsResponse() {
     }
 
     // Constructor with all fields
-    public AnalyticsResponse(String productCount, String totalRevenue, String totalOrders) {
+    public AnalyticsResponse(String productCount, String totalRevenue, String totalOrders, Map<String, Long> ordersByStatus) {
         this.productCount = productCount;
         this.totalRevenue = totalRevenue;
         this.totalOrders = totalOrders;
+        this.ordersByStatus = ordersByStatus;
     }
 
     // Get product count
@@ -49,4 +55,14 @@ public class AnalyticsResponse {
     public void setTotalOrders(String totalOrders) {
         this.totalOrders = totalOrders;
     }
+
+    // Get order counts by status
+    public Map<String, Long> getOrdersByStatus() {
+        return ordersByStatus;
+    }
+
+    // Set order counts by status
+    public void setOrdersByStatus(Map<String, Long> ordersByStatus) {
+        this.ordersByStatus = ordersByStatus;
+    }
 }
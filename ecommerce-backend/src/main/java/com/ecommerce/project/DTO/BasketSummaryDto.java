@@ -0,0 +1,106 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+
+// BasketSummaryDto - data transfer object for average basket size over a time range
+public class BasketSummaryDto {
+    // Start of the range (inclusive)
+    private LocalDateTime from;
+    // End of the range (exclusive)
+    private LocalDateTime to;
+    // Number of orders placed in the range
+    private Long orderCount;
+    // Number of units sold in the range
+    private Long units;
+    // Revenue from orders placed in the range
+    private Double revenue;
+    // Average number of units per order
+    private Double averageUnitsPerOrder;
+    // Average order value
+    private Double averageOrderValue;
+
+    // Default constructor
+    public BasketSummaryDto() {
+    }
+
+    // Constructor with all fields
+    public BasketSummaryDto(LocalDateTime from, LocalDateTime to, Long orderCount, Long units, Double revenue, Double averageUnitsPerOrder, Double averageOrderValue) {
+        this.from = from;
+        this.to = to;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+        this.averageUnitsPerOrder = averageUnitsPerOrder;
+        this.averageOrderValue = averageOrderValue;
+    }
+
+    // Get range start
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    // Set range start
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    // Get range end
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    // Set range end
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    // Get order count
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    // Set order count
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    // Get units sold
+    public Long getUnits() {
+        return units;
+    }
+
+    // Set units sold
+    public void setUnits(Long units) {
+        this.units = units;
+    }
+
+    // Get revenue
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    // Set revenue
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+
+    // Get average units per order
+    public Double getAverageUnitsPerOrder() {
+        return averageUnitsPerOrder;
+    }
+
+    // Set average units per order
+    public void setAverageUnitsPerOrder(Double averageUnitsPerOrder) {
+        this.averageUnitsPerOrder = averageUnitsPerOrder;
+    }
+
+    // Get average order value
+    public Double getAverageOrderValue() {
+        return averageOrderValue;
+    }
+
+    // Set average order value
+    public void setAverageOrderValue(Double averageOrderValue) {
+        this.averageOrderValue = averageOrderValue;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecommerce.project.DTO;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+// ChangeEventDto - data transfer object for a published order or product change
+public class ChangeEventDto {
+    // Unique event ID (consumers use it to drop duplicate deliveries)
+    private Long eventId;
+    // Position in the feed (pass the last one as ?after= to continue)
+    private Long position;
+    // Kind of record that changed (ORDER or PRODUCT)
+    private String aggregateType;
+    // ID of the record that changed
+    private Long aggregateId;
+    // What happened (e.g. ORDER_PLACED, PRODUCT_UPDATED)
+    private String eventType;
+    // JSON snapshot of the record after the change (written as-is, not as a string)
+    @JsonRawValue
+    private String payload;
+    // Time the change was recorded
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public ChangeEventDto() {
+    }
+
+    // Constructor with all fields
+    public ChangeEventDto(Long eventId, Long position, String aggregateType, Long aggregateId, String eventType,
+                          String payload, LocalDateTime createdAt) {
+        this.eventId = eventId;
+        this.position = position;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Get event ID
+    public Long getEventId() {
+        return eventId;
+    }
+
+    // Set event ID
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    // Get feed position
+    public Long getPosition() {
+        return position;
+    }
+
+    // Set feed position
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    // Get aggregate type
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    // Set aggregate type
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    // Get aggregate ID
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    // Set aggregate ID
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    // Get event type
+    public String getEventType() {
+        return eventType;
+    }
+
+    // Set event type
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    // Get JSON payload
+    public String getPayload() {
+        return payload;
+    }
+
+    // Set JSON payload
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    // Get created time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set created time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
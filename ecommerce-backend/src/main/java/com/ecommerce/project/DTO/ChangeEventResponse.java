@@ -0,0 +1,41 @@
+package com.ecommerce.project.DTO;
+
+import java.util.List;
+
+// ChangeEventResponse - data transfer object for one page of the change event feed
+public class ChangeEventResponse {
+    // Events after the requested position, in feed order
+    private List<ChangeEventDto> content;
+    // Position to pass as ?after= for the next page (unchanged if there were no new events)
+    private Long lastPosition;
+
+    // Default constructor
+    public ChangeEventResponse() {
+    }
+
+    // Constructor with all fields
+    public ChangeEventResponse(List<ChangeEventDto> content, Long lastPosition) {
+        this.content = content;
+        this.lastPosition = lastPosition;
+    }
+
+    // Get event list
+    public List<ChangeEventDto> getContent() {
+        return content;
+    }
+
+    // Set event list
+    public void setContent(List<ChangeEventDto> content) {
+        this.content = content;
+    }
+
+    // Get last feed position
+    public Long getLastPosition() {
+        return lastPosition;
+    }
+
+    // Set last feed position
+    public void setLastPosition(Long lastPosition) {
+        this.lastPosition = lastPosition;
+    }
+}
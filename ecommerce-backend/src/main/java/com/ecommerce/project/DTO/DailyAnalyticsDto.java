@@ -0,0 +1,80 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDate;
+
+// DailyAnalyticsDto - data transfer object for one day of dashboard analytics
+public class DailyAnalyticsDto {
+    // Day the figures belong to
+    private LocalDate date;
+    // Number of orders placed that day
+    private Long orderCount;
+    // Revenue from orders placed that day
+    private Double revenue;
+    // Number of products added that day
+    private Long productsAdded;
+    // Number of products deleted that day
+    private Long productsDeleted;
+
+    // Default constructor
+    public DailyAnalyticsDto() {
+    }
+
+    // Constructor with all fields
+    public DailyAnalyticsDto(LocalDate date, Long orderCount, Double revenue, Long productsAdded, Long productsDeleted) {
+        this.date = date;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.productsAdded = productsAdded;
+        this.productsDeleted = productsDeleted;
+    }
+
+    // Get day
+    public LocalDate getDate() {
+        return date;
+    }
+
+    // Set day
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    // Get order count
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    // Set order count
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    // Get revenue
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    // Set revenue
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+
+    // Get products added
+    public Long getProductsAdded() {
+        return productsAdded;
+    }
+
+    // Set products added
+    public void setProductsAdded(Long productsAdded) {
+        this.productsAdded = productsAdded;
+    }
+
+    // Get products deleted
+    public Long getProductsDeleted() {
+        return productsDeleted;
+    }
+
+    // Set products deleted
+    public void setProductsDeleted(Long productsDeleted) {
+        this.productsDeleted = productsDeleted;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecommerce.project.DTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// HotSkuStatusDto - data transfer object describing a product's sharded (flash-sale) stock
+public class HotSkuStatusDto {
+    // ID of the product
+    private Long productId;
+    // Name of the product
+    private String productName;
+    // Whether stock is currently sharded
+    private boolean hotSku;
+    // Units left across all shards (or on the product row when not sharded)
+    private Long totalQuantity;
+    // Units left in each shard, in shard order
+    private List<Long> shardQuantities = new ArrayList<>();
+
+    // Default constructor
+    public HotSkuStatusDto() {
+    }
+
+    // Constructor with all fields
+    public HotSkuStatusDto(Long productId, String productName, boolean hotSku, Long totalQuantity, List<Long> shardQuantities) {
+        this.productId = productId;
+        this.productName = productName;
+        this.hotSku = hotSku;
+        this.totalQuantity = totalQuantity;
+        this.shardQuantities = shardQuantities;
+    }
+
+    // Get product ID
+    public Long getProductId() {
+        return productId;
+    }
+
+    // Set product ID
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    // Get product name
+    public String getProductName() {
+        return productName;
+    }
+
+    // Set product name
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    // Check if stock is sharded
+    public boolean isHotSku() {
+        return hotSku;
+    }
+
+    // Set sharded flag
+    public void setHotSku(boolean hotSku) {
+        this.hotSku = hotSku;
+    }
+
+    // Get total units left
+    public Long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    // Set total units left
+    public void setTotalQuantity(Long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    // Get units left per shard
+    public List<Long> getShardQuantities() {
+        return shardQuantities;
+    }
+
+    // Set units left per shard
+    public void setShardQuantities(List<Long> shardQuantities) {
+        this.shardQuantities = shardQuantities;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+
+// ImageUploadJobClaim - one image upload job claimed by an uploader, identified by the time of the claim
+public class ImageUploadJobClaim {
+    // Claimed job
+    private Long jobId;
+    // Claim time written to the job by this claim; a later reclaim of a stalled job writes a newer one
+    private LocalDateTime claimedAt;
+
+    // Default constructor
+    public ImageUploadJobClaim() {
+    }
+
+    // Constructor with all fields
+    public ImageUploadJobClaim(Long jobId, LocalDateTime claimedAt) {
+        this.jobId = jobId;
+        this.claimedAt = claimedAt;
+    }
+
+    // Get job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get claim time
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    // Set claim time
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+}
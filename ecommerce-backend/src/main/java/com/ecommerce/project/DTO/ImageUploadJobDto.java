@@ -0,0 +1,120 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+
+// ImageUploadJobDto - data transfer object for the status of a background product image upload
+public class ImageUploadJobDto {
+    // Job ID (poll GET /api/admin/products/images/jobs/{jobId})
+    private Long jobId;
+    // Product the image belongs to
+    private Long productId;
+    // PENDING, UPLOADING, COMPLETED or FAILED
+    private String status;
+    // Number of upload attempts so far
+    private int attempts;
+    // Earliest time of the next attempt while the job is pending
+    private LocalDateTime nextAttemptAt;
+    // Reason for the last failure
+    private String lastError;
+    // Time the image was staged
+    private LocalDateTime createdAt;
+    // Time the job finished
+    private LocalDateTime completedAt;
+
+    // Default constructor
+    public ImageUploadJobDto() {
+    }
+
+    // Constructor with all fields
+    public ImageUploadJobDto(Long jobId, Long productId, String status, int attempts, LocalDateTime nextAttemptAt,
+                             String lastError, LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.jobId = jobId;
+        this.productId = productId;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+
+    // Get job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get product ID
+    public Long getProductId() {
+        return productId;
+    }
+
+    // Set product ID
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    // Get job status
+    public String getStatus() {
+        return status;
+    }
+
+    // Set job status
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // Get number of attempts
+    public int getAttempts() {
+        return attempts;
+    }
+
+    // Set number of attempts
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    // Get earliest time of the next attempt
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    // Set earliest time of the next attempt
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // Get reason for the last failure
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Set reason for the last failure
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    // Get staging time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set staging time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get completion time
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    // Set completion time
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.project.DTO;
+
+// ImageUploadStatsDto - data transfer object for background image upload metrics
+public class ImageUploadStatsDto {
+    // Jobs waiting to be uploaded (queue depth)
+    private long pendingJobs;
+    // Jobs currently being uploaded
+    private long uploadingJobs;
+    // Uploads finished by this instance since it started
+    private long completedUploads;
+    // Upload attempts that failed on this instance since it started
+    private long failedAttempts;
+    // Average time of a successful upload on this instance, in milliseconds
+    private long averageUploadMillis;
+    // Slowest recent successful upload on this instance (the timer's decaying max), in milliseconds
+    private long maxUploadMillis;
+    // Circuit breaker state for the image store (CLOSED, OPEN or HALF_OPEN)
+    private String circuitState;
+
+    // Default constructor
+    public ImageUploadStatsDto() {
+    }
+
+    // Constructor with all fields
+    public ImageUploadStatsDto(long pendingJobs, long uploadingJobs, long completedUploads, long failedAttempts,
+                               long averageUploadMillis, long maxUploadMillis, String circuitState) {
+        this.pendingJobs = pendingJobs;
+        this.uploadingJobs = uploadingJobs;
+        this.completedUploads = completedUploads;
+        this.failedAttempts = failedAttempts;
+        this.averageUploadMillis = averageUploadMillis;
+        this.maxUploadMillis = maxUploadMillis;
+        this.circuitState = circuitState;
+    }
+
+    // Get number of pending jobs
+    public long getPendingJobs() {
+        return pendingJobs;
+    }
+
+    // Set number of pending jobs
+    public void setPendingJobs(long pendingJobs) {
+        this.pendingJobs = pendingJobs;
+    }
+
+    // Get number of jobs being uploaded
+    public long getUploadingJobs() {
+        return uploadingJobs;
+    }
+
+    // Set number of jobs being uploaded
+    public void setUploadingJobs(long uploadingJobs) {
+        this.uploadingJobs = uploadingJobs;
+    }
+
+    // Get number of completed uploads
+    public long getCompletedUploads() {
+        return completedUploads;
+    }
+
+    // Set number of completed uploads
+    public void setCompletedUploads(long completedUploads) {
+        this.completedUploads = completedUploads;
+    }
+
+    // Get number of failed attempts
+    public long getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    // Set number of failed attempts
+    public void setFailedAttempts(long failedAttempts) {
+        this.failedAttempts = failedAttempts;
+    }
+
+    // Get average upload time
+    public long getAverageUploadMillis() {
+        return averageUploadMillis;
+    }
+
+    // Set average upload time
+    public void setAverageUploadMillis(long averageUploadMillis) {
+        this.averageUploadMillis = averageUploadMillis;
+    }
+
+    // Get slowest upload time
+    public long getMaxUploadMillis() {
+        return maxUploadMillis;
+    }
+
+    // Set slowest upload time
+    public void setMaxUploadMillis(long maxUploadMillis) {
+        this.maxUploadMillis = maxUploadMillis;
+    }
+
+    // Get circuit breaker state
+    public String getCircuitState() {
+        return circuitState;
+    }
+
+    // Set circuit breaker state
+    public void setCircuitState(String circuitState) {
+        this.circuitState = circuitState;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.project.DTO;
+
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+
+import java.util.List;
+import java.util.function.Function;
+
+// KeysetResponse - data transfer object for one page of an id-ordered admin listing
+public class KeysetResponse<T> {
+    // Largest page an admin listing will return
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Items with an id greater than the requested one, in id order
+    private List<T> content;
+    // Id to pass as ?after= for the next page (unchanged if the page is empty)
+    private Long lastId;
+    // Whether there are no items after this page
+    private boolean lastPage;
+
+    // Default constructor
+    public KeysetResponse() {
+    }
+
+    // Constructor with all fields
+    public KeysetResponse(List<T> content, Long lastId, boolean lastPage) {
+        this.content = content;
+        this.lastId = lastId;
+        this.lastPage = lastPage;
+    }
+
+    // Reject an after id or limit that no page can be built from
+    public static void validatePageRequest(Long afterId, Integer limit) {
+        if (afterId == null || afterId < 0) {
+            throw new APIErrorHandler("after must be zero or a lastId returned by an earlier call");
+        }
+        if (limit == null || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new APIErrorHandler("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Build the page for a query that returned at most limit items after afterId
+    public static <T> KeysetResponse<T> of(List<T> page, Long afterId, int limit, Function<T, Long> idOf) {
+        Long lastId = page.isEmpty() ? afterId : idOf.apply(page.get(page.size() - 1));
+        return new KeysetResponse<>(page, lastId, page.size() < limit);
+    }
+
+    // Get item list
+    public List<T> getContent() {
+        return content;
+    }
+
+    // Set item list
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    // Get last id on this page
+    public Long getLastId() {
+        return lastId;
+    }
+
+    // Set last id on this page
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    // Check if this is the last page
+    public boolean isLastPage() {
+        return lastPage;
+    }
+
+    // Set last page flag
+    public void setLastPage(boolean lastPage) {
+        this.lastPage = lastPage;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.project.DTO;
+
+// OrderCommandClaim - one order command claimed by a pipeline worker, identified by the attempt that claimed it
+public class OrderCommandClaim {
+    // Claimed command
+    private Long commandId;
+    // Attempt number set by this claim; a later reclaim of a stalled command gets a higher one
+    private int attempt;
+
+    // Default constructor
+    public OrderCommandClaim() {
+    }
+
+    // Constructor with all fields
+    public OrderCommandClaim(Long commandId, int attempt) {
+        this.commandId = commandId;
+        this.attempt = attempt;
+    }
+
+    // Get command ID
+    public Long getCommandId() {
+        return commandId;
+    }
+
+    // Set command ID
+    public void setCommandId(Long commandId) {
+        this.commandId = commandId;
+    }
+
+    // Get claiming attempt number
+    public int getAttempt() {
+        return attempt;
+    }
+
+    // Set claiming attempt number
+    public void setAttempt(int attempt) {
+        this.attempt = attempt;
+    }
+}
@@ -10,6 +10,12 @@ public class ProductDTO {
     private String model;
     // URL to product image
     private String image;
+    // URL to the small rendition (lists and carts)
+    private String thumbnailUrl;
+    // URL to the medium rendition (catalog grids)
+    private String mediumUrl;
+    // URL to the large rendition (product page)
+    private String largeUrl;
     // Product description
     private String description;
     // Available stock quantity
@@ -101,4 +107,34 @@ public class ProductDTO {
     public void setPrice(double price) {
         this.price = price;
     }
+
+    // Get thumbnail rendition URL
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    // Set thumbnail rendition URL
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    // Get medium rendition URL
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    // Set medium rendition URL
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
+    // Get large rendition URL
+    public String getLargeUrl() {
+        return largeUrl;
+    }
+
+    // Set large rendition URL
+    public void setLargeUrl(String largeUrl) {
+        this.largeUrl = largeUrl;
+    }
 }
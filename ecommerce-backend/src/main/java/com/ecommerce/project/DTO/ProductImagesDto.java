@@ -0,0 +1,65 @@
+package com.ecommerce.project.DTO;
+
+// ProductImagesDto - data transfer object for a stored product image and its resized renditions
+public class ProductImagesDto {
+    // Stored original image (filename or URL)
+    private String image;
+    // Small rendition for lists and carts
+    private String thumbnailUrl;
+    // Medium rendition for catalog grids
+    private String mediumUrl;
+    // Large rendition for the product page
+    private String largeUrl;
+
+    // Default constructor
+    public ProductImagesDto() {
+    }
+
+    // Constructor with all fields
+    public ProductImagesDto(String image, String thumbnailUrl, String mediumUrl, String largeUrl) {
+        this.image = image;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.largeUrl = largeUrl;
+    }
+
+    // Get original image
+    public String getImage() {
+        return image;
+    }
+
+    // Set original image
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    // Get thumbnail rendition
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    // Set thumbnail rendition
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    // Get medium rendition
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    // Set medium rendition
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
+    // Get large rendition
+    public String getLargeUrl() {
+        return largeUrl;
+    }
+
+    // Set large rendition
+    public void setLargeUrl(String largeUrl) {
+        this.largeUrl = largeUrl;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.project.DTO;
+
+// ProductImportErrorDto - data transfer object for one rejected row of a bulk product import
+public class ProductImportErrorDto {
+    // Row number in the source (1 = first data row)
+    private long rowNumber;
+    // Why the row was rejected
+    private String message;
+
+    // Default constructor
+    public ProductImportErrorDto() {
+    }
+
+    // Constructor with all fields
+    public ProductImportErrorDto(long rowNumber, String message) {
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+
+    // Get source row number
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    // Set source row number
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    // Get error message
+    public String getMessage() {
+        return message;
+    }
+
+    // Set error message
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
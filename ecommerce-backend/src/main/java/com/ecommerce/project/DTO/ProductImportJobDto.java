@@ -0,0 +1,148 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// ProductImportJobDto - data transfer object for the progress and result of a bulk product import
+public class ProductImportJobDto {
+    // Import job ID (use it to resume a failed import)
+    private Long jobId;
+    // Source format (csv or ndjson)
+    private String format;
+    // RUNNING, COMPLETED or FAILED
+    private String status;
+    // Number of source rows whose results are committed
+    private long rowsProcessed;
+    // Number of products inserted
+    private long importedCount;
+    // Number of rows rejected
+    private long failedCount;
+    // Reason the import stopped early
+    private String lastError;
+    // Start time
+    private LocalDateTime createdAt;
+    // Time of the last committed chunk
+    private LocalDateTime updatedAt;
+    // First rejected rows, in source order
+    private List<ProductImportErrorDto> errors;
+
+    // Default constructor
+    public ProductImportJobDto() {
+    }
+
+    // Constructor with all fields
+    public ProductImportJobDto(Long jobId, String format, String status, long rowsProcessed, long importedCount,
+                               long failedCount, String lastError, LocalDateTime createdAt, LocalDateTime updatedAt,
+                               List<ProductImportErrorDto> errors) {
+        this.jobId = jobId;
+        this.format = format;
+        this.status = status;
+        this.rowsProcessed = rowsProcessed;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.errors = errors;
+    }
+
+    // Get job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get source format
+    public String getFormat() {
+        return format;
+    }
+
+    // Set source format
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    // Get job status
+    public String getStatus() {
+        return status;
+    }
+
+    // Set job status
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // Get number of committed source rows
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    // Set number of committed source rows
+    public void setRowsProcessed(long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    // Get number of products inserted
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    // Set number of products inserted
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    // Get number of rejected rows
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    // Set number of rejected rows
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    // Get reason the import stopped early
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Set reason the import stopped early
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    // Get start time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set start time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get time of the last committed chunk
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Set time of the last committed chunk
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Get first rejected rows
+    public List<ProductImportErrorDto> getErrors() {
+        return errors;
+    }
+
+    // Set first rejected rows
+    public void setErrors(List<ProductImportErrorDto> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+
+// SalesBucketDto - data transfer object for one day or hour of sales
+public class SalesBucketDto {
+    // Start of the day or hour
+    private LocalDateTime bucketStart;
+    // Number of orders placed in the bucket
+    private Long orderCount;
+    // Number of units sold in the bucket
+    private Long units;
+    // Revenue from orders placed in the bucket
+    private Double revenue;
+
+    // Default constructor
+    public SalesBucketDto() {
+    }
+
+    // Constructor with all fields
+    public SalesBucketDto(LocalDateTime bucketStart, Long orderCount, Long units, Double revenue) {
+        this.bucketStart = bucketStart;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+    }
+
+    // Get bucket start
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    // Set bucket start
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    // Get order count
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    // Set order count
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    // Get units sold
+    public Long getUnits() {
+        return units;
+    }
+
+    // Set units sold
+    public void setUnits(Long units) {
+        this.units = units;
+    }
+
+    // Get revenue
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    // Set revenue
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.project.DTO;
+
+import java.time.LocalDateTime;
+
+// StockReservationDto - data transfer object for a checkout stock hold
+public class StockReservationDto {
+    // ID of the held product
+    private Long productId;
+    // Name of the held product
+    private String productName;
+    // Number of units held
+    private Integer quantity;
+    // Time the hold expires
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public StockReservationDto() {
+    }
+
+    // Constructor with all fields
+    public StockReservationDto(Long productId, String productName, Integer quantity, LocalDateTime expiresAt) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    // Get product ID
+    public Long getProductId() {
+        return productId;
+    }
+
+    // Set product ID
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    // Get product name
+    public String getProductName() {
+        return productName;
+    }
+
+    // Set product name
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    // Get held quantity
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    // Set held quantity
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // Get expiry time
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    // Set expiry time
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
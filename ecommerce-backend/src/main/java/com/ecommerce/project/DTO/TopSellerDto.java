@@ -0,0 +1,65 @@
+package com.ecommerce.project.DTO;
+
+// TopSellerDto - data transfer object for a best-selling product or category
+public class TopSellerDto {
+    // Product or category ID
+    private Long id;
+    // Product or category name
+    private String name;
+    // Number of units sold in the range
+    private Long units;
+    // Revenue from those units
+    private Double revenue;
+
+    // Default constructor
+    public TopSellerDto() {
+    }
+
+    // Constructor with all fields
+    public TopSellerDto(Long id, String name, Long units, Double revenue) {
+        this.id = id;
+        this.name = name;
+        this.units = units;
+        this.revenue = revenue;
+    }
+
+    // Get ID
+    public Long getId() {
+        return id;
+    }
+
+    // Set ID
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    // Get name
+    public String getName() {
+        return name;
+    }
+
+    // Set name
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    // Get units sold
+    public Long getUnits() {
+        return units;
+    }
+
+    // Set units sold
+    public void setUnits(Long units) {
+        this.units = units;
+    }
+
+    // Get revenue
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    // Set revenue
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -3,7 +3,9 @@ package com.ecommerce.project.JwtAuth;
 import java.util.Arrays;
 import java.util.Set;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,7 +39,7 @@ import com.ecommerce.project.JwtAuth.services.UserDetailsServiceImpl;
  * Main security configuration class for JWT-based authentication.
  * Sets up Spring Security with JWT tokens instead of sessions.
  * Configures which endpoints require authentication and which are public.
- * Also initializes default users (admin and regular user) on startup.
+ * Also initializes default users (admin and regular user) on startup, outside production.
  */
 @Configuration
 @EnableWebSecurity
@@ -47,11 +49,14 @@ public class WebSecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthEntryPointJwt unauthorizedHandler;
     private final JwtUtils jwtUtils;
+    private final ObservationRegistry observationRegistry;
 
-    public WebSecurityConfig(UserDetailsServiceImpl userDetailsService, AuthEntryPointJwt unauthorizedHandler, JwtUtils jwtUtils) {
+    public WebSecurityConfig(UserDetailsServiceImpl userDetailsService, AuthEntryPointJwt unauthorizedHandler, JwtUtils jwtUtils,
+                             ObservationRegistry observationRegistry) {
         this.userDetailsService = userDetailsService;
         this.unauthorizedHandler = unauthorizedHandler;
         this.jwtUtils = jwtUtils;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -83,7 +88,7 @@ public class WebSecurityConfig {
      */
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
-        return new AuthTokenFilter(jwtUtils, userDetailsService);
+        return new AuthTokenFilter(jwtUtils, userDetailsService, observationRegistry);
     }
 
     /**
@@ -141,8 +146,11 @@ public class WebSecurityConfig {
     /**
      * Initializes default data on application startup.
      * Creates default roles and users (admin and regular user) if they don't exist.
+     * Off in production (app.seed-data.enabled=false): the roles come from a migration and
+     * the well-known default passwords must not exist there.
      */
     @Bean
+    @ConditionalOnProperty(name = "app.seed-data.enabled", havingValue = "true", matchIfMissing = true)
     public CommandLineRunner initData(RoleDAO roleDAO, UserDAO userDAO, PasswordEncoder passwordEncoder) {
         return args -> {
             Role userRole = fetchOrCreateRole(roleDAO, AppRole.ROLE_USER);
@@ -178,6 +186,10 @@ public class WebSecurityConfig {
                 // Static resources
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/images/**").permitAll()
+
+                // Health checks and the Prometheus scraper; other actuator endpoints are admin-only
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
                 // All other endpoints require authentication
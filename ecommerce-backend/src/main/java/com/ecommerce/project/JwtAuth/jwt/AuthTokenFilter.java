@@ -1,5 +1,7 @@
 package com.ecommerce.project.JwtAuth.jwt;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,10 +34,13 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
-    public AuthTokenFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService) {
+    public AuthTokenFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService,
+                           ObservationRegistry observationRegistry) {
         this.jwtUtils = jwtUtils;
         this.userDetailsService = userDetailsService;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -48,11 +53,16 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         logFilterInvocation(request);
 
-        try {
-            processJwtAuthentication(request);
-        } catch (Exception exception) {
-            logAuthenticationError(exception);
-        }
+        // Own span, so token parsing and the user lookup show up separately from the controller
+        Observation.createNotStarted("security.jwt.authentication", observationRegistry)
+                .contextualName("AuthTokenFilter")
+                .observe(() -> {
+                    try {
+                        processJwtAuthentication(request);
+                    } catch (Exception exception) {
+                        logAuthenticationError(exception);
+                    }
+                });
 
         filterChain.doFilter(request, response);
     }
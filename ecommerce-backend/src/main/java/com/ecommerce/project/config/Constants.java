@@ -13,6 +13,9 @@ public class Constants {
     public static final String page_num = "0";          // Start from first page
     public static final String page_size = "12";        // 12 items per page
 
+    // Default page size for the id-ordered (keyset) admin listings
+    public static final String admin_page_limit = "100";
+
     // Default sorting fields for different entities
     public static final String orders_sort_by = "totalAmount";
     public static final String users_sort_by = "userId";
@@ -0,0 +1,83 @@
+package com.ecommerce.project.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.ecommerce.project.helper.ConcurrencyLimitedDataSource;
+
+/**
+ * Configuration class for the connection limiter in front of each HikariCP pool.
+ * Meant for virtual-thread mode (spring.threads.virtual.enabled): request threads are no longer
+ * capped by Tomcat's pool, so the limiter is what keeps them from stampeding HikariCP.
+ * Each pool (the primary, and the replica when enabled) gets as many permits as it has connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    /**
+     * Wraps every HikariCP pool once it is built and configured. Static, so it is registered before other beans.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        long acquireTimeoutMillis = environment.getProperty("datasource.limiter.acquire-timeout-ms", Long.class, 30000L);
+        return new LimiterPostProcessor(acquireTimeoutMillis);
+    }
+
+    // Ordered, so it runs before unordered wrappers such as SqlStatementCountingConfig's and still sees the pool itself
+    private static final class LimiterPostProcessor implements BeanPostProcessor, Ordered {
+        private final long acquireTimeoutMillis;
+
+        private LimiterPostProcessor(long acquireTimeoutMillis) {
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikariPool) {
+                return new ConcurrencyLimitedDataSource(hikariPool, hikariPool.getMaximumPoolSize(), acquireTimeoutMillis);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Exposes each limiter's state next to the HikariCP pool gauges, tagged with the DataSource bean name.
+     */
+    @Bean
+    public MeterBinder dataSourceLimiterMetrics(Map<String, DataSource> dataSources) {
+        return meterRegistry -> dataSources.forEach((beanName, dataSource) -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limitedDataSource)) {
+                return;
+            }
+            Gauge.builder("datasource.limiter.active", limitedDataSource, ConcurrencyLimitedDataSource::getActiveConnections)
+                    .description("Connections checked out through the limiter")
+                    .tag("name", beanName)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.limiter.waiting", limitedDataSource, ConcurrencyLimitedDataSource::getWaitingThreads)
+                    .description("Threads waiting for a connection permit")
+                    .tag("name", beanName)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.limiter.max", limitedDataSource, ConcurrencyLimitedDataSource::getMaxConcurrent)
+                    .description("Maximum concurrent connections allowed by the limiter")
+                    .tag("name", beanName)
+                    .register(meterRegistry);
+        });
+    }
+}
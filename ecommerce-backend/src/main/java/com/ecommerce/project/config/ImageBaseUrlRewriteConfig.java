@@ -0,0 +1,46 @@
+package com.ecommerce.project.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ecommerce.project.helper.ImageUrlResolver;
+
+/**
+ * Configuration class that moves stored product image URLs to a new image base URL.
+ * Products hold URLs resolved when they were written, so after image.base.url changes the
+ * old prefix is swapped for the new one once on startup. It only runs while
+ * images.previous-base-url is set; later runs find no rows with the old prefix.
+ */
+@Configuration
+@ConditionalOnProperty(name = "images.previous-base-url")
+public class ImageBaseUrlRewriteConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageBaseUrlRewriteConfig.class);
+
+    private static final String[] IMAGE_COLUMNS = {"image", "thumbnail_url", "medium_url", "large_url"};
+
+    @Bean
+    public CommandLineRunner rewriteProductImageBaseUrl(JdbcTemplate jdbcTemplate, ImageUrlResolver imageUrlResolver,
+                                                        @Value("${images.previous-base-url}") String previousBaseUrl) {
+        String previousPrefix = previousBaseUrl.endsWith("/") ? previousBaseUrl : previousBaseUrl + "/";
+        String currentPrefix = imageUrlResolver.imageBaseUrl();
+        return args -> {
+            if (previousPrefix.equals(currentPrefix)) {
+                return;
+            }
+            int updatedRows = 0;
+            for (String imageColumn : IMAGE_COLUMNS) {
+                updatedRows += jdbcTemplate.update("UPDATE products SET " + imageColumn + " = ? || substr(" + imageColumn +
+                                ", ?) WHERE starts_with(" + imageColumn + ", ?)",
+                        currentPrefix, previousPrefix.length() + 1, previousPrefix);
+            }
+            logger.info("Moved product image URLs from {} to {} ({} row updates)", previousPrefix, currentPrefix, updatedRows);
+        };
+    }
+}
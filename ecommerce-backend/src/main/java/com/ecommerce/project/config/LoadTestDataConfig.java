@@ -0,0 +1,238 @@
+package com.ecommerce.project.config;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.CartDAO;
+import com.ecommerce.project.DAO.CategoryDAO;
+import com.ecommerce.project.DAO.OrderDAO;
+import com.ecommerce.project.DAO.PaymentDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DAO.RoleDAO;
+import com.ecommerce.project.DAO.UserDAO;
+import com.ecommerce.project.helper.ImageUrlResolver;
+import com.ecommerce.project.model.Address;
+import com.ecommerce.project.model.AppRole;
+import com.ecommerce.project.model.Cart;
+import com.ecommerce.project.model.CartItem;
+import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.Order;
+import com.ecommerce.project.model.OrderItem;
+import com.ecommerce.project.model.Payment;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.model.Role;
+import com.ecommerce.project.model.User;
+
+/**
+ * Configuration class that seeds a deterministic data set for load tests (profile "loadtest").
+ * Creates users lt-user-0..N-1 (password loadtestPass) with an address each, categories of
+ * products with deep stock, non-empty carts for the first users, and an order history spread
+ * over the last days so the analytics endpoints have data. The same settings always produce
+ * the same rows. Nothing is seeded if lt-user-0 already exists.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestDataConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataConfig.class);
+
+    public static final String USER_PREFIX = "lt-user-";
+    public static final String USER_PASSWORD = "loadtestPass";
+    private static final int CHUNK_SIZE = 500;
+    private static final int PRODUCT_STOCK = 1_000_000;
+
+    @Value("${loadtest.seed.users:1000}")
+    private int userCount;
+
+    @Value("${loadtest.seed.categories:20}")
+    private int categoryCount;
+
+    @Value("${loadtest.seed.products-per-category:250}")
+    private int productsPerCategory;
+
+    @Value("${loadtest.seed.carts:500}")
+    private int cartCount;
+
+    @Value("${loadtest.seed.orders:5000}")
+    private int orderCount;
+
+    @Value("${loadtest.seed.order-history-days:90}")
+    private int orderHistoryDays;
+
+    @Value("${loadtest.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Bean
+    public CommandLineRunner seedLoadTestData(RoleDAO roleDAO, UserDAO userDAO, CategoryDAO categoryDAO,
+                                              ProductDAO productDAO, CartDAO cartDAO, OrderDAO orderDAO,
+                                              PaymentDAO paymentDAO, PasswordEncoder passwordEncoder,
+                                              ImageUrlResolver imageUrlResolver, EntityManager entityManager,
+                                              PlatformTransactionManager transactionManager) {
+        return args -> {
+            if (userDAO.existsByUserName(USER_PREFIX + 0)) {
+                logger.info("Load test data already present, skipping seeding");
+                return;
+            }
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            Random random = new Random(randomSeed);
+
+            List<Long> userIds = seedUsers(roleDAO, userDAO, passwordEncoder, entityManager, transactionTemplate);
+            List<Long> productIds = seedCatalog(categoryDAO, productDAO, imageUrlResolver, entityManager, transactionTemplate);
+            seedCarts(userDAO, productDAO, cartDAO, userIds, productIds, random, entityManager, transactionTemplate);
+            seedOrders(userDAO, productDAO, orderDAO, paymentDAO, userIds, productIds, random, entityManager, transactionTemplate);
+
+            logger.info("Seeded {} users, {} products, {} carts and {} orders for load testing",
+                    userIds.size(), productIds.size(), Math.min(cartCount, userIds.size()), orderCount);
+        };
+    }
+
+    // All users share one password hash so seeding does not spend minutes in BCrypt
+    private List<Long> seedUsers(RoleDAO roleDAO, UserDAO userDAO, PasswordEncoder passwordEncoder,
+                                 EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        String passwordHash = passwordEncoder.encode(USER_PASSWORD);
+        List<Long> userIds = new ArrayList<>(userCount);
+
+        for (int chunkStart = 0; chunkStart < userCount; chunkStart += CHUNK_SIZE) {
+            int chunkEnd = Math.min(userCount, chunkStart + CHUNK_SIZE);
+            int firstUser = chunkStart;
+            userIds.addAll(transactionTemplate.execute(status -> {
+                Role userRole = roleDAO.findByRoleName(AppRole.ROLE_USER)
+                        .orElseGet(() -> roleDAO.save(new Role(AppRole.ROLE_USER)));
+                List<User> newUsers = new ArrayList<>();
+                for (int userNumber = firstUser; userNumber < chunkEnd; userNumber++) {
+                    User newUser = new User(USER_PREFIX + userNumber, USER_PREFIX + userNumber + "@example.com", passwordHash);
+                    newUser.setRoles(Set.of(userRole));
+                    Address homeAddress = new Address("Load Test Street " + userNumber, "Building " + userNumber % 100,
+                            "Testville", "TS", "Testland", String.format("%05d", userNumber % 100000));
+                    homeAddress.setUser(newUser);
+                    newUser.getAddresses().add(homeAddress);
+                    newUsers.add(newUser);
+                }
+                List<Long> savedIds = userDAO.saveAll(newUsers).stream().map(User::getUserId).toList();
+                entityManager.flush();
+                entityManager.clear();
+                return savedIds;
+            }));
+        }
+        return userIds;
+    }
+
+    private List<Long> seedCatalog(CategoryDAO categoryDAO, ProductDAO productDAO, ImageUrlResolver imageUrlResolver,
+                                   EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        List<Long> productIds = new ArrayList<>(categoryCount * productsPerCategory);
+        for (int categoryNumber = 0; categoryNumber < categoryCount; categoryNumber++) {
+            int currentCategory = categoryNumber;
+            productIds.addAll(transactionTemplate.execute(status -> {
+                Category category = categoryDAO.save(new Category(null, "Load Test Category " + currentCategory, null));
+                List<Product> newProducts = new ArrayList<>(productsPerCategory);
+                for (int productNumber = 0; productNumber < productsPerCategory; productNumber++) {
+                    Product newProduct = new Product();
+                    newProduct.setProductName("LT Product " + currentCategory + "-" + productNumber);
+                    newProduct.setModel("LT-" + productNumber % 25);
+                    newProduct.setDescription("Seeded product " + productNumber + " of category " + currentCategory);
+                    newProduct.setQuantity(PRODUCT_STOCK);
+                    newProduct.setPrice(5 + (productNumber * 7 + currentCategory * 13) % 500);
+                    newProduct.setCategory(category);
+                    imageUrlResolver.assignDefaultImage(newProduct);
+                    newProducts.add(newProduct);
+                }
+                List<Long> savedIds = productDAO.saveAll(newProducts).stream().map(Product::getProductId).toList();
+                entityManager.flush();
+                entityManager.clear();
+                return savedIds;
+            }));
+        }
+        return productIds;
+    }
+
+    private void seedCarts(UserDAO userDAO, ProductDAO productDAO, CartDAO cartDAO, List<Long> userIds,
+                           List<Long> productIds, Random random, EntityManager entityManager,
+                           TransactionTemplate transactionTemplate) {
+        int seededCarts = Math.min(cartCount, userIds.size());
+        for (int chunkStart = 0; chunkStart < seededCarts; chunkStart += CHUNK_SIZE) {
+            List<Long> chunkUserIds = userIds.subList(chunkStart, Math.min(seededCarts, chunkStart + CHUNK_SIZE));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Long userId : chunkUserIds) {
+                    Cart userCart = new Cart(null, userDAO.getReferenceById(userId), new ArrayList<>(), 0.0);
+                    double totalPrice = 0;
+                    for (Long productId : pickProducts(productIds, 1 + random.nextInt(4), random)) {
+                        Product product = productDAO.getReferenceById(productId);
+                        int quantity = 1 + random.nextInt(3);
+                        userCart.getCartItems().add(new CartItem(null, userCart, product, quantity, product.getPrice()));
+                        totalPrice += quantity * product.getPrice();
+                    }
+                    userCart.setTotalPrice(totalPrice);
+                    cartDAO.save(userCart);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private void seedOrders(UserDAO userDAO, ProductDAO productDAO, OrderDAO orderDAO, PaymentDAO paymentDAO,
+                            List<Long> userIds, List<Long> productIds, Random random, EntityManager entityManager,
+                            TransactionTemplate transactionTemplate) {
+        LocalDateTime historyStart = LocalDate.now().minusDays(orderHistoryDays).atStartOfDay();
+        long historyMinutes = (long) orderHistoryDays * 24 * 60;
+
+        for (int chunkStart = 0; chunkStart < orderCount; chunkStart += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, orderCount - chunkStart);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int orderNumber = 0; orderNumber < chunkSize; orderNumber++) {
+                    User customer = userDAO.getReferenceById(userIds.get(random.nextInt(userIds.size())));
+                    LocalDateTime placedAt = historyStart.plusMinutes((long) (random.nextDouble() * historyMinutes));
+
+                    Order historicOrder = new Order();
+                    historicOrder.setEmail(customer.getEmail());
+                    historicOrder.setOrderDate(placedAt.toLocalDate());
+                    historicOrder.setCreatedAt(placedAt);
+                    historicOrder.setOrderStatus("Accepted");
+                    historicOrder.setAddress(customer.getAddresses().get(0));
+
+                    double totalAmount = 0;
+                    for (Long productId : pickProducts(productIds, 1 + random.nextInt(4), random)) {
+                        Product product = productDAO.getReferenceById(productId);
+                        OrderItem orderLine = new OrderItem(null, product, historicOrder, 1 + random.nextInt(3), product.getPrice());
+                        historicOrder.getOrderItems().add(orderLine);
+                        totalAmount += orderLine.getQty() * orderLine.getProductPrice();
+                    }
+                    historicOrder.setTotalAmount(totalAmount);
+                    historicOrder.setPayment(paymentDAO.save(new Payment("Card", "lt-" + chunkStart + "-" + orderNumber,
+                            "Succeeded", "Seeded payment", "LoadTest")));
+                    orderDAO.save(historicOrder);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private List<Long> pickProducts(List<Long> productIds, int count, Random random) {
+        int pickCount = Math.min(count, productIds.size());
+        List<Long> pickedIds = new ArrayList<>(pickCount);
+        while (pickedIds.size() < pickCount) {
+            Long productId = productIds.get(random.nextInt(productIds.size()));
+            if (!pickedIds.contains(productId)) {
+                pickedIds.add(productId);
+            }
+        }
+        return pickedIds;
+    }
+}
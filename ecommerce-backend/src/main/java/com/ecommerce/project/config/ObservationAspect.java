@@ -0,0 +1,67 @@
+package com.ecommerce.project.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps service and repository calls in Micrometer observations, which become both timers and trace spans.
+ * - Every public I*ServiceImpl method is the "service.method" observation (timer service.method).
+ * - Every repository call is the "repository.call" observation; it is kept for spans only, since
+ *   actuator already times repositories as spring.data.repository.invocations (see management.metrics.enable).
+ * Tags are class and method names only, so the number of series stays bounded by the code.
+ */
+@Aspect
+@Component
+public class ObservationAspect {
+
+    private static final String DAO_PACKAGE = "com.ecommerce.project.DAO.";
+
+    private final ObservationRegistry observationRegistry;
+
+    // DAO interface name per repository proxy class
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public ObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.ecommerce.project.service.I*ServiceImpl.*(..))")
+    public Object observeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String serviceName = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        return Observation.createNotStarted("service.method", observationRegistry)
+                .contextualName(serviceName + "." + methodName)
+                .lowCardinalityKeyValue("service", serviceName)
+                .lowCardinalityKeyValue("method", methodName)
+                .observeChecked(joinPoint::proceed);
+    }
+
+    @Around("execution(public * *(..)) && target(org.springframework.data.repository.Repository)")
+    public Object observeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repositoryName = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(),
+                proxyClass -> resolveRepositoryName(joinPoint.getThis()));
+        String methodName = joinPoint.getSignature().getName();
+        return Observation.createNotStarted("repository.call", observationRegistry)
+                .contextualName(repositoryName + "." + methodName)
+                .lowCardinalityKeyValue("repository", repositoryName)
+                .lowCardinalityKeyValue("method", methodName)
+                .observeChecked(joinPoint::proceed);
+    }
+
+    private String resolveRepositoryName(Object repositoryProxy) {
+        for (Class<?> repositoryInterface : AopProxyUtils.proxiedUserInterfaces(repositoryProxy)) {
+            if (repositoryInterface.getName().startsWith(DAO_PACKAGE)) {
+                return repositoryInterface.getSimpleName();
+            }
+        }
+        return repositoryProxy.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecommerce.project.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Configuration class for read-replica routing.
+ * Two HikariCP pools are built: the primary from spring.datasource.* (tuned by spring.datasource.hikari.*)
+ * and the replica from datasource.replica.* (tuned by datasource.replica.hikari.*). The application
+ * DataSource is a LazyConnectionDataSourceProxy: a connection is only fetched at the first statement,
+ * once the transaction is known to be read-only or not. Only read-only transactions started by the
+ * service layer (@Transactional(readOnly = true) on a service method, or a readOnly TransactionTemplate
+ * named after its service) use the replica; everything else uses the primary. That includes repository
+ * methods called outside a service transaction: Spring Data runs them in their own read-only transaction,
+ * and they are often reads right after a write, which a lagging replica would answer with stale rows.
+ * ReplicaLagMonitor sends read-only work back to the primary while the replica lags.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    // Transaction names are the qualified method name (or the name given to a TransactionTemplate)
+    private static final String SERVICE_TRANSACTION_PREFIX = "com.ecommerce.project.service.";
+
+    // The pools are declared as HikariDataSource so their hikari.* properties bind; they are injected
+    // as DataSource, since DataSourceLimiterConfig may wrap them
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String replicaUrl,
+                                              @Value("${datasource.replica.username}") String replicaUsername,
+                                              @Value("${datasource.replica.password}") String replicaPassword) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.max-lag-seconds:5}") double maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    /**
+     * The DataSource used by JPA and JdbcTemplate.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return buildRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    public MeterBinder replicaLagMetrics(ReplicaLagMonitor replicaLagMonitor) {
+        return meterRegistry -> Gauge.builder("datasource.replica.lag", replicaLagMonitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Replication lag of the read replica in seconds (-1 when unreachable)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes and read-write transactions go to the primary; read-only service transactions go to the
+     * replica while it is usable.
+     */
+    public static DataSource buildRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                                    ReplicaLagMonitor replicaLagMonitor) {
+        AbstractRoutingDataSource readOnlyDataSource = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return isServiceTransaction() && replicaLagMonitor.isReplicaUsable() ? REPLICA : PRIMARY;
+            }
+        };
+        readOnlyDataSource.setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        readOnlyDataSource.setDefaultTargetDataSource(primaryDataSource);
+        readOnlyDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy routingDataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routingDataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return routingDataSource;
+    }
+
+    // Called when the first statement needs a connection, by which time the outermost transaction has set its name
+    private static boolean isServiceTransaction() {
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        return transactionName != null && transactionName.startsWith(SERVICE_TRANSACTION_PREFIX);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.project.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Polls the read replica's replication lag and decides whether read-only work may use it.
+ * Lag is 0 when the replica has replayed everything it received; otherwise it is the age of the
+ * last replayed transaction. A replica that is too far behind, or unreachable, is skipped
+ * (reads go to the primary) until a later check finds it caught up.
+ * Created by ReadReplicaDataSourceConfig only when the replica is enabled.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Not in recovery (a standalone database, e.g. in tests): both LSNs are null and the lag is 0
+    private static final String REPLICATION_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile boolean replicaUsable = true;
+    private volatile double lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, double maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(5);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        boolean wasUsable = replicaUsable;
+        try {
+            Double measuredLag = replicaJdbcTemplate.queryForObject(REPLICATION_LAG_QUERY, Double.class);
+            lagSeconds = measuredLag != null ? measuredLag : 0;
+            replicaUsable = lagSeconds <= maxLagSeconds;
+        } catch (DataAccessException exception) {
+            lagSeconds = -1;
+            replicaUsable = false;
+        }
+
+        if (wasUsable != replicaUsable) {
+            logger.warn(replicaUsable
+                    ? "Read replica caught up (lag {}s), routing read-only transactions to it again"
+                    : "Read replica unavailable or lagging (lag {}s), routing read-only transactions to the primary", lagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    // Seconds behind the primary at the last check, or -1 when the replica could not be reached
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,143 @@
+package com.ecommerce.project.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.ecommerce.project.helper.SqlStatementCounter;
+
+/**
+ * Filter that counts the SQL statements each HTTP request issues (N+1 detector).
+ * Runs before the security filters, so the user lookup of the JWT filter is counted too.
+ * Requests over sql.statement-budget.max-statements are logged with their URI pattern, every count
+ * is recorded in the http.server.requests.sql.statements summary, and (outside production) the
+ * X-SQL-Statement-Count header carries the count of statements run before the response was committed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+    private static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.statement-budget.max-statements:25}")
+    private int maxStatements;
+
+    @Value("${sql.statement-budget.response-header:false}")
+    private boolean exposeHeader;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementCounter.Scope statementScope = SqlStatementCounter.open()) {
+            HttpServletResponse countedResponse = exposeHeader ? new CountHeaderResponse(response, statementScope) : response;
+            try {
+                filterChain.doFilter(request, countedResponse);
+            } finally {
+                if (countedResponse instanceof CountHeaderResponse countHeaderResponse) {
+                    countHeaderResponse.addCountHeader();
+                }
+                recordStatements(request, statementScope.statements());
+            }
+        }
+    }
+
+    private void recordStatements(HttpServletRequest request, int statements) {
+        String uriPattern = resolveUriPattern(request);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uriPattern)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > maxStatements) {
+            logger.warn("{} {} issued {} SQL statements (budget {}), URI {}",
+                    request.getMethod(), uriPattern, statements, maxStatements, request.getRequestURI());
+        }
+    }
+
+    // Matched handler pattern (e.g. /api/orders/{orderId}) keeps the tag low-cardinality
+    private String resolveUriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    // Adds the count header just before the response is committed; later statements are only logged
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter.Scope statementScope;
+        private boolean headerAdded;
+
+        private CountHeaderResponse(HttpServletResponse response, SqlStatementCounter.Scope statementScope) {
+            super(response);
+            this.statementScope = statementScope;
+        }
+
+        private void addCountHeader() {
+            if (!headerAdded && !isCommitted()) {
+                setHeader(STATEMENT_COUNT_HEADER, String.valueOf(statementScope.statements()));
+            }
+            headerAdded = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int statusCode) throws IOException {
+            addCountHeader();
+            super.sendError(statusCode);
+        }
+
+        @Override
+        public void sendError(int statusCode, String message) throws IOException {
+            addCountHeader();
+            super.sendError(statusCode, message);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
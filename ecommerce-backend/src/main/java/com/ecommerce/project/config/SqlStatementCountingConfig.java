@@ -0,0 +1,35 @@
+package com.ecommerce.project.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ecommerce.project.helper.StatementCountingDataSource;
+
+/**
+ * Configuration class that counts SQL statements for the per-request budget (SqlStatementBudgetFilter).
+ * The application's DataSource (the read-replica router when that is enabled) is wrapped, so JPA,
+ * the JdbcTemplate cursors of the cart and order exports, and any other JDBC use are all counted.
+ */
+@Configuration
+public class SqlStatementCountingConfig {
+
+    /**
+     * Wraps the DataSource bean once everything else has wrapped it. Static, so it is registered before other beans.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
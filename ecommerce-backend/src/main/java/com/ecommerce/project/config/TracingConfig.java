@@ -0,0 +1,34 @@
+package com.ecommerce.project.config;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for trace exporters.
+ * Spring Boot exports over OTLP when management.otlp.tracing.endpoint is set; every SpanExporter
+ * bean is used alongside it. The logging exporter writes each span as an OTLP JSON log line,
+ * for tests and local runs without a collector. Work handed to the application's own executors
+ * is wrapped with the ContextSnapshotFactory so its spans stay in the submitting trace.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter.logging.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+
+    /**
+     * Captures the current observation (with its trace and span) when a task is submitted to a
+     * ContextExecutorService, and restores it on the worker thread that runs the task.
+     */
+    @Bean
+    public ContextSnapshotFactory contextSnapshotFactory() {
+        return ContextSnapshotFactory.builder().build();
+    }
+}
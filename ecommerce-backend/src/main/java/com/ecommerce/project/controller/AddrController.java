@@ -2,15 +2,19 @@ package com.ecommerce.project.controller;
 
 import com.ecommerce.project.model.User;
 import com.ecommerce.project.DTO.AddressDto;
+import com.ecommerce.project.DTO.KeysetResponse;
+import com.ecommerce.project.config.Constants;
 import com.ecommerce.project.service.Interface.IAddrService;
 import com.ecommerce.project.helper.AuthHelper;
 import com.ecommerce.project.DAO.UserDAO;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -34,15 +38,29 @@ public class AddrController {
     }
 
     /**
-     * Get all addresses in the system
-     * Endpoint: GET /api/admin/addresses
-     * Admin only - returns all user addresses
+     * Get addresses one page at a time
+     * Endpoint: GET /api/admin/addresses?after=0&limit=100
+     * Admin only - addresses in ID order; pass the returned lastId as after to continue
      */
     @GetMapping("/admin/addresses")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<AddressDto>> getAddr() {
-        List<AddressDto> addressList = IAddrService.getAddr();
-        return ResponseEntity.ok(addressList);
+    public ResponseEntity<KeysetResponse<AddressDto>> getAddr(
+            @RequestParam(name = "after", defaultValue = "0", required = false) Long afterAddressId,
+            @RequestParam(name = "limit", defaultValue = Constants.admin_page_limit, required = false) Integer limit) {
+        return ResponseEntity.ok(IAddrService.getAddr(afterAddressId, limit));
+    }
+
+    /**
+     * Stream all addresses
+     * Endpoint: GET /api/admin/addresses/stream
+     * Admin only - writes every address as one JSON array while reading, without building the whole list
+     */
+    @GetMapping("/admin/addresses/stream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAddr() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(IAddrService.streamAddr());
     }
 
     /**
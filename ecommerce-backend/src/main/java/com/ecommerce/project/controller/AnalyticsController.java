@@ -1,12 +1,23 @@
 package com.ecommerce.project.controller;
 
 import com.ecommerce.project.DTO.AnalyticsResponse;
+import com.ecommerce.project.DTO.BasketSummaryDto;
+import com.ecommerce.project.DTO.DailyAnalyticsDto;
+import com.ecommerce.project.DTO.SalesBucketDto;
+import com.ecommerce.project.DTO.TopSellerDto;
 import com.ecommerce.project.service.Interface.IAnalyticsService;
+import com.ecommerce.project.service.Interface.ISalesAnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Controller for admin analytics
  * Provides dashboard statistics like total products, orders, and revenue
@@ -17,19 +28,101 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalyticsController {
 
     private final IAnalyticsService IAnalyticsService;
+    private final ISalesAnalyticsService ISalesAnalyticsService;
 
-    public AnalyticsController(IAnalyticsService IAnalyticsService) {
+    public AnalyticsController(IAnalyticsService IAnalyticsService, ISalesAnalyticsService ISalesAnalyticsService) {
         this.IAnalyticsService = IAnalyticsService;
+        this.ISalesAnalyticsService = ISalesAnalyticsService;
     }
 
     /**
      * Get analytics data for admin dashboard
      * Endpoint: GET /api/admin/analytics
-     * Returns product count, total orders, and total revenue
+     * Returns product count, total orders, total revenue and order counts by status
+     * Values come from precomputed rollups, so the cost does not grow with the order table
      */
     @GetMapping("/admin/analytics")
     public ResponseEntity<AnalyticsResponse> Analytics() {
         AnalyticsResponse response = IAnalyticsService.getAnalytics();
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get daily analytics for a date range
+     * Endpoint: GET /api/admin/analytics/daily?from=2025-01-01&to=2025-01-31
+     * Returns orders, revenue and products added/deleted per day (defaults to the last 30 days)
+     */
+    @GetMapping("/admin/analytics/daily")
+    public ResponseEntity<List<DailyAnalyticsDto>> dailyAnalytics(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        LocalDate rangeEnd = toDate != null ? toDate : LocalDate.now();
+        LocalDate rangeStart = fromDate != null ? fromDate : rangeEnd.minusDays(29);
+        return ResponseEntity.ok(IAnalyticsService.getDailyAnalytics(rangeStart, rangeEnd));
+    }
+
+    /**
+     * Get revenue, orders and units per day or hour
+     * Endpoint: GET /api/admin/analytics/sales?from=2025-01-01T00:00&to=2025-01-08T00:00&granularity=day
+     * Range is [from, to); defaults to the last 30 days by day
+     */
+    @GetMapping("/admin/analytics/sales")
+    public ResponseEntity<List<SalesBucketDto>> salesSeries(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "granularity", defaultValue = "day", required = false) String granularity) {
+        LocalDateTime rangeEnd = resolveRangeEnd(to);
+        return ResponseEntity.ok(ISalesAnalyticsService.getSalesSeries(resolveRangeStart(from, rangeEnd), rangeEnd, granularity));
+    }
+
+    /**
+     * Get best-selling products
+     * Endpoint: GET /api/admin/analytics/top-products?limit=10&sortBy=units
+     * sortBy is units or revenue; works on the whole days the range touches
+     */
+    @GetMapping("/admin/analytics/top-products")
+    public ResponseEntity<List<TopSellerDto>> topProducts(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "limit", defaultValue = "10", required = false) Integer limit,
+            @RequestParam(name = "sortBy", defaultValue = "units", required = false) String sortBy) {
+        LocalDateTime rangeEnd = resolveRangeEnd(to);
+        return ResponseEntity.ok(ISalesAnalyticsService.getTopProducts(resolveRangeStart(from, rangeEnd), rangeEnd, limit, sortBy));
+    }
+
+    /**
+     * Get best-selling categories
+     * Endpoint: GET /api/admin/analytics/top-categories?limit=10&sortBy=revenue
+     * sortBy is units or revenue; works on the whole days the range touches
+     */
+    @GetMapping("/admin/analytics/top-categories")
+    public ResponseEntity<List<TopSellerDto>> topCategories(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "limit", defaultValue = "10", required = false) Integer limit,
+            @RequestParam(name = "sortBy", defaultValue = "units", required = false) String sortBy) {
+        LocalDateTime rangeEnd = resolveRangeEnd(to);
+        return ResponseEntity.ok(ISalesAnalyticsService.getTopCategories(resolveRangeStart(from, rangeEnd), rangeEnd, limit, sortBy));
+    }
+
+    /**
+     * Get average basket size
+     * Endpoint: GET /api/admin/analytics/basket?from=2025-01-01T00:00&to=2025-02-01T00:00
+     * Returns orders, units, revenue, average units per order and average order value
+     */
+    @GetMapping("/admin/analytics/basket")
+    public ResponseEntity<BasketSummaryDto> basketSummary(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime rangeEnd = resolveRangeEnd(to);
+        return ResponseEntity.ok(ISalesAnalyticsService.getBasketSummary(resolveRangeStart(from, rangeEnd), rangeEnd));
+    }
+
+    private LocalDateTime resolveRangeEnd(LocalDateTime to) {
+        return to != null ? to : LocalDateTime.now();
+    }
+
+    private LocalDateTime resolveRangeStart(LocalDateTime from, LocalDateTime rangeEnd) {
+        return from != null ? from : rangeEnd.toLocalDate().minusDays(29).atStartOfDay();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.project.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ecommerce.project.DTO.ChangeEventResponse;
+import com.ecommerce.project.service.Interface.IChangeEventService;
+
+/**
+ * Controller for the order/product change event feed
+ * Lets downstream consumers follow changes with a cursor instead of re-paging the admin lists
+ * Base URL: /api
+ */
+@RestController
+@RequestMapping("/api")
+public class ChangeEventController {
+
+    private final IChangeEventService IChangeEventService;
+
+    public ChangeEventController(IChangeEventService IChangeEventService) {
+        this.IChangeEventService = IChangeEventService;
+    }
+
+    /**
+     * Get published change events after a feed position
+     * Endpoint: GET /api/admin/events?after=0&limit=100
+     * Admin only - pass the returned lastPosition as after to continue; events can repeat, dedupe on eventId
+     */
+    @GetMapping("/admin/events")
+    public ResponseEntity<ChangeEventResponse> getEvents(
+            @RequestParam(name = "after", defaultValue = "0", required = false) Long afterPosition,
+            @RequestParam(name = "limit", defaultValue = "100", required = false) Integer limit) {
+        return ResponseEntity.ok(IChangeEventService.getEvents(afterPosition, limit));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.project.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ecommerce.project.DTO.StockReservationDto;
+import com.ecommerce.project.helper.AuthHelper;
+import com.ecommerce.project.service.Interface.IStockReservationService;
+
+import java.util.List;
+
+/**
+ * Controller for checkout stock reservations
+ * Holds cart stock while the customer completes checkout
+ * Base URL: /api
+ */
+@RestController
+@RequestMapping("/api")
+public class CheckoutController {
+
+    private final IStockReservationService IStockReservationService;
+    private final AuthHelper authHelper;
+
+    public CheckoutController(IStockReservationService IStockReservationService, AuthHelper authHelper) {
+        this.IStockReservationService = IStockReservationService;
+        this.authHelper = authHelper;
+    }
+
+    /**
+     * Start checkout by holding stock for the current cart
+     * Endpoint: POST /api/checkout/reservations
+     * Replaces any previous holds; holds expire after the configured TTL
+     */
+    @PostMapping("/checkout/reservations")
+    public ResponseEntity<List<StockReservationDto>> reserveCart() {
+        String userEmail = authHelper.loggedInEmail();
+        List<StockReservationDto> reservations = IStockReservationService.reserveCart(userEmail);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservations);
+    }
+
+    /**
+     * Get current user's active stock holds
+     * Endpoint: GET /api/checkout/reservations
+     */
+    @GetMapping("/checkout/reservations")
+    public ResponseEntity<List<StockReservationDto>> getReservations() {
+        String userEmail = authHelper.loggedInEmail();
+        return ResponseEntity.ok(IStockReservationService.getActiveReservations(userEmail));
+    }
+
+    /**
+     * Abandon checkout and release held stock
+     * Endpoint: DELETE /api/checkout/reservations
+     */
+    @DeleteMapping("/checkout/reservations")
+    public ResponseEntity<String> releaseReservations() {
+        String userEmail = authHelper.loggedInEmail();
+        IStockReservationService.releaseReservations(userEmail);
+        return ResponseEntity.ok("Your reserved items have been released");
+    }
+}
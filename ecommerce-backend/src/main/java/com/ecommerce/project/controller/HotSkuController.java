@@ -0,0 +1,54 @@
+package com.ecommerce.project.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ecommerce.project.DTO.HotSkuStatusDto;
+import com.ecommerce.project.service.Interface.IHotSkuStockService;
+
+/**
+ * Controller for hot SKU (flash-sale) stock management
+ * Turns sharded stock on/off for products expected to sell under heavy concurrency
+ * Base URL: /api
+ */
+@RestController
+@RequestMapping("/api")
+public class HotSkuController {
+
+    private final IHotSkuStockService IHotSkuStockService;
+
+    public HotSkuController(IHotSkuStockService IHotSkuStockService) {
+        this.IHotSkuStockService = IHotSkuStockService;
+    }
+
+    /**
+     * Enable hot SKU mode for a product
+     * Endpoint: PUT /api/admin/products/{productId}/hot-sku?shards=8
+     * Admin only - splits current stock evenly across the given number of shards
+     */
+    @PutMapping("/admin/products/{productId}/hot-sku")
+    public ResponseEntity<HotSkuStatusDto> enableHotSku(@PathVariable Long productId,
+                                                        @RequestParam(name = "shards", defaultValue = "8") Integer shardCount) {
+        return ResponseEntity.ok(IHotSkuStockService.enableHotSku(productId, shardCount));
+    }
+
+    /**
+     * Disable hot SKU mode for a product
+     * Endpoint: DELETE /api/admin/products/{productId}/hot-sku
+     * Admin only - folds remaining shard stock back into the product
+     */
+    @DeleteMapping("/admin/products/{productId}/hot-sku")
+    public ResponseEntity<HotSkuStatusDto> disableHotSku(@PathVariable Long productId) {
+        return ResponseEntity.ok(IHotSkuStockService.disableHotSku(productId));
+    }
+
+    /**
+     * Get shard distribution for a product
+     * Endpoint: GET /api/admin/products/{productId}/hot-sku
+     * Admin only
+     */
+    @GetMapping("/admin/products/{productId}/hot-sku")
+    public ResponseEntity<HotSkuStatusDto> getHotSkuStatus(@PathVariable Long productId) {
+        return ResponseEntity.ok(IHotSkuStockService.getHotSkuStatus(productId));
+    }
+}
@@ -0,0 +1,144 @@
+package com.ecommerce.project.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.helper.ByteRange;
+import com.ecommerce.project.service.Interface.ILocalImageService;
+import com.ecommerce.project.service.Interface.ILocalImageService.LocalImage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Controller for images kept in local file storage
+ * Stored image names are UUIDs and never reused, so responses are cached as immutable
+ * Supports conditional (If-None-Match) and single Range requests
+ * Base URL: /images
+ */
+@RestController
+@RequestMapping("/images")
+public class ImageController {
+
+    // Tomcat request attributes for handing a file region to the connector's sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ILocalImageService ILocalImageService;
+
+    @Value("${images.serving.cache-control:public, max-age=31536000, immutable}")
+    private String cacheControl;
+
+    public ImageController(ILocalImageService ILocalImageService) {
+        this.ILocalImageService = ILocalImageService;
+    }
+
+    /**
+     * Serve a locally stored image
+     * Endpoint: GET /images/{fileName} (also answers HEAD)
+     * Public - returns 304 for a matching ETag and 206/416 for Range requests
+     */
+    @GetMapping("/{fileName:.+}")
+    public void serveImage(@PathVariable String fileName, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        LocalImage image = ILocalImageService.findImage(fileName)
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "fileName", fileName));
+
+        response.setHeader(HttpHeaders.ETAG, image.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, image.lastModified());
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), image.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        ByteRange range = new ByteRange(0, image.contentLength() - 1);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange requestedRange = ifRange == null || ifRange.equals(image.etag())
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), image.contentLength())
+                : null;
+        if (requestedRange != null && !requestedRange.isSatisfiable()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.contentLength());
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+        if (requestedRange != null) {
+            range = requestedRange;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + image.contentLength());
+        }
+
+        response.setContentType(image.contentType());
+        response.setContentLengthLong(image.contentLength() == 0 ? 0 : range.length());
+        if ("HEAD".equals(request.getMethod()) || image.contentLength() == 0) {
+            return;
+        }
+        writeBody(image, range, request, response);
+    }
+
+    // Cached bytes come from off-heap memory; otherwise the connector sends the file (sendfile) when it
+    // can, and as a last resort FileChannel.transferTo streams it without buffering it on the heap
+    private void writeBody(LocalImage image, ByteRange range, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        if (image.cachedContent() != null) {
+            ByteBuffer rangeContent = image.cachedContent()
+                    .position((int) range.start())
+                    .limit((int) range.end() + 1);
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            while (rangeContent.hasRemaining()) {
+                responseChannel.write(rangeContent);
+            }
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.file().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(image.file(), StandardOpenOption.READ)) {
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long endExclusive = range.end() + 1;
+            while (position < endExclusive) {
+                long transferred = fileChannel.transferTo(position, endExclusive - position, responseChannel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,10 @@
 package com.ecommerce.project.controller;
 
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -8,7 +12,14 @@ import org.springframework.web.bind.annotation.*;
 import com.ecommerce.project.DTO.*;
 import com.ecommerce.project.config.Constants;
 import com.ecommerce.project.helper.AuthHelper;
+import com.ecommerce.project.service.Interface.IIdempotencyService;
+import com.ecommerce.project.service.Interface.IOrderExportService;
 import com.ecommerce.project.service.Interface.IOrderService;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.function.Supplier;
 
 /**
  * Controller for order management
@@ -20,10 +31,15 @@ import com.ecommerce.project.service.Interface.IOrderService;
 public class OrdersController {
 
     private final IOrderService IOrderService;
+    private final IIdempotencyService IIdempotencyService;
+    private final IOrderExportService IOrderExportService;
     private final AuthHelper authHelper;
 
-    public OrdersController(IOrderService IOrderService, AuthHelper authHelper) {
+    public OrdersController(IOrderService IOrderService, IIdempotencyService IIdempotencyService,
+                            @Lazy IOrderExportService IOrderExportService, AuthHelper authHelper) {
         this.IOrderService = IOrderService;
+        this.IIdempotencyService = IIdempotencyService;
+        this.IOrderExportService = IOrderExportService;
         this.authHelper = authHelper;
     }
 
@@ -31,42 +47,73 @@ public class OrdersController {
      * Place a new order
      * Endpoint: POST /api/orders
      * Creates order from current user's cart, processes payment, reduces inventory
+     * Optional Idempotency-Key header: retries with the same key return the original order
      */
     @PostMapping("/orders")
-    public ResponseEntity<?> placeOrder(@RequestBody OrderRequestDto orderRequestDTO) {
+    public ResponseEntity<?> placeOrder(@RequestBody OrderRequestDto orderRequestDTO,
+                                        @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
         String userEmail = authHelper.loggedInEmail();
+        OrderRequestDto paymentDetails = applyPaymentDefaults(orderRequestDTO);
 
-        String paymentMethodValue = orderRequestDTO.getPaymentMethod() != null
-                ? orderRequestDTO.getPaymentMethod()
-                : "Cash on Delivery";
-
-        String pgNameValue = orderRequestDTO.getPgName() != null
-                ? orderRequestDTO.getPgName()
-                : "None";
+        Supplier<OrderDto> orderPlacement = () -> IOrderService.placeOrder(
+                userEmail,
+                paymentDetails.getAddressId(),
+                paymentDetails.getPaymentMethod(),
+                paymentDetails.getPgName(),
+                paymentDetails.getPgPaymentId(),
+                paymentDetails.getPgStatus(),
+                paymentDetails.getPgResponseMessage()
+        );
 
-        String pgPaymentIdValue = orderRequestDTO.getPgPaymentId() != null
-                ? orderRequestDTO.getPgPaymentId()
-                : "N/A";
+        OrderDto createdOrder = idempotencyKey != null
+                ? IIdempotencyService.placeOrderOnce(userEmail, idempotencyKey, orderRequestDTO, orderPlacement)
+                : orderPlacement.get();
 
-        String pgStatusValue = orderRequestDTO.getPgStatus() != null
-                ? orderRequestDTO.getPgStatus()
-                : "Pending";
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+    }
 
-        String pgResponseMessageValue = orderRequestDTO.getPgResponseMessage() != null
-                ? orderRequestDTO.getPgResponseMessage()
-                : "Order successfull";
+    /**
+     * Queue a new order for background processing
+     * Endpoint: POST /api/orders/async
+     * Validates the cart and returns 202 with the order in Pending status; payment, inventory
+     * and cart clearing are done by the order pipeline. Poll GET /api/orders/{orderId} for the result.
+     * Optional Idempotency-Key header: retries with the same key return the original order
+     */
+    @PostMapping("/orders/async")
+    public ResponseEntity<?> submitOrder(@RequestBody OrderRequestDto orderRequestDTO,
+                                         @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        String userEmail = authHelper.loggedInEmail();
+        OrderRequestDto paymentDetails = applyPaymentDefaults(orderRequestDTO);
 
-        OrderDto createdOrder = IOrderService.placeOrder(
+        Supplier<OrderDto> orderSubmission = () -> IOrderService.submitOrder(
                 userEmail,
-                orderRequestDTO.getAddressId(),
-                paymentMethodValue,
-                pgNameValue,
-                pgPaymentIdValue,
-                pgStatusValue,
-                pgResponseMessageValue
+                paymentDetails.getAddressId(),
+                paymentDetails.getPaymentMethod(),
+                paymentDetails.getPgName(),
+                paymentDetails.getPgPaymentId(),
+                paymentDetails.getPgStatus(),
+                paymentDetails.getPgResponseMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        OrderDto queuedOrder = idempotencyKey != null
+                ? IIdempotencyService.placeOrderOnce(userEmail, idempotencyKey, orderRequestDTO, orderSubmission)
+                : orderSubmission.get();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/orders/" + queuedOrder.getOrderId()))
+                .body(queuedOrder);
+    }
+
+    /**
+     * Get one of the current user's orders
+     * Endpoint: GET /api/orders/{orderId}
+     * Used to poll a queued order until its status is Accepted or Failed
+     */
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<?> getOrder(@PathVariable Long orderId) {
+        String userEmail = authHelper.loggedInEmail();
+        OrderDto userOrder = IOrderService.getUserOrder(userEmail, orderId);
+        return ResponseEntity.ok(userOrder);
     }
 
     /**
@@ -85,6 +132,26 @@ public class OrdersController {
         return ResponseEntity.ok(allOrdersData);
     }
 
+    /**
+     * Export orders with their items, payment and address
+     * Endpoint: GET /api/admin/orders/export?format=csv&from=2025-01-01&to=2025-01-31&status=Accepted
+     * Admin only - streams one row per order line as CSV or NDJSON; every filter is optional
+     */
+    @GetMapping("/admin/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(name = "format", defaultValue = "csv", required = false) String format,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(name = "status", required = false) String status
+    ) {
+        StreamingResponseBody exportBody = IOrderExportService.exportOrders(format, fromDate, toDate, status);
+        boolean isCsv = "csv".equalsIgnoreCase(format);
+        return ResponseEntity.ok()
+                .contentType(isCsv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + (isCsv ? "csv" : "ndjson") + "\"")
+                .body(exportBody);
+    }
+
     /**
      * Update order status
      * Endpoint: PUT /api/admin/orders/{orderId}/status
@@ -132,4 +199,30 @@ public class OrdersController {
         OrderResponse userOrdersByIdData = IOrderService.getUserOrdersByUserId(userId, pageNumber, pageSize, sortBy, sortOrder);
         return ResponseEntity.ok(userOrdersByIdData);
     }
-}
+
+    // Fill in the payment fields the client left out
+    private OrderRequestDto applyPaymentDefaults(OrderRequestDto orderRequestDTO) {
+        String paymentMethodValue = orderRequestDTO.getPaymentMethod() != null
+                ? orderRequestDTO.getPaymentMethod()
+                : "Cash on Delivery";
+
+        String pgNameValue = orderRequestDTO.getPgName() != null
+                ? orderRequestDTO.getPgName()
+                : "None";
+
+        String pgPaymentIdValue = orderRequestDTO.getPgPaymentId() != null
+                ? orderRequestDTO.getPgPaymentId()
+                : "N/A";
+
+        String pgStatusValue = orderRequestDTO.getPgStatus() != null
+                ? orderRequestDTO.getPgStatus()
+                : "Pending";
+
+        String pgResponseMessageValue = orderRequestDTO.getPgResponseMessage() != null
+                ? orderRequestDTO.getPgResponseMessage()
+                : "Order successfull";
+
+        return new OrderRequestDto(orderRequestDTO.getAddressId(), orderRequestDTO.getCardId(), paymentMethodValue,
+                pgNameValue, pgPaymentIdValue, pgStatusValue, pgResponseMessageValue);
+    }
+}
\ No newline at end of file
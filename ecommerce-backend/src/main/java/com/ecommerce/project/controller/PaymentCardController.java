@@ -1,7 +1,9 @@
 package com.ecommerce.project.controller;
 
 import com.ecommerce.project.model.User;
+import com.ecommerce.project.DTO.KeysetResponse;
 import com.ecommerce.project.DTO.PaymentCardDTO;
+import com.ecommerce.project.config.Constants;
 import com.ecommerce.project.service.Interface.IPaymentCardService;
 import com.ecommerce.project.helper.AuthHelper;
 import com.ecommerce.project.DAO.UserDAO;
@@ -9,9 +11,11 @@ import com.ecommerce.project.errorHandler.ResourceNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -46,17 +50,32 @@ public class PaymentCardController {
     }
 
     /**
-     * Get all payment cards in the system
-     * Endpoint: GET /api/admin/payment-methods
-     * Admin only - returns all user payment methods
+     * Get payment cards one page at a time
+     * Endpoint: GET /api/admin/payment-methods?after=0&limit=100
+     * Admin only - payment methods in ID order; pass the returned lastId as after to continue
      */
     @GetMapping("/admin/payment-methods")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<PaymentCardDTO>> getAllPaymentCards() {
-        List<PaymentCardDTO> cards = IPaymentCardService.getPaymentCards();
+    public ResponseEntity<KeysetResponse<PaymentCardDTO>> getPaymentCards(
+            @RequestParam(name = "after", defaultValue = "0", required = false) Long afterCardId,
+            @RequestParam(name = "limit", defaultValue = Constants.admin_page_limit, required = false) Integer limit) {
+        KeysetResponse<PaymentCardDTO> cards = IPaymentCardService.getPaymentCards(afterCardId, limit);
         return new ResponseEntity<>(cards, HttpStatus.OK);
     }
 
+    /**
+     * Stream all payment cards
+     * Endpoint: GET /api/admin/payment-methods/stream
+     * Admin only - writes every payment method as one JSON array while reading, without building the whole list
+     */
+    @GetMapping("/admin/payment-methods/stream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamPaymentCards() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(IPaymentCardService.streamPaymentCards());
+    }
+
     /**
      * Get a specific payment card by ID
      * Endpoint: GET /api/payment-methods/{cardId}
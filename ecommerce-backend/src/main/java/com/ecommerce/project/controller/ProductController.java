@@ -6,12 +6,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.ecommerce.project.DTO.ImageUploadJobDto;
+import com.ecommerce.project.DTO.ImageUploadStatsDto;
 import com.ecommerce.project.DTO.ProductDTO;
 import com.ecommerce.project.DTO.ProductResponse;
 import com.ecommerce.project.config.Constants;
+import com.ecommerce.project.service.Interface.IImageUploadService;
 import com.ecommerce.project.service.Interface.IProductService;
 
 import java.io.IOException;
+import java.net.URI;
 
 /**
  * Controller for product management
@@ -23,9 +27,11 @@ import java.io.IOException;
 public class ProductController {
 
     private final IProductService IProductService;
+    private final IImageUploadService IImageUploadService;
 
-    public ProductController(IProductService IProductService) {
+    public ProductController(IProductService IProductService, IImageUploadService IImageUploadService) {
         this.IProductService = IProductService;
+        this.IImageUploadService = IImageUploadService;
     }
 
     /**
@@ -118,14 +124,45 @@ public class ProductController {
      * Upload/update product image
      * Endpoint: PUT /api/admin/products/{productId}/image
      * Admin only - accepts multipart file upload
+     * With async=true the image is queued and 202 Accepted is returned with the upload job's location
      */
     @PutMapping("/admin/products/{productId}/image")
     public ResponseEntity<?> updateProductImage(@PathVariable Long productId,
-                                                @RequestParam("image") MultipartFile image) throws IOException {
+                                                @RequestParam("image") MultipartFile image,
+                                                @RequestParam(name = "async", defaultValue = "false") boolean async) throws IOException {
+        if (async) {
+            ImageUploadJobDto queuedUpload = IImageUploadService.submitProductImage(productId, image);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/admin/products/images/jobs/" + queuedUpload.getJobId()))
+                    .body(queuedUpload);
+        }
         ProductDTO updatedProductWithImage = IProductService.updateProductImage(productId, image);
         return ResponseEntity.ok(updatedProductWithImage);
     }
 
+    /**
+     * Get the status of a queued image upload
+     * Endpoint: GET /api/admin/products/images/jobs/{jobId}
+     * Admin only
+     */
+    @GetMapping("/admin/products/images/jobs/{jobId}")
+    public ResponseEntity<?> getImageUploadJob(@PathVariable Long jobId) {
+        ImageUploadJobDto uploadJob = IImageUploadService.getUploadJob(jobId);
+        return ResponseEntity.ok(uploadJob);
+    }
+
+    /**
+     * Get background image upload metrics (queue depth, upload latency, circuit breaker state)
+     * The same figures are exported as the images.upload.* meters on /actuator/prometheus
+     * Endpoint: GET /api/admin/products/images/stats
+     * Admin only
+     */
+    @GetMapping("/admin/products/images/stats")
+    public ResponseEntity<?> getImageUploadStats() {
+        ImageUploadStatsDto uploadStats = IImageUploadService.getUploadStats();
+        return ResponseEntity.ok(uploadStats);
+    }
+
     /**
      * Get all products for admin dashboard
      * Endpoint: GET /api/admin/products
@@ -0,0 +1,62 @@
+package com.ecommerce.project.controller;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ecommerce.project.DTO.ProductImportJobDto;
+import com.ecommerce.project.service.Interface.IProductImportService;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Controller for bulk product imports
+ * Loads large supplier feeds in one streamed request instead of one POST per product
+ * Base URL: /api
+ */
+@RestController
+@RequestMapping("/api")
+public class ProductImportController {
+
+    private final IProductImportService IProductImportService;
+
+    // Injected as a lazy proxy so the import service is only built on the first import
+    public ProductImportController(@Lazy IProductImportService IProductImportService) {
+        this.IProductImportService = IProductImportService;
+    }
+
+    /**
+     * Import products from a CSV or NDJSON request body
+     * Endpoint: POST /api/admin/products/import?format=csv
+     * Admin only - columns/fields: categoryId, productName, model, description, quantity, price.
+     * Invalid and duplicate rows are reported per row; valid rows are still imported
+     */
+    @PostMapping("/admin/products/import")
+    public ResponseEntity<ProductImportJobDto> importProducts(
+            @RequestParam(name = "format", defaultValue = "csv", required = false) String format,
+            InputStream source) {
+        ProductImportJobDto importJob = IProductImportService.importProducts(format, source);
+        return ResponseEntity.created(URI.create("/api/admin/products/import/" + importJob.getJobId())).body(importJob);
+    }
+
+    /**
+     * Resume a failed import
+     * Endpoint: POST /api/admin/products/import/{jobId}/resume
+     * Admin only - send the same file again; rows before the job's rowsProcessed are skipped
+     */
+    @PostMapping("/admin/products/import/{jobId}/resume")
+    public ResponseEntity<ProductImportJobDto> resumeImport(@PathVariable Long jobId, InputStream source) {
+        return ResponseEntity.ok(IProductImportService.resumeImport(jobId, source));
+    }
+
+    /**
+     * Get the progress of an import
+     * Endpoint: GET /api/admin/products/import/{jobId}
+     * Admin only - includes the first rejected rows
+     */
+    @GetMapping("/admin/products/import/{jobId}")
+    public ResponseEntity<ProductImportJobDto> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(IProductImportService.getImportJob(jobId));
+    }
+}
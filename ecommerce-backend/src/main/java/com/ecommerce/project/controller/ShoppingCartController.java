@@ -3,12 +3,16 @@ package com.ecommerce.project.controller;
 import com.ecommerce.project.model.Cart;
 import com.ecommerce.project.DTO.CartDto;
 import com.ecommerce.project.DTO.CartItemDto;
+import com.ecommerce.project.DTO.KeysetResponse;
+import com.ecommerce.project.config.Constants;
 import com.ecommerce.project.DAO.CartDAO;
 import com.ecommerce.project.service.Interface.ICartService;
 import com.ecommerce.project.helper.AuthHelper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,14 +37,27 @@ public class ShoppingCartController {
     }
 
     /**
-     * Get all shopping carts
-     * Endpoint: GET /api/admin/carts
-     * Admin only - returns all carts in system
+     * Get shopping carts one page at a time
+     * Endpoint: GET /api/admin/carts?after=0&limit=100
+     * Admin only - carts in id order; pass the returned lastId as after to continue
      */
     @GetMapping("/admin/carts")
-    public ResponseEntity<?> getAllCarts() {
-        List<CartDto> allCarts = ICartService.getAllCarts();
-        return ResponseEntity.ok(allCarts);
+    public ResponseEntity<KeysetResponse<CartDto>> getCarts(
+            @RequestParam(name = "after", defaultValue = "0", required = false) Long afterCartId,
+            @RequestParam(name = "limit", defaultValue = Constants.admin_page_limit, required = false) Integer limit) {
+        return ResponseEntity.ok(ICartService.getCarts(afterCartId, limit));
+    }
+
+    /**
+     * Stream all shopping carts
+     * Endpoint: GET /api/admin/carts/stream
+     * Admin only - writes every cart as one JSON array while reading, without building the whole list
+     */
+    @GetMapping("/admin/carts/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllCarts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ICartService.streamAllCarts());
     }
 
     /**
@@ -0,0 +1,16 @@
+package com.ecommerce.project.errorHandler;
+
+import java.io.IOException;
+
+/**
+ * Custom exception thrown when the image store (Cloudinary or the local image folder) fails to store or delete an image.
+ * Example: "Could not store 3f2a...-medium.webp in the image store"
+ * Kept apart from other IOExceptions (unreadable upload, missing staged file) so only store failures trip the circuit breaker.
+ */
+public class ImageStoreException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public ImageStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
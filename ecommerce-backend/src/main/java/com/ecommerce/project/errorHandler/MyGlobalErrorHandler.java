@@ -71,4 +71,13 @@ public class MyGlobalErrorHandler {
     public ResponseEntity<?> myAPIException(APIErrorHandler e) {
         return buildAPIResponse(e.getMessage(), false, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * Handles ServiceBusyException (the service is at capacity; the same request may succeed later).
+     * Returns 503 Service Unavailable with error message.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<?> myServiceBusyException(ServiceBusyException e) {
+        return buildAPIResponse(e.getMessage(), false, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -0,0 +1,14 @@
+package com.ecommerce.project.errorHandler;
+
+/**
+ * Custom exception thrown when work is refused only because the service is at capacity.
+ * Example: "Image processing is busy, please try again shortly"
+ * Unlike APIErrorHandler the request itself is fine, so callers may retry it later.
+ */
+public class ServiceBusyException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
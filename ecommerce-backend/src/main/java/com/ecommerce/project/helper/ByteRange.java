@@ -0,0 +1,62 @@
+package com.ecommerce.project.helper;
+
+/**
+ * A single HTTP byte range (RFC 9110), with an inclusive end offset.
+ * Only one range per request is honoured; multi-range requests are answered with the whole file,
+ * which the RFC allows and which keeps responses out of multipart/byteranges.
+ */
+public record ByteRange(long start, long end) {
+
+    // Returned when the header is well formed but no byte of the range exists in the file
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    /**
+     * Parses a Range header against a file of the given length.
+     * Returns null when the header should be ignored (absent, malformed or multi-range),
+     * UNSATISFIABLE when it asks for bytes past the end of the file, otherwise the clamped range.
+     */
+    public static ByteRange parse(String rangeHeader, long contentLength) {
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=")) {
+            return null;
+        }
+        String rangeSpec = rangeHeader.substring("bytes=".length()).trim();
+        int dash = rangeSpec.indexOf('-');
+        if (dash < 0 || rangeSpec.indexOf(',') >= 0) {
+            return null;
+        }
+
+        try {
+            String firstPart = rangeSpec.substring(0, dash).trim();
+            String lastPart = rangeSpec.substring(dash + 1).trim();
+
+            // Suffix range: the last N bytes
+            if (firstPart.isEmpty()) {
+                long suffixLength = Long.parseLong(lastPart);
+                if (suffixLength <= 0 || contentLength == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, contentLength - suffixLength), contentLength - 1);
+            }
+
+            long start = Long.parseLong(firstPart);
+            long end = lastPart.isEmpty() ? Long.MAX_VALUE : Long.parseLong(lastPart);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= contentLength) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, contentLength - 1));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+}
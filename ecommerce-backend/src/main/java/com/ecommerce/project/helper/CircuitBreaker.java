@@ -0,0 +1,62 @@
+package com.ecommerce.project.helper;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal circuit breaker for calls to a remote service.
+ * After a run of consecutive failures the circuit opens and callers should stop calling.
+ * Once the open period has passed it goes half-open: the next call is a trial, and its
+ * result either closes the circuit again or re-opens it for another period.
+ * Thread-safe.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clockMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier clockMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Returns the current state, moving from OPEN to HALF_OPEN once the open period is over.
+     */
+    public synchronized State state() {
+        if (state == State.OPEN && clockMillis.getAsLong() - openedAtMillis >= openDurationMillis) {
+            state = State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Records a successful call and closes the circuit.
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records a failed call. Opens the circuit when the threshold is reached or a half-open trial fails.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtMillis = clockMillis.getAsLong();
+        }
+    }
+}
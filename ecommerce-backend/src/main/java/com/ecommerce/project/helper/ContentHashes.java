@@ -0,0 +1,58 @@
+package com.ecommerce.project.helper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 hashing for image dedupe, image ETags and idempotency fingerprints.
+ * Every JVM is required to provide SHA-256, so its absence is reported as an IllegalStateException
+ * rather than a checked exception at each call site. Stateless and thread-safe.
+ */
+public final class ContentHashes {
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private ContentHashes() {
+    }
+
+    /**
+     * Returns a new SHA-256 digest, e.g. to hash a stream while it is copied (DigestInputStream).
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    public static byte[] sha256(byte[] content) {
+        return newSha256().digest(content);
+    }
+
+    /**
+     * Hashes a file in fixed-size chunks, so large files are never held on the heap.
+     */
+    public static byte[] sha256(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] readBuffer = new byte[READ_BUFFER_BYTES];
+        try (InputStream fileInput = Files.newInputStream(file)) {
+            int bytesRead;
+            while ((bytesRead = fileInput.read(readBuffer)) != -1) {
+                digest.update(readBuffer, 0, bytesRead);
+            }
+        }
+        return digest.digest();
+    }
+
+    // Lowercase hex of the SHA-256 of the text's UTF-8 bytes
+    public static String sha256Hex(String text) {
+        return HexFormat.of().formatHex(sha256(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
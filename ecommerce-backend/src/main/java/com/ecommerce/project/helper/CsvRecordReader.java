@@ -0,0 +1,88 @@
+package com.ecommerce.project.helper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 CSV reader.
+ * Reads one record at a time from a character stream, so a file of any size is parsed
+ * with memory proportional to its longest record. Handles quoted fields, doubled quotes
+ * inside them, line breaks inside quotes, and both LF and CRLF record endings.
+ * Not thread-safe.
+ */
+public class CsvRecordReader {
+
+    private final Reader source;
+    private int peeked = -2;
+
+    public CsvRecordReader(Reader source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at the end of the stream.
+     * Blank lines are skipped.
+     */
+    public List<String> nextRecord() throws IOException {
+        int nextChar = read();
+        while (nextChar == '\r' || nextChar == '\n') {
+            nextChar = read();
+        }
+        if (nextChar == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (nextChar == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (nextChar == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) nextChar);
+                }
+            } else if (nextChar == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (nextChar == '\n' || nextChar == '\r' || nextChar == -1) {
+                if (nextChar == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (nextChar == '"' && field.isEmpty()) {
+                inQuotes = true;
+            } else {
+                field.append((char) nextChar);
+            }
+            nextChar = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int buffered = peeked;
+            peeked = -2;
+            return buffered;
+        }
+        return source.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = source.read();
+        }
+        return peeked;
+    }
+}
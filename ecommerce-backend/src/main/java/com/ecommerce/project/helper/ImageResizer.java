@@ -0,0 +1,55 @@
+package com.ecommerce.project.helper;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Downscales images for product renditions.
+ * Large reductions are done in halving steps with bilinear filtering, which is close to
+ * bicubic quality at a fraction of the cost. Output is opaque RGB (transparent areas become
+ * white) so it can be encoded as JPEG or WebP.
+ * Stateless and thread-safe; the source image is only read.
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Returns a copy scaled to the given width, keeping the aspect ratio.
+     * Images already narrower than the width are copied at their own size, never enlarged.
+     */
+    public static BufferedImage resizeToWidth(BufferedImage source, int targetWidth) {
+        int finalWidth = Math.max(1, Math.min(targetWidth, source.getWidth()));
+        int finalHeight = Math.max(1, (int) Math.round(source.getHeight() * (finalWidth / (double) source.getWidth())));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(finalWidth, currentWidth / 2);
+            int nextHeight = nextWidth == finalWidth ? finalHeight : Math.max(finalHeight, currentHeight / 2);
+            current = drawScaled(current, nextWidth, nextHeight);
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth != finalWidth);
+        return current;
+    }
+
+    private static BufferedImage drawScaled(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
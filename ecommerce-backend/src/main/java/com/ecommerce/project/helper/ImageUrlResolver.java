@@ -0,0 +1,65 @@
+package com.ecommerce.project.helper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.model.Product;
+
+/**
+ * Helper that turns stored image names into public URLs.
+ * Product images are resolved once, when they are written, so products hold ready-to-serve
+ * URLs and catalog and cart responses copy them as-is. Cloudinary results are already
+ * absolute URLs; local file names get the configured image base URL.
+ */
+@Component
+public class ImageUrlResolver {
+
+    // Image set on products that have not had a picture uploaded
+    public static final String DEFAULT_IMAGE = "default.png";
+
+    private final String imageBaseUrl;
+
+    public ImageUrlResolver(@Value("${image.base.url}") String imageBaseUrl) {
+        this.imageBaseUrl = imageBaseUrl.endsWith("/") ? imageBaseUrl : imageBaseUrl + "/";
+    }
+
+    /**
+     * Base URL prepended to local image names, always ending in "/".
+     */
+    public String imageBaseUrl() {
+        return imageBaseUrl;
+    }
+
+    /**
+     * Returns the public URL of a stored image (absolute URLs are returned unchanged).
+     */
+    public String resolve(String storedImage) {
+        if (storedImage == null || isAbsolute(storedImage)) {
+            return storedImage;
+        }
+        return imageBaseUrl + storedImage;
+    }
+
+    /**
+     * Sets the product's image and rendition URLs; missing renditions fall back to the original.
+     */
+    public void assignImages(Product product, ProductImagesDto storedImages) {
+        String imageUrl = resolve(storedImages.getImage());
+        product.setImage(imageUrl);
+        product.setThumbnailUrl(storedImages.getThumbnailUrl() != null ? resolve(storedImages.getThumbnailUrl()) : imageUrl);
+        product.setMediumUrl(storedImages.getMediumUrl() != null ? resolve(storedImages.getMediumUrl()) : imageUrl);
+        product.setLargeUrl(storedImages.getLargeUrl() != null ? resolve(storedImages.getLargeUrl()) : imageUrl);
+    }
+
+    /**
+     * Sets the placeholder image on a new product.
+     */
+    public void assignDefaultImage(Product product) {
+        assignImages(product, new ProductImagesDto(DEFAULT_IMAGE, null, null, null));
+    }
+
+    private static boolean isAbsolute(String storedImage) {
+        return storedImage.startsWith("https://") || storedImage.startsWith("http://");
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.project.helper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a JSON array to a response stream one element at a time.
+ * Used by streamed admin listings: each element is serialized as soon as it is read, so memory
+ * stays flat however many elements there are. Output is flushed every flushEvery elements rather
+ * than after each one, so the client sees progress without one tiny chunk per element.
+ * write() throws UncheckedIOException when the client has gone away, so it can be called from a
+ * JDBC row callback and stop the read. Not thread-safe.
+ */
+public class JsonArrayStreamWriter {
+
+    private final JsonGenerator jsonGenerator;
+    private final ObjectWriter elementWriter;
+    private final int flushEvery;
+    private int writtenElements;
+
+    public JsonArrayStreamWriter(OutputStream responseStream, ObjectMapper jsonMapper, int flushEvery) throws IOException {
+        this.jsonGenerator = jsonMapper.getFactory().createGenerator(
+                new BufferedWriter(new OutputStreamWriter(responseStream, StandardCharsets.UTF_8), 64 * 1024));
+        this.elementWriter = jsonMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+        this.jsonGenerator.writeStartArray();
+    }
+
+    public void write(Object element) {
+        try {
+            elementWriter.writeValue(jsonGenerator, element);
+            if (++writtenElements % flushEvery == 0) {
+                jsonGenerator.flush();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Closes the array and flushes; the response stream itself is left open.
+     */
+    public void finish() throws IOException {
+        jsonGenerator.writeEndArray();
+        jsonGenerator.flush();
+    }
+
+    public int getWrittenElements() {
+        return writtenElements;
+    }
+}
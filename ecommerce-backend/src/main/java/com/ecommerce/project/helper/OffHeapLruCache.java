@@ -0,0 +1,86 @@
+package com.ecommerce.project.helper;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Byte-budgeted LRU of small file contents kept in direct (off-heap) buffers.
+ * Entries do not add to heap pressure or GC copying, and a direct buffer can be written to a
+ * socket channel without an extra copy. Entries larger than maxEntryBytes are refused so one
+ * large file cannot flush the hot set. Readers get a read-only view with its own position.
+ */
+public class OffHeapLruCache {
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+
+    public OffHeapLruCache(long maxBytes, int maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * Largest content this cache will accept.
+     */
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public synchronized ByteBuffer get(String key) {
+        ByteBuffer content = entries.get(key);
+        return content == null ? null : content.asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the remaining bytes of content into a direct buffer and caches it, evicting the least
+     * recently used entries to stay within the byte budget. Returns false if the content is too large.
+     */
+    public boolean put(String key, ByteBuffer content) {
+        int contentLength = content.remaining();
+        if (contentLength > maxEntryBytes || contentLength > maxBytes) {
+            return false;
+        }
+        ByteBuffer directCopy = ByteBuffer.allocateDirect(contentLength);
+        directCopy.put(content.duplicate()).flip();
+
+        synchronized (this) {
+            ByteBuffer replaced = entries.put(key, directCopy);
+            if (replaced != null) {
+                usedBytes -= replaced.capacity();
+            }
+            usedBytes += contentLength;
+            evictOverBudget();
+        }
+        return true;
+    }
+
+    public synchronized void remove(String key) {
+        ByteBuffer removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.capacity();
+        }
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Evicted direct buffers are released by the garbage collector once no reader holds a view
+    private void evictOverBudget() {
+        Iterator<Map.Entry<String, ByteBuffer>> eldestFirst = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldestFirst.hasNext()) {
+            usedBytes -= eldestFirst.next().getValue().capacity();
+            eldestFirst.remove();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ecommerce.project.helper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory columnar sales rollup.
+ * Order totals are kept per hour in parallel primitive arrays (orders, units, revenue), indexed by
+ * hours since the first recorded hour. Product sales are kept per day as small sorted columns
+ * (product IDs, units, revenue), so a range query only touches the buckets inside the range.
+ * Not thread-safe: callers guard reads and writes with their own lock.
+ */
+public class SalesTimeSeries {
+
+    private static final int INITIAL_HOURS = 24 * 32;
+    private static final int INITIAL_DAYS = 32;
+
+    // Hour-of-epoch and day-of-epoch stored at index 0 (Long.MIN_VALUE until the first sale)
+    private long firstHour = Long.MIN_VALUE;
+    private long firstDay = Long.MIN_VALUE;
+
+    private long[] hourlyOrders = new long[0];
+    private long[] hourlyUnits = new long[0];
+    private double[] hourlyRevenue = new double[0];
+
+    private DayColumns[] dailyProducts = new DayColumns[0];
+
+    // Category of each product seen so far (products rarely change category)
+    private final Map<Long, Long> productCategories = new HashMap<>();
+
+    /**
+     * Totals over a time range.
+     */
+    public record SalesTotals(long orders, long units, double revenue) {
+    }
+
+    /**
+     * Units and revenue of one product over a date range.
+     */
+    public record ProductSales(long productId, long categoryId, long units, double revenue) {
+    }
+
+    /**
+     * Adds (sign = 1) or removes (sign = -1) an order's totals in the hour it was placed.
+     */
+    public void addOrder(LocalDateTime placedAt, int sign, long units, double revenue) {
+        int hourIndex = hourIndex(toEpochHour(placedAt));
+        hourlyOrders[hourIndex] += sign;
+        hourlyUnits[hourIndex] += sign * units;
+        hourlyRevenue[hourIndex] += sign * revenue;
+    }
+
+    /**
+     * Adds (sign = 1) or removes (sign = -1) one order line in the day it was placed.
+     */
+    public void addProductSale(LocalDate day, long productId, long categoryId, int sign, long units, double revenue) {
+        int dayIndex = dayIndex(day.toEpochDay());
+        DayColumns dayColumns = dailyProducts[dayIndex];
+        if (dayColumns == null) {
+            dayColumns = new DayColumns();
+            dailyProducts[dayIndex] = dayColumns;
+        }
+        dayColumns.add(productId, sign * units, sign * revenue);
+        productCategories.put(productId, categoryId);
+    }
+
+    /**
+     * Sums the hourly buckets in [from, to).
+     */
+    public SalesTotals totalsBetween(LocalDateTime from, LocalDateTime to) {
+        if (firstHour == Long.MIN_VALUE) {
+            return new SalesTotals(0, 0, 0);
+        }
+        int startIndex = clampIndex(toEpochHour(from) - firstHour, hourlyOrders.length);
+        int endIndex = clampIndex(ceilEpochHour(to) - firstHour, hourlyOrders.length);
+
+        long orders = 0;
+        long units = 0;
+        double revenue = 0;
+        for (int hour = startIndex; hour < endIndex; hour++) {
+            orders += hourlyOrders[hour];
+            units += hourlyUnits[hour];
+            revenue += hourlyRevenue[hour];
+        }
+        return new SalesTotals(orders, units, revenue);
+    }
+
+    /**
+     * Sums product sales over the days in [from, to] (inclusive), one entry per product sold.
+     */
+    public List<ProductSales> productSalesBetween(LocalDate from, LocalDate to) {
+        List<ProductSales> productSales = new ArrayList<>();
+        if (firstDay == Long.MIN_VALUE) {
+            return productSales;
+        }
+        int startIndex = clampIndex(from.toEpochDay() - firstDay, dailyProducts.length);
+        int endIndex = clampIndex(to.toEpochDay() + 1 - firstDay, dailyProducts.length);
+
+        DayColumns rangeColumns = new DayColumns();
+        for (int day = startIndex; day < endIndex; day++) {
+            DayColumns dayColumns = dailyProducts[day];
+            if (dayColumns == null) {
+                continue;
+            }
+            for (int entry = 0; entry < dayColumns.size; entry++) {
+                rangeColumns.add(dayColumns.productIds[entry], dayColumns.units[entry], dayColumns.revenue[entry]);
+            }
+        }
+
+        for (int entry = 0; entry < rangeColumns.size; entry++) {
+            long productId = rangeColumns.productIds[entry];
+            productSales.add(new ProductSales(productId, productCategories.getOrDefault(productId, 0L),
+                    rangeColumns.units[entry], rangeColumns.revenue[entry]));
+        }
+        return productSales;
+    }
+
+    private int hourIndex(long epochHour) {
+        if (firstHour == Long.MIN_VALUE) {
+            firstHour = epochHour;
+            hourlyOrders = new long[INITIAL_HOURS];
+            hourlyUnits = new long[INITIAL_HOURS];
+            hourlyRevenue = new double[INITIAL_HOURS];
+        } else if (epochHour < firstHour) {
+            int shift = Math.toIntExact(firstHour - epochHour);
+            hourlyOrders = prepend(hourlyOrders, shift);
+            hourlyUnits = prepend(hourlyUnits, shift);
+            hourlyRevenue = prepend(hourlyRevenue, shift);
+            firstHour = epochHour;
+        }
+
+        int index = Math.toIntExact(epochHour - firstHour);
+        if (index >= hourlyOrders.length) {
+            int newLength = Math.max(index + 1, hourlyOrders.length * 2);
+            hourlyOrders = Arrays.copyOf(hourlyOrders, newLength);
+            hourlyUnits = Arrays.copyOf(hourlyUnits, newLength);
+            hourlyRevenue = Arrays.copyOf(hourlyRevenue, newLength);
+        }
+        return index;
+    }
+
+    private int dayIndex(long epochDay) {
+        if (firstDay == Long.MIN_VALUE) {
+            firstDay = epochDay;
+            dailyProducts = new DayColumns[INITIAL_DAYS];
+        } else if (epochDay < firstDay) {
+            int shift = Math.toIntExact(firstDay - epochDay);
+            DayColumns[] shifted = new DayColumns[dailyProducts.length + shift];
+            System.arraycopy(dailyProducts, 0, shifted, shift, dailyProducts.length);
+            dailyProducts = shifted;
+            firstDay = epochDay;
+        }
+
+        int index = Math.toIntExact(epochDay - firstDay);
+        if (index >= dailyProducts.length) {
+            dailyProducts = Arrays.copyOf(dailyProducts, Math.max(index + 1, dailyProducts.length * 2));
+        }
+        return index;
+    }
+
+    private static long[] prepend(long[] values, int shift) {
+        long[] shifted = new long[values.length + shift];
+        System.arraycopy(values, 0, shifted, shift, values.length);
+        return shifted;
+    }
+
+    private static double[] prepend(double[] values, int shift) {
+        double[] shifted = new double[values.length + shift];
+        System.arraycopy(values, 0, shifted, shift, values.length);
+        return shifted;
+    }
+
+    private static int clampIndex(long index, int length) {
+        return (int) Math.max(0, Math.min(index, length));
+    }
+
+    private static long toEpochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    // First whole hour at or after the given time, so a range ending at 10:30 includes the 10:00 bucket
+    private static long ceilEpochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC) + 3599, 3600);
+    }
+
+    // One day's product sales, kept sorted by product ID so updates are a binary search
+    private static final class DayColumns {
+        private long[] productIds = new long[8];
+        private long[] units = new long[8];
+        private double[] revenue = new double[8];
+        private int size;
+
+        private void add(long productId, long unitDelta, double revenueDelta) {
+            int position = Arrays.binarySearch(productIds, 0, size, productId);
+            if (position >= 0) {
+                units[position] += unitDelta;
+                revenue[position] += revenueDelta;
+                return;
+            }
+
+            int insertAt = -position - 1;
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                units = Arrays.copyOf(units, size * 2);
+                revenue = Arrays.copyOf(revenue, size * 2);
+            }
+            System.arraycopy(productIds, insertAt, productIds, insertAt + 1, size - insertAt);
+            System.arraycopy(units, insertAt, units, insertAt + 1, size - insertAt);
+            System.arraycopy(revenue, insertAt, revenue, insertAt + 1, size - insertAt);
+            productIds[insertAt] = productId;
+            units[insertAt] = unitDelta;
+            revenue[insertAt] = revenueDelta;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.project.helper;
+
+/**
+ * Counts the SQL statements executed on the current thread (fed by StatementCountingDataSource).
+ * A scope is opened per HTTP request (SqlStatementBudgetFilter) or around a block of test code;
+ * scopes nest, and a statement counts towards every open scope of the thread.
+ * Statements run on other threads (background workers, async pipelines) are not counted.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> ACTIVE_SCOPE = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * One counting window; close it on the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int statements;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                ACTIVE_SCOPE.remove();
+            } else {
+                ACTIVE_SCOPE.set(parent);
+            }
+        }
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(ACTIVE_SCOPE.get());
+        ACTIVE_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Called by StatementCountingDataSource for every statement; a no-op when no scope is open.
+     */
+    public static void recordStatement() {
+        for (Scope scope = ACTIVE_SCOPE.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+        }
+    }
+}
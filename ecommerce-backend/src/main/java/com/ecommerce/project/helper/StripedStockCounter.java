@@ -0,0 +1,114 @@
+package com.ecommerce.project.helper;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory stock counter split into independent shards (LongAdder-style striping).
+ * Each buyer starts at a random shard, so concurrent decrements rarely touch the same cell.
+ * Cells are spaced one cache line apart to avoid false sharing between shards.
+ * Not the source of truth: it only routes buyers to a shard row that is likely to have stock.
+ */
+public class StripedStockCounter {
+
+    // 8 longs = 64 bytes, one cache line per shard
+    private static final int CELL_STRIDE = 8;
+
+    private final AtomicLongArray cells;
+    private final int shardCount;
+
+    public StripedStockCounter(long[] shardQuantities) {
+        if (shardQuantities.length == 0) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shardCount = shardQuantities.length;
+        this.cells = new AtomicLongArray(shardCount * CELL_STRIDE);
+        for (int shard = 0; shard < shardCount; shard++) {
+            set(shard, shardQuantities[shard]);
+        }
+    }
+
+    /**
+     * Returns the number of shards.
+     */
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the units left in one shard.
+     */
+    public long get(int shard) {
+        return cells.get(shard * CELL_STRIDE);
+    }
+
+    /**
+     * Overwrites the units left in one shard (used after rebalancing or reloading from the database).
+     */
+    public void set(int shard, long quantity) {
+        cells.set(shard * CELL_STRIDE, quantity);
+    }
+
+    /**
+     * Gives units back to a shard (e.g. when the buyer's transaction rolls back).
+     */
+    public void add(int shard, long quantity) {
+        cells.addAndGet(shard * CELL_STRIDE, quantity);
+    }
+
+    /**
+     * Returns the units left across all shards.
+     * Like LongAdder.sum(), this is not an atomic snapshot under concurrent updates.
+     */
+    public long total() {
+        long totalQuantity = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            totalQuantity += get(shard);
+        }
+        return totalQuantity;
+    }
+
+    /**
+     * Takes the quantity from a single shard, starting at a random shard and probing the rest.
+     * Returns the shard index used, or -1 if no single shard has enough units left.
+     */
+    public int tryDecrement(long quantity) {
+        int startShard = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int offset = 0; offset < shardCount; offset++) {
+            int shard = (startShard + offset) % shardCount;
+            if (tryDecrementShard(shard, quantity)) {
+                return shard;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes the quantity from one shard if it has enough units left.
+     */
+    public boolean tryDecrementShard(int shard, long quantity) {
+        int cellIndex = shard * CELL_STRIDE;
+        long currentQuantity;
+        do {
+            currentQuantity = cells.get(cellIndex);
+            if (currentQuantity < quantity) {
+                return false;
+            }
+        } while (!cells.compareAndSet(cellIndex, currentQuantity, currentQuantity - quantity));
+        return true;
+    }
+
+    /**
+     * Splits a total as evenly as possible across the given number of shards.
+     * The remainder goes to the lowest shards.
+     */
+    public static long[] splitEvenly(long totalQuantity, int shardCount) {
+        long[] shardQuantities = new long[shardCount];
+        long baseQuantity = totalQuantity / shardCount;
+        long remainder = totalQuantity % shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardQuantities[shard] = baseQuantity + (shard < remainder ? 1 : 0);
+        }
+        return shardQuantities;
+    }
+}
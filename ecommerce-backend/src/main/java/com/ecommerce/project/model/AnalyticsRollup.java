@@ -0,0 +1,109 @@
+// AnalyticsRollup entity - one slot of a precomputed dashboard counter (running total or daily bucket)
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "analytics_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_analytics_rollups_metric_bucket_slot",
+                columnNames = {"metric", "bucket", "slot"}))
+public class AnalyticsRollup {
+
+    // Unique ID for each rollup row
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // What is counted (e.g. orders, products, orders.status.Accepted)
+    @Column(nullable = false, length = 60)
+    private String metric;
+
+    // "total" for the running total, or an ISO date (yyyy-MM-dd) for a daily bucket
+    @Column(nullable = false, length = 10)
+    private String bucket;
+
+    // Slot the increment landed in; a metric's value is the sum over its slots
+    @Column(nullable = false)
+    private int slot;
+
+    // Number of records counted
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    // Money counted (e.g. revenue), 0 for plain counters
+    @Column(nullable = false)
+    private double amount;
+
+    // Default constructor
+    public AnalyticsRollup() {
+    }
+
+    // Constructor with all fields except ID
+    public AnalyticsRollup(String metric, String bucket, int slot, long itemCount, double amount) {
+        this.metric = metric;
+        this.bucket = bucket;
+        this.slot = slot;
+        this.itemCount = itemCount;
+        this.amount = amount;
+    }
+
+    // Get ID
+    public Long getId() {
+        return id;
+    }
+
+    // Set ID
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    // Get metric name
+    public String getMetric() {
+        return metric;
+    }
+
+    // Set metric name
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    // Get bucket
+    public String getBucket() {
+        return bucket;
+    }
+
+    // Set bucket
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    // Get slot
+    public int getSlot() {
+        return slot;
+    }
+
+    // Set slot
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    // Get counted records
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    // Set counted records
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    // Get counted amount
+    public double getAmount() {
+        return amount;
+    }
+
+    // Set counted amount
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,157 @@
+// ChangeEvent entity - an order or product change waiting in the outbox to be published downstream
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "change_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_change_events_feed_position", columnNames = "feed_position"),
+        indexes = @Index(name = "idx_change_events_published_at", columnList = "published_at, event_id"))
+public class ChangeEvent {
+
+    // Aggregate types
+    public static final String AGGREGATE_ORDER = "ORDER";
+    public static final String AGGREGATE_PRODUCT = "PRODUCT";
+
+    // Order event types
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+    public static final String ORDER_QUEUED = "ORDER_QUEUED";
+    public static final String ORDER_ACCEPTED = "ORDER_ACCEPTED";
+    public static final String ORDER_FAILED = "ORDER_FAILED";
+    public static final String ORDER_STATUS_CHANGED = "ORDER_STATUS_CHANGED";
+
+    // Product event types
+    public static final String PRODUCT_CREATED = "PRODUCT_CREATED";
+    public static final String PRODUCT_UPDATED = "PRODUCT_UPDATED";
+    public static final String PRODUCT_IMAGE_UPDATED = "PRODUCT_IMAGE_UPDATED";
+    public static final String PRODUCT_DELETED = "PRODUCT_DELETED";
+
+    // Unique ID for each event (insertion order, may commit out of order)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // Position in the published feed, assigned by the relay in publish order
+    @Column(name = "feed_position")
+    private Long feedPosition;
+
+    // Kind of record that changed (ORDER or PRODUCT)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    // ID of the record that changed
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // What happened (e.g. ORDER_PLACED, PRODUCT_UPDATED)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    // JSON snapshot of the record after the change
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    // Time the change was committed to the outbox
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Time the relay handed the event to the sink (null while unpublished)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // Default constructor
+    public ChangeEvent() {
+    }
+
+    // Constructor with the fields known when the change is recorded
+    public ChangeEvent(String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Get event ID
+    public Long getEventId() {
+        return eventId;
+    }
+
+    // Set event ID
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    // Get feed position
+    public Long getFeedPosition() {
+        return feedPosition;
+    }
+
+    // Set feed position
+    public void setFeedPosition(Long feedPosition) {
+        this.feedPosition = feedPosition;
+    }
+
+    // Get aggregate type
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    // Set aggregate type
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    // Get aggregate ID
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    // Set aggregate ID
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    // Get event type
+    public String getEventType() {
+        return eventType;
+    }
+
+    // Set event type
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    // Get JSON payload
+    public String getPayload() {
+        return payload;
+    }
+
+    // Set JSON payload
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    // Get created time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set created time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get published time
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    // Set published time
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
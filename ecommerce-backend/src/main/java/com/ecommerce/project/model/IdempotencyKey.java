@@ -0,0 +1,124 @@
+// IdempotencyKey entity - remembers which order a client's Idempotency-Key produced
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"email", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyKey {
+
+    // Unique ID for each stored key
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Key sent by the client in the Idempotency-Key header
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // Email of the customer who sent the key (keys are scoped per customer)
+    @Column(nullable = false)
+    private String email;
+
+    // SHA-256 of the request body, so a key cannot be reused for a different order
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Order created for this key
+    private Long orderId;
+
+    // Time the key was first seen
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Time after which the key can be reused and is purged
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public IdempotencyKey() {
+    }
+
+    // Constructor with all fields except ID and order ID
+    public IdempotencyKey(String idempotencyKey, String email, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.email = email;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Get ID
+    public Long getId() {
+        return id;
+    }
+
+    // Set ID
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    // Get client key
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    // Set client key
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    // Get customer email
+    public String getEmail() {
+        return email;
+    }
+
+    // Set customer email
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    // Get request hash
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    // Set request hash
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    // Get order ID
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    // Set order ID
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    // Get creation time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set creation time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get expiry time
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    // Set expiry time
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,174 @@
+// ImageUploadJob entity - a staged product image waiting to be processed and uploaded in the background
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "image_upload_jobs",
+        indexes = @Index(name = "idx_image_upload_jobs_status", columnList = "status, next_attempt_at"))
+public class ImageUploadJob {
+
+    // Job is waiting for an uploader (first try or a retry after backoff)
+    public static final String STATUS_PENDING = "PENDING";
+    // Job has been claimed by an uploader
+    public static final String STATUS_UPLOADING = "UPLOADING";
+    // Image and renditions are stored and the product points at them
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    // Job gave up (invalid image or out of attempts)
+    public static final String STATUS_FAILED = "FAILED";
+
+    // Unique ID for each job
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    // Product the image belongs to
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // Path of the staged upload on local disk
+    @Column(name = "staged_file", nullable = false, length = 500)
+    private String stagedFile;
+
+    // PENDING, UPLOADING, COMPLETED or FAILED
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    // Number of times an uploader has tried this job
+    @Column(nullable = false)
+    private int attempts;
+
+    // Earliest time the job may be tried (moves forward with each retry)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Reason for the last failure
+    @Column(length = 500)
+    private String lastError;
+
+    // Time the image was staged
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Time an uploader last claimed the job
+    private LocalDateTime claimedAt;
+
+    // Time the job finished (completed or failed)
+    private LocalDateTime completedAt;
+
+    // Default constructor
+    public ImageUploadJob() {
+    }
+
+    // Constructor with the fields known when the image is staged
+    public ImageUploadJob(Long productId, String stagedFile, LocalDateTime createdAt) {
+        this.productId = productId;
+        this.stagedFile = stagedFile;
+        this.status = STATUS_PENDING;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    // Get job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get product ID
+    public Long getProductId() {
+        return productId;
+    }
+
+    // Set product ID
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    // Get staged file path
+    public String getStagedFile() {
+        return stagedFile;
+    }
+
+    // Set staged file path
+    public void setStagedFile(String stagedFile) {
+        this.stagedFile = stagedFile;
+    }
+
+    // Get job status
+    public String getStatus() {
+        return status;
+    }
+
+    // Set job status
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // Get number of attempts
+    public int getAttempts() {
+        return attempts;
+    }
+
+    // Set number of attempts
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    // Get earliest time of the next attempt
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    // Set earliest time of the next attempt
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // Get reason for the last failure
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Set reason for the last failure
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    // Get staging time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set staging time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get time of the last claim
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    // Set time of the last claim
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    // Get completion time
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    // Set completion time
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
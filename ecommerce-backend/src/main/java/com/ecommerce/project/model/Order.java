@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,6 +30,10 @@ public class Order {
     // Date order was placed
     private LocalDate orderDate;
 
+    // Exact time order was placed (null for orders placed before this was recorded)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
     // Payment information for this order
     @OneToOne
     @JoinColumn(name = "payment_id")
@@ -100,6 +105,16 @@ public class Order {
         this.orderDate = orderDate;
     }
 
+    // Get time order was placed
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set time order was placed
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     // Get payment information
     public Payment getPayment() {
         return payment;
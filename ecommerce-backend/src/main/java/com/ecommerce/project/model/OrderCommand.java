@@ -0,0 +1,237 @@
+// OrderCommand entity - a queued checkout waiting for the order pipeline to process it
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_commands",
+        indexes = @Index(name = "idx_order_commands_status", columnList = "status, command_id"))
+public class OrderCommand {
+
+    // Command is waiting for a worker
+    public static final String STATUS_PENDING = "PENDING";
+    // Command has been claimed by a worker
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    // Payment, inventory and cart clearing are done
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    // Command could not be processed (e.g. stock ran out)
+    public static final String STATUS_FAILED = "FAILED";
+
+    // Unique ID for each command (also the processing order)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "command_id")
+    private Long commandId;
+
+    // Order created when the command was queued
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    // Customer who placed the order
+    @Column(nullable = false)
+    private String email;
+
+    // Cart the order was taken from
+    @Column(name = "cart_id", nullable = false)
+    private Long cartId;
+
+    // Payment details to record when the command is processed
+    private String paymentMethod;
+    private String pgName;
+    private String pgPaymentId;
+    private String pgStatus;
+    private String pgResponseMessage;
+
+    // PENDING, PROCESSING, COMPLETED or FAILED
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    // Number of times a worker has tried this command
+    @Column(nullable = false)
+    private int attempts;
+
+    // Reason for the last failure
+    @Column(length = 500)
+    private String lastError;
+
+    // Time the command was queued
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Time a worker last claimed the command
+    private LocalDateTime claimedAt;
+
+    // Time the command finished (completed or failed)
+    private LocalDateTime processedAt;
+
+    // Default constructor
+    public OrderCommand() {
+    }
+
+    // Constructor with the fields known when the command is queued
+    public OrderCommand(Long orderId, String email, Long cartId, String paymentMethod, String pgName,
+                        String pgPaymentId, String pgStatus, String pgResponseMessage, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.email = email;
+        this.cartId = cartId;
+        this.paymentMethod = paymentMethod;
+        this.pgName = pgName;
+        this.pgPaymentId = pgPaymentId;
+        this.pgStatus = pgStatus;
+        this.pgResponseMessage = pgResponseMessage;
+        this.status = STATUS_PENDING;
+        this.createdAt = createdAt;
+    }
+
+    // Get command ID
+    public Long getCommandId() {
+        return commandId;
+    }
+
+    // Set command ID
+    public void setCommandId(Long commandId) {
+        this.commandId = commandId;
+    }
+
+    // Get order ID
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    // Set order ID
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    // Get customer email
+    public String getEmail() {
+        return email;
+    }
+
+    // Set customer email
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    // Get cart ID
+    public Long getCartId() {
+        return cartId;
+    }
+
+    // Set cart ID
+    public void setCartId(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    // Get payment method
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    // Set payment method
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    // Get payment gateway name
+    public String getPgName() {
+        return pgName;
+    }
+
+    // Set payment gateway name
+    public void setPgName(String pgName) {
+        this.pgName = pgName;
+    }
+
+    // Get payment gateway transaction ID
+    public String getPgPaymentId() {
+        return pgPaymentId;
+    }
+
+    // Set payment gateway transaction ID
+    public void setPgPaymentId(String pgPaymentId) {
+        this.pgPaymentId = pgPaymentId;
+    }
+
+    // Get payment gateway status
+    public String getPgStatus() {
+        return pgStatus;
+    }
+
+    // Set payment gateway status
+    public void setPgStatus(String pgStatus) {
+        this.pgStatus = pgStatus;
+    }
+
+    // Get payment gateway response message
+    public String getPgResponseMessage() {
+        return pgResponseMessage;
+    }
+
+    // Set payment gateway response message
+    public void setPgResponseMessage(String pgResponseMessage) {
+        this.pgResponseMessage = pgResponseMessage;
+    }
+
+    // Get command status
+    public String getStatus() {
+        return status;
+    }
+
+    // Set command status
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // Get attempt count
+    public int getAttempts() {
+        return attempts;
+    }
+
+    // Set attempt count
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    // Get last failure reason
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Set last failure reason
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    // Get queued time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set queued time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get claimed time
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    // Set claimed time
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    // Get finished time
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    // Set finished time
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -25,9 +25,21 @@ public class Product {
     // Product model/variant
     private String model;
 
-    // Product image filename
+    // Public URL of the product image (resolved by ImageUrlResolver when it is written)
     private String image;
 
+    // Public URL of the small rendition (the original image for products uploaded before renditions existed)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    // Public URL of the medium rendition
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
+    // Public URL of the large rendition
+    @Column(name = "large_url")
+    private String largeUrl;
+
     // Product description (min 6 characters)
     @NotBlank
     @Size(min = 6, message = "must contain atleast 6 characters")
@@ -39,6 +51,10 @@ public class Product {
     // Product price
     private double price;
 
+    // Flash-sale mode: stock lives in product_stock_shards instead of this row's quantity
+    @Column(name = "hot_sku", columnDefinition = "boolean default false")
+    private boolean hotSku;
+
     // Category this product belongs to
     @ManyToOne
     @JoinColumn(name = "category_id")
@@ -141,6 +157,46 @@ public class Product {
         this.price = price;
     }
 
+    // Get thumbnail rendition
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    // Set thumbnail rendition
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    // Get medium rendition
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    // Set medium rendition
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
+    // Get large rendition
+    public String getLargeUrl() {
+        return largeUrl;
+    }
+
+    // Set large rendition
+    public void setLargeUrl(String largeUrl) {
+        this.largeUrl = largeUrl;
+    }
+
+    // Check if stock is sharded for flash sales
+    public boolean isHotSku() {
+        return hotSku;
+    }
+
+    // Set flash-sale sharded stock mode
+    public void setHotSku(boolean hotSku) {
+        this.hotSku = hotSku;
+    }
+
     // Get category
     public Category getCategory() {
         return category;
@@ -0,0 +1,79 @@
+// ProductImportError entity - one rejected row of a bulk product import
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "product_import_errors",
+        indexes = @Index(name = "idx_product_import_errors_job", columnList = "job_id, source_row"))
+public class ProductImportError {
+
+    // Unique ID for each error
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "error_id")
+    private Long errorId;
+
+    // Import job the row belongs to
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Row number in the source (1 = first data row, header not counted)
+    @Column(name = "source_row", nullable = false)
+    private long rowNumber;
+
+    // Why the row was rejected
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    // Default constructor
+    public ProductImportError() {
+    }
+
+    // Constructor with all fields except the ID
+    public ProductImportError(Long jobId, long rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+
+    // Get error ID
+    public Long getErrorId() {
+        return errorId;
+    }
+
+    // Set error ID
+    public void setErrorId(Long errorId) {
+        this.errorId = errorId;
+    }
+
+    // Get import job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set import job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get source row number
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    // Set source row number
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    // Get error message
+    public String getMessage() {
+        return message;
+    }
+
+    // Set error message
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,173 @@
+// ProductImportJob entity - progress of one bulk product import, used to report and resume it
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "product_import_jobs")
+public class ProductImportJob {
+
+    // Rows are still being read and inserted
+    public static final String STATUS_RUNNING = "RUNNING";
+    // Every row of the source was processed
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    // The import stopped early; resume it by sending the same source again
+    public static final String STATUS_FAILED = "FAILED";
+
+    // Unique ID for each import job
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    // Source format (csv or ndjson)
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    // RUNNING, COMPLETED or FAILED
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    // Admin who started the import (new products are owned by this user)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Number of source rows whose results are committed (rows up to here are skipped on resume)
+    @Column(name = "rows_processed", nullable = false)
+    private long rowsProcessed;
+
+    // Number of products inserted
+    @Column(name = "imported_count", nullable = false)
+    private long importedCount;
+
+    // Number of rows rejected (invalid values, unknown category or duplicate name)
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    // Reason the import stopped early
+    @Column(length = 500)
+    private String lastError;
+
+    // Time the import was started
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Time of the last committed chunk
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor
+    public ProductImportJob() {
+    }
+
+    // Constructor with the fields known when the import starts
+    public ProductImportJob(String format, Long userId, LocalDateTime createdAt) {
+        this.format = format;
+        this.userId = userId;
+        this.status = STATUS_RUNNING;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    // Get job ID
+    public Long getJobId() {
+        return jobId;
+    }
+
+    // Set job ID
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Get source format
+    public String getFormat() {
+        return format;
+    }
+
+    // Set source format
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    // Get job status
+    public String getStatus() {
+        return status;
+    }
+
+    // Set job status
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // Get ID of the admin who started the import
+    public Long getUserId() {
+        return userId;
+    }
+
+    // Set ID of the admin who started the import
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    // Get number of committed source rows
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    // Set number of committed source rows
+    public void setRowsProcessed(long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    // Get number of products inserted
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    // Set number of products inserted
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    // Get number of rejected rows
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    // Set number of rejected rows
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    // Get reason the import stopped early
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Set reason the import stopped early
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    // Get start time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set start time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    // Get time of the last committed chunk
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Set time of the last committed chunk
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,79 @@
+// ProductStockShard entity - one slice of a hot SKU's stock, so concurrent checkouts lock different rows
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "shard_index"}))
+public class ProductStockShard {
+
+    // Unique ID for each shard row
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long shardId;
+
+    // Product this shard holds stock for
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    // Position of this shard (0 to shardCount - 1)
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    // Units left in this shard
+    @Column(nullable = false)
+    private Long quantity;
+
+    // Default constructor
+    public ProductStockShard() {
+    }
+
+    // Constructor with all fields except ID
+    public ProductStockShard(Product product, Integer shardIndex, Long quantity) {
+        this.product = product;
+        this.shardIndex = shardIndex;
+        this.quantity = quantity;
+    }
+
+    // Get shard ID
+    public Long getShardId() {
+        return shardId;
+    }
+
+    // Set shard ID
+    public void setShardId(Long shardId) {
+        this.shardId = shardId;
+    }
+
+    // Get product
+    public Product getProduct() {
+        return product;
+    }
+
+    // Set product
+    public void setProduct(Product product) {
+        this.product = product;
+    }
+
+    // Get shard index
+    public Integer getShardIndex() {
+        return shardIndex;
+    }
+
+    // Set shard index
+    public void setShardIndex(Integer shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    // Get units left
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    // Set units left
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,99 @@
+// StockReservation entity - short-lived hold on product stock taken when checkout starts
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_reservations",
+        indexes = {
+                @Index(name = "idx_stock_reservations_product_expiry", columnList = "product_id, expires_at"),
+                @Index(name = "idx_stock_reservations_email", columnList = "email")
+        })
+public class StockReservation {
+
+    // Unique ID for each reservation
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long reservationId;
+
+    // Product whose stock is being held
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    // Email of the customer holding the stock
+    @Column(nullable = false)
+    private String email;
+
+    // Number of units held
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // Time after which the hold no longer counts against stock
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Default constructor
+    public StockReservation() {
+    }
+
+    // Constructor with all fields except ID
+    public StockReservation(Product product, String email, Integer quantity, LocalDateTime expiresAt) {
+        this.product = product;
+        this.email = email;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    // Get reservation ID
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    // Set reservation ID
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    // Get held product
+    public Product getProduct() {
+        return product;
+    }
+
+    // Set held product
+    public void setProduct(Product product) {
+        this.product = product;
+    }
+
+    // Get customer email
+    public String getEmail() {
+        return email;
+    }
+
+    // Set customer email
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    // Get held quantity
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    // Set held quantity
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // Get expiry time
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    // Set expiry time
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,142 @@
+// StoredImage entity - index of stored product images by content hash, so identical uploads reuse the stored copy
+package com.ecommerce.project.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stored_images",
+        uniqueConstraints = @UniqueConstraint(name = "ux_stored_images_content_hash", columnNames = "content_hash"))
+public class StoredImage {
+
+    // Unique ID for each stored image
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_image_id")
+    private Long storedImageId;
+
+    // Hex SHA-256 of the uploaded original
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // Rendition widths, format and quality the renditions were made with
+    @Column(name = "rendition_profile", nullable = false, length = 100)
+    private String renditionProfile;
+
+    // Stored original image (filename or URL)
+    @Column(nullable = false, length = 500)
+    private String image;
+
+    // Stored thumbnail rendition
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    // Stored medium rendition
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
+    // Stored large rendition
+    @Column(name = "large_url", length = 500)
+    private String largeUrl;
+
+    // Time the image was first stored
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public StoredImage() {
+    }
+
+    // Constructor with all fields except ID
+    public StoredImage(String contentHash, String renditionProfile, String image, String thumbnailUrl,
+                       String mediumUrl, String largeUrl, LocalDateTime createdAt) {
+        this.contentHash = contentHash;
+        this.renditionProfile = renditionProfile;
+        this.image = image;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.largeUrl = largeUrl;
+        this.createdAt = createdAt;
+    }
+
+    // Get stored image ID
+    public Long getStoredImageId() {
+        return storedImageId;
+    }
+
+    // Set stored image ID
+    public void setStoredImageId(Long storedImageId) {
+        this.storedImageId = storedImageId;
+    }
+
+    // Get content hash
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    // Set content hash
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    // Get rendition profile
+    public String getRenditionProfile() {
+        return renditionProfile;
+    }
+
+    // Set rendition profile
+    public void setRenditionProfile(String renditionProfile) {
+        this.renditionProfile = renditionProfile;
+    }
+
+    // Get original image
+    public String getImage() {
+        return image;
+    }
+
+    // Set original image
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    // Get thumbnail rendition
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    // Set thumbnail rendition
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    // Get medium rendition
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    // Set medium rendition
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
+    // Get large rendition
+    public String getLargeUrl() {
+        return largeUrl;
+    }
+
+    // Set large rendition
+    public void setLargeUrl(String largeUrl) {
+        this.largeUrl = largeUrl;
+    }
+
+    // Get creation time
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Set creation time
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
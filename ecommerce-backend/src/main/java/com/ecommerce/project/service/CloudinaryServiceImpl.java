@@ -3,52 +3,81 @@ package com.ecommerce.project.service;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import com.ecommerce.project.service.Interface.FileService;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Service
 @Primary
 public class CloudinaryServiceImpl implements FileService {
 
-    @Autowired
-    private Cloudinary cloudinary;
+    private final Cloudinary cloudinary;
+    private final ObservationRegistry observationRegistry;
 
-    @Override
-    public String uploadImage(String folder, MultipartFile imageFile) throws IOException {
-        // Generate unique filename
-        String originalFilename = imageFile.getOriginalFilename();
-        String fileExtension = extractFileExtension(originalFilename);
-        String publicId = generateUniqueFileName(fileExtension);
+    public CloudinaryServiceImpl(Cloudinary cloudinary, ObservationRegistry observationRegistry) {
+        this.cloudinary = cloudinary;
+        this.observationRegistry = observationRegistry;
+    }
 
-        // Upload to Cloudinary
+    @Override
+    public String storeImage(String folder, String fileName, Path imageFile) throws IOException {
+        // Cloudinary adds the extension itself, so the public ID is the file name without it
         Map<String, Object> uploadParams = ObjectUtils.asMap(
-                "public_id", publicId,
-                "folder", folder != null && !folder.isEmpty() ? folder : "products",
-                "resource_type", "auto"
+                "public_id", removeFileExtension(fileName),
+                "folder", uploadFolder(folder),
+                "resource_type", "image"
         );
 
-        Map uploadResult = cloudinary.uploader().upload(imageFile.getBytes(), uploadParams);
+        // Passing a File lets the client stream the upload from disk instead of holding it on the heap
+        // The outbound call gets its own span (and the cloudinary.upload timer)
+        Map uploadResult = Observation.createNotStarted("cloudinary.upload", observationRegistry)
+                .contextualName("cloudinary upload")
+                .lowCardinalityKeyValue("folder", String.valueOf(uploadParams.get("folder")))
+                .observeChecked(() -> cloudinary.uploader().upload(imageFile.toFile(), uploadParams));
 
         // Return the secure URL of the uploaded image
         return (String) uploadResult.get("secure_url");
     }
 
-    private String extractFileExtension(String sourceFileName) {
-        if (sourceFileName != null && sourceFileName.contains(".")) {
-            return sourceFileName.substring(sourceFileName.lastIndexOf('.'));
+    @Override
+    public boolean imagesExist(String folder, List<String> storedImages) throws IOException {
+        // storeImage returns the delivery URL, whose last path segment is the file name it was stored under
+        List<String> publicIds = storedImages.stream()
+                .map(storedImage -> uploadFolder(folder) + "/" + removeFileExtension(storedImage.substring(storedImage.lastIndexOf('/') + 1)))
+                .distinct()
+                .toList();
+        try {
+            // One Admin API call for all of them; missing public IDs are simply left out of the result
+            Map lookupResult = cloudinary.api().resourcesByIds(publicIds, ObjectUtils.asMap("max_results", publicIds.size()));
+            return ((List<?>) lookupResult.get("resources")).size() == publicIds.size();
+        } catch (IOException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new IOException("Could not look up stored images in Cloudinary", exception);
         }
-        return "";
     }
 
-    private String generateUniqueFileName(String fileExtension) {
-        String uniqueIdentifier = UUID.randomUUID().toString();
-        // Remove the extension as Cloudinary handles it automatically
-        return uniqueIdentifier;
+    @Override
+    public void deleteImage(String folder, String fileName) throws IOException {
+        // Same public ID as the upload; destroying a missing image just reports "not found"
+        String publicId = uploadFolder(folder) + "/" + removeFileExtension(fileName);
+        Observation.createNotStarted("cloudinary.destroy", observationRegistry)
+                .contextualName("cloudinary destroy")
+                .observeChecked(() -> cloudinary.uploader().destroy(publicId, ObjectUtils.asMap("resource_type", "image")));
+    }
+
+    private String uploadFolder(String folder) {
+        return folder != null && !folder.isEmpty() ? folder : "products";
+    }
+
+    private String removeFileExtension(String fileName) {
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.project.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.project.DTO.ChangeEventDto;
+import com.ecommerce.project.service.Interface.ChangeEventSink;
+
+/**
+ * Change event sink that appends events to a newline-delimited JSON file
+ * Business logic: Each batch is written with one append and forced to disk before the relay
+ * commits, so a crash can repeat the tail of the file but never lose an event.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+public class FileChangeEventSink implements ChangeEventSink {
+
+    private final ObjectMapper jsonMapper;
+    private final Path eventFile;
+
+    public FileChangeEventSink(ObjectMapper jsonMapper,
+                               @Value("${outbox.sink.file-path:outbox/change-events.ndjson}") String eventFilePath) {
+        this.jsonMapper = jsonMapper;
+        this.eventFile = Path.of(eventFilePath);
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEventDto> events) {
+        try {
+            ByteArrayOutputStream batchBuffer = new ByteArrayOutputStream();
+            for (ChangeEventDto event : events) {
+                batchBuffer.write(jsonMapper.writeValueAsBytes(event));
+                batchBuffer.write('\n');
+            }
+
+            Path parentDirectory = eventFile.toAbsolutePath().getParent();
+            if (parentDirectory != null) {
+                Files.createDirectories(parentDirectory);
+            }
+
+            try (FileChannel eventChannel = FileChannel.open(eventFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer batchBytes = ByteBuffer.wrap(batchBuffer.toByteArray());
+                while (batchBytes.hasRemaining()) {
+                    eventChannel.write(batchBytes);
+                }
+                eventChannel.force(false);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not append change events to " + eventFile, exception);
+        }
+    }
+}
@@ -3,11 +3,12 @@ package com.ecommerce.project.service;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.ecommerce.project.service.Interface.FileService;
 
@@ -15,38 +16,34 @@ import com.ecommerce.project.service.Interface.FileService;
 public class FileServiceImpl implements FileService {
 
     @Override
-    public String uploadImage(String directoryPath, MultipartFile imageFile) throws IOException {
-        String fileExtension = extractFileExtension(imageFile.getOriginalFilename());
-        String generatedFileName = generateUniqueFileName(fileExtension);
-        String targetFilePath = buildFilePath(directoryPath, generatedFileName);
+    public String storeImage(String directoryPath, String fileName, Path imageFile) throws IOException {
+        String targetFilePath = buildFilePath(directoryPath, fileName);
 
         ensureDirectoryExists(directoryPath);
         persistImageFile(imageFile, targetFilePath);
 
-        return generatedFileName;
+        return fileName;
     }
 
-    private String extractFileExtension(String sourceFileName) {
-        return sourceFileName.substring(sourceFileName.lastIndexOf('.'));
+    @Override
+    public boolean imagesExist(String directoryPath, List<String> storedImages) {
+        return storedImages.stream().allMatch(fileName -> Files.exists(Paths.get(buildFilePath(directoryPath, fileName))));
     }
 
-    private String generateUniqueFileName(String fileExtension) {
-        String uniqueIdentifier = UUID.randomUUID().toString();
-        return uniqueIdentifier.concat(fileExtension);
+    @Override
+    public void deleteImage(String directoryPath, String fileName) throws IOException {
+        Files.deleteIfExists(Paths.get(buildFilePath(directoryPath, fileName)));
     }
 
-    private String buildFilePath(String directoryPath, String generatedFileName) {
-        return directoryPath + File.separator + generatedFileName;
+    private String buildFilePath(String directoryPath, String fileName) {
+        return directoryPath + File.separator + fileName;
     }
 
-    private void ensureDirectoryExists(String directoryPath) {
-        File directory = new File(directoryPath);
-        if (!directory.exists()) {
-            directory.mkdir();
-        }
+    private void ensureDirectoryExists(String directoryPath) throws IOException {
+        Files.createDirectories(Paths.get(directoryPath));
     }
 
-    private void persistImageFile(MultipartFile imageFile, String targetFilePath) throws IOException {
-        Files.copy(imageFile.getInputStream(), Paths.get(targetFilePath));
+    private void persistImageFile(Path imageFile, String targetFilePath) throws IOException {
+        Files.copy(imageFile, Paths.get(targetFilePath), StandardCopyOption.REPLACE_EXISTING);
     }
 }
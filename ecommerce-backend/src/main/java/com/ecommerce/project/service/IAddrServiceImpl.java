@@ -1,29 +1,51 @@
 package com.ecommerce.project.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.ecommerce.project.model.Address;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ecommerce.project.DAO.AddressDAO;
 import com.ecommerce.project.DAO.UserDAO;
 import com.ecommerce.project.DTO.AddressDto;
+import com.ecommerce.project.DTO.KeysetResponse;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.helper.JsonArrayStreamWriter;
 import com.ecommerce.project.model.User;
 import com.ecommerce.project.service.Interface.IAddrService;
 
 @Service
 public class IAddrServiceImpl implements IAddrService {
 
+    // Flush to the client every N rows so a large stream shows progress
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
     private final AddressDAO addressDAO;
     private final UserDAO userDAO;
     private final ModelMapper objectMapper;
 
-    public IAddrServiceImpl(AddressDAO addressDAO, UserDAO userDAO, ModelMapper objectMapper) {
+    // Read-only cursor transaction and JSON writing for the streamed admin listing
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper jsonMapper;
+
+    public IAddrServiceImpl(AddressDAO addressDAO, UserDAO userDAO, ModelMapper objectMapper,
+                            PlatformTransactionManager transactionManager, ObjectMapper jsonMapper) {
         this.addressDAO = addressDAO;
         this.userDAO = userDAO;
         this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // A service-level name, which is what lets the read replica routing send it to the replica
+        this.readOnlyTransaction.setName(IAddrServiceImpl.class.getName() + ".readOnlyTransaction");
+        this.jsonMapper = jsonMapper;
     }
 
     @Override
@@ -36,9 +58,26 @@ public class IAddrServiceImpl implements IAddrService {
     }
 
     @Override
-    public List<AddressDto> getAddr() {
-        List<Address> allAddresses = addressDAO.findAll();
-        return transformAddressesToDTOs(allAddresses);
+    @Transactional(readOnly = true)
+    public KeysetResponse<AddressDto> getAddr(Long afterAddressId, Integer limit) {
+        KeysetResponse.validatePageRequest(afterAddressId, limit);
+
+        List<AddressDto> pageAddresses = addressDAO.fetchAddressesAfter(afterAddressId, PageRequest.of(0, limit));
+        return KeysetResponse.of(pageAddresses, afterAddressId, limit, AddressDto::getAddressId);
+    }
+
+    // Rows come through a cursor straight into DTOs and are written as they are read
+    @Override
+    public StreamingResponseBody streamAddr() {
+        return responseStream -> {
+            JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(responseStream, jsonMapper, FLUSH_EVERY_ROWS);
+            readOnlyTransaction.executeWithoutResult(transactionStatus -> {
+                try (Stream<AddressDto> allRows = addressDAO.streamAllAddresses()) {
+                    allRows.forEach(arrayWriter::write);
+                }
+            });
+            arrayWriter.finish();
+        };
     }
 
     @Override
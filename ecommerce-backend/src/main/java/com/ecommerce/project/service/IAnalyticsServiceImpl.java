@@ -1,50 +1,312 @@
 package com.ecommerce.project.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.ecommerce.project.DAO.AnalyticsRollupDAO;
 import com.ecommerce.project.DAO.OrderDAO;
 import com.ecommerce.project.DAO.ProductDAO;
 import com.ecommerce.project.DTO.AnalyticsResponse;
+import com.ecommerce.project.DTO.DailyAnalyticsDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
 import com.ecommerce.project.service.Interface.IAnalyticsService;
 
+/**
+ * Service implementation for dashboard analytics
+ * Business logic: Counters live in analytics_rollups and are incremented in the same transaction
+ * as the order or product change, so the dashboard reads a handful of precomputed rows instead of
+ * counting and summing the source tables. Each counter is spread over a few slots (chosen at random
+ * per change) so concurrent orders do not queue on one row lock. A scheduled reconciliation job
+ * recomputes the figures from the source tables, applies any difference as a correction, and seeds
+ * empty rollups. Only one instance reconciles at a time (PostgreSQL advisory lock), so overlapping
+ * runs never apply the same correction twice.
+ */
 @Service
 public class IAnalyticsServiceImpl implements IAnalyticsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(IAnalyticsServiceImpl.class);
+
+    // Rollup metric names and the bucket holding running totals
+    private static final String TOTAL_BUCKET = "total";
+    private static final String PRODUCTS_METRIC = "products";
+    private static final String PRODUCTS_ADDED_METRIC = "products.added";
+    private static final String PRODUCTS_DELETED_METRIC = "products.deleted";
+    private static final String ORDERS_METRIC = "orders";
+    private static final String ORDER_STATUS_METRIC_PREFIX = "orders.status.";
+
+    // Advisory lock key shared by every instance's reconciliation run
+    private static final long RECONCILE_LOCK_KEY = 0x616e616c79746963L;
+
+    private static final double REVENUE_TOLERANCE = 0.005;
+    private static final int MAX_DAILY_RANGE_DAYS = 366;
+
     private final ProductDAO productDAO;
     private final OrderDAO orderDAO;
+    private final AnalyticsRollupDAO analyticsRollupDAO;
+    private final TransactionTemplate lockTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate correctionTransaction;
+
+    @Value("${analytics.rollup.slots:8}")
+    private int rollupSlots;
 
-    public IAnalyticsServiceImpl(ProductDAO productDAO, OrderDAO orderDAO) {
+    @Value("${analytics.rollup.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    public IAnalyticsServiceImpl(ProductDAO productDAO, OrderDAO orderDAO, AnalyticsRollupDAO analyticsRollupDAO,
+                                 PlatformTransactionManager transactionManager) {
         this.productDAO = productDAO;
         this.orderDAO = orderDAO;
+        this.analyticsRollupDAO = analyticsRollupDAO;
+
+        // Holds the reconciliation lock on its own connection while the snapshot and the corrections
+        // run in transactions of their own
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        // Source tables and rollups must be read from the same snapshot for the comparison to be exact.
+        // Not read-only on purpose: corrections are computed from this snapshot, so it must come from the primary
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.correctionTransaction = new TransactionTemplate(transactionManager);
+        this.correctionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AnalyticsResponse getAnalytics() {
-        long productCount = calculateProductCount();
-        long totalOrders = calculateTotalOrders();
-        Double totalRevenue = calculateTotalRevenue();
+        Map<String, RollupValue> totals = sumBucket(TOTAL_BUCKET);
+
+        long productCount = totals.getOrDefault(PRODUCTS_METRIC, RollupValue.ZERO).itemCount();
+        RollupValue orderTotals = totals.getOrDefault(ORDERS_METRIC, RollupValue.ZERO);
+
+        Map<String, Long> ordersByStatus = new TreeMap<>();
+        totals.forEach((metric, value) -> {
+            if (metric.startsWith(ORDER_STATUS_METRIC_PREFIX) && value.itemCount() != 0) {
+                ordersByStatus.put(metric.substring(ORDER_STATUS_METRIC_PREFIX.length()), value.itemCount());
+            }
+        });
+
+        return buildAnalyticsResponse(productCount, orderTotals.itemCount(), orderTotals.amount(), ordersByStatus);
+    }
 
-        return buildAnalyticsResponse(productCount, totalOrders, totalRevenue);
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyAnalyticsDto> getDailyAnalytics(LocalDate fromDate, LocalDate toDate) {
+        validateDateRange(fromDate, toDate);
+
+        Map<String, DailyAnalyticsDto> dailyFigures = new LinkedHashMap<>();
+        for (LocalDate day = fromDate; !day.isAfter(toDate); day = day.plusDays(1)) {
+            dailyFigures.put(day.toString(), new DailyAnalyticsDto(day, 0L, 0.0, 0L, 0L));
+        }
+
+        for (Object[] bucketRow : analyticsRollupDAO.sumDailyBuckets(fromDate.toString(), toDate.toString())) {
+            DailyAnalyticsDto dayFigures = dailyFigures.get((String) bucketRow[0]);
+            if (dayFigures == null) {
+                continue;
+            }
+            long itemCount = ((Number) bucketRow[2]).longValue();
+            switch ((String) bucketRow[1]) {
+                case ORDERS_METRIC -> {
+                    dayFigures.setOrderCount(itemCount);
+                    dayFigures.setRevenue(((Number) bucketRow[3]).doubleValue());
+                }
+                case PRODUCTS_ADDED_METRIC -> dayFigures.setProductsAdded(itemCount);
+                case PRODUCTS_DELETED_METRIC -> dayFigures.setProductsDeleted(itemCount);
+                default -> {
+                }
+            }
+        }
+        return new ArrayList<>(dailyFigures.values());
+    }
+
+    @Override
+    @Transactional
+    public void recordOrderPlaced(String orderStatus, Double totalAmount, LocalDate orderDate) {
+        double orderAmount = totalAmount != null ? totalAmount : 0.0;
+        Map<String, RollupValue> increments = new TreeMap<>();
+        increments.put(rollupKey(ORDERS_METRIC, TOTAL_BUCKET), new RollupValue(1, orderAmount));
+        increments.put(rollupKey(ORDERS_METRIC, orderDate.toString()), new RollupValue(1, orderAmount));
+        increments.put(rollupKey(ORDER_STATUS_METRIC_PREFIX + orderStatus, TOTAL_BUCKET), new RollupValue(1, 0));
+        applyIncrements(increments);
     }
 
-    private long calculateProductCount() {
-        return productDAO.count();
+    @Override
+    @Transactional
+    public void recordOrderStatusChange(String previousStatus, String newStatus) {
+        if (Objects.equals(previousStatus, newStatus)) {
+            return;
+        }
+
+        Map<String, RollupValue> increments = new TreeMap<>();
+        if (previousStatus != null) {
+            increments.put(rollupKey(ORDER_STATUS_METRIC_PREFIX + previousStatus, TOTAL_BUCKET), new RollupValue(-1, 0));
+        }
+        if (newStatus != null) {
+            increments.put(rollupKey(ORDER_STATUS_METRIC_PREFIX + newStatus, TOTAL_BUCKET), new RollupValue(1, 0));
+        }
+        applyIncrements(increments);
     }
 
-    private long calculateTotalOrders() {
-        return orderDAO.count();
+    @Override
+    @Transactional
+    public void recordProductsAdded(int productCount) {
+        if (productCount == 0) {
+            return;
+        }
+        Map<String, RollupValue> increments = new TreeMap<>();
+        increments.put(rollupKey(PRODUCTS_METRIC, TOTAL_BUCKET), new RollupValue(productCount, 0));
+        increments.put(rollupKey(PRODUCTS_ADDED_METRIC, LocalDate.now().toString()), new RollupValue(productCount, 0));
+        applyIncrements(increments);
     }
 
-    private Double calculateTotalRevenue() {
-        return orderDAO.calculateTotalRevenue();
+    @Override
+    @Transactional
+    public void recordProductDeleted() {
+        Map<String, RollupValue> increments = new TreeMap<>();
+        increments.put(rollupKey(PRODUCTS_METRIC, TOTAL_BUCKET), new RollupValue(-1, 0));
+        increments.put(rollupKey(PRODUCTS_DELETED_METRIC, LocalDate.now().toString()), new RollupValue(1, 0));
+        applyIncrements(increments);
     }
 
-    private AnalyticsResponse buildAnalyticsResponse(long productCount, long totalOrders, Double totalRevenue) {
+    @Override
+    @Scheduled(initialDelayString = "${analytics.rollup.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${analytics.rollup.reconcile-interval-ms:3600000}")
+    public int reconcileRollups() {
+        Integer correctedCounters = lockTransaction.execute(status -> {
+            if (!analyticsRollupDAO.tryAdvisoryTransactionLock(RECONCILE_LOCK_KEY)) {
+                logger.debug("Analytics rollups are being reconciled by another instance, skipping this run");
+                return 0;
+            }
+            return reconcileWhileLocked();
+        });
+        return correctedCounters != null ? correctedCounters : 0;
+    }
+
+    // Startup reconciliation is a full scan of orders and products, so it is opt-in
+    // (e.g. once after restoring a backup); otherwise the scheduled run catches up
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcileRollups();
+        }
+    }
+
+    private int reconcileWhileLocked() {
+        Map<String, RollupValue> corrections = snapshotTransaction.execute(status -> computeCorrections());
+        if (corrections == null || corrections.isEmpty()) {
+            return 0;
+        }
+
+        // Corrections are deltas, so increments committed after the snapshot stay counted
+        correctionTransaction.executeWithoutResult(status -> corrections.forEach((key, delta) -> {
+            String[] metricAndBucket = key.split("\\|", 2);
+            analyticsRollupDAO.addToRollup(metricAndBucket[0], metricAndBucket[1], 0, delta.itemCount(), delta.amount());
+        }));
+        logger.warn("Corrected {} analytics rollup counters that drifted from the source tables", corrections.size());
+        return corrections.size();
+    }
+
+    private Map<String, RollupValue> computeCorrections() {
+        Map<String, RollupValue> sourceValues = new HashMap<>();
+        sourceValues.put(rollupKey(PRODUCTS_METRIC, TOTAL_BUCKET), new RollupValue(productDAO.count(), 0));
+
+        Double totalRevenue = orderDAO.calculateTotalRevenue();
+        sourceValues.put(rollupKey(ORDERS_METRIC, TOTAL_BUCKET),
+                new RollupValue(orderDAO.count(), totalRevenue != null ? totalRevenue : 0.0));
+
+        for (Object[] statusRow : orderDAO.countOrdersByStatus()) {
+            sourceValues.put(rollupKey(ORDER_STATUS_METRIC_PREFIX + statusRow[0], TOTAL_BUCKET),
+                    new RollupValue(((Number) statusRow[1]).longValue(), 0));
+        }
+        for (Object[] dateRow : orderDAO.summarizeOrdersByDate()) {
+            sourceValues.put(rollupKey(ORDERS_METRIC, dateRow[0].toString()),
+                    new RollupValue(((Number) dateRow[1]).longValue(), ((Number) dateRow[2]).doubleValue()));
+        }
+
+        // products.added / products.deleted have no source column to check against and are left as recorded
+        Map<String, RollupValue> rollupValues = new HashMap<>();
+        for (Object[] rollupRow : analyticsRollupDAO.sumByMetrics(
+                List.of(PRODUCTS_METRIC, ORDERS_METRIC), ORDER_STATUS_METRIC_PREFIX + "%")) {
+            rollupValues.put(rollupKey((String) rollupRow[0], (String) rollupRow[1]),
+                    new RollupValue(((Number) rollupRow[2]).longValue(), ((Number) rollupRow[3]).doubleValue()));
+        }
+
+        Set<String> allKeys = new HashSet<>(sourceValues.keySet());
+        allKeys.addAll(rollupValues.keySet());
+
+        Map<String, RollupValue> corrections = new TreeMap<>();
+        for (String key : allKeys) {
+            RollupValue sourceValue = sourceValues.getOrDefault(key, RollupValue.ZERO);
+            RollupValue rollupValue = rollupValues.getOrDefault(key, RollupValue.ZERO);
+            long countDrift = sourceValue.itemCount() - rollupValue.itemCount();
+            double amountDrift = sourceValue.amount() - rollupValue.amount();
+            if (countDrift != 0 || Math.abs(amountDrift) > REVENUE_TOLERANCE) {
+                corrections.put(key, new RollupValue(countDrift, amountDrift));
+            }
+        }
+        return corrections;
+    }
+
+    // Keys are applied in sorted order so two transactions never lock the same rows in opposite order
+    private void applyIncrements(Map<String, RollupValue> sortedIncrements) {
+        int slot = ThreadLocalRandom.current().nextInt(rollupSlots);
+        sortedIncrements.forEach((key, delta) -> {
+            String[] metricAndBucket = key.split("\\|", 2);
+            analyticsRollupDAO.addToRollup(metricAndBucket[0], metricAndBucket[1], slot, delta.itemCount(), delta.amount());
+        });
+    }
+
+    private Map<String, RollupValue> sumBucket(String bucket) {
+        Map<String, RollupValue> bucketValues = new HashMap<>();
+        for (Object[] rollupRow : analyticsRollupDAO.sumByBucket(bucket)) {
+            bucketValues.put((String) rollupRow[0],
+                    new RollupValue(((Number) rollupRow[1]).longValue(), ((Number) rollupRow[2]).doubleValue()));
+        }
+        return bucketValues;
+    }
+
+    private String rollupKey(String metric, String bucket) {
+        return metric + '|' + bucket;
+    }
+
+    private void validateDateRange(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new APIErrorHandler("from must not be after to");
+        }
+        if (fromDate.plusDays(MAX_DAILY_RANGE_DAYS).isBefore(toDate)) {
+            throw new APIErrorHandler("Date range cannot be longer than " + MAX_DAILY_RANGE_DAYS + " days");
+        }
+    }
+
+    private AnalyticsResponse buildAnalyticsResponse(long productCount, long totalOrders, Double totalRevenue,
+                                                     Map<String, Long> ordersByStatus) {
         AnalyticsResponse analyticsResponse = new AnalyticsResponse();
 
         analyticsResponse.setProductCount(String.valueOf(productCount));
         analyticsResponse.setTotalOrders(String.valueOf(totalOrders));
         analyticsResponse.setTotalRevenue(formatRevenue(totalRevenue));
+        analyticsResponse.setOrdersByStatus(ordersByStatus);
 
         return analyticsResponse;
     }
@@ -52,4 +314,8 @@ public class IAnalyticsServiceImpl implements IAnalyticsService {
     private String formatRevenue(Double revenueValue) {
         return String.valueOf(revenueValue != null ? revenueValue : 0);
     }
+
+    private record RollupValue(long itemCount, double amount) {
+        private static final RollupValue ZERO = new RollupValue(0, 0);
+    }
 }
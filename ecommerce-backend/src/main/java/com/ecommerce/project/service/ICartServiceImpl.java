@@ -1,32 +1,69 @@
 // Cart service - handles all shopping cart operations like adding items, updating quantities, etc.
 package com.ecommerce.project.service;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ecommerce.project.DAO.CartDAO;
 import com.ecommerce.project.DAO.CartItemDAO;
 import com.ecommerce.project.DAO.ProductDAO;
 import com.ecommerce.project.DTO.CartDto;
 import com.ecommerce.project.DTO.CartItemDto;
+import com.ecommerce.project.DTO.KeysetResponse;
 import com.ecommerce.project.DTO.ProductDTO;
 import com.ecommerce.project.errorHandler.APIErrorHandler;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
 import com.ecommerce.project.helper.AuthHelper;
+import com.ecommerce.project.helper.JsonArrayStreamWriter;
 import com.ecommerce.project.model.Cart;
 import com.ecommerce.project.model.CartItem;
 import com.ecommerce.project.model.Product;
 import com.ecommerce.project.service.Interface.ICartService;
+import com.ecommerce.project.service.Interface.IStockReservationService;
 
 @Service
 @Transactional
 public class ICartServiceImpl implements ICartService {
 
+    // Flush to the client every N carts so a large stream shows progress
+    private static final int FLUSH_EVERY_CARTS = 500;
+
+    // One row per cart line (a single row of nulls for an empty cart); products come from the same
+    // join, so no Cart or Product entities (and their eager associations) are loaded
+    private static final String CART_LINES_SELECT =
+            "SELECT c.cart_id, c.total_price, p.product_id, p.product_name, p.model, p.image, " +
+            "p.thumbnail_url, p.medium_url, p.large_url, p.description, ci.qty, p.price " +
+            "FROM carts c " +
+            "LEFT JOIN cart_items ci ON ci.cart_id = c.cart_id " +
+            "LEFT JOIN products p ON p.product_id = ci.product_id ";
+
+    private static final String CART_LINES_ORDER = "ORDER BY c.cart_id, ci.cart_item_id";
+
+    private static final String CART_STREAM_QUERY = CART_LINES_SELECT + CART_LINES_ORDER;
+
+    // The carts of a page are picked by id first, so the limit counts carts rather than lines
+    private static final String CART_PAGE_QUERY = CART_LINES_SELECT +
+            "WHERE c.cart_id IN (SELECT cart_id FROM carts WHERE cart_id > ? ORDER BY cart_id LIMIT ?) " +
+            CART_LINES_ORDER;
+
     // Database access objects
     private final CartDAO cartDAO;
     private final CartItemDAO cartItemDAO;
@@ -38,18 +75,33 @@ public class ICartServiceImpl implements ICartService {
     // User authentication context provider
     private final AuthHelper userAuthHelper;
 
-    // Base path for product image resources
-    @Value("${image.base.url}")
-    private String imageResourcePath;
+    // Checkout holds that count against available stock
+    private final IStockReservationService stockReservationService;
+
+    // Cursor reads and JSON writing for the admin cart listings
+    private final JdbcTemplate streamJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper jsonMapper;
 
     // Constructor - Spring automatically injects these dependencies
     public ICartServiceImpl(CartDAO cartDAO, CartItemDAO cartItemDAO, ProductDAO productDAO,
-                            ModelMapper objectMapper, AuthHelper userAuthHelper) {
+                            ModelMapper objectMapper, AuthHelper userAuthHelper,
+                            IStockReservationService stockReservationService,
+                            DataSource dataSource, PlatformTransactionManager transactionManager, ObjectMapper jsonMapper,
+                            @Value("${carts.stream.fetch-size:500}") int streamFetchSize) {
         this.cartDAO = cartDAO;
         this.cartItemDAO = cartItemDAO;
         this.productDAO = productDAO;
         this.objectMapper = objectMapper;
         this.userAuthHelper = userAuthHelper;
+        this.stockReservationService = stockReservationService;
+        this.streamJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamJdbcTemplate.setFetchSize(streamFetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // A service-level name, which is what lets the read replica routing send it to the replica
+        this.readOnlyTransaction.setName(ICartServiceImpl.class.getName() + ".readOnlyTransaction");
+        this.jsonMapper = jsonMapper;
     }
 
     // Add a product to the current user's cart
@@ -65,7 +117,7 @@ public class ICartServiceImpl implements ICartService {
         validateProductNotInCart(shoppingCart.getCartId(), productId, selectedProduct);
 
         // Check if we have enough stock
-        validateProductAvailability(selectedProduct, quantity);
+        validateProductAvailability(selectedProduct, quantity, shoppingCart.getUser().getEmail());
 
         // Create cart item and save it
         CartItem newEntry = createCartItem(selectedProduct, shoppingCart, quantity);
@@ -80,20 +132,35 @@ public class ICartServiceImpl implements ICartService {
         return buildCartDTOWithProducts(shoppingCart);
     }
 
-    // Get all carts in the system (admin function)
+    // Get one page of carts in id order (admin function)
     @Override
-    public List<CartDto> getAllCarts() {
-        List<Cart> allCarts = cartDAO.findAll();
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public KeysetResponse<CartDto> getCarts(Long afterCartId, Integer limit) {
+        KeysetResponse.validatePageRequest(afterCartId, limit);
 
-        // Throw error if no carts exist
-        if (allCarts.isEmpty()) {
-            throw new APIErrorHandler("No shopping carts found");
-        }
+        List<CartDto> pageCarts = new ArrayList<>();
+        CartLineCollector lineCollector = new CartLineCollector(pageCarts::add);
+        readOnlyTransaction.executeWithoutResult(transactionStatus ->
+                streamJdbcTemplate.query(CART_PAGE_QUERY, lineCollector, afterCartId, limit));
+        lineCollector.finish();
 
-        // Convert each cart to DTO and return
-        return allCarts.stream()
-                .map(this::buildCartDTOWithProducts)
-                .collect(Collectors.toList());
+        return KeysetResponse.of(pageCarts, afterCartId, limit, CartDto::getCartId);
+    }
+
+    // Stream every cart as one JSON array (admin function)
+    // Rows come through a JDBC cursor and each cart is written as soon as its last line is read,
+    // so only one cart is in memory at a time
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public StreamingResponseBody streamAllCarts() {
+        return responseStream -> {
+            JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(responseStream, jsonMapper, FLUSH_EVERY_CARTS);
+            CartLineCollector lineCollector = new CartLineCollector(arrayWriter::write);
+            readOnlyTransaction.executeWithoutResult(transactionStatus ->
+                    streamJdbcTemplate.query(CART_STREAM_QUERY, lineCollector));
+            lineCollector.finish();
+            arrayWriter.finish();
+        };
     }
 
     // Get a specific cart by email and cart ID
@@ -112,7 +179,7 @@ public class ICartServiceImpl implements ICartService {
 
         // Get product and check availability
         Product targetProduct = fetchProductOrThrowException(productId);
-        validateProductAvailability(targetProduct, quantity);
+        validateProductAvailability(targetProduct, quantity, currentUserEmail);
 
         // Get the cart item and calculate new quantity
         CartItem targetItem = fetchCartItemOrThrowException(currentUserCart.getCartId(), productId);
@@ -150,6 +217,18 @@ public class ICartServiceImpl implements ICartService {
         return buildDeletionMessage(itemToRemove.getProduct().getProductName());
     }
 
+    // Remove the lines of a placed order from the cart without loading each item
+    @Override
+    public void removeOrderedProducts(Long cartId, Collection<Long> productIds) {
+        Cart targetCart = fetchCartOrThrowException(cartId);
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        cartItemDAO.removeCartItemsByProductsAndCart(cartId, productIds);
+        targetCart.setTotalPrice(cartItemDAO.calculateCartTotal(cartId));
+    }
+
     // Update cart item when product price changes
     @Override
     public void updateProductInCarts(Long cartId, Long productId) {
@@ -218,14 +297,16 @@ public class ICartServiceImpl implements ICartService {
         }
     }
 
-    // Helper: Check if product has enough stock
-    private void validateProductAvailability(Product product, Integer requestedQuantity) {
-        if (product.getQuantity() == 0) {
+    // Helper: Check if product has enough stock (other customers' checkout holds are not available)
+    private void validateProductAvailability(Product product, Integer requestedQuantity, String emailId) {
+        int availableQuantity = stockReservationService.availableQuantity(product, emailId);
+
+        if (availableQuantity == 0) {
             throw new APIErrorHandler(product.getProductName() + " is currently unavailable");
         }
 
-        if (product.getQuantity() < requestedQuantity) {
-            throw new APIErrorHandler("Only " + product.getQuantity() + " units of " + product.getProductName()
+        if (availableQuantity < requestedQuantity) {
+            throw new APIErrorHandler("Only " + availableQuantity + " units of " + product.getProductName()
                     + " are available");
         }
     }
@@ -249,8 +330,6 @@ public class ICartServiceImpl implements ICartService {
                 .map(cartElement -> {
                     ProductDTO mappedProduct = objectMapper.map(cartElement.getProduct(), ProductDTO.class);
                     mappedProduct.setQuantity(cartElement.getQty());
-                    // Construct full image URL for cart items
-                    mappedProduct.setImage(constructImageUrl(cartElement.getProduct().getImage()));
                     return mappedProduct;
                 })
                 .collect(Collectors.toList());
@@ -259,14 +338,50 @@ public class ICartServiceImpl implements ICartService {
         return cartDataTransfer;
     }
 
-    // Helper: Construct full image URL (handles both Cloudinary and local images)
-    private String constructImageUrl(String imageName) {
-        // If image is already a full URL (from Cloudinary), return as-is
-        if (imageName != null && (imageName.startsWith("http://") || imageName.startsWith("https://"))) {
-            return imageName;
+    // Helper: Groups consecutive cart line rows into one CartDto and hands each cart on once complete
+    private static final class CartLineCollector implements RowCallbackHandler {
+        private final Consumer<CartDto> cartConsumer;
+        private CartDto currentCart;
+
+        private CartLineCollector(Consumer<CartDto> cartConsumer) {
+            this.cartConsumer = cartConsumer;
         }
-        // Otherwise, construct URL for local/legacy images
-        return imageResourcePath.endsWith("/") ? imageResourcePath + imageName : imageResourcePath + "/" + imageName;
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long cartId = resultSet.getLong("cart_id");
+            if (currentCart == null || currentCart.getCartId() != cartId) {
+                finish();
+                currentCart = new CartDto(cartId, resultSet.getDouble("total_price"), new ArrayList<>());
+            }
+            if (resultSet.getObject("product_id") != null) {
+                currentCart.getProducts().add(mapCartLine(resultSet));
+            }
+        }
+
+        // Hands on the last cart; call after the query has read every row
+        private void finish() {
+            if (currentCart != null) {
+                cartConsumer.accept(currentCart);
+                currentCart = null;
+            }
+        }
+    }
+
+    // Helper: Build the product entry of one cart line row (quantity is the quantity in the cart)
+    private static ProductDTO mapCartLine(ResultSet resultSet) throws SQLException {
+        ProductDTO cartProduct = new ProductDTO();
+        cartProduct.setProductId(resultSet.getLong("product_id"));
+        cartProduct.setProductName(resultSet.getString("product_name"));
+        cartProduct.setModel(resultSet.getString("model"));
+        cartProduct.setImage(resultSet.getString("image"));
+        cartProduct.setThumbnailUrl(resultSet.getString("thumbnail_url"));
+        cartProduct.setMediumUrl(resultSet.getString("medium_url"));
+        cartProduct.setLargeUrl(resultSet.getString("large_url"));
+        cartProduct.setDescription(resultSet.getString("description"));
+        cartProduct.setQuantity(resultSet.getInt("qty"));
+        cartProduct.setPrice(resultSet.getDouble("price"));
+        return cartProduct;
     }
 
     // Helper: Find cart by email and ID or throw error
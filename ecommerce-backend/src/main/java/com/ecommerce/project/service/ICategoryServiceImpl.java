@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.project.DAO.CategoryDAO;
 import com.ecommerce.project.DTO.CategoryDto;
@@ -34,6 +35,7 @@ public class ICategoryServiceImpl implements ICategoryService {
 
     // Get all categories with pagination and sorting
     @Override
+    @Transactional(readOnly = true)
     public CategoryResponse getCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationDetails = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -0,0 +1,180 @@
+package com.ecommerce.project.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.ChangeEventDAO;
+import com.ecommerce.project.DTO.ChangeEventDto;
+import com.ecommerce.project.DTO.ChangeEventResponse;
+import com.ecommerce.project.DTO.OrderDto;
+import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.model.ChangeEvent;
+import com.ecommerce.project.service.Interface.ChangeEventSink;
+import com.ecommerce.project.service.Interface.IChangeEventService;
+
+/**
+ * Service implementation for the order/product change outbox
+ * Business logic: Services record a JSON snapshot of each change in the same transaction as
+ * the change itself, so an event exists exactly when the change committed. The relay locks
+ * unpublished events in batches, gives them consecutive feed positions, hands them to the sink
+ * and commits. If the sink or the commit fails the batch stays unpublished and is sent again
+ * (at-least-once), so consumers should drop events whose eventId they have already seen.
+ * Feed positions are assigned at publish time (not insert time), so a reader following
+ * ?after= never skips an event that committed late.
+ */
+@Service
+public class IChangeEventServiceImpl implements IChangeEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IChangeEventServiceImpl.class);
+    private static final int MAX_FEED_PAGE_SIZE = 1000;
+
+    private final ChangeEventDAO changeEventDAO;
+    private final ChangeEventSink changeEventSink;
+    private final ObjectMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int relayBatchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.retention-days:7}")
+    private long retentionDays;
+
+    public IChangeEventServiceImpl(ChangeEventDAO changeEventDAO, ChangeEventSink changeEventSink,
+                                   ObjectMapper jsonMapper, PlatformTransactionManager transactionManager) {
+        this.changeEventDAO = changeEventDAO;
+        this.changeEventSink = changeEventSink;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public void recordOrderEvent(String eventType, OrderDto order) {
+        recordEvent(ChangeEvent.AGGREGATE_ORDER, order.getOrderId(), eventType, order);
+    }
+
+    @Override
+    @Transactional
+    public void recordProductEvent(String eventType, ProductDTO product) {
+        recordEvent(ChangeEvent.AGGREGATE_PRODUCT, product.getProductId(), eventType, product);
+    }
+
+    @Override
+    @Transactional
+    public ChangeEventResponse getEvents(Long afterPosition, Integer limit) {
+        validateFeedRequest(afterPosition, limit);
+
+        List<ChangeEvent> publishedEvents = changeEventDAO.fetchPublishedAfter(afterPosition, PageRequest.of(0, limit));
+        Long lastPosition = publishedEvents.isEmpty()
+                ? afterPosition
+                : publishedEvents.get(publishedEvents.size() - 1).getFeedPosition();
+
+        return new ChangeEventResponse(transformEventsToDTO(publishedEvents), lastPosition);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public int relayPendingEvents() {
+        int publishedCount = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer batchCount;
+            try {
+                batchCount = transactionTemplate.execute(status -> relayNextBatch());
+            } catch (DataIntegrityViolationException exception) {
+                logger.debug("Another relay took the same feed positions first, retrying on the next run");
+                break;
+            } catch (RuntimeException exception) {
+                logger.warn("Publishing change events failed, the batch will be sent again", exception);
+                break;
+            }
+
+            publishedCount += batchCount;
+            if (batchCount < relayBatchSize) {
+                break;
+            }
+        }
+        return publishedCount;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public int purgePublishedEvents() {
+        int removedCount = changeEventDAO.removePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (removedCount > 0) {
+            logger.debug("Purged {} published change events", removedCount);
+        }
+        return removedCount;
+    }
+
+    private void recordEvent(String aggregateType, Long aggregateId, String eventType, Object snapshot) {
+        changeEventDAO.save(new ChangeEvent(aggregateType, aggregateId, eventType,
+                serializeSnapshot(snapshot), LocalDateTime.now()));
+    }
+
+    private int relayNextBatch() {
+        List<ChangeEvent> pendingEvents = changeEventDAO.lockUnpublished(PageRequest.of(0, relayBatchSize));
+        if (pendingEvents.isEmpty()) {
+            return 0;
+        }
+
+        long feedPosition = changeEventDAO.fetchLastFeedPosition();
+        LocalDateTime publishTime = LocalDateTime.now();
+        for (ChangeEvent pendingEvent : pendingEvents) {
+            pendingEvent.setFeedPosition(++feedPosition);
+            pendingEvent.setPublishedAt(publishTime);
+        }
+
+        // Flush first so a clash on feed_position fails before the sink sees anything
+        changeEventDAO.flush();
+        changeEventSink.publish(transformEventsToDTO(pendingEvents));
+        return pendingEvents.size();
+    }
+
+    private String serializeSnapshot(Object snapshot) {
+        try {
+            return jsonMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize change event payload", exception);
+        }
+    }
+
+    private void validateFeedRequest(Long afterPosition, Integer limit) {
+        if (afterPosition == null || afterPosition < 0) {
+            throw new APIErrorHandler("after must be zero or a position returned by an earlier call");
+        }
+        if (limit == null || limit < 1 || limit > MAX_FEED_PAGE_SIZE) {
+            throw new APIErrorHandler("limit must be between 1 and " + MAX_FEED_PAGE_SIZE);
+        }
+    }
+
+    private List<ChangeEventDto> transformEventsToDTO(List<ChangeEvent> events) {
+        return events.stream()
+                .map(event -> new ChangeEventDto(
+                        event.getEventId(),
+                        event.getFeedPosition(),
+                        event.getAggregateType(),
+                        event.getAggregateId(),
+                        event.getEventType(),
+                        event.getPayload(),
+                        event.getCreatedAt()))
+                .toList();
+    }
+}
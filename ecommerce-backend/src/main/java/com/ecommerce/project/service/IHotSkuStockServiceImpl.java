@@ -0,0 +1,261 @@
+package com.ecommerce.project.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DAO.ProductStockShardDAO;
+import com.ecommerce.project.DTO.HotSkuStatusDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.helper.StripedStockCounter;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.model.ProductStockShard;
+import com.ecommerce.project.service.Interface.IHotSkuStockService;
+
+/**
+ * Service implementation for hot SKU (flash-sale) stock
+ * Business logic: A flagged product's stock is split across N product_stock_shards rows.
+ * An in-memory StripedStockCounter picks a shard that probably has stock, and the purchase
+ * is taken from that shard row with a conditional UPDATE, so concurrent buyers lock different rows.
+ * The shard rows are the source of truth; the in-memory counters are refreshed from them
+ * by the rebalancer and whenever a shard turns out to be shorter than memory expected
+ * (e.g. when several instances sell from the same shards).
+ * The rebalancer handles one product per transaction, only locks shards that need evening out,
+ * and only writes the product row when its published total is out of date.
+ */
+@Service
+@Transactional
+public class IHotSkuStockServiceImpl implements IHotSkuStockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IHotSkuStockServiceImpl.class);
+
+    private final ProductDAO productDAO;
+    private final ProductStockShardDAO productStockShardDAO;
+    private final TransactionTemplate rebalanceTransaction;
+
+    // In-memory shard counters per hot product ID
+    private final Map<Long, StripedStockCounter> stockCounters = new ConcurrentHashMap<>();
+
+    @Value("${inventory.hot-sku.max-shards:64}")
+    private int maxShardCount;
+
+    public IHotSkuStockServiceImpl(ProductDAO productDAO, ProductStockShardDAO productStockShardDAO,
+                                   PlatformTransactionManager transactionManager) {
+        this.productDAO = productDAO;
+        this.productStockShardDAO = productStockShardDAO;
+        this.rebalanceTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public HotSkuStatusDto enableHotSku(Long productId, Integer shardCount) {
+        validateShardCount(shardCount);
+        Product lockedProduct = fetchLockedProductOrThrowException(productId);
+        if (lockedProduct.isHotSku()) {
+            throw new APIErrorHandler(lockedProduct.getProductName() + " is already in hot SKU mode");
+        }
+
+        long[] shardQuantities = StripedStockCounter.splitEvenly(lockedProduct.getQuantity(), shardCount);
+        List<ProductStockShard> newShards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            newShards.add(new ProductStockShard(lockedProduct, shard, shardQuantities[shard]));
+        }
+        productStockShardDAO.saveAll(newShards);
+
+        lockedProduct.setHotSku(true);
+        productDAO.save(lockedProduct);
+
+        runAfterCommit(() -> stockCounters.put(productId, new StripedStockCounter(shardQuantities)));
+        return buildStatus(lockedProduct, shardQuantities);
+    }
+
+    @Override
+    public HotSkuStatusDto disableHotSku(Long productId) {
+        Product lockedProduct = fetchLockedProductOrThrowException(productId);
+        if (!lockedProduct.isHotSku()) {
+            throw new APIErrorHandler(lockedProduct.getProductName() + " is not in hot SKU mode");
+        }
+
+        long remainingQuantity = sumQuantities(productStockShardDAO.lockShardsByProduct(productId));
+        productStockShardDAO.removeShardsByProduct(productId);
+
+        lockedProduct.setQuantity((int) remainingQuantity);
+        lockedProduct.setHotSku(false);
+        productDAO.save(lockedProduct);
+
+        runAfterCommit(() -> stockCounters.remove(productId));
+        return buildStatus(lockedProduct, new long[0]);
+    }
+
+    @Override
+    public HotSkuStatusDto getHotSkuStatus(Long productId) {
+        Product product = productDAO.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "productId", productId));
+        if (!product.isHotSku()) {
+            return new HotSkuStatusDto(productId, product.getProductName(), false,
+                    (long) product.getQuantity(), new ArrayList<>());
+        }
+        return buildStatus(product, toQuantities(productStockShardDAO.fetchShardsByProduct(productId)));
+    }
+
+    @Override
+    public void decrementStock(Long productId, int purchaseQuantity) {
+        StripedStockCounter stockCounter = fetchCounter(productId);
+
+        int selectedShard = stockCounter.tryDecrement(purchaseQuantity);
+        if (selectedShard >= 0) {
+            restoreOnRollback(stockCounter, selectedShard, purchaseQuantity);
+            if (productStockShardDAO.decrementShard(productId, selectedShard, (long) purchaseQuantity) == 1) {
+                return;
+            }
+        }
+
+        // No single shard had enough in memory, or the chosen shard row was shorter than memory expected
+        decrementAcrossLockedShards(productId, purchaseQuantity);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${inventory.hot-sku.rebalance-interval-ms:5000}")
+    public void rebalanceShards() {
+        // One transaction per product, so shard locks are held for one product at a time
+        for (Long productId : productStockShardDAO.fetchShardedProductIds()) {
+            rebalanceTransaction.executeWithoutResult(status -> rebalanceProductShards(productId));
+        }
+    }
+
+    private void rebalanceProductShards(Long productId) {
+        // Unlocked read first: buyers keep taking from the shards unless they actually need evening out
+        List<ProductStockShard> shards = productStockShardDAO.fetchShardsByProduct(productId);
+        if (shards.isEmpty()) {
+            return;
+        }
+        long[] shardQuantities = toQuantities(shards);
+        long totalQuantity = sumQuantities(shards);
+
+        if (isSkewed(shardQuantities, totalQuantity)) {
+            List<ProductStockShard> lockedShards = productStockShardDAO.lockShardsByProduct(productId);
+            totalQuantity = sumQuantities(lockedShards);
+            shardQuantities = StripedStockCounter.splitEvenly(totalQuantity, lockedShards.size());
+            for (int shard = 0; shard < lockedShards.size(); shard++) {
+                lockedShards.get(shard).setQuantity(shardQuantities[shard]);
+            }
+            logger.debug("Rebalanced {} shards of product {} ({} units left)", lockedShards.size(), productId, totalQuantity);
+        }
+
+        // No-op (and no row lock) when the product row already shows this total
+        productDAO.updateQuantityIfChanged(productId, (int) totalQuantity);
+
+        long[] refreshedQuantities = shardQuantities;
+        runAfterCommit(() -> stockCounters.put(productId, new StripedStockCounter(refreshedQuantities)));
+    }
+
+    // Slow path: lock every shard of the product and take the purchase from as many shards as needed
+    private void decrementAcrossLockedShards(Long productId, int purchaseQuantity) {
+        List<ProductStockShard> lockedShards = productStockShardDAO.lockShardsByProduct(productId);
+        long totalQuantity = sumQuantities(lockedShards);
+
+        if (totalQuantity < purchaseQuantity) {
+            stockCounters.put(productId, new StripedStockCounter(toQuantities(lockedShards)));
+            throw new APIErrorHandler("Not enough stock left for product " + productId);
+        }
+
+        long quantityToTake = purchaseQuantity;
+        for (ProductStockShard lockedShard : lockedShards) {
+            long takenFromShard = Math.min(lockedShard.getQuantity(), quantityToTake);
+            lockedShard.setQuantity(lockedShard.getQuantity() - takenFromShard);
+            quantityToTake -= takenFromShard;
+            if (quantityToTake == 0) {
+                break;
+            }
+        }
+
+        long[] remainingQuantities = toQuantities(lockedShards);
+        runAfterCommit(() -> stockCounters.put(productId, new StripedStockCounter(remainingQuantities)));
+    }
+
+    private StripedStockCounter fetchCounter(Long productId) {
+        return stockCounters.computeIfAbsent(productId, id -> {
+            List<ProductStockShard> shards = productStockShardDAO.fetchShardsByProduct(id);
+            if (shards.isEmpty()) {
+                throw new APIErrorHandler("Product " + id + " is not in hot SKU mode");
+            }
+            return new StripedStockCounter(toQuantities(shards));
+        });
+    }
+
+    private Product fetchLockedProductOrThrowException(Long productId) {
+        List<Product> lockedProducts = productDAO.lockAllByIds(List.of(productId));
+        if (lockedProducts.isEmpty()) {
+            throw new ResourceNotFoundException("Product", "productId", productId);
+        }
+        return lockedProducts.get(0);
+    }
+
+    private void validateShardCount(Integer shardCount) {
+        if (shardCount == null || shardCount < 1 || shardCount > maxShardCount) {
+            throw new APIErrorHandler("Shard count must be between 1 and " + maxShardCount);
+        }
+    }
+
+    // A shard holding less than half of its fair share is worth refilling from the others
+    private boolean isSkewed(long[] shardQuantities, long totalQuantity) {
+        long fairShare = totalQuantity / shardQuantities.length;
+        return Arrays.stream(shardQuantities).anyMatch(quantity -> quantity < fairShare / 2);
+    }
+
+    private long sumQuantities(List<ProductStockShard> shards) {
+        return shards.stream().mapToLong(ProductStockShard::getQuantity).sum();
+    }
+
+    private long[] toQuantities(List<ProductStockShard> shards) {
+        return shards.stream().mapToLong(ProductStockShard::getQuantity).toArray();
+    }
+
+    private HotSkuStatusDto buildStatus(Product product, long[] shardQuantities) {
+        List<Long> shardQuantityList = Arrays.stream(shardQuantities).boxed().toList();
+        long totalQuantity = product.isHotSku() ? Arrays.stream(shardQuantities).sum() : product.getQuantity();
+        return new HotSkuStatusDto(product.getProductId(), product.getProductName(), product.isHotSku(),
+                totalQuantity, new ArrayList<>(shardQuantityList));
+    }
+
+    private void restoreOnRollback(StripedStockCounter stockCounter, int shard, int quantity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stockCounter.add(shard, quantity);
+                    }
+                }
+            });
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ecommerce.project.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.IdempotencyKeyDAO;
+import com.ecommerce.project.DTO.OrderDto;
+import com.ecommerce.project.DTO.OrderRequestDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.helper.ContentHashes;
+import com.ecommerce.project.model.IdempotencyKey;
+import com.ecommerce.project.service.Interface.IIdempotencyService;
+import com.ecommerce.project.service.Interface.IOrderService;
+
+/**
+ * Service implementation for idempotent order placement
+ * Business logic: Keys are scoped per customer and stored compactly (key, request hash, order ID)
+ * with a TTL. The key row is inserted before the order in the same transaction, so the unique
+ * constraint stops duplicates across instances. Within one instance, concurrent duplicates wait
+ * on the first request's future instead of hitting the database at all.
+ */
+@Service
+public class IIdempotencyServiceImpl implements IIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IIdempotencyServiceImpl.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyDAO idempotencyKeyDAO;
+    private final IOrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Requests currently being placed, keyed by customer email and idempotency key
+    private final Map<String, CompletableFuture<OrderDto>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Value("${orders.idempotency.ttl-hours:24}")
+    private long keyTtlHours;
+
+    public IIdempotencyServiceImpl(IdempotencyKeyDAO idempotencyKeyDAO, IOrderService orderService,
+                                   PlatformTransactionManager transactionManager) {
+        this.idempotencyKeyDAO = idempotencyKeyDAO;
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public OrderDto placeOrderOnce(String emailId, String idempotencyKey, OrderRequestDto orderRequest,
+                                   Supplier<OrderDto> orderPlacement) {
+        validateKey(idempotencyKey);
+        String requestHash = hashRequest(orderRequest);
+        String inFlightKey = emailId + '\n' + idempotencyKey;
+
+        CompletableFuture<OrderDto> pendingResult = new CompletableFuture<>();
+        CompletableFuture<OrderDto> runningResult = inFlightRequests.putIfAbsent(inFlightKey, pendingResult);
+        if (runningResult != null) {
+            return awaitResult(runningResult);
+        }
+
+        try {
+            // The future only completes after commit, so waiting duplicates never see a rolled-back order
+            OrderDto placedOrder = transactionTemplate.execute(status ->
+                    placeOrReplay(emailId, idempotencyKey, requestHash, orderPlacement));
+            pendingResult.complete(placedOrder);
+            return placedOrder;
+        } catch (RuntimeException exception) {
+            pendingResult.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlightRequests.remove(inFlightKey, pendingResult);
+        }
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${orders.idempotency.sweep-interval-ms:3600000}")
+    public int purgeExpiredKeys() {
+        int removedCount = idempotencyKeyDAO.removeExpired(LocalDateTime.now());
+        if (removedCount > 0) {
+            logger.debug("Purged {} expired idempotency keys", removedCount);
+        }
+        return removedCount;
+    }
+
+    private OrderDto placeOrReplay(String emailId, String idempotencyKey, String requestHash, Supplier<OrderDto> orderPlacement) {
+        LocalDateTime currentTime = LocalDateTime.now();
+        Optional<IdempotencyKey> storedKey = idempotencyKeyDAO.findByEmailAndIdempotencyKey(emailId, idempotencyKey);
+
+        if (storedKey.isPresent()) {
+            IdempotencyKey existingKey = storedKey.get();
+            if (existingKey.getExpiresAt().isAfter(currentTime)) {
+                return replayStoredOrder(existingKey, requestHash);
+            }
+            idempotencyKeyDAO.delete(existingKey);
+            idempotencyKeyDAO.flush();
+        }
+
+        IdempotencyKey newKey = reserveKey(new IdempotencyKey(idempotencyKey, emailId, requestHash,
+                currentTime, currentTime.plusHours(keyTtlHours)));
+
+        OrderDto placedOrder = orderPlacement.get();
+        newKey.setOrderId(placedOrder.getOrderId());
+        return placedOrder;
+    }
+
+    private OrderDto replayStoredOrder(IdempotencyKey existingKey, String requestHash) {
+        if (!existingKey.getRequestHash().equals(requestHash)) {
+            throw new APIErrorHandler("This Idempotency-Key was already used for a different order request");
+        }
+        if (existingKey.getOrderId() == null) {
+            throw new APIErrorHandler("An order with this Idempotency-Key is still being processed");
+        }
+        return orderService.getOrderById(existingKey.getOrderId());
+    }
+
+    // Inserting first means a duplicate on another instance blocks on the unique index and then fails here
+    private IdempotencyKey reserveKey(IdempotencyKey newKey) {
+        try {
+            return idempotencyKeyDAO.saveAndFlush(newKey);
+        } catch (DataIntegrityViolationException exception) {
+            throw new APIErrorHandler("An order with this Idempotency-Key was just placed, please retry to fetch it");
+        }
+    }
+
+    private OrderDto awaitResult(CompletableFuture<OrderDto> runningResult) {
+        try {
+            return runningResult.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new APIErrorHandler("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hashRequest(OrderRequestDto orderRequest) {
+        String requestFingerprint = String.join("|",
+                String.valueOf(orderRequest.getAddressId()),
+                String.valueOf(orderRequest.getCardId()),
+                String.valueOf(orderRequest.getPaymentMethod()),
+                String.valueOf(orderRequest.getPgName()),
+                String.valueOf(orderRequest.getPgPaymentId()),
+                String.valueOf(orderRequest.getPgStatus()),
+                String.valueOf(orderRequest.getPgResponseMessage()));
+        return ContentHashes.sha256Hex(requestFingerprint);
+    }
+}
@@ -0,0 +1,410 @@
+package com.ecommerce.project.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ecommerce.project.DAO.StoredImageDAO;
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ImageStoreException;
+import com.ecommerce.project.errorHandler.ServiceBusyException;
+import com.ecommerce.project.helper.ContentHashes;
+import com.ecommerce.project.helper.ImageResizer;
+import com.ecommerce.project.model.StoredImage;
+import com.ecommerce.project.service.Interface.FileService;
+import com.ecommerce.project.service.Interface.IImageService;
+
+/**
+ * Service implementation for the product image pipeline
+ * Business logic: The upload is streamed to a temp file (never buffered on the heap), its
+ * dimensions are checked before decoding, and the thumbnail, medium and large renditions are
+ * resized and stored in parallel on a small bounded pool while the original is stored from the
+ * temp file. Renditions are WebP when an ImageIO WebP writer is installed, otherwise JPEG.
+ * Each upload reserves room in the pool for its three renditions before it is decoded, so a busy
+ * pool refuses the upload instead of piling up decoded images; very large images are decoded
+ * subsampled to twice the large width. If any part fails, the parts already stored are deleted.
+ * Uploads are hashed (SHA-256) while they are spooled; when stored_images already has that
+ * content with the current rendition settings, and the image store still has every part of it,
+ * its stored URLs are reused and nothing is decoded or uploaded again. The store is asked whether
+ * the parts still exist at most once per images.dedupe.verify-ttl-minutes for each content hash,
+ * since on Cloudinary that check is a rate-limited Admin API call.
+ */
+@Service
+public class IImageServiceImpl implements IImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IImageServiceImpl.class);
+    private static final int RENDITIONS_PER_IMAGE = 3;
+    private static final int MAX_VERIFIED_IMAGES = 10_000;
+
+    private final FileService fileStorageService;
+    private final StoredImageDAO storedImageDAO;
+    private final ExecutorService renditionPool;
+    // One permit per upload the pool can take all renditions of without rejecting any
+    private final Semaphore renditionSlots;
+    private final String renditionFormat;
+    private final String renditionExtension;
+    // Content hash -> when its stored parts were last known to exist (System.nanoTime), least recently used first
+    private final Map<String, Long> verifiedImages = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_VERIFIED_IMAGES;
+        }
+    });
+
+    @Value("${project.image}")
+    private String imageStoragePath;
+
+    @Value("${images.renditions.thumbnail-width:150}")
+    private int thumbnailWidth;
+
+    @Value("${images.renditions.medium-width:600}")
+    private int mediumWidth;
+
+    @Value("${images.renditions.large-width:1200}")
+    private int largeWidth;
+
+    @Value("${images.renditions.quality:0.85}")
+    private float renditionQuality;
+
+    @Value("${images.upload.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${images.dedupe.enabled:true}")
+    private boolean dedupeEnabled;
+
+    @Value("${images.dedupe.verify-ttl-minutes:60}")
+    private long verifyTtlMinutes;
+
+    public IImageServiceImpl(FileService fileStorageService, StoredImageDAO storedImageDAO,
+                             @Value("${images.renditions.worker-threads:2}") int workerThreads,
+                             @Value("${images.renditions.queue-capacity:32}") int queueCapacity,
+                             @Value("${images.renditions.prefer-webp:true}") boolean preferWebp,
+                             ContextSnapshotFactory contextSnapshotFactory) {
+        this.fileStorageService = fileStorageService;
+        this.storedImageDAO = storedImageDAO;
+        // Renditions are stored in the trace of the upload they belong to
+        this.renditionPool = ContextExecutorService.wrap(new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("image-rendition-", 0).factory()),
+                contextSnapshotFactory);
+        this.renditionSlots = new Semaphore(Math.max(1, (workerThreads + queueCapacity) / RENDITIONS_PER_IMAGE));
+
+        boolean webpAvailable = ImageIO.getImageWritersByFormatName("webp").hasNext();
+        this.renditionFormat = preferWebp && webpAvailable ? "webp" : "jpeg";
+        this.renditionExtension = preferWebp && webpAvailable ? "webp" : "jpg";
+        if (preferWebp && !webpAvailable) {
+            logger.info("No ImageIO WebP writer installed, product image renditions will be JPEG");
+        }
+    }
+
+    @Override
+    public ProductImagesDto storeProductImage(MultipartFile imageFile) throws IOException {
+        Path uploadedFile = Files.createTempFile("product-image-", ".upload");
+        try {
+            if (!dedupeEnabled) {
+                imageFile.transferTo(uploadedFile);
+                return storeNewImage(uploadedFile);
+            }
+
+            // Hash while spooling so the upload is only read once
+            MessageDigest contentDigest = ContentHashes.newSha256();
+            try (InputStream uploadInput = new DigestInputStream(imageFile.getInputStream(), contentDigest)) {
+                Files.copy(uploadInput, uploadedFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return storeOrReuse(uploadedFile, HexFormat.of().formatHex(contentDigest.digest()));
+        } finally {
+            Files.deleteIfExists(uploadedFile);
+        }
+    }
+
+    @Override
+    public ProductImagesDto storeProductImage(Path uploadedFile) throws IOException {
+        if (!dedupeEnabled) {
+            return storeNewImage(uploadedFile);
+        }
+        return storeOrReuse(uploadedFile, HexFormat.of().formatHex(ContentHashes.sha256(uploadedFile)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renditionPool.shutdown();
+    }
+
+    private ProductImagesDto storeOrReuse(Path uploadedFile, String contentHash) throws IOException {
+        String currentProfile = renditionProfile();
+        StoredImage knownImage = storedImageDAO.findByContentHash(contentHash).orElse(null);
+        if (knownImage != null && currentProfile.equals(knownImage.getRenditionProfile()) && isStillStored(contentHash, knownImage)) {
+            logger.debug("Reusing stored image {} for identical upload", knownImage.getImage());
+            return new ProductImagesDto(knownImage.getImage(), knownImage.getThumbnailUrl(),
+                    knownImage.getMediumUrl(), knownImage.getLargeUrl());
+        }
+
+        ProductImagesDto storedImages = storeNewImage(uploadedFile);
+        recordStoredImage(knownImage, contentHash, currentProfile, storedImages);
+        verifiedImages.put(contentHash, System.nanoTime());
+        return storedImages;
+    }
+
+    // An image deleted from the store (by hand or by a cleanup) would otherwise be handed out forever;
+    // a recent check is trusted so repeated uploads of one image make one store call per TTL
+    private boolean isStillStored(String contentHash, StoredImage knownImage) throws IOException {
+        Long verifiedAt = verifiedImages.get(contentHash);
+        if (verifiedAt != null && System.nanoTime() - verifiedAt < TimeUnit.MINUTES.toNanos(verifyTtlMinutes)) {
+            return true;
+        }
+        List<String> storedParts = Stream.of(knownImage.getImage(), knownImage.getThumbnailUrl(),
+                        knownImage.getMediumUrl(), knownImage.getLargeUrl())
+                .filter(Objects::nonNull)
+                .toList();
+        try {
+            if (fileStorageService.imagesExist(imageStoragePath, storedParts)) {
+                verifiedImages.put(contentHash, System.nanoTime());
+                return true;
+            }
+        } catch (IOException | RuntimeException exception) {
+            throw new ImageStoreException("Could not check the stored copy of " + knownImage.getImage(), exception);
+        }
+        verifiedImages.remove(contentHash);
+        logger.info("Stored image {} is gone from the image store, storing the upload again", knownImage.getImage());
+        return false;
+    }
+
+    // Renditions made with other settings are replaced so changed widths or formats take effect
+    private void recordStoredImage(StoredImage knownImage, String contentHash, String currentProfile,
+                                   ProductImagesDto storedImages) {
+        StoredImage indexEntry = knownImage != null ? knownImage : new StoredImage();
+        indexEntry.setContentHash(contentHash);
+        indexEntry.setRenditionProfile(currentProfile);
+        indexEntry.setImage(storedImages.getImage());
+        indexEntry.setThumbnailUrl(storedImages.getThumbnailUrl());
+        indexEntry.setMediumUrl(storedImages.getMediumUrl());
+        indexEntry.setLargeUrl(storedImages.getLargeUrl());
+        indexEntry.setCreatedAt(LocalDateTime.now());
+        try {
+            storedImageDAO.save(indexEntry);
+        } catch (DataIntegrityViolationException exception) {
+            // A concurrent upload of the same content was indexed first; both stored copies stay valid
+            logger.debug("Image with hash {} was indexed concurrently", contentHash);
+        }
+    }
+
+    private ProductImagesDto storeNewImage(Path uploadedFile) throws IOException {
+        // Checked before decoding, so a busy pool never holds a decoded bitmap it cannot resize
+        if (!renditionSlots.tryAcquire()) {
+            throw new ServiceBusyException("Image processing is busy, please try again shortly");
+        }
+        try {
+            return storeRenditions(uploadedFile, decodeWithinLimits(uploadedFile));
+        } finally {
+            renditionSlots.release();
+        }
+    }
+
+    private ProductImagesDto storeRenditions(Path uploadedFile, DecodedImage decodedImage) throws IOException {
+        String baseName = UUID.randomUUID().toString();
+        String originalName = baseName + "." + decodedImage.extension();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        List<PendingRendition> renditions = new ArrayList<>();
+        boolean originalStored = false;
+        try {
+            renditions.add(submitRendition(decodedImage.image(), baseName, "thumbnail", thumbnailWidth, abandoned));
+            renditions.add(submitRendition(decodedImage.image(), baseName, "medium", mediumWidth, abandoned));
+            renditions.add(submitRendition(decodedImage.image(), baseName, "large", largeWidth, abandoned));
+
+            // The original goes up from the uploaded file on this thread while the pool resizes
+            String storedOriginal = storeInImageStore(originalName, uploadedFile);
+            originalStored = true;
+            return new ProductImagesDto(storedOriginal, awaitRendition(renditions.get(0)),
+                    awaitRendition(renditions.get(1)), awaitRendition(renditions.get(2)));
+        } catch (IOException | RuntimeException exception) {
+            abandoned.set(true);
+            discardStoredParts(originalStored ? originalName : null, renditions);
+            throw exception;
+        }
+    }
+
+    // Waits for renditions still running (queued ones see the abandoned flag and skip) and deletes what was stored
+    private void discardStoredParts(String storedOriginalName, List<PendingRendition> renditions) {
+        List<String> storedNames = new ArrayList<>();
+        if (storedOriginalName != null) {
+            storedNames.add(storedOriginalName);
+        }
+        for (PendingRendition rendition : renditions) {
+            if (rendition.storedUrl().handle((storedUrl, failure) -> storedUrl).join() != null) {
+                storedNames.add(rendition.fileName());
+            }
+        }
+        for (String storedName : storedNames) {
+            try {
+                fileStorageService.deleteImage(imageStoragePath, storedName);
+            } catch (IOException | RuntimeException exception) {
+                logger.warn("Could not delete {} of a failed image upload", storedName, exception);
+            }
+        }
+    }
+
+    // Anything the store throws is reported as an ImageStoreException, which the uploader counts against the store
+    private String storeInImageStore(String fileName, Path imageFile) throws ImageStoreException {
+        try {
+            return fileStorageService.storeImage(imageStoragePath, fileName, imageFile);
+        } catch (IOException | RuntimeException exception) {
+            throw new ImageStoreException("Could not store " + fileName + " in the image store", exception);
+        }
+    }
+
+    private String renditionProfile() {
+        return thumbnailWidth + "/" + mediumWidth + "/" + largeWidth + " " + renditionFormat + " q" + renditionQuality;
+    }
+
+    // Reads the header first so a small file that decodes to a huge bitmap is rejected before decoding
+    private DecodedImage decodeWithinLimits(Path uploadedFile) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(uploadedFile.toFile())) {
+            Iterator<ImageReader> imageReaders = imageInput == null ? null : ImageIO.getImageReaders(imageInput);
+            if (imageReaders == null || !imageReaders.hasNext()) {
+                throw new APIErrorHandler("Unsupported image format");
+            }
+
+            ImageReader imageReader = imageReaders.next();
+            try {
+                imageReader.setInput(imageInput, true, true);
+                long pixelCount = (long) imageReader.getWidth(0) * imageReader.getHeight(0);
+                if (pixelCount > maxPixels) {
+                    throw new APIErrorHandler("Image is too large, the limit is " + maxPixels + " pixels");
+                }
+                String formatName = imageReader.getFormatName().toLowerCase(Locale.ROOT);
+                return new DecodedImage(imageReader.read(0, subsampledRead(imageReader)), "jpeg".equals(formatName) ? "jpg" : formatName);
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    // Skips source pixels so the decoded bitmap is still at least twice as wide as the large rendition
+    private ImageReadParam subsampledRead(ImageReader imageReader) throws IOException {
+        ImageReadParam readParam = imageReader.getDefaultReadParam();
+        int subsampling = imageReader.getWidth(0) / (2 * largeWidth);
+        if (subsampling > 1) {
+            readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        return readParam;
+    }
+
+    private PendingRendition submitRendition(BufferedImage sourceImage, String baseName, String renditionName, int width,
+                                             AtomicBoolean abandoned) {
+        String fileName = baseName + "-" + renditionName + "." + renditionExtension;
+        try {
+            return new PendingRendition(fileName, CompletableFuture.supplyAsync(
+                    () -> storeRendition(sourceImage, fileName, width, abandoned), renditionPool));
+        } catch (RejectedExecutionException exception) {
+            throw new ServiceBusyException("Image processing is busy, please try again shortly");
+        }
+    }
+
+    private String storeRendition(BufferedImage sourceImage, String fileName, int width, AtomicBoolean abandoned) {
+        if (abandoned.get()) {
+            throw new CancellationException("Image upload failed before " + fileName + " was resized");
+        }
+        BufferedImage resizedImage = ImageResizer.resizeToWidth(sourceImage, width);
+        try {
+            Path renditionFile = Files.createTempFile("product-image-", "." + renditionExtension);
+            try {
+                writeRendition(resizedImage, renditionFile);
+                if (abandoned.get()) {
+                    throw new CancellationException("Image upload failed before " + fileName + " was stored");
+                }
+                return storeInImageStore(fileName, renditionFile);
+            } finally {
+                Files.deleteIfExists(renditionFile);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeRendition(BufferedImage resizedImage, Path renditionFile) throws IOException {
+        ImageWriter imageWriter = ImageIO.getImageWritersByFormatName(renditionFormat).next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(renditionFile.toFile())) {
+            ImageWriteParam writeParam = imageWriter.getDefaultWriteParam();
+            if (writeParam.canWriteCompressed()) {
+                writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (writeParam.getCompressionTypes() != null && writeParam.getCompressionType() == null) {
+                    writeParam.setCompressionType(writeParam.getCompressionTypes()[0]);
+                }
+                writeParam.setCompressionQuality(renditionQuality);
+            }
+            imageWriter.setOutput(imageOutput);
+            imageWriter.write(null, new IIOImage(resizedImage, null, null), writeParam);
+        } finally {
+            imageWriter.dispose();
+        }
+    }
+
+    private String awaitRendition(PendingRendition rendition) throws IOException {
+        try {
+            return rendition.storedUrl().join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof UncheckedIOException ioFailure) {
+                throw ioFailure.getCause();
+            }
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    // Decoded upload and the file extension of its original format
+    private record DecodedImage(BufferedImage image, String extension) {
+    }
+
+    // Rendition being resized and stored on the pool, under the file name it is stored as
+    private record PendingRendition(String fileName, CompletableFuture<String> storedUrl) {
+    }
+}
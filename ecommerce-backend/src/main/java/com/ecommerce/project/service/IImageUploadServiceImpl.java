@@ -0,0 +1,343 @@
+package com.ecommerce.project.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ecommerce.project.DAO.ImageUploadJobDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DTO.ImageUploadJobClaim;
+import com.ecommerce.project.DTO.ImageUploadJobDto;
+import com.ecommerce.project.DTO.ImageUploadStatsDto;
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ImageStoreException;
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.errorHandler.ServiceBusyException;
+import com.ecommerce.project.helper.CircuitBreaker;
+import com.ecommerce.project.model.ImageUploadJob;
+import com.ecommerce.project.service.Interface.IImageService;
+import com.ecommerce.project.service.Interface.IImageUploadService;
+import com.ecommerce.project.service.Interface.IProductService;
+
+/**
+ * Service implementation for background product image uploads
+ * Business logic: The request thread only writes the multipart to the staging directory and
+ * inserts a PENDING job. Uploaders claim due jobs (SKIP LOCKED), run the image pipeline outside
+ * any transaction and then point the product at the stored images. Failed uploads are retried
+ * with exponential backoff; repeated image store failures open a circuit breaker that pauses
+ * claiming so a struggling image store is not hammered (unreadable or missing staged files do not
+ * count, and fail the job at once). A job refused by a busy rendition pool is put back
+ * without using up an attempt. Every status write checks, under a row lock, that the worker's
+ * claim is still the current one, so a stalled worker that was requeued and reclaimed can neither
+ * overwrite the newer claim's result nor delete its staged file. Staged files are removed once a job finishes.
+ */
+@Service
+public class IImageUploadServiceImpl implements IImageUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IImageUploadServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImageUploadJobDAO imageUploadJobDAO;
+    private final ProductDAO productDAO;
+    private final IImageService imageService;
+    private final IProductService productService;
+    private final TransactionTemplate transactionTemplate;
+    private final CircuitBreaker circuitBreaker;
+
+    // Upload meters for this instance, also scraped from /actuator/prometheus
+    private final Timer uploadTimer;
+    private final Counter failedAttempts;
+
+    @Value("${images.upload.staging-dir:image-staging}")
+    private String stagingDirectory;
+
+    @Value("${images.upload.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${images.upload.retry-base-seconds:5}")
+    private long retryBaseSeconds;
+
+    @Value("${images.upload.retry-max-seconds:300}")
+    private long retryMaxSeconds;
+
+    @Value("${images.upload.stall-timeout-minutes:10}")
+    private long stallTimeoutMinutes;
+
+    public IImageUploadServiceImpl(ImageUploadJobDAO imageUploadJobDAO, ProductDAO productDAO,
+                                   IImageService imageService, IProductService productService,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${images.upload.circuit.failure-threshold:5}") int failureThreshold,
+                                   @Value("${images.upload.circuit.open-seconds:60}") long openSeconds) {
+        this.imageUploadJobDAO = imageUploadJobDAO;
+        this.productDAO = productDAO;
+        this.imageService = imageService;
+        this.productService = productService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, TimeUnit.SECONDS.toMillis(openSeconds));
+
+        this.uploadTimer = Timer.builder("images.upload")
+                .description("Image pipeline time of successful background uploads")
+                .register(meterRegistry);
+        this.failedAttempts = Counter.builder("images.upload.failures")
+                .description("Background upload attempts that failed and were retried or given up")
+                .register(meterRegistry);
+        // Queue depth is read from the jobs table on each scrape, so it covers the jobs of every instance
+        Gauge.builder("images.upload.jobs", imageUploadJobDAO, jobs -> jobs.countByStatus(ImageUploadJob.STATUS_PENDING))
+                .description("Upload jobs in a status")
+                .tag("status", ImageUploadJob.STATUS_PENDING)
+                .register(meterRegistry);
+        Gauge.builder("images.upload.jobs", imageUploadJobDAO, jobs -> jobs.countByStatus(ImageUploadJob.STATUS_UPLOADING))
+                .description("Upload jobs in a status")
+                .tag("status", ImageUploadJob.STATUS_UPLOADING)
+                .register(meterRegistry);
+        Gauge.builder("images.upload.circuit.open", circuitBreaker, breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the image store circuit breaker is open or half-open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ImageUploadJobDto submitProductImage(Long productId, MultipartFile image) throws IOException {
+        if (!productDAO.existsById(productId)) {
+            throw new ResourceNotFoundException("Product", "productId", productId);
+        }
+
+        Path stagedFile = Files.createDirectories(Paths.get(stagingDirectory)).resolve(UUID.randomUUID() + ".upload");
+        image.transferTo(stagedFile);
+        try {
+            ImageUploadJob queuedJob = transactionTemplate.execute(status -> imageUploadJobDAO.save(
+                    new ImageUploadJob(productId, stagedFile.toAbsolutePath().toString(), LocalDateTime.now())));
+            return transformJobToDTO(queuedJob);
+        } catch (RuntimeException exception) {
+            Files.deleteIfExists(stagedFile);
+            throw exception;
+        }
+    }
+
+    @Override
+    public ImageUploadJobDto getUploadJob(Long jobId) {
+        return transformJobToDTO(fetchJobOrThrowException(jobId));
+    }
+
+    @Override
+    public List<ImageUploadJobClaim> claimUploadJobs(int batchSize) {
+        CircuitBreaker.State circuitState = circuitBreaker.state();
+        if (circuitState == CircuitBreaker.State.OPEN) {
+            return List.of();
+        }
+        // While half-open a single upload is the trial that decides whether to close the circuit
+        int claimSize = circuitState == CircuitBreaker.State.HALF_OPEN ? 1 : batchSize;
+
+        return transactionTemplate.execute(status -> {
+            // claimed_at is stored with microsecond precision, so the claim still matches after a round trip
+            LocalDateTime currentTime = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            imageUploadJobDAO.requeueStalled(currentTime.minusMinutes(stallTimeoutMinutes));
+
+            List<ImageUploadJob> claimedJobs = imageUploadJobDAO.lockDueJobs(currentTime, PageRequest.of(0, claimSize));
+            for (ImageUploadJob claimedJob : claimedJobs) {
+                claimedJob.setStatus(ImageUploadJob.STATUS_UPLOADING);
+                claimedJob.setClaimedAt(currentTime);
+                claimedJob.setAttempts(claimedJob.getAttempts() + 1);
+            }
+            return claimedJobs.stream()
+                    .map(claimedJob -> new ImageUploadJobClaim(claimedJob.getJobId(), currentTime))
+                    .toList();
+        });
+    }
+
+    @Override
+    public void processUploadJob(ImageUploadJobClaim claim) {
+        ImageUploadJob claimedJob = transactionTemplate.execute(status -> lockClaimedJob(claim));
+        if (claimedJob == null) {
+            return;
+        }
+        Long jobId = claim.getJobId();
+        Path stagedFile = Paths.get(claimedJob.getStagedFile());
+
+        ProductImagesDto storedImages;
+        Timer.Sample uploadSample = Timer.start();
+        try {
+            storedImages = imageService.storeProductImage(stagedFile);
+        } catch (ServiceBusyException exception) {
+            // Only this instance's rendition pool is full; the image and the image store are fine
+            postponeJob(claim, exception.getMessage());
+            return;
+        } catch (APIErrorHandler exception) {
+            // The image itself is unusable, so retrying will not help
+            finishJob(claim, stagedFile, ImageUploadJob.STATUS_FAILED, exception.getMessage());
+            return;
+        } catch (NoSuchFileException exception) {
+            finishJob(claim, stagedFile, ImageUploadJob.STATUS_FAILED, "The staged image is missing");
+            return;
+        } catch (IIOException exception) {
+            finishJob(claim, stagedFile, ImageUploadJob.STATUS_FAILED, "The image could not be decoded: " + exception.getMessage());
+            return;
+        } catch (ImageStoreException exception) {
+            // Only failures of the image store itself count towards opening the circuit
+            circuitBreaker.recordFailure();
+            failedAttempts.increment();
+            logger.warn("Image upload job {} failed on attempt {}", jobId, claimedJob.getAttempts(), exception);
+            retryOrFail(claim, stagedFile, exception.getMessage());
+            return;
+        } catch (IOException | RuntimeException exception) {
+            failedAttempts.increment();
+            logger.warn("Image upload job {} failed on attempt {}", jobId, claimedJob.getAttempts(), exception);
+            retryOrFail(claim, stagedFile, exception.getMessage());
+            return;
+        }
+        circuitBreaker.recordSuccess();
+        uploadSample.stop(uploadTimer);
+
+        try {
+            if (completeJob(claim, claimedJob.getProductId(), storedImages)) {
+                deleteStagedFile(stagedFile);
+            }
+        } catch (ResourceNotFoundException exception) {
+            finishJob(claim, stagedFile, ImageUploadJob.STATUS_FAILED, "The product was deleted before its image was uploaded");
+        } catch (RuntimeException exception) {
+            logger.warn("Could not update product {} for image upload job {}", claimedJob.getProductId(), jobId, exception);
+            retryOrFail(claim, stagedFile, exception.getMessage());
+        }
+    }
+
+    @Override
+    public ImageUploadStatsDto getUploadStats() {
+        // Same numbers as the images.upload.* meters
+        return new ImageUploadStatsDto(
+                imageUploadJobDAO.countByStatus(ImageUploadJob.STATUS_PENDING),
+                imageUploadJobDAO.countByStatus(ImageUploadJob.STATUS_UPLOADING),
+                uploadTimer.count(),
+                (long) failedAttempts.count(),
+                (long) uploadTimer.mean(TimeUnit.MILLISECONDS),
+                (long) uploadTimer.max(TimeUnit.MILLISECONDS),
+                circuitBreaker.state().name());
+    }
+
+    // Points the product at the stored images and completes the job in one transaction, if the claim is still current
+    private boolean completeJob(ImageUploadJobClaim claim, Long productId, ProductImagesDto storedImages) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            ImageUploadJob completedJob = lockClaimedJob(claim);
+            if (completedJob == null) {
+                return false;
+            }
+            productService.applyProductImages(productId, storedImages);
+            completedJob.setStatus(ImageUploadJob.STATUS_COMPLETED);
+            completedJob.setLastError(null);
+            completedJob.setCompletedAt(LocalDateTime.now());
+            return true;
+        }));
+    }
+
+    // Puts the job back with exponential backoff, or fails it once it is out of attempts
+    private void retryOrFail(ImageUploadJobClaim claim, Path stagedFile, String reason) {
+        boolean gaveUp = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            ImageUploadJob failedJob = lockClaimedJob(claim);
+            if (failedJob == null) {
+                return false;
+            }
+            failedJob.setLastError(truncateReason(reason));
+            if (failedJob.getAttempts() < maxAttempts) {
+                long backoffSeconds = Math.min(retryMaxSeconds, retryBaseSeconds << Math.min(failedJob.getAttempts() - 1, 20));
+                failedJob.setStatus(ImageUploadJob.STATUS_PENDING);
+                failedJob.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+                return false;
+            }
+            failedJob.setStatus(ImageUploadJob.STATUS_FAILED);
+            failedJob.setCompletedAt(LocalDateTime.now());
+            return true;
+        }));
+        if (gaveUp) {
+            deleteStagedFile(stagedFile);
+        }
+    }
+
+    // Puts the job back after the base backoff without using up one of its attempts
+    private void postponeJob(ImageUploadJobClaim claim, String reason) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ImageUploadJob postponedJob = lockClaimedJob(claim);
+            if (postponedJob == null) {
+                return;
+            }
+            postponedJob.setLastError(truncateReason(reason));
+            postponedJob.setAttempts(postponedJob.getAttempts() - 1);
+            postponedJob.setStatus(ImageUploadJob.STATUS_PENDING);
+            postponedJob.setNextAttemptAt(LocalDateTime.now().plusSeconds(retryBaseSeconds));
+        });
+    }
+
+    private void finishJob(ImageUploadJobClaim claim, Path stagedFile, String finalStatus, String reason) {
+        boolean finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            ImageUploadJob finishedJob = lockClaimedJob(claim);
+            if (finishedJob == null) {
+                return false;
+            }
+            finishedJob.setStatus(finalStatus);
+            finishedJob.setLastError(reason == null ? null : truncateReason(reason));
+            finishedJob.setCompletedAt(LocalDateTime.now());
+            return true;
+        }));
+        if (finished) {
+            deleteStagedFile(stagedFile);
+        }
+    }
+
+    // Only called once the job is finished, so a newer claim of the same job never loses its staged file
+    private void deleteStagedFile(Path stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException exception) {
+            logger.warn("Could not delete staged image {}", stagedFile, exception);
+        }
+    }
+
+    // Locks the job and returns it only while this claim is the current one (a stalled job may have been reclaimed)
+    private ImageUploadJob lockClaimedJob(ImageUploadJobClaim claim) {
+        ImageUploadJob claimedJob = imageUploadJobDAO.lockById(claim.getJobId())
+                .orElseThrow(() -> new ResourceNotFoundException("ImageUploadJob", "jobId", claim.getJobId()));
+        if (!ImageUploadJob.STATUS_UPLOADING.equals(claimedJob.getStatus())
+                || !claim.getClaimedAt().equals(claimedJob.getClaimedAt())) {
+            logger.warn("Skipping stale claim of image upload job {} (claimed at {}, job is {} claimed at {})",
+                    claim.getJobId(), claim.getClaimedAt(), claimedJob.getStatus(), claimedJob.getClaimedAt());
+            return null;
+        }
+        return claimedJob;
+    }
+
+    private ImageUploadJob fetchJobOrThrowException(Long jobId) {
+        return imageUploadJobDAO.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ImageUploadJob", "jobId", jobId));
+    }
+
+    private String truncateReason(String reason) {
+        String safeReason = reason == null ? "Unknown error" : reason;
+        return safeReason.length() <= MAX_ERROR_LENGTH ? safeReason : safeReason.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private ImageUploadJobDto transformJobToDTO(ImageUploadJob uploadJob) {
+        return new ImageUploadJobDto(uploadJob.getJobId(), uploadJob.getProductId(), uploadJob.getStatus(),
+                uploadJob.getAttempts(), uploadJob.getNextAttemptAt(), uploadJob.getLastError(),
+                uploadJob.getCreatedAt(), uploadJob.getCompletedAt());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.project.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import com.ecommerce.project.helper.ContentHashes;
+import com.ecommerce.project.helper.OffHeapLruCache;
+import com.ecommerce.project.service.Interface.ILocalImageService;
+
+/**
+ * Service implementation for serving images from local file storage
+ * Business logic: Stored images are named by UUID and never rewritten, so each file's SHA-256
+ * ETag is computed once and remembered (keyed by name, checked against size and mtime).
+ * Files no larger than the off-heap cache's entry limit (thumbnails, in practice) are read once
+ * and then served from direct memory; everything else is streamed from disk by the caller.
+ */
+@Service
+public class ILocalImageServiceImpl implements ILocalImageService {
+
+    // UUID-style names with an extension; rejects separators, "..", and hidden files
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]*(\\.[A-Za-z0-9_-]+)*");
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final Path imageDirectory;
+    private final OffHeapLruCache contentCache;
+    private final Map<String, ImageValidators> validatorCache;
+
+    public ILocalImageServiceImpl(@Value("${project.image}") String imageStoragePath,
+                                  @Value("${images.serving.cache-max-bytes:33554432}") long cacheMaxBytes,
+                                  @Value("${images.serving.cache-max-entry-bytes:65536}") int cacheMaxEntryBytes,
+                                  @Value("${images.serving.validator-cache-entries:10000}") int validatorCacheEntries) {
+        this.imageDirectory = Paths.get(imageStoragePath).toAbsolutePath().normalize();
+        this.contentCache = new OffHeapLruCache(cacheMaxBytes, cacheMaxEntryBytes);
+        this.validatorCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImageValidators> eldest) {
+                return size() > validatorCacheEntries;
+            }
+        });
+    }
+
+    @Override
+    public Optional<LocalImage> findImage(String fileName) throws IOException {
+        if (!SAFE_FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        Path imageFile = imageDirectory.resolve(fileName).normalize();
+        if (!imageFile.startsWith(imageDirectory) || !Files.isRegularFile(imageFile)) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes fileAttributes = Files.readAttributes(imageFile, BasicFileAttributes.class);
+        long contentLength = fileAttributes.size();
+        long lastModified = fileAttributes.lastModifiedTime().toMillis();
+
+        ImageValidators validators = validatorCache.get(fileName);
+        ByteBuffer cachedContent = contentCache.get(fileName);
+        if (validators == null || validators.contentLength() != contentLength || validators.lastModified() != lastModified) {
+            contentCache.remove(fileName);
+            cachedContent = null;
+            validators = null;
+        }
+
+        if (contentLength <= contentCache.maxEntryBytes() && (validators == null || cachedContent == null)) {
+            // Small file: one read both hashes it and fills the off-heap cache
+            byte[] fileContent = Files.readAllBytes(imageFile);
+            validators = new ImageValidators(contentLength, lastModified, hashToEtag(ContentHashes.sha256(fileContent)));
+            contentCache.put(fileName, ByteBuffer.wrap(fileContent));
+            cachedContent = contentCache.get(fileName);
+        } else if (validators == null) {
+            validators = new ImageValidators(contentLength, lastModified, hashToEtag(ContentHashes.sha256(imageFile)));
+        }
+        validatorCache.put(fileName, validators);
+
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return Optional.of(new LocalImage(imageFile, contentLength, lastModified, validators.etag(), contentType,
+                cachedContent));
+    }
+
+    private String hashToEtag(byte[] contentHash) {
+        return "\"" + HexFormat.of().formatHex(contentHash, 0, ETAG_HASH_BYTES) + "\"";
+    }
+
+    private record ImageValidators(long contentLength, long lastModified, String etag) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.ecommerce.project.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.service.Interface.IOrderExportService;
+
+/**
+ * Service implementation for bulk order exports
+ * Business logic: One forward-only query joins orders with their items, payment and address and
+ * is read through a JDBC cursor (fetch size rows at a time, inside a read-only transaction so
+ * PostgreSQL keeps the cursor open). Each row is written straight to the response, so memory
+ * stays flat no matter how many orders match and no entities enter a persistence context.
+ * One output record is one order line; order-level columns repeat on each of its lines.
+ * Admin-only and rarely used, so it is created on the first export rather than at startup.
+ */
+@Service
+@Lazy
+public class IOrderExportServiceImpl implements IOrderExportService {
+
+    private static final String FORMAT_CSV = "csv";
+    private static final String FORMAT_NDJSON = "ndjson";
+
+    // Flush to the client every N rows so large exports show progress
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String[] EXPORT_COLUMNS = {
+            "order_id", "order_date", "created_at", "email", "order_status", "total_amount",
+            "payment_method", "pg_name", "pg_payment_id", "pg_status",
+            "street", "building_name", "city", "state", "country", "pincode",
+            "order_item_id", "product_id", "product_name", "qty", "product_price"
+    };
+
+    private static final String EXPORT_QUERY =
+            "SELECT o.order_id, o.order_date, o.created_at, o.email, o.order_status, o.total_amount, " +
+            "p.payment_method, p.pg_name, p.pg_payment_id, p.pg_status, " +
+            "a.street, a.building_name, a.city, a.state, a.country, a.pincode, " +
+            "oi.order_item_id, oi.product_id, pr.product_name, oi.qty, oi.product_price " +
+            "FROM orders o " +
+            "JOIN order_items oi ON oi.order_id = o.order_id " +
+            "LEFT JOIN payments p ON p.payment_id = o.payment_id " +
+            "LEFT JOIN addresses a ON a.address_id = o.address_id " +
+            "LEFT JOIN products pr ON pr.product_id = oi.product_id";
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper jsonMapper;
+
+    public IOrderExportServiceImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                   ObjectMapper jsonMapper,
+                                   @Value("${orders.export.fetch-size:500}") int exportFetchSize) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(exportFetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // A service-level name, which is what lets the read replica routing send it to the replica
+        this.readOnlyTransaction.setName(IOrderExportServiceImpl.class.getName() + ".readOnlyTransaction");
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public StreamingResponseBody exportOrders(String format, LocalDate fromDate, LocalDate toDate, String status) {
+        String exportFormat = validateFormat(format);
+        validateDateRange(fromDate, toDate);
+
+        List<Object> queryArguments = new ArrayList<>();
+        String exportQuery = buildExportQuery(fromDate, toDate, status, queryArguments);
+
+        return responseStream -> {
+            Writer responseWriter = new BufferedWriter(new OutputStreamWriter(responseStream, StandardCharsets.UTF_8), 64 * 1024);
+            RowWriter rowWriter = FORMAT_CSV.equals(exportFormat)
+                    ? new CsvRowWriter(responseWriter)
+                    : new NdjsonRowWriter(jsonMapper.getFactory().createGenerator(responseWriter));
+
+            rowWriter.writeHeader();
+            readOnlyTransaction.executeWithoutResult(transactionStatus -> {
+                int[] writtenRows = {0};
+                exportJdbcTemplate.query(exportQuery, resultSet -> {
+                    try {
+                        rowWriter.writeRow(resultSet);
+                        if (++writtenRows[0] % FLUSH_EVERY_ROWS == 0) {
+                            responseWriter.flush();
+                        }
+                    } catch (IOException exception) {
+                        // The client went away; stop reading so the cursor and connection are released
+                        throw new UncheckedIOException(exception);
+                    }
+                }, queryArguments.toArray());
+            });
+            rowWriter.finish();
+            responseWriter.flush();
+        };
+    }
+
+    private String buildExportQuery(LocalDate fromDate, LocalDate toDate, String status, List<Object> queryArguments) {
+        StringBuilder exportQuery = new StringBuilder(EXPORT_QUERY);
+        List<String> conditions = new ArrayList<>();
+        if (fromDate != null) {
+            conditions.add("o.order_date >= ?");
+            queryArguments.add(fromDate);
+        }
+        if (toDate != null) {
+            conditions.add("o.order_date <= ?");
+            queryArguments.add(toDate);
+        }
+        if (status != null && !status.isBlank()) {
+            conditions.add("o.order_status = ?");
+            queryArguments.add(status);
+        }
+        if (!conditions.isEmpty()) {
+            exportQuery.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return exportQuery.append(" ORDER BY o.order_id, oi.order_item_id").toString();
+    }
+
+    private String validateFormat(String format) {
+        String exportFormat = format == null ? FORMAT_CSV : format.toLowerCase();
+        if (!FORMAT_CSV.equals(exportFormat) && !FORMAT_NDJSON.equals(exportFormat)) {
+            throw new APIErrorHandler("format must be csv or ndjson");
+        }
+        return exportFormat;
+    }
+
+    private void validateDateRange(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new APIErrorHandler("from must not be after to");
+        }
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer responseWriter;
+
+        private CsvRowWriter(Writer responseWriter) {
+            this.responseWriter = responseWriter;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            responseWriter.write(String.join(",", EXPORT_COLUMNS));
+            responseWriter.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            for (int column = 1; column <= EXPORT_COLUMNS.length; column++) {
+                if (column > 1) {
+                    responseWriter.write(',');
+                }
+                Object value = resultSet.getObject(column);
+                if (value != null) {
+                    writeCsvValue(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value.toString(),
+                            value instanceof String);
+                }
+            }
+            responseWriter.write("\r\n");
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        // Quotes values that need it (RFC 4180) and defuses text that a spreadsheet would run as a formula
+        private void writeCsvValue(String value, boolean isText) throws IOException {
+            String safeValue = isText && !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            boolean needsQuotes = safeValue.indexOf(',') >= 0 || safeValue.indexOf('"') >= 0
+                    || safeValue.indexOf('\n') >= 0 || safeValue.indexOf('\r') >= 0;
+            if (!needsQuotes) {
+                responseWriter.write(safeValue);
+                return;
+            }
+            responseWriter.write('"');
+            responseWriter.write(safeValue.replace("\"", "\"\""));
+            responseWriter.write('"');
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator jsonGenerator;
+
+        private NdjsonRowWriter(JsonGenerator jsonGenerator) {
+            this.jsonGenerator = jsonGenerator;
+            this.jsonGenerator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            jsonGenerator.writeStartObject();
+            for (int column = 1; column <= EXPORT_COLUMNS.length; column++) {
+                Object value = resultSet.getObject(column);
+                jsonGenerator.writeFieldName(EXPORT_COLUMNS[column - 1]);
+                if (value == null) {
+                    jsonGenerator.writeNull();
+                } else if (value instanceof Number number) {
+                    jsonGenerator.writeNumber(number.toString());
+                } else if (value instanceof Timestamp timestamp) {
+                    jsonGenerator.writeString(timestamp.toLocalDateTime().toString());
+                } else {
+                    jsonGenerator.writeString(value.toString());
+                }
+            }
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            jsonGenerator.flush();
+        }
+    }
+}
@@ -1,25 +1,32 @@
 package com.ecommerce.project.service;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.ecommerce.project.model.*;
-import jakarta.transaction.Transactional;
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.project.DAO.AddressDAO;
 import com.ecommerce.project.DAO.CartDAO;
+import com.ecommerce.project.DAO.OrderCommandDAO;
 import com.ecommerce.project.DAO.OrderDAO;
 import com.ecommerce.project.DAO.OrderItemDAO;
 import com.ecommerce.project.DAO.PaymentDAO;
 import com.ecommerce.project.DAO.ProductDAO;
 import com.ecommerce.project.DAO.UserDAO;
+import com.ecommerce.project.DTO.OrderCommandClaim;
 import com.ecommerce.project.DTO.OrderDto;
 import com.ecommerce.project.DTO.OrderItemDto;
 import com.ecommerce.project.DTO.OrderResponse;
@@ -27,13 +34,19 @@ import com.ecommerce.project.errorHandler.APIErrorHandler;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
 import com.ecommerce.project.helper.AuthHelper;
 import com.ecommerce.project.model.Address;
+import com.ecommerce.project.service.Interface.IAnalyticsService;
 import com.ecommerce.project.service.Interface.ICartService;
+import com.ecommerce.project.service.Interface.IChangeEventService;
+import com.ecommerce.project.service.Interface.IHotSkuStockService;
 import com.ecommerce.project.service.Interface.IOrderService;
+import com.ecommerce.project.service.Interface.IStockReservationService;
 
 @Service
 @Transactional
 public class IOrderServiceImpl implements IOrderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(IOrderServiceImpl.class);
+
     private final CartDAO cartDAO;
     private final AddressDAO addressDAO;
     private final OrderItemDAO orderItemDAO;
@@ -44,10 +57,29 @@ public class IOrderServiceImpl implements IOrderService {
     private final ModelMapper objectMapper;
     private final ICartService shoppingCartService;
     private final AuthHelper userAuthHelper;
+    private final IStockReservationService stockReservationService;
+    private final IHotSkuStockService hotSkuStockService;
+    private final OrderCommandDAO orderCommandDAO;
+    private final IChangeEventService changeEventService;
+    private final IAnalyticsService analyticsService;
+
+    // Order statuses used by the queued checkout pipeline
+    private static final String ORDER_STATUS_PENDING = "Pending";
+    private static final String ORDER_STATUS_ACCEPTED = "Accepted";
+    private static final String ORDER_STATUS_FAILED = "Failed";
+
+    @Value("${orders.pipeline.max-attempts:3}")
+    private int maxCommandAttempts;
+
+    @Value("${orders.pipeline.stall-timeout-minutes:5}")
+    private long stallTimeoutMinutes;
 
     public IOrderServiceImpl(CartDAO cartDAO, AddressDAO addressDAO, OrderItemDAO orderItemDAO,
                              OrderDAO orderDAO, PaymentDAO paymentDAO, ProductDAO productDAO, UserDAO userDAO,
-                             ModelMapper objectMapper, ICartService shoppingCartService, AuthHelper userAuthHelper) {
+                             ModelMapper objectMapper, ICartService shoppingCartService, AuthHelper userAuthHelper,
+                             IStockReservationService stockReservationService, IHotSkuStockService hotSkuStockService,
+                             OrderCommandDAO orderCommandDAO, IChangeEventService changeEventService,
+                             IAnalyticsService analyticsService) {
         this.cartDAO = cartDAO;
         this.addressDAO = addressDAO;
         this.orderItemDAO = orderItemDAO;
@@ -58,6 +90,11 @@ public class IOrderServiceImpl implements IOrderService {
         this.objectMapper = objectMapper;
         this.shoppingCartService = shoppingCartService;
         this.userAuthHelper = userAuthHelper;
+        this.stockReservationService = stockReservationService;
+        this.hotSkuStockService = hotSkuStockService;
+        this.orderCommandDAO = orderCommandDAO;
+        this.changeEventService = changeEventService;
+        this.analyticsService = analyticsService;
     }
 
     @Override
@@ -66,11 +103,12 @@ public class IOrderServiceImpl implements IOrderService {
         Cart userShoppingCart = fetchCartByEmailOrThrowException(emailId);
         Address deliveryAddress = fetchAddressByIdOrThrowException(addressId);
 
-        Order newOrder = createOrder(emailId, userShoppingCart, deliveryAddress);
+        Order newOrder = createOrder(emailId, userShoppingCart, deliveryAddress, ORDER_STATUS_ACCEPTED);
         Payment transactionPayment = createAndPersistPayment(paymentMethod, pgPaymentId, pgStatus, pgResponseMessage, pgName, newOrder);
         newOrder.setPayment(transactionPayment);
 
         Order persistedOrder = orderDAO.save(newOrder);
+        analyticsService.recordOrderPlaced(ORDER_STATUS_ACCEPTED, persistedOrder.getTotalAmount(), persistedOrder.getOrderDate());
 
         List<CartItem> itemsInCart = userShoppingCart.getCartItems();
         validateCartNotEmpty(itemsInCart);
@@ -78,12 +116,124 @@ public class IOrderServiceImpl implements IOrderService {
         List<OrderItem> purchasedItems = convertCartItemsToOrderItems(itemsInCart, persistedOrder);
         purchasedItems = orderItemDAO.saveAll(purchasedItems);
 
-        processInventoryAndClearCart(itemsInCart, userShoppingCart.getCartId());
+        processInventoryAndClearCart(emailId, purchasedItems, userShoppingCart.getCartId());
+        stockReservationService.releaseReservations(emailId);
+
+        OrderDto placedOrder = buildOrderDTOResponse(persistedOrder, purchasedItems, addressId);
+        changeEventService.recordOrderEvent(ChangeEvent.ORDER_PLACED, placedOrder);
+        return placedOrder;
+    }
+
+    @Override
+    public OrderDto submitOrder(String emailId, Long addressId, String paymentMethod, String pgName,
+                                String pgPaymentId, String pgStatus, String pgResponseMessage) {
+        Cart userShoppingCart = fetchCartByEmailOrThrowException(emailId);
+        Address deliveryAddress = fetchAddressByIdOrThrowException(addressId);
+
+        List<CartItem> itemsInCart = userShoppingCart.getCartItems();
+        validateCartNotEmpty(itemsInCart);
+        validateNoQueuedOrder(emailId);
+        validateStockAvailable(emailId, itemsInCart);
+
+        // Items are snapshotted now; payment, inventory and cart clearing happen on a worker thread
+        Order persistedOrder = orderDAO.save(createOrder(emailId, userShoppingCart, deliveryAddress, ORDER_STATUS_PENDING));
+        analyticsService.recordOrderPlaced(ORDER_STATUS_PENDING, persistedOrder.getTotalAmount(), persistedOrder.getOrderDate());
+        List<OrderItem> purchasedItems = orderItemDAO.saveAll(convertCartItemsToOrderItems(itemsInCart, persistedOrder));
+
+        queueOrderCommand(new OrderCommand(persistedOrder.getOrderId(), emailId, userShoppingCart.getCartId(),
+                paymentMethod, pgName, pgPaymentId, pgStatus, pgResponseMessage, LocalDateTime.now()));
+
+        OrderDto queuedOrder = buildOrderDTOResponse(persistedOrder, purchasedItems, addressId);
+        changeEventService.recordOrderEvent(ChangeEvent.ORDER_QUEUED, queuedOrder);
+        return queuedOrder;
+    }
+
+    @Override
+    public List<OrderCommandClaim> claimOrderCommands(int batchSize) {
+        LocalDateTime currentTime = LocalDateTime.now();
+        LocalDateTime stalledBefore = currentTime.minusMinutes(stallTimeoutMinutes);
+        // A worker that dies mid-command (OOM, kill) never records a failure, so the attempt limit is applied here too
+        for (OrderCommand exhaustedCommand : orderCommandDAO.lockExhaustedStalled(stalledBefore, maxCommandAttempts)) {
+            exhaustedCommand.setLastError("Worker stopped during attempt " + exhaustedCommand.getAttempts()
+                    + " of " + maxCommandAttempts);
+            failCommand(exhaustedCommand);
+        }
+        orderCommandDAO.requeueStalled(stalledBefore, maxCommandAttempts);
+
+        List<OrderCommand> claimedCommands = orderCommandDAO.lockNextByStatus(
+                OrderCommand.STATUS_PENDING, PageRequest.of(0, batchSize));
+        for (OrderCommand claimedCommand : claimedCommands) {
+            claimedCommand.setStatus(OrderCommand.STATUS_PROCESSING);
+            claimedCommand.setClaimedAt(currentTime);
+            claimedCommand.setAttempts(claimedCommand.getAttempts() + 1);
+        }
+        return claimedCommands.stream()
+                .map(claimedCommand -> new OrderCommandClaim(claimedCommand.getCommandId(), claimedCommand.getAttempts()))
+                .toList();
+    }
+
+    @Override
+    public void processOrderCommand(OrderCommandClaim claim) {
+        OrderCommand queuedCommand = lockClaimedCommand(claim);
+        if (queuedCommand == null) {
+            return;
+        }
+
+        Order queuedOrder = fetchOrderByIdOrThrowException(queuedCommand.getOrderId());
+        Payment transactionPayment = createAndPersistPayment(queuedCommand.getPaymentMethod(), queuedCommand.getPgPaymentId(),
+                queuedCommand.getPgStatus(), queuedCommand.getPgResponseMessage(), queuedCommand.getPgName(), queuedOrder);
+        queuedOrder.setPayment(transactionPayment);
 
-        return buildOrderDTOResponse(persistedOrder, purchasedItems, addressId);
+        processInventoryAndClearCart(queuedCommand.getEmail(), queuedOrder.getOrderItems(), queuedCommand.getCartId());
+        stockReservationService.releaseReservations(queuedCommand.getEmail());
+
+        changeOrderStatus(queuedOrder, ORDER_STATUS_ACCEPTED);
+        queuedCommand.setStatus(OrderCommand.STATUS_COMPLETED);
+        queuedCommand.setProcessedAt(LocalDateTime.now());
+        changeEventService.recordOrderEvent(ChangeEvent.ORDER_ACCEPTED, buildOrderSnapshot(queuedOrder));
     }
 
     @Override
+    public void recordOrderCommandFailure(OrderCommandClaim claim, String reason, boolean retryable) {
+        OrderCommand failedCommand = lockClaimedCommand(claim);
+        if (failedCommand == null) {
+            return;
+        }
+        failedCommand.setLastError(truncateReason(reason));
+
+        if (retryable && failedCommand.getAttempts() < maxCommandAttempts) {
+            failedCommand.setStatus(OrderCommand.STATUS_PENDING);
+            return;
+        }
+        failCommand(failedCommand);
+    }
+
+    // Ends the command and its order for good; the command must be locked by the caller
+    private void failCommand(OrderCommand failedCommand) {
+        failedCommand.setStatus(OrderCommand.STATUS_FAILED);
+        failedCommand.setProcessedAt(LocalDateTime.now());
+
+        Order failedOrder = fetchOrderByIdOrThrowException(failedCommand.getOrderId());
+        changeOrderStatus(failedOrder, ORDER_STATUS_FAILED);
+        changeEventService.recordOrderEvent(ChangeEvent.ORDER_FAILED, buildOrderSnapshot(failedOrder));
+    }
+
+    @Override
+    public OrderDto getUserOrder(String emailId, Long orderId) {
+        Order existingOrder = fetchOrderByIdOrThrowException(orderId);
+        if (!Objects.equals(existingOrder.getEmail(), emailId)) {
+            throw new ResourceNotFoundException("Order", "orderId", orderId);
+        }
+        return buildOrderSnapshot(existingOrder);
+    }
+
+    @Override
+    public OrderDto getOrderById(Long orderId) {
+        return buildOrderSnapshot(fetchOrderByIdOrThrowException(orderId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public OrderResponse getAllOrders(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationDetails = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -96,12 +246,14 @@ public class IOrderServiceImpl implements IOrderService {
     @Override
     public OrderDto orderUpdate(Long orderId, String status) {
         Order existingOrder = fetchOrderByIdOrThrowException(orderId);
-        existingOrder.setOrderStatus(status);
+        changeOrderStatus(existingOrder, status);
         orderDAO.save(existingOrder);
+        changeEventService.recordOrderEvent(ChangeEvent.ORDER_STATUS_CHANGED, buildOrderSnapshot(existingOrder));
         return convertEntityToDTO(existingOrder);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderResponse getUserOrders(String emailId, Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationDetails = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -112,6 +264,7 @@ public class IOrderServiceImpl implements IOrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderResponse getUserOrdersByUserId(Long userId, Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         User accountUser = fetchUserByIdOrThrowException(userId);
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
@@ -136,12 +289,14 @@ public class IOrderServiceImpl implements IOrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Address", "addressId", addressId));
     }
 
-    private Order createOrder(String emailId, Cart userCart, Address deliveryAddress) {
+    private Order createOrder(String emailId, Cart userCart, Address deliveryAddress, String orderStatus) {
         Order newOrder = new Order();
         newOrder.setEmail(emailId);
-        newOrder.setOrderDate(LocalDate.now());
+        LocalDateTime placedAt = LocalDateTime.now();
+        newOrder.setOrderDate(placedAt.toLocalDate());
+        newOrder.setCreatedAt(placedAt);
         newOrder.setTotalAmount(userCart.getTotalPrice());
-        newOrder.setOrderStatus("Accepted");
+        newOrder.setOrderStatus(orderStatus);
         newOrder.setAddress(deliveryAddress);
         return newOrder;
     }
@@ -159,6 +314,26 @@ public class IOrderServiceImpl implements IOrderService {
         }
     }
 
+    // One queued order per customer at a time, so a double submit cannot take the same cart twice.
+    // Early check only; concurrent submits are stopped by the partial unique index on order_commands (V3)
+    private void validateNoQueuedOrder(String emailId) {
+        if (orderCommandDAO.existsByEmailAndStatusIn(emailId,
+                List.of(OrderCommand.STATUS_PENDING, OrderCommand.STATUS_PROCESSING))) {
+            throw new APIErrorHandler("Your previous order is still being processed");
+        }
+    }
+
+    // Early check only; the worker's conditional decrement is what actually prevents overselling
+    private void validateStockAvailable(String emailId, List<CartItem> cartItems) {
+        for (CartItem cartEntry : cartItems) {
+            Product orderedProduct = cartEntry.getProduct();
+            if (!orderedProduct.isHotSku()
+                    && stockReservationService.availableQuantity(orderedProduct, emailId) < cartEntry.getQty()) {
+                throw new APIErrorHandler("Not enough stock left for " + orderedProduct.getProductName());
+            }
+        }
+    }
+
     private List<OrderItem> convertCartItemsToOrderItems(List<CartItem> cartItems, Order order) {
         List<OrderItem> purchasedItems = new ArrayList<>();
         for (CartItem cartElement : cartItems) {
@@ -172,19 +347,31 @@ public class IOrderServiceImpl implements IOrderService {
         return purchasedItems;
     }
 
-    private void processInventoryAndClearCart(List<CartItem> cartItems, Long cartId) {
-        for (CartItem cartEntry : cartItems) {
-            int purchaseQuantity = cartEntry.getQty();
-            Product inventoryProduct = cartEntry.getProduct();
-
-            reduceProductInventory(inventoryProduct, purchaseQuantity);
-            shoppingCartService.deleteProductFromCart(cartId, cartEntry.getProduct().getProductId());
+    // Inventory is still decremented per line (each is a conditional UPDATE);
+    // the ordered lines are then removed from the cart with a single DELETE
+    private void processInventoryAndClearCart(String emailId, List<OrderItem> purchasedItems, Long cartId) {
+        LocalDateTime currentTime = LocalDateTime.now();
+        List<Long> purchasedProductIds = new ArrayList<>();
+        for (OrderItem purchaseEntry : purchasedItems) {
+            Product inventoryProduct = purchaseEntry.getProduct();
+            reduceProductInventory(emailId, inventoryProduct, purchaseEntry.getQty(), currentTime);
+            purchasedProductIds.add(inventoryProduct.getProductId());
         }
+        shoppingCartService.removeOrderedProducts(cartId, purchasedProductIds);
     }
 
-    private void reduceProductInventory(Product product, int purchaseQuantity) {
-        product.setQuantity(product.getQuantity() - purchaseQuantity);
-        productDAO.save(product);
+    // Decrements stock with one conditional UPDATE; the customer's own holds cover the purchase,
+    // other customers' holds are never consumed. Hot SKUs take stock from a shard row instead.
+    private void reduceProductInventory(String emailId, Product product, int purchaseQuantity, LocalDateTime currentTime) {
+        if (product.isHotSku()) {
+            hotSkuStockService.decrementStock(product.getProductId(), purchaseQuantity);
+            return;
+        }
+
+        int updatedRows = productDAO.decrementStockRespectingHolds(product.getProductId(), purchaseQuantity, emailId, currentTime);
+        if (updatedRows == 0) {
+            throw new APIErrorHandler("Not enough stock left for " + product.getProductName());
+        }
     }
 
     private OrderDto buildOrderDTOResponse(Order persistedOrder, List<OrderItem> purchasedItems, Long addressId) {
@@ -195,6 +382,19 @@ public class IOrderServiceImpl implements IOrderService {
         return orderDataTransfer;
     }
 
+    // Keeps the per-status analytics counters in step with every status change; the sales series follows the change events
+    private void changeOrderStatus(Order order, String newStatus) {
+        String previousStatus = order.getOrderStatus();
+        analyticsService.recordOrderStatusChange(previousStatus, newStatus);
+        order.setOrderStatus(newStatus);
+    }
+
+    private OrderDto buildOrderSnapshot(Order order) {
+        OrderDto orderDataTransfer = convertEntityToDTO(order);
+        orderDataTransfer.setAddressId(order.getAddress().getAddressId());
+        return orderDataTransfer;
+    }
+
     private Sort buildSortCriteria(String sortBy, String sortOrder) {
         return sortOrder.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
@@ -227,6 +427,35 @@ public class IOrderServiceImpl implements IOrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "orderId", orderId));
     }
 
+    private void queueOrderCommand(OrderCommand orderCommand) {
+        try {
+            orderCommandDAO.saveAndFlush(orderCommand);
+        } catch (DataIntegrityViolationException exception) {
+            throw new APIErrorHandler("Your previous order is still being processed");
+        }
+    }
+
+    // Locks the command and returns it only while this claim is still the current one: a stalled
+    // command that was requeued and claimed again belongs to the newer claim (higher attempt number)
+    private OrderCommand lockClaimedCommand(OrderCommandClaim claim) {
+        OrderCommand claimedCommand = orderCommandDAO.lockById(claim.getCommandId())
+                .orElseThrow(() -> new ResourceNotFoundException("OrderCommand", "commandId", claim.getCommandId()));
+        if (!OrderCommand.STATUS_PROCESSING.equals(claimedCommand.getStatus())
+                || claimedCommand.getAttempts() != claim.getAttempt()) {
+            logger.warn("Skipping stale claim of order command {} (attempt {}, command is {} at attempt {})",
+                    claim.getCommandId(), claim.getAttempt(), claimedCommand.getStatus(), claimedCommand.getAttempts());
+            return null;
+        }
+        return claimedCommand;
+    }
+
+    private String truncateReason(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        return reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
     private User fetchUserByIdOrThrowException(Long userId) {
         return userDAO.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "userId", userId));
@@ -1,15 +1,24 @@
 package com.ecommerce.project.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ecommerce.project.DAO.PaymentCardDAO;
 import com.ecommerce.project.DAO.UserDAO;
 import com.ecommerce.project.DTO.PaymentCardDTO;
+import com.ecommerce.project.DTO.KeysetResponse;
 import com.ecommerce.project.errorHandler.APIErrorHandler;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.helper.JsonArrayStreamWriter;
 import com.ecommerce.project.model.PaymentCard;
 import com.ecommerce.project.model.User;
 import com.ecommerce.project.service.Interface.IPaymentCardService;
@@ -17,14 +26,27 @@ import com.ecommerce.project.service.Interface.IPaymentCardService;
 @Service
 public class IPaymentCardServiceImpl implements IPaymentCardService {
 
+    // Flush to the client every N rows so a large stream shows progress
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
     private final PaymentCardDAO paymentCardDAO;
     private final UserDAO userDAO;
     private final ModelMapper objectMapper;
 
-    public IPaymentCardServiceImpl(PaymentCardDAO paymentCardDAO, UserDAO userDAO, ModelMapper objectMapper) {
+    // Read-only cursor transaction and JSON writing for the streamed admin listing
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper jsonMapper;
+
+    public IPaymentCardServiceImpl(PaymentCardDAO paymentCardDAO, UserDAO userDAO, ModelMapper objectMapper,
+                                   PlatformTransactionManager transactionManager, ObjectMapper jsonMapper) {
         this.paymentCardDAO = paymentCardDAO;
         this.userDAO = userDAO;
         this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // A service-level name, which is what lets the read replica routing send it to the replica
+        this.readOnlyTransaction.setName(IPaymentCardServiceImpl.class.getName() + ".readOnlyTransaction");
+        this.jsonMapper = jsonMapper;
     }
 
     @Override
@@ -41,9 +63,26 @@ public class IPaymentCardServiceImpl implements IPaymentCardService {
     }
 
     @Override
-    public List<PaymentCardDTO> getPaymentCards() {
-        List<PaymentCard> allCards = paymentCardDAO.findAll();
-        return transformCardsToDTO(allCards);
+    @Transactional(readOnly = true)
+    public KeysetResponse<PaymentCardDTO> getPaymentCards(Long afterCardId, Integer limit) {
+        KeysetResponse.validatePageRequest(afterCardId, limit);
+
+        List<PaymentCardDTO> pageCards = paymentCardDAO.fetchPaymentCardsAfter(afterCardId, PageRequest.of(0, limit));
+        return KeysetResponse.of(pageCards, afterCardId, limit, PaymentCardDTO::getCardId);
+    }
+
+    // Rows come through a cursor straight into DTOs and are written as they are read
+    @Override
+    public StreamingResponseBody streamPaymentCards() {
+        return responseStream -> {
+            JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(responseStream, jsonMapper, FLUSH_EVERY_ROWS);
+            readOnlyTransaction.executeWithoutResult(transactionStatus -> {
+                try (Stream<PaymentCardDTO> allRows = paymentCardDAO.streamAllPaymentCards()) {
+                    allRows.forEach(arrayWriter::write);
+                }
+            });
+            arrayWriter.finish();
+        };
     }
 
     @Override
@@ -0,0 +1,488 @@
+package com.ecommerce.project.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.CategoryDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DAO.ProductImportErrorDAO;
+import com.ecommerce.project.DAO.ProductImportJobDAO;
+import com.ecommerce.project.DAO.UserDAO;
+import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.DTO.ProductImportErrorDto;
+import com.ecommerce.project.DTO.ProductImportJobDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.helper.AuthHelper;
+import com.ecommerce.project.helper.CsvRecordReader;
+import com.ecommerce.project.helper.ImageUrlResolver;
+import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.ChangeEvent;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.model.ProductImportError;
+import com.ecommerce.project.model.ProductImportJob;
+import com.ecommerce.project.model.User;
+import com.ecommerce.project.service.Interface.IAnalyticsService;
+import com.ecommerce.project.service.Interface.IChangeEventService;
+import com.ecommerce.project.service.Interface.IProductImportService;
+
+/**
+ * Service implementation for bulk product imports
+ * Business logic: The source is parsed one row at a time and valid rows are collected into
+ * chunks. Each chunk is inserted in its own transaction (Hibernate JDBC batching), together
+ * with its rejected rows and the job's checkpoint, and the persistence context is cleared
+ * afterwards so memory stays flat. Duplicate names are caught case-insensitively with one
+ * in-memory name set per category, loaded once with a names-only query. If the import stops,
+ * sending the same source again to the resume endpoint skips every row up to the last
+ * committed checkpoint.
+ * Admin-only and rarely used, so it is created on the first import rather than at startup.
+ */
+@Service
+@Lazy
+public class IProductImportServiceImpl implements IProductImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IProductImportServiceImpl.class);
+
+    private static final String FORMAT_CSV = "csv";
+    private static final String FORMAT_NDJSON = "ndjson";
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final int REPORTED_ERRORS = 100;
+
+    private static final String CATEGORY_ID_FIELD = "categoryId";
+    private static final String PRODUCT_NAME_FIELD = "productName";
+    private static final String MODEL_FIELD = "model";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String QUANTITY_FIELD = "quantity";
+    private static final String PRICE_FIELD = "price";
+    private static final List<String> IMPORT_FIELDS = List.of(
+            CATEGORY_ID_FIELD, PRODUCT_NAME_FIELD, MODEL_FIELD, DESCRIPTION_FIELD, QUANTITY_FIELD, PRICE_FIELD);
+
+    // Marks a category ID that does not exist, so it is only looked up once per import
+    private static final Set<String> UNKNOWN_CATEGORY = Set.of();
+
+    private final ProductDAO productDAO;
+    private final CategoryDAO categoryDAO;
+    private final UserDAO userDAO;
+    private final ProductImportJobDAO productImportJobDAO;
+    private final ProductImportErrorDAO productImportErrorDAO;
+    private final IChangeEventService changeEventService;
+    private final IAnalyticsService analyticsService;
+    private final ModelMapper objectMapper;
+    private final ObjectMapper jsonMapper;
+    private final AuthHelper userAuthHelper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageUrlResolver imageUrlResolver;
+
+    @Value("${products.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${products.import.max-stored-errors:1000}")
+    private long maxStoredErrors;
+
+    @Value("${products.import.stale-timeout-minutes:10}")
+    private long staleTimeoutMinutes;
+
+    public IProductImportServiceImpl(ProductDAO productDAO, CategoryDAO categoryDAO, UserDAO userDAO,
+                                     ProductImportJobDAO productImportJobDAO, ProductImportErrorDAO productImportErrorDAO,
+                                     IChangeEventService changeEventService, IAnalyticsService analyticsService,
+                                     ModelMapper objectMapper, ObjectMapper jsonMapper, AuthHelper userAuthHelper,
+                                     EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                     ImageUrlResolver imageUrlResolver) {
+        this.productDAO = productDAO;
+        this.categoryDAO = categoryDAO;
+        this.userDAO = userDAO;
+        this.productImportJobDAO = productImportJobDAO;
+        this.productImportErrorDAO = productImportErrorDAO;
+        this.changeEventService = changeEventService;
+        this.analyticsService = analyticsService;
+        this.objectMapper = objectMapper;
+        this.jsonMapper = jsonMapper;
+        this.userAuthHelper = userAuthHelper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageUrlResolver = imageUrlResolver;
+    }
+
+    @Override
+    public ProductImportJobDto importProducts(String format, InputStream source) {
+        String importFormat = validateFormat(format);
+        Long ownerUserId = userAuthHelper.loggedInUserId();
+
+        ProductImportJob importJob = transactionTemplate.execute(status -> {
+            ProductImportJob newJob = productImportJobDAO.save(new ProductImportJob(importFormat, ownerUserId, LocalDateTime.now()));
+            entityManager.detach(newJob);
+            return newJob;
+        });
+        return runImport(importJob, source);
+    }
+
+    @Override
+    public ProductImportJobDto resumeImport(Long jobId, InputStream source) {
+        if (!productImportJobDAO.existsById(jobId)) {
+            throw new ResourceNotFoundException("ProductImportJob", "jobId", jobId);
+        }
+
+        LocalDateTime currentTime = LocalDateTime.now();
+        ProductImportJob importJob = transactionTemplate.execute(status -> {
+            if (productImportJobDAO.claimForResume(jobId, currentTime.minusMinutes(staleTimeoutMinutes), currentTime) == 0) {
+                throw new APIErrorHandler("Import job " + jobId + " is already completed or still running");
+            }
+            ProductImportJob claimedJob = fetchJobOrThrowException(jobId);
+            entityManager.detach(claimedJob);
+            return claimedJob;
+        });
+        return runImport(importJob, source);
+    }
+
+    @Override
+    public ProductImportJobDto getImportJob(Long jobId) {
+        return buildJobDto(fetchJobOrThrowException(jobId));
+    }
+
+    private ProductImportJobDto runImport(ProductImportJob importJob, InputStream source) {
+        Map<Long, Set<String>> namesByCategory = new HashMap<>();
+        List<PendingProduct> pendingProducts = new ArrayList<>(chunkSize);
+        List<ProductImportError> pendingErrors = new ArrayList<>();
+        long rowNumber = 0;
+
+        try (RowReader rowReader = openRowReader(importJob.getFormat(), source)) {
+            ImportRow importRow;
+            while ((importRow = rowReader.next()) != null) {
+                rowNumber++;
+                if (rowNumber <= importJob.getRowsProcessed()) {
+                    continue;
+                }
+
+                try {
+                    pendingProducts.add(validateRow(importRow, namesByCategory));
+                } catch (APIErrorHandler exception) {
+                    pendingErrors.add(new ProductImportError(importJob.getJobId(), rowNumber, truncate(exception.getMessage())));
+                }
+
+                if (pendingProducts.size() + pendingErrors.size() >= chunkSize) {
+                    commitChunk(importJob, rowNumber, pendingProducts, pendingErrors, ProductImportJob.STATUS_RUNNING);
+                }
+            }
+            commitChunk(importJob, rowNumber, pendingProducts, pendingErrors, ProductImportJob.STATUS_COMPLETED);
+        } catch (IOException | RuntimeException exception) {
+            markFailed(importJob, rowNumber, exception);
+        }
+        return buildJobDto(importJob);
+    }
+
+    // Inserts one chunk and moves the checkpoint in a single transaction, then empties the persistence context
+    private void commitChunk(ProductImportJob importJob, long rowNumber, List<PendingProduct> pendingProducts,
+                             List<ProductImportError> pendingErrors, String jobStatus) {
+        long rowsProcessed = Math.max(importJob.getRowsProcessed(), rowNumber);
+        LocalDateTime currentTime = LocalDateTime.now();
+        int storedErrorCount = (int) Math.min(pendingErrors.size(), Math.max(0, maxStoredErrors - importJob.getFailedCount()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Product> newProducts = buildProducts(pendingProducts, userDAO.getReferenceById(importJob.getUserId()));
+            productDAO.saveAll(newProducts);
+            for (Product newProduct : newProducts) {
+                changeEventService.recordProductEvent(ChangeEvent.PRODUCT_CREATED, objectMapper.map(newProduct, ProductDTO.class));
+            }
+            analyticsService.recordProductsAdded(newProducts.size());
+            productImportErrorDAO.saveAll(pendingErrors.subList(0, storedErrorCount));
+
+            productImportJobDAO.recordProgress(importJob.getJobId(), rowsProcessed, newProducts.size(),
+                    pendingErrors.size(), jobStatus, currentTime);
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        importJob.setRowsProcessed(rowsProcessed);
+        importJob.setImportedCount(importJob.getImportedCount() + pendingProducts.size());
+        importJob.setFailedCount(importJob.getFailedCount() + pendingErrors.size());
+        importJob.setStatus(jobStatus);
+        importJob.setUpdatedAt(currentTime);
+        pendingProducts.clear();
+        pendingErrors.clear();
+    }
+
+    private void markFailed(ProductImportJob importJob, long rowNumber, Exception exception) {
+        logger.warn("Product import {} stopped at row {} (resume from row {})",
+                importJob.getJobId(), rowNumber, importJob.getRowsProcessed() + 1, exception);
+        entityManager.clear();
+
+        String lastError = truncate("Stopped at row " + rowNumber + ": " + exception.getMessage());
+        LocalDateTime currentTime = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                productImportJobDAO.markFailed(importJob.getJobId(), lastError, currentTime));
+
+        importJob.setStatus(ProductImportJob.STATUS_FAILED);
+        importJob.setLastError(lastError);
+        importJob.setUpdatedAt(currentTime);
+    }
+
+    private PendingProduct validateRow(ImportRow importRow, Map<Long, Set<String>> namesByCategory) {
+        if (importRow.error() != null) {
+            throw new APIErrorHandler(importRow.error());
+        }
+        Map<String, String> fields = importRow.fields();
+
+        Long categoryId = parseLong(fields, CATEGORY_ID_FIELD);
+        String productName = requireText(fields, PRODUCT_NAME_FIELD, 3);
+        String description = requireText(fields, DESCRIPTION_FIELD, 6);
+        String model = fields.get(MODEL_FIELD) == null ? null : fields.get(MODEL_FIELD).trim();
+        int quantity = parseQuantity(fields);
+        double price = parsePrice(fields);
+
+        Set<String> categoryNames = namesByCategory.computeIfAbsent(categoryId, id -> categoryDAO.existsById(id)
+                ? loadLowerCaseNames(id)
+                : UNKNOWN_CATEGORY);
+        if (categoryNames == UNKNOWN_CATEGORY) {
+            throw new APIErrorHandler("Category " + categoryId + " does not exist");
+        }
+        if (!categoryNames.add(productName.toLowerCase(Locale.ROOT))) {
+            throw new APIErrorHandler("Product " + productName + " already exists in category " + categoryId);
+        }
+
+        return new PendingProduct(categoryId, productName, model, description, quantity, price);
+    }
+
+    // Names are compared case-insensitively, matching the unique (category_id, lower(product_name)) index
+    private Set<String> loadLowerCaseNames(Long categoryId) {
+        Set<String> lowerCaseNames = new HashSet<>();
+        for (String productName : productDAO.fetchProductNamesByCategory(categoryId)) {
+            lowerCaseNames.add(productName.toLowerCase(Locale.ROOT));
+        }
+        return lowerCaseNames;
+    }
+
+    private List<Product> buildProducts(List<PendingProduct> pendingProducts, User owner) {
+        Map<Long, Category> categoryReferences = new HashMap<>();
+        List<Product> newProducts = new ArrayList<>(pendingProducts.size());
+        for (PendingProduct pendingProduct : pendingProducts) {
+            Product newProduct = new Product();
+            newProduct.setProductName(pendingProduct.productName());
+            newProduct.setModel(pendingProduct.model());
+            newProduct.setDescription(pendingProduct.description());
+            newProduct.setQuantity(pendingProduct.quantity());
+            newProduct.setPrice(pendingProduct.price());
+            imageUrlResolver.assignDefaultImage(newProduct);
+            newProduct.setCategory(categoryReferences.computeIfAbsent(pendingProduct.categoryId(), categoryDAO::getReferenceById));
+            newProduct.setUser(owner);
+            newProducts.add(newProduct);
+        }
+        return newProducts;
+    }
+
+    private String requireText(Map<String, String> fields, String fieldName, int minimumLength) {
+        String value = fields.get(fieldName);
+        if (value == null || value.trim().length() < minimumLength) {
+            throw new APIErrorHandler(fieldName + " must contain at least " + minimumLength + " characters");
+        }
+        return value.trim();
+    }
+
+    private Long parseLong(Map<String, String> fields, String fieldName) {
+        try {
+            return Long.valueOf(requireValue(fields, fieldName));
+        } catch (NumberFormatException exception) {
+            throw new APIErrorHandler(fieldName + " must be a whole number");
+        }
+    }
+
+    private int parseQuantity(Map<String, String> fields) {
+        try {
+            int quantity = Integer.parseInt(requireValue(fields, QUANTITY_FIELD));
+            if (quantity < 0) {
+                throw new APIErrorHandler(QUANTITY_FIELD + " must not be negative");
+            }
+            return quantity;
+        } catch (NumberFormatException exception) {
+            throw new APIErrorHandler(QUANTITY_FIELD + " must be a whole number");
+        }
+    }
+
+    private double parsePrice(Map<String, String> fields) {
+        try {
+            double price = Double.parseDouble(requireValue(fields, PRICE_FIELD));
+            if (!Double.isFinite(price) || price < 0) {
+                throw new APIErrorHandler(PRICE_FIELD + " must be zero or more");
+            }
+            return price;
+        } catch (NumberFormatException exception) {
+            throw new APIErrorHandler(PRICE_FIELD + " must be a number");
+        }
+    }
+
+    private String requireValue(Map<String, String> fields, String fieldName) {
+        String value = fields.get(fieldName);
+        if (value == null || value.isBlank()) {
+            throw new APIErrorHandler(fieldName + " is required");
+        }
+        return value.trim();
+    }
+
+    private ProductImportJob fetchJobOrThrowException(Long jobId) {
+        return productImportJobDAO.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ProductImportJob", "jobId", jobId));
+    }
+
+    private ProductImportJobDto buildJobDto(ProductImportJob importJob) {
+        List<ProductImportErrorDto> reportedErrors = productImportErrorDAO
+                .findByJobIdOrderByRowNumber(importJob.getJobId(), PageRequest.of(0, REPORTED_ERRORS)).stream()
+                .map(importError -> new ProductImportErrorDto(importError.getRowNumber(), importError.getMessage()))
+                .toList();
+        return new ProductImportJobDto(importJob.getJobId(), importJob.getFormat(), importJob.getStatus(),
+                importJob.getRowsProcessed(), importJob.getImportedCount(), importJob.getFailedCount(),
+                importJob.getLastError(), importJob.getCreatedAt(), importJob.getUpdatedAt(), reportedErrors);
+    }
+
+    private String validateFormat(String format) {
+        String importFormat = format == null ? FORMAT_CSV : format.toLowerCase();
+        if (!FORMAT_CSV.equals(importFormat) && !FORMAT_NDJSON.equals(importFormat)) {
+            throw new APIErrorHandler("format must be csv or ndjson");
+        }
+        return importFormat;
+    }
+
+    private String truncate(String message) {
+        String safeMessage = message == null ? "Unknown error" : message;
+        return safeMessage.length() <= MAX_MESSAGE_LENGTH ? safeMessage : safeMessage.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private RowReader openRowReader(String format, InputStream source) throws IOException {
+        BufferedReader sourceReader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8), 64 * 1024);
+        return FORMAT_CSV.equals(format) ? new CsvRowReader(sourceReader) : new NdjsonRowReader(sourceReader, jsonMapper);
+    }
+
+    // A valid row waiting for its chunk to be inserted
+    private record PendingProduct(Long categoryId, String productName, String model, String description,
+                                  int quantity, double price) {
+    }
+
+    // One parsed source row, or the reason it could not be parsed
+    private record ImportRow(Map<String, String> fields, String error) {
+    }
+
+    private interface RowReader extends Closeable {
+        // Returns the next row, or null at the end of the source
+        ImportRow next() throws IOException;
+    }
+
+    // CSV with a header row naming the columns (any order, names matched case-insensitively)
+    private static final class CsvRowReader implements RowReader {
+        private final BufferedReader sourceReader;
+        private final CsvRecordReader csvReader;
+        private final List<String> columnFields = new ArrayList<>();
+
+        private CsvRowReader(BufferedReader sourceReader) throws IOException {
+            this.sourceReader = sourceReader;
+            this.csvReader = new CsvRecordReader(sourceReader);
+
+            List<String> header = csvReader.nextRecord();
+            if (header == null) {
+                throw new APIErrorHandler("The CSV file is empty");
+            }
+            for (String column : header) {
+                String columnName = column.replace("\uFEFF", "").trim();
+                columnFields.add(IMPORT_FIELDS.stream().filter(columnName::equalsIgnoreCase).findFirst().orElse(null));
+            }
+            for (String requiredField : List.of(CATEGORY_ID_FIELD, PRODUCT_NAME_FIELD, DESCRIPTION_FIELD, QUANTITY_FIELD, PRICE_FIELD)) {
+                if (!columnFields.contains(requiredField)) {
+                    throw new APIErrorHandler("The CSV header is missing the " + requiredField + " column");
+                }
+            }
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> record = csvReader.nextRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != columnFields.size()) {
+                return new ImportRow(null, "Expected " + columnFields.size() + " columns but found " + record.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int column = 0; column < record.size(); column++) {
+                if (columnFields.get(column) != null) {
+                    fields.put(columnFields.get(column), record.get(column));
+                }
+            }
+            return new ImportRow(fields, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            sourceReader.close();
+        }
+    }
+
+    // One JSON object per line; blank lines are ignored
+    private static final class NdjsonRowReader implements RowReader {
+        private final BufferedReader sourceReader;
+        private final ObjectMapper jsonMapper;
+
+        private NdjsonRowReader(BufferedReader sourceReader, ObjectMapper jsonMapper) {
+            this.sourceReader = sourceReader;
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line = sourceReader.readLine();
+            while (line != null && line.isBlank()) {
+                line = sourceReader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+
+            JsonNode rowNode;
+            try {
+                rowNode = jsonMapper.readTree(line);
+            } catch (JsonProcessingException exception) {
+                return new ImportRow(null, "Invalid JSON: " + exception.getOriginalMessage());
+            }
+            if (!rowNode.isObject()) {
+                return new ImportRow(null, "Each line must be a JSON object");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (String fieldName : IMPORT_FIELDS) {
+                JsonNode valueNode = rowNode.get(fieldName);
+                if (valueNode != null && valueNode.isValueNode() && !valueNode.isNull()) {
+                    fields.put(fieldName, valueNode.asText());
+                }
+            }
+            return new ImportRow(fields, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            sourceReader.close();
+        }
+    }
+}
@@ -4,27 +4,36 @@ import java.io.IOException;
 import java.util.List;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import com.ecommerce.project.DAO.CartDAO;
 import com.ecommerce.project.DAO.CategoryDAO;
 import com.ecommerce.project.DAO.ProductDAO;
 import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.DTO.ProductImagesDto;
 import com.ecommerce.project.DTO.ProductResponse;
 import com.ecommerce.project.errorHandler.APIErrorHandler;
 import com.ecommerce.project.errorHandler.ResourceNotFoundException;
 import com.ecommerce.project.helper.AuthHelper;
+import com.ecommerce.project.helper.ImageUrlResolver;
 import com.ecommerce.project.model.Cart;
 import com.ecommerce.project.model.Category;
+import com.ecommerce.project.model.ChangeEvent;
 import com.ecommerce.project.model.Product;
+import com.ecommerce.project.service.Interface.IAnalyticsService;
 import com.ecommerce.project.service.Interface.ICartService;
-import com.ecommerce.project.service.Interface.FileService;
+import com.ecommerce.project.service.Interface.IChangeEventService;
+import com.ecommerce.project.service.Interface.IImageService;
 import com.ecommerce.project.service.Interface.IProductService;
 
 /**
@@ -33,31 +42,36 @@ import com.ecommerce.project.service.Interface.IProductService;
  * advanced search/filtering, and automatic cart updates when products change
  */
 @Service
+@Transactional
 public class IProductServiceImpl implements IProductService {
 
     private final CartDAO cartDAO;
     private final CategoryDAO categoryDAO;
     private final ProductDAO productDAO;
     private final ModelMapper objectMapper;
-    private final FileService fileStorageService;
+    private final IImageService imageService;
     private final AuthHelper userAuthHelper;
     private final ICartService shoppingCartService;
-
-    @Value("${project.image}")
-    private String imageStoragePath;
-
-    @Value("${image.base.url}")
-    private String imageResourcePath;
+    private final IChangeEventService changeEventService;
+    private final IAnalyticsService analyticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageUrlResolver imageUrlResolver;
 
     public IProductServiceImpl(CartDAO cartDAO, CategoryDAO categoryDAO, ProductDAO productDAO,
-                               ModelMapper objectMapper, FileService fileStorageService, AuthHelper userAuthHelper, ICartService shoppingCartService) {
+                               ModelMapper objectMapper, IImageService imageService, AuthHelper userAuthHelper, ICartService shoppingCartService,
+                               IChangeEventService changeEventService, IAnalyticsService analyticsService,
+                               PlatformTransactionManager transactionManager, ImageUrlResolver imageUrlResolver) {
         this.cartDAO = cartDAO;
         this.categoryDAO = categoryDAO;
         this.productDAO = productDAO;
         this.objectMapper = objectMapper;
-        this.fileStorageService = fileStorageService;
+        this.imageService = imageService;
         this.userAuthHelper = userAuthHelper;
         this.shoppingCartService = shoppingCartService;
+        this.changeEventService = changeEventService;
+        this.analyticsService = analyticsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageUrlResolver = imageUrlResolver;
     }
 
     // Add new product to category (validates unique product name per category)
@@ -67,13 +81,15 @@ public class IProductServiceImpl implements IProductService {
         validateProductNameNotExists(targetCategory, productDTO.getProductName());
 
         Product newProductEntity = createNewProductEntity(productDTO, targetCategory);
-        Product persistedProduct = productDAO.save(newProductEntity);
+        Product persistedProduct = saveNewProduct(newProductEntity);
+        analyticsService.recordProductsAdded(1);
 
-        return convertEntityToDTO(persistedProduct);
+        return recordProductChange(ChangeEvent.PRODUCT_CREATED, persistedProduct);
     }
 
     // Get all products with dynamic filters (keyword, category, model)
     @Override
+    @Transactional(readOnly = true)
     public ProductResponse getAllProducts(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder, String keyword, String category, String model) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationConfig = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -87,6 +103,7 @@ public class IProductServiceImpl implements IProductService {
 
     // Get all products for admin (no filters, just pagination)
     @Override
+    @Transactional(readOnly = true)
     public ProductResponse getAllProductsForAdmin(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationConfig = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -98,6 +115,7 @@ public class IProductServiceImpl implements IProductService {
 
     // Search products within a specific category
     @Override
+    @Transactional(readOnly = true)
     public ProductResponse searchByCategory(Long categoryId, Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Category targetCategory = fetchCategoryOrThrowException(categoryId);
 
@@ -114,6 +132,7 @@ public class IProductServiceImpl implements IProductService {
 
     // Search products by keyword in product name
     @Override
+    @Transactional(readOnly = true)
     public ProductResponse searchProductByKeyword(String keyword, Integer pageNumber, Integer pageSize, String sortBy, String sortOrder) {
         Sort sortingCriteria = buildSortCriteria(sortBy, sortOrder);
         Pageable paginationConfig = PageRequest.of(pageNumber, pageSize, sortingCriteria);
@@ -136,7 +155,7 @@ public class IProductServiceImpl implements IProductService {
         List<Cart> affectedCarts = cartDAO.retrieveCartsByProduct(productId);
         notifyCartsOfProductUpdate(affectedCarts, productId);
 
-        return convertEntityToDTO(persistedProduct);
+        return recordProductChange(ChangeEvent.PRODUCT_UPDATED, persistedProduct);
     }
 
     // Delete product and remove from all carts
@@ -148,19 +167,41 @@ public class IProductServiceImpl implements IProductService {
         removeProductFromAllCarts(affectedCarts, productId);
 
         productDAO.delete(productToDelete);
-        return convertEntityToDTO(productToDelete);
+        analyticsService.recordProductDeleted();
+        return recordProductChange(ChangeEvent.PRODUCT_DELETED, productToDelete);
     }
 
-    // Upload/update product image
+    // Upload/update product image and its resized renditions
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductDTO updateProductImage(Long productId, MultipartFile image) throws IOException {
-        Product existingProductEntity = fetchProductOrThrowException(productId);
+        fetchProductOrThrowException(productId);
 
-        String uploadedFileName = fileStorageService.uploadImage(imageStoragePath, image);
-        existingProductEntity.setImage(uploadedFileName);
+        // Resizing and uploading run before the transaction so no connection is held meanwhile
+        ProductImagesDto storedImages = imageService.storeProductImage(image);
+
+        return transactionTemplate.execute(status -> saveProductImages(productId, storedImages));
+    }
+
+    // Used by the background image uploader once the images are stored
+    @Override
+    public ProductDTO applyProductImages(Long productId, ProductImagesDto storedImages) {
+        return saveProductImages(productId, storedImages);
+    }
+
+    private ProductDTO saveProductImages(Long productId, ProductImagesDto storedImages) {
+        Product existingProductEntity = fetchProductOrThrowException(productId);
+        imageUrlResolver.assignImages(existingProductEntity, storedImages);
 
         Product persistedProduct = productDAO.save(existingProductEntity);
-        return convertEntityToDTO(persistedProduct);
+        return recordProductChange(ChangeEvent.PRODUCT_IMAGE_UPDATED, persistedProduct);
+    }
+
+    // Writes the change to the outbox in this transaction and returns the DTO sent to the caller
+    private ProductDTO recordProductChange(String eventType, Product product) {
+        ProductDTO productDataTransfer = convertEntityToDTO(product);
+        changeEventService.recordProductEvent(eventType, productDataTransfer);
+        return productDataTransfer;
     }
 
     private Category fetchCategoryOrThrowException(Long categoryId) {
@@ -174,10 +215,16 @@ public class IProductServiceImpl implements IProductService {
     }
 
     private void validateProductNameNotExists(Category targetCategory, String productName) {
-        boolean productExists = targetCategory.getProducts().stream()
-                .anyMatch(product -> product.getProductName().equals(productName));
+        if (productDAO.existsByCategoryAndProductNameIgnoreCase(targetCategory, productName)) {
+            throw new APIErrorHandler("This product already exists");
+        }
+    }
 
-        if (productExists) {
+    // Flushes right away so a concurrent add of the same name fails on the unique index here, not at commit
+    private Product saveNewProduct(Product newProductEntity) {
+        try {
+            return productDAO.saveAndFlush(newProductEntity);
+        } catch (DataIntegrityViolationException exception) {
             throw new APIErrorHandler("This product already exists");
         }
     }
@@ -196,7 +243,7 @@ public class IProductServiceImpl implements IProductService {
 
     private Product createNewProductEntity(ProductDTO productDTO, Category targetCategory) {
         Product newProductEntity = objectMapper.map(productDTO, Product.class);
-        newProductEntity.setImage("default.png");
+        imageUrlResolver.assignDefaultImage(newProductEntity);
         newProductEntity.setCategory(targetCategory);
         newProductEntity.setUser(userAuthHelper.loggedInUser());
 
@@ -231,13 +278,10 @@ public class IProductServiceImpl implements IProductService {
         return filterSpecification;
     }
 
+    // Image URLs are resolved when they are written, so the entity maps straight across
     private List<ProductDTO> transformProductsToDTO(List<Product> products) {
         return products.stream()
-                .map(productEntity -> {
-                    ProductDTO productData = objectMapper.map(productEntity, ProductDTO.class);
-                    productData.setImage(constructImageUrl(productEntity.getImage()));
-                    return productData;
-                })
+                .map(this::convertEntityToDTO)
                 .toList();
     }
 
@@ -245,15 +289,6 @@ public class IProductServiceImpl implements IProductService {
         return objectMapper.map(product, ProductDTO.class);
     }
 
-    private String constructImageUrl(String imageName) {
-        // If image is already a full URL (from Cloudinary), return as-is
-        if (imageName != null && (imageName.startsWith("http://") || imageName.startsWith("https://"))) {
-            return imageName;
-        }
-        // Otherwise, construct URL for local/legacy images
-        return imageResourcePath.endsWith("/") ? imageResourcePath + imageName : imageResourcePath + "/" + imageName;
-    }
-
     private ProductResponse buildProductResponse(Page<Product> paginatedProducts, List<ProductDTO> productDataList) {
         ProductResponse responsePayload = new ProductResponse();
         responsePayload.setContent(productDataList);
@@ -267,12 +302,22 @@ public class IProductServiceImpl implements IProductService {
 
     private void updateProductDetails(Product existingProduct, ProductDTO productDTO) {
         Product updatedProductData = objectMapper.map(productDTO, Product.class);
+        validateStockNotSharded(existingProduct, updatedProductData.getQuantity());
+        if (!existingProduct.getProductName().equalsIgnoreCase(updatedProductData.getProductName())) {
+            validateProductNameNotExists(existingProduct.getCategory(), updatedProductData.getProductName());
+        }
         existingProduct.setProductName(updatedProductData.getProductName());
         existingProduct.setDescription(updatedProductData.getDescription());
         existingProduct.setQuantity(updatedProductData.getQuantity());
         existingProduct.setPrice(updatedProductData.getPrice());
     }
 
+    private void validateStockNotSharded(Product existingProduct, Integer requestedQuantity) {
+        if (existingProduct.isHotSku() && !existingProduct.getQuantity().equals(requestedQuantity)) {
+            throw new APIErrorHandler("Disable hot SKU mode before changing the stock of " + existingProduct.getProductName());
+        }
+    }
+
     private void notifyCartsOfProductUpdate(List<Cart> affectedCarts, Long productId) {
         affectedCarts.forEach(shoppingCart -> shoppingCartService.updateProductInCarts(shoppingCart.getCartId(), productId));
     }
@@ -0,0 +1,501 @@
+package com.ecommerce.project.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.project.DAO.CategoryDAO;
+import com.ecommerce.project.DAO.ChangeEventDAO;
+import com.ecommerce.project.DAO.OrderDAO;
+import com.ecommerce.project.DAO.OrderItemDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DTO.BasketSummaryDto;
+import com.ecommerce.project.DTO.SalesBucketDto;
+import com.ecommerce.project.DTO.TopSellerDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ServiceBusyException;
+import com.ecommerce.project.helper.SalesTimeSeries;
+import com.ecommerce.project.model.ChangeEvent;
+import com.ecommerce.project.service.Interface.ISalesAnalyticsService;
+
+/**
+ * Service implementation for time-series sales analytics
+ * Business logic: The order lines are streamed into a SalesTimeSeries (hourly order totals, daily
+ * per-product sales) from one database snapshot, which also records the change-event feed position
+ * that snapshot covers. After that every instance follows the same durable feed (published ORDER
+ * events, in feed order) from that position, so all instances converge on the same figures and no
+ * change is lost to a late commit or a status change made during the rebuild. Events set an order's
+ * counted state rather than add to it, so an event already reflected in the snapshot changes nothing.
+ * The series is rebuilt from scratch periodically, and whenever the feed was purged past its position.
+ * The first build runs on the scheduler after startup rather than before the application reports
+ * ready; until it has finished, queries are refused with 503 instead of answering from an empty series.
+ * Orders in an excluded status (e.g. Pending, Failed) are not counted. Top products and categories
+ * work on whole days; order totals work on whole hours.
+ */
+@Service
+public class ISalesAnalyticsServiceImpl implements ISalesAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ISalesAnalyticsServiceImpl.class);
+    private static final int MAX_BUCKETS = 5000;
+    private static final int MAX_TOP_LIMIT = 100;
+
+    private final OrderDAO orderDAO;
+    private final OrderItemDAO orderItemDAO;
+    private final ProductDAO productDAO;
+    private final CategoryDAO categoryDAO;
+    private final ChangeEventDAO changeEventDAO;
+    private final ObjectMapper jsonMapper;
+    private final TransactionTemplate rebuildTransaction;
+    private final TransactionTemplate feedTransaction;
+    private final Set<String> excludedStatuses;
+
+    // Guards reads and writes of the current series
+    private final ReadWriteLock seriesLock = new ReentrantReadWriteLock();
+    // One rebuild or catch-up at a time; only its holder advances the feed position
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // Null until the first build has finished
+    private volatile SeriesState currentState;
+
+    @Value("${analytics.sales.catch-up-batch-size:500}")
+    private int catchUpBatchSize;
+
+    public ISalesAnalyticsServiceImpl(OrderDAO orderDAO, OrderItemDAO orderItemDAO, ProductDAO productDAO,
+                                      CategoryDAO categoryDAO, ChangeEventDAO changeEventDAO, ObjectMapper jsonMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${analytics.sales.excluded-statuses:Pending,Failed}") String[] excludedStatuses) {
+        this.orderDAO = orderDAO;
+        this.orderItemDAO = orderItemDAO;
+        this.productDAO = productDAO;
+        this.categoryDAO = categoryDAO;
+        this.changeEventDAO = changeEventDAO;
+        this.jsonMapper = jsonMapper;
+        // Not read-only on purpose: both must see every committed change, so they read the primary, never a lagging replica.
+        // The rebuild reads the feed position and the order lines from one snapshot
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.feedTransaction = new TransactionTemplate(transactionManager);
+        this.excludedStatuses = new HashSet<>(Arrays.stream(excludedStatuses).map(String::trim).toList());
+    }
+
+    @Override
+    public List<SalesBucketDto> getSalesSeries(LocalDateTime from, LocalDateTime to, String granularity) {
+        validateRange(from, to);
+        ChronoUnit bucketUnit = parseGranularity(granularity);
+        Duration bucketLength = bucketUnit.getDuration();
+        LocalDateTime firstBucket = from.truncatedTo(bucketUnit);
+        if (Duration.between(firstBucket, to).dividedBy(bucketLength) >= MAX_BUCKETS) {
+            throw new APIErrorHandler("Range is too long for " + granularity + " buckets, use a shorter range");
+        }
+
+        return readSeries(salesSeries -> {
+            List<SalesBucketDto> salesBuckets = new ArrayList<>();
+            for (LocalDateTime bucketStart = firstBucket; bucketStart.isBefore(to); bucketStart = bucketStart.plus(bucketLength)) {
+                LocalDateTime bucketEnd = bucketStart.plus(bucketLength);
+                SalesTimeSeries.SalesTotals bucketTotals = salesSeries.totalsBetween(
+                        bucketStart.isBefore(from) ? from : bucketStart,
+                        bucketEnd.isAfter(to) ? to : bucketEnd);
+                salesBuckets.add(new SalesBucketDto(bucketStart, bucketTotals.orders(),
+                        bucketTotals.units(), bucketTotals.revenue()));
+            }
+            return salesBuckets;
+        });
+    }
+
+    @Override
+    public List<TopSellerDto> getTopProducts(LocalDateTime from, LocalDateTime to, Integer limit, String sortBy) {
+        Comparator<SellerTotals> ranking = buildRanking(sortBy);
+        validateLimit(limit);
+
+        Map<Long, SellerTotals> totalsByProduct = new HashMap<>();
+        for (SalesTimeSeries.ProductSales productSales : readProductSales(from, to)) {
+            totalsByProduct.put(productSales.productId(), new SellerTotals(productSales.units(), productSales.revenue()));
+        }
+
+        List<Long> topIds = selectTop(totalsByProduct, ranking, limit);
+        Map<Long, String> productNames = new HashMap<>();
+        productDAO.findAllById(topIds).forEach(product -> productNames.put(product.getProductId(), product.getProductName()));
+
+        return buildTopSellers(topIds, totalsByProduct, id -> productNames.getOrDefault(id, "Deleted product"));
+    }
+
+    @Override
+    public List<TopSellerDto> getTopCategories(LocalDateTime from, LocalDateTime to, Integer limit, String sortBy) {
+        Comparator<SellerTotals> ranking = buildRanking(sortBy);
+        validateLimit(limit);
+
+        Map<Long, SellerTotals> totalsByCategory = new HashMap<>();
+        for (SalesTimeSeries.ProductSales productSales : readProductSales(from, to)) {
+            totalsByCategory.merge(productSales.categoryId(),
+                    new SellerTotals(productSales.units(), productSales.revenue()), SellerTotals::plus);
+        }
+
+        List<Long> topIds = selectTop(totalsByCategory, ranking, limit);
+        Map<Long, String> categoryNames = new HashMap<>();
+        categoryDAO.findAllById(topIds).forEach(category -> categoryNames.put(category.getCategoryId(), category.getCategoryName()));
+
+        return buildTopSellers(topIds, totalsByCategory, id -> categoryNames.getOrDefault(id, "Deleted category"));
+    }
+
+    @Override
+    public BasketSummaryDto getBasketSummary(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+
+        SalesTimeSeries.SalesTotals rangeTotals = readSeries(salesSeries -> salesSeries.totalsBetween(from, to));
+
+        long orderCount = rangeTotals.orders();
+        double averageUnits = orderCount > 0 ? (double) rangeTotals.units() / orderCount : 0.0;
+        double averageValue = orderCount > 0 ? rangeTotals.revenue() / orderCount : 0.0;
+        return new BasketSummaryDto(from, to, orderCount, rangeTotals.units(), rangeTotals.revenue(), averageUnits, averageValue);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${analytics.sales.rebuild-interval-ms:86400000}",
+            fixedDelayString = "${analytics.sales.rebuild-interval-ms:86400000}")
+    public void rebuildSeries() {
+        refreshLock.lock();
+        try {
+            rebuildWhileLocked();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.sales.catch-up-interval-ms:1000}")
+    public int catchUpSeries() {
+        // A running rebuild catches up on its own series before publishing it
+        if (!refreshLock.tryLock()) {
+            return 0;
+        }
+        try {
+            SeriesState state = currentState;
+            if (state == null) {
+                // First build (or a retry of a failed one), off the startup path
+                rebuildWhileLocked();
+                return 0;
+            }
+            int appliedEvents = catchUp(state);
+            if (appliedEvents < 0) {
+                logger.warn("Change events after feed position {} were purged, rebuilding the sales series", state.feedPosition);
+                rebuildWhileLocked();
+                return 0;
+            }
+            return appliedEvents;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void rebuildWhileLocked() {
+        SeriesState rebuiltState = new SeriesState();
+        rebuiltState.feedPosition = rebuildTransaction.execute(status -> loadSeries(rebuiltState));
+        long snapshotPosition = rebuiltState.feedPosition;
+
+        // Events published while the tables were read; a gap here would mean the feed was purged mid-rebuild
+        if (catchUp(rebuiltState) < 0) {
+            throw new IllegalStateException("Change event feed was purged past position " + rebuiltState.feedPosition);
+        }
+
+        seriesLock.writeLock().lock();
+        try {
+            currentState = rebuiltState;
+        } finally {
+            seriesLock.writeLock().unlock();
+        }
+        logger.info("Built in-memory sales series from the order tables at feed position {}, caught up to {}",
+                snapshotPosition, rebuiltState.feedPosition);
+    }
+
+    // Every change up to the returned feed position is already in the order tables of this snapshot
+    private long loadSeries(SeriesState rebuiltState) {
+        long feedPosition = changeEventDAO.fetchLastFeedPosition();
+        try (Stream<Object[]> salesLines = orderItemDAO.streamSalesLines(orderDAO.fetchLastOrderId())) {
+            forEachOrder(salesLines::iterator, orderSales -> {
+                if (isCounted(orderSales.status())) {
+                    rebuiltState.setCounted(orderSales, true);
+                }
+            });
+        }
+        return feedPosition;
+    }
+
+    /**
+     * Applies published ORDER events after the state's feed position, one batch per transaction.
+     * Returns the number of events read, or -1 when the events right after the position were purged.
+     * Only called while holding refreshLock.
+     */
+    private int catchUp(SeriesState state) {
+        int readEvents = 0;
+        while (true) {
+            long afterPosition = state.feedPosition;
+            List<ChangeEvent> feedEvents = feedTransaction.execute(status ->
+                    changeEventDAO.fetchPublishedAfter(afterPosition, PageRequest.of(0, catchUpBatchSize)));
+            if (feedEvents.isEmpty()) {
+                return readEvents;
+            }
+            if (feedEvents.get(0).getFeedPosition() != afterPosition + 1) {
+                return -1;
+            }
+
+            // Only the latest status in the batch matters, and only where it flips the order's counted state
+            Map<Long, Boolean> countedFlips = new LinkedHashMap<>();
+            latestOrderStatuses(feedEvents).forEach((orderId, orderStatus) -> {
+                boolean counted = isCounted(orderStatus);
+                if (counted != state.isCounted(orderId)) {
+                    countedFlips.put(orderId, counted);
+                }
+            });
+
+            List<OrderSales> flippedOrders = countedFlips.isEmpty()
+                    ? List.of()
+                    : feedTransaction.execute(status -> loadOrderSales(countedFlips.keySet()));
+            seriesLock.writeLock().lock();
+            try {
+                flippedOrders.forEach(orderSales -> state.setCounted(orderSales, countedFlips.get(orderSales.orderId())));
+                state.feedPosition = feedEvents.get(feedEvents.size() - 1).getFeedPosition();
+            } finally {
+                seriesLock.writeLock().unlock();
+            }
+
+            readEvents += feedEvents.size();
+            if (feedEvents.size() < catchUpBatchSize) {
+                return readEvents;
+            }
+        }
+    }
+
+    private Map<Long, String> latestOrderStatuses(List<ChangeEvent> feedEvents) {
+        Map<Long, String> latestStatuses = new LinkedHashMap<>();
+        for (ChangeEvent feedEvent : feedEvents) {
+            if (!ChangeEvent.AGGREGATE_ORDER.equals(feedEvent.getAggregateType())) {
+                continue;
+            }
+            String orderStatus = readOrderStatus(feedEvent);
+            if (orderStatus != null) {
+                latestStatuses.put(feedEvent.getAggregateId(), orderStatus);
+            }
+        }
+        return latestStatuses;
+    }
+
+    private String readOrderStatus(ChangeEvent orderEvent) {
+        try {
+            return jsonMapper.readTree(orderEvent.getPayload()).path("orderStatus").asText(null);
+        } catch (JsonProcessingException exception) {
+            logger.warn("Skipping change event {} with an unreadable payload", orderEvent.getEventId(), exception);
+            return null;
+        }
+    }
+
+    private List<OrderSales> loadOrderSales(Collection<Long> orderIds) {
+        List<OrderSales> loadedOrders = new ArrayList<>();
+        forEachOrder(orderItemDAO.fetchSalesLines(orderIds), loadedOrders::add);
+        return loadedOrders;
+    }
+
+    // Groups sales lines (ordered by order ID) into one OrderSales per order
+    private static void forEachOrder(Iterable<Object[]> salesLines, Consumer<OrderSales> orderAction) {
+        OrderSalesBuilder currentOrder = null;
+        for (Object[] salesLine : salesLines) {
+            Long orderId = (Long) salesLine[0];
+            if (currentOrder == null || !currentOrder.orderId.equals(orderId)) {
+                if (currentOrder != null) {
+                    orderAction.accept(currentOrder.build());
+                }
+                currentOrder = new OrderSalesBuilder(orderId, salesTime((LocalDate) salesLine[1], (LocalDateTime) salesLine[2]),
+                        (Double) salesLine[3], (String) salesLine[4]);
+            }
+            Long categoryId = (Long) salesLine[6];
+            currentOrder.addLine((Long) salesLine[5], categoryId != null ? categoryId : 0L,
+                    ((Number) salesLine[7]).longValue(), ((Number) salesLine[8]).doubleValue());
+        }
+        if (currentOrder != null) {
+            orderAction.accept(currentOrder.build());
+        }
+    }
+
+    private <T> T readSeries(Function<SalesTimeSeries, T> query) {
+        seriesLock.readLock().lock();
+        try {
+            SeriesState state = currentState;
+            if (state == null) {
+                throw new ServiceBusyException("Sales analytics are still loading, please try again shortly");
+            }
+            return query.apply(state.series);
+        } finally {
+            seriesLock.readLock().unlock();
+        }
+    }
+
+    private List<SalesTimeSeries.ProductSales> readProductSales(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        // Product sales are kept per day, so the range is widened to the whole days it touches
+        LocalDate firstDay = from.toLocalDate();
+        LocalDate lastDay = to.minusNanos(1).toLocalDate();
+
+        return readSeries(salesSeries -> salesSeries.productSalesBetween(firstDay, lastDay));
+    }
+
+    private List<Long> selectTop(Map<Long, SellerTotals> totalsById, Comparator<SellerTotals> ranking, int limit) {
+        return totalsById.entrySet().stream()
+                .sorted(Map.Entry.<Long, SellerTotals>comparingByValue(ranking).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private List<TopSellerDto> buildTopSellers(List<Long> topIds, Map<Long, SellerTotals> totalsById,
+                                               Function<Long, String> nameLookup) {
+        return topIds.stream()
+                .map(id -> new TopSellerDto(id, nameLookup.apply(id), totalsById.get(id).units(), totalsById.get(id).revenue()))
+                .toList();
+    }
+
+    private Comparator<SellerTotals> buildRanking(String sortBy) {
+        if ("units".equalsIgnoreCase(sortBy)) {
+            return Comparator.comparingLong(SellerTotals::units);
+        }
+        if ("revenue".equalsIgnoreCase(sortBy)) {
+            return Comparator.comparingDouble(SellerTotals::revenue);
+        }
+        throw new APIErrorHandler("sortBy must be units or revenue");
+    }
+
+    private boolean isCounted(String orderStatus) {
+        return orderStatus != null && !excludedStatuses.contains(orderStatus);
+    }
+
+    private ChronoUnit parseGranularity(String granularity) {
+        if ("hour".equalsIgnoreCase(granularity)) {
+            return ChronoUnit.HOURS;
+        }
+        if ("day".equalsIgnoreCase(granularity)) {
+            return ChronoUnit.DAYS;
+        }
+        throw new APIErrorHandler("granularity must be day or hour");
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new APIErrorHandler("from must be before to");
+        }
+    }
+
+    private void validateLimit(Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new APIErrorHandler("limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+    }
+
+    // Orders placed before created_at was recorded only have a date; they count at midnight
+    private static LocalDateTime salesTime(LocalDate orderDate, LocalDateTime createdAt) {
+        return createdAt != null ? createdAt : orderDate.atStartOfDay();
+    }
+
+    private record SellerTotals(long units, double revenue) {
+        private SellerTotals plus(SellerTotals other) {
+            return new SellerTotals(units + other.units, revenue + other.revenue);
+        }
+    }
+
+    // One series with the orders it counts and the feed position it is up to date with
+    private static final class SeriesState {
+        private final SalesTimeSeries series = new SalesTimeSeries();
+        // IDs of the orders whose sales are in the series
+        private final Set<Long> countedOrders = new HashSet<>();
+        private volatile long feedPosition;
+
+        private boolean isCounted(long orderId) {
+            return countedOrders.contains(orderId);
+        }
+
+        private void setCounted(OrderSales orderSales, boolean counted) {
+            orderSales.applyTo(series, counted ? 1 : -1);
+            if (counted) {
+                countedOrders.add(orderSales.orderId());
+            } else {
+                countedOrders.remove(orderSales.orderId());
+            }
+        }
+    }
+
+    // Primitive copy of one order's sales lines, read from the order tables
+    private record OrderSales(long orderId, LocalDateTime placedAt, String status, double revenue,
+                              long[] productIds, long[] categoryIds, long[] units, double[] lineRevenue) {
+
+        private void applyTo(SalesTimeSeries series, int sign) {
+            long totalUnits = Arrays.stream(units).sum();
+            series.addOrder(placedAt, sign, totalUnits, revenue);
+            LocalDate day = placedAt.toLocalDate();
+            for (int line = 0; line < productIds.length; line++) {
+                series.addProductSale(day, productIds[line], categoryIds[line], sign, units[line], lineRevenue[line]);
+            }
+        }
+    }
+
+    private static final class OrderSalesBuilder {
+        private final Long orderId;
+        private final LocalDateTime placedAt;
+        private final Double totalAmount;
+        private final String status;
+        private final List<long[]> lines = new ArrayList<>();
+        private final List<Double> lineRevenue = new ArrayList<>();
+
+        private OrderSalesBuilder(Long orderId, LocalDateTime placedAt, Double totalAmount, String status) {
+            this.orderId = orderId;
+            this.placedAt = placedAt;
+            this.totalAmount = totalAmount;
+            this.status = status;
+        }
+
+        private void addLine(long productId, long categoryId, long quantity, double unitPrice) {
+            lines.add(new long[]{productId, categoryId, quantity});
+            lineRevenue.add(quantity * unitPrice);
+        }
+
+        private OrderSales build() {
+            int lineCount = lines.size();
+            long[] productIds = new long[lineCount];
+            long[] categoryIds = new long[lineCount];
+            long[] units = new long[lineCount];
+            double[] revenues = new double[lineCount];
+            for (int line = 0; line < lineCount; line++) {
+                productIds[line] = lines.get(line)[0];
+                categoryIds[line] = lines.get(line)[1];
+                units[line] = lines.get(line)[2];
+                revenues[line] = lineRevenue.get(line);
+            }
+            double orderRevenue = totalAmount != null ? totalAmount : Arrays.stream(revenues).sum();
+            return new OrderSales(orderId, placedAt, status, orderRevenue, productIds, categoryIds, units, revenues);
+        }
+    }
+}
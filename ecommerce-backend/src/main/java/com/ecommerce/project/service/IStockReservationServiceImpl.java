@@ -0,0 +1,161 @@
+package com.ecommerce.project.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ecommerce.project.DAO.CartDAO;
+import com.ecommerce.project.DAO.ProductDAO;
+import com.ecommerce.project.DAO.StockReservationDAO;
+import com.ecommerce.project.DTO.StockReservationDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.model.Cart;
+import com.ecommerce.project.model.CartItem;
+import com.ecommerce.project.model.Product;
+import com.ecommerce.project.model.StockReservation;
+import com.ecommerce.project.service.Interface.IStockReservationService;
+
+/**
+ * Service implementation for checkout stock reservations
+ * Business logic: When checkout starts, the cart's products are locked briefly and
+ * holds are written to stock_reservations. Holds count against stock for every other
+ * customer until they expire or the order is placed.
+ */
+@Service
+@Transactional
+public class IStockReservationServiceImpl implements IStockReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IStockReservationServiceImpl.class);
+
+    private final StockReservationDAO stockReservationDAO;
+    private final CartDAO cartDAO;
+    private final ProductDAO productDAO;
+
+    @Value("${checkout.reservation.ttl-minutes:10}")
+    private long reservationTtlMinutes;
+
+    public IStockReservationServiceImpl(StockReservationDAO stockReservationDAO, CartDAO cartDAO, ProductDAO productDAO) {
+        this.stockReservationDAO = stockReservationDAO;
+        this.cartDAO = cartDAO;
+        this.productDAO = productDAO;
+    }
+
+    @Override
+    public List<StockReservationDto> reserveCart(String emailId) {
+        Cart userShoppingCart = fetchCartByEmailOrThrowException(emailId);
+        Map<Long, Integer> requestedQuantities = collectRequestedQuantities(userShoppingCart.getCartItems());
+
+        stockReservationDAO.removeAllByEmail(emailId);
+        if (requestedQuantities.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        LocalDateTime currentTime = LocalDateTime.now();
+        LocalDateTime expiryTime = currentTime.plusMinutes(reservationTtlMinutes);
+
+        List<Product> lockedProducts = productDAO.lockAllByIds(requestedQuantities.keySet());
+        Map<Long, Long> heldByOthers = fetchHeldQuantities(requestedQuantities, emailId, currentTime);
+
+        List<StockReservation> newReservations = new ArrayList<>();
+        for (Product lockedProduct : lockedProducts) {
+            int requestedQuantity = requestedQuantities.get(lockedProduct.getProductId());
+            long availableQuantity = lockedProduct.getQuantity() - heldByOthers.getOrDefault(lockedProduct.getProductId(), 0L);
+            validateQuantityAvailable(lockedProduct, availableQuantity, requestedQuantity);
+            newReservations.add(new StockReservation(lockedProduct, emailId, requestedQuantity, expiryTime));
+        }
+
+        return transformReservationsToDTO(stockReservationDAO.saveAll(newReservations));
+    }
+
+    @Override
+    public List<StockReservationDto> getActiveReservations(String emailId) {
+        return transformReservationsToDTO(stockReservationDAO.findActiveByEmail(emailId, LocalDateTime.now()));
+    }
+
+    @Override
+    public void releaseReservations(String emailId) {
+        stockReservationDAO.removeAllByEmail(emailId);
+    }
+
+    @Override
+    public int availableQuantity(Product product, String emailId) {
+        Long heldQuantity = stockReservationDAO.sumActiveQuantityHeldByOthers(
+                product.getProductId(), emailId, LocalDateTime.now());
+        return (int) Math.max(0, product.getQuantity() - heldQuantity);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${checkout.reservation.sweep-interval-ms:60000}")
+    public int purgeExpiredReservations() {
+        int removedCount = stockReservationDAO.removeExpired(LocalDateTime.now());
+        if (removedCount > 0) {
+            logger.debug("Released {} expired stock reservations", removedCount);
+        }
+        return removedCount;
+    }
+
+    private Cart fetchCartByEmailOrThrowException(String emailId) {
+        Cart userShoppingCart = cartDAO.fetchCartByUserEmail(emailId);
+        if (userShoppingCart == null) {
+            throw new ResourceNotFoundException("Cart", "email", emailId);
+        }
+        return userShoppingCart;
+    }
+
+    private Map<Long, Integer> collectRequestedQuantities(List<CartItem> cartItems) {
+        if (cartItems.isEmpty()) {
+            throw new APIErrorHandler("Your cart is empty");
+        }
+
+        // Hot SKUs sell from sharded stock without holds, so their rows are never locked here
+        Map<Long, Integer> requestedQuantities = new LinkedHashMap<>();
+        for (CartItem cartEntry : cartItems) {
+            if (cartEntry.getProduct().isHotSku()) {
+                continue;
+            }
+            requestedQuantities.merge(cartEntry.getProduct().getProductId(), cartEntry.getQty(), Integer::sum);
+        }
+        return requestedQuantities;
+    }
+
+    private Map<Long, Long> fetchHeldQuantities(Map<Long, Integer> requestedQuantities, String emailId, LocalDateTime currentTime) {
+        Map<Long, Long> heldByOthers = new HashMap<>();
+        for (Object[] heldRow : stockReservationDAO.sumActiveQuantitiesHeldByOthers(
+                requestedQuantities.keySet(), emailId, currentTime)) {
+            heldByOthers.put((Long) heldRow[0], ((Number) heldRow[1]).longValue());
+        }
+        return heldByOthers;
+    }
+
+    private void validateQuantityAvailable(Product product, long availableQuantity, int requestedQuantity) {
+        if (availableQuantity <= 0) {
+            throw new APIErrorHandler(product.getProductName() + " is currently unavailable");
+        }
+
+        if (availableQuantity < requestedQuantity) {
+            throw new APIErrorHandler("Only " + availableQuantity + " units of " + product.getProductName()
+                    + " are available");
+        }
+    }
+
+    private List<StockReservationDto> transformReservationsToDTO(List<StockReservation> reservations) {
+        return reservations.stream()
+                .map(reservation -> new StockReservationDto(
+                        reservation.getProduct().getProductId(),
+                        reservation.getProduct().getProductName(),
+                        reservation.getQuantity(),
+                        reservation.getExpiresAt()))
+                .toList();
+    }
+}
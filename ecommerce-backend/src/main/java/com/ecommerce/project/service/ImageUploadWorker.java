@@ -0,0 +1,75 @@
+package com.ecommerce.project.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.project.DTO.ImageUploadJobClaim;
+import com.ecommerce.project.service.Interface.IImageUploadService;
+
+/**
+ * Background worker for queued product image uploads
+ * Business logic: Each poll claims at most one job per uploader thread, so the number of
+ * concurrent uploads to the image store never exceeds the pool size. Retries, backoff and
+ * the circuit breaker are handled by the upload service.
+ */
+@Component
+public class ImageUploadWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageUploadWorker.class);
+
+    private final IImageUploadService imageUploadService;
+    private final ExecutorService uploaderPool;
+    private final int uploaderThreads;
+
+    public ImageUploadWorker(IImageUploadService imageUploadService,
+                             @Value("${images.upload.worker-threads:2}") int uploaderThreads,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             ContextSnapshotFactory contextSnapshotFactory) {
+        this.imageUploadService = imageUploadService;
+        this.uploaderThreads = uploaderThreads;
+        // Uploads mostly wait on the image store, so in virtual-thread mode they don't hold platform threads.
+        // Each upload runs in the trace of the scheduled poll that claimed it
+        this.uploaderPool = ContextExecutorService.wrap(Executors.newFixedThreadPool(uploaderThreads, virtualThreads
+                ? Thread.ofVirtual().name("image-uploader-", 0).factory()
+                : Thread.ofPlatform().name("image-uploader-", 0).factory()), contextSnapshotFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${images.upload.poll-interval-ms:1000}")
+    public void processQueuedUploads() {
+        List<ImageUploadJobClaim> claims = imageUploadService.claimUploadJobs(uploaderThreads);
+        if (claims.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] runningUploads = claims.stream()
+                .map(claim -> CompletableFuture.runAsync(() -> processUpload(claim), uploaderPool))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(runningUploads).join();
+        logger.debug("Processed {} queued image uploads", claims.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploaderPool.shutdown();
+    }
+
+    // A job left in UPLOADING here is requeued later by the stall timeout
+    private void processUpload(ImageUploadJobClaim claim) {
+        try {
+            imageUploadService.processUploadJob(claim);
+        } catch (RuntimeException exception) {
+            logger.error("Image upload job {} could not be processed", claim.getJobId(), exception);
+        }
+    }
+}
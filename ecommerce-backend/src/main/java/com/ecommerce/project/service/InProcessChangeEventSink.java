@@ -0,0 +1,31 @@
+package com.ecommerce.project.service;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.project.DTO.ChangeEventDto;
+import com.ecommerce.project.service.Interface.ChangeEventSink;
+
+/**
+ * Change event sink that publishes each event as a Spring application event
+ * Business logic: Listeners declare @EventListener methods taking ChangeEventDto. They run on the
+ * relay thread before the batch commits, so a listener that throws makes the batch retry.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessChangeEventSink implements ChangeEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessChangeEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<ChangeEventDto> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.ChangeEventDto;
+
+import java.util.List;
+
+/**
+ * Destination for outbox change events
+ * Selected with the outbox.sink property (in-process or file)
+ */
+public interface ChangeEventSink {
+    // Deliver a batch of events in feed order; throwing leaves the batch unpublished so it is sent again
+    void publish(List<ChangeEventDto> events);
+}
@@ -1,14 +1,20 @@
 package com.ecommerce.project.service.Interface;
 
-import org.springframework.web.multipart.MultipartFile;
-
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Service interface for file operations
  * Handles file uploads (primarily product images)
  */
 public interface FileService {
-    // Upload an image file to specified path, returns filename
-    String uploadImage(String path, MultipartFile file) throws IOException;
+    // Store an image file from disk under the given folder and file name, returns the stored filename or URL
+    String storeImage(String folder, String fileName, Path imageFile) throws IOException;
+
+    // Check that images returned by storeImage under the given folder are all still stored
+    boolean imagesExist(String folder, List<String> storedImages) throws IOException;
+
+    // Delete an image stored with storeImage under the same folder and file name; does nothing if it is not there
+    void deleteImage(String folder, String fileName) throws IOException;
 }
@@ -2,6 +2,8 @@ package com.ecommerce.project.service.Interface;
 
 import com.ecommerce.project.model.User;
 import com.ecommerce.project.DTO.AddressDto;
+import com.ecommerce.project.DTO.KeysetResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,8 +15,11 @@ public interface IAddrService {
     // Create a new address for a user
     AddressDto newAddr(AddressDto addressDTO, User user);
 
-    // Get all addresses in system (admin function)
-    List<AddressDto> getAddr();
+    // Get one page of addresses with an ID greater than afterAddressId (admin function)
+    KeysetResponse<AddressDto> getAddr(Long afterAddressId, Integer limit);
+
+    // Stream every address as one JSON array without loading them all (admin function)
+    StreamingResponseBody streamAddr();
 
     // Get a specific address by ID
     AddressDto getAddrById(Long addressId);
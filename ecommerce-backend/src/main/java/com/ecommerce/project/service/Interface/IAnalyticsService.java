@@ -1,6 +1,10 @@
 package com.ecommerce.project.service.Interface;
 
 import com.ecommerce.project.DTO.AnalyticsResponse;
+import com.ecommerce.project.DTO.DailyAnalyticsDto;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Service interface for analytics operations
@@ -9,4 +13,22 @@ import com.ecommerce.project.DTO.AnalyticsResponse;
 public interface IAnalyticsService {
     // Get analytics data (product count, total orders, total revenue)
     AnalyticsResponse getAnalytics();
+
+    // Get daily order, revenue and product figures between two dates (inclusive)
+    List<DailyAnalyticsDto> getDailyAnalytics(LocalDate fromDate, LocalDate toDate);
+
+    // Count a new order in the rollups (runs in the order's transaction)
+    void recordOrderPlaced(String orderStatus, Double totalAmount, LocalDate orderDate);
+
+    // Move an order from one status counter to another
+    void recordOrderStatusChange(String previousStatus, String newStatus);
+
+    // Count new products in the rollups (one call per batch of inserted products)
+    void recordProductsAdded(int productCount);
+
+    // Count a deleted product in the rollups
+    void recordProductDeleted();
+
+    // Compare the rollups with the source tables and correct any drift (returns number of corrected counters)
+    int reconcileRollups();
 }
@@ -2,8 +2,11 @@ package com.ecommerce.project.service.Interface;
 
 import com.ecommerce.project.DTO.CartDto;
 import com.ecommerce.project.DTO.CartItemDto;
+import com.ecommerce.project.DTO.KeysetResponse;
 import jakarta.transaction.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,8 +17,11 @@ public interface ICartService {
     // Add a product to the current user's cart
     CartDto addProductToCart(Long productId, Integer quantity);
 
-    // Get all carts in system (admin function)
-    List<CartDto> getAllCarts();
+    // Get one page of carts with an id greater than afterCartId (admin function)
+    KeysetResponse<CartDto> getCarts(Long afterCartId, Integer limit);
+
+    // Stream every cart as one JSON array without loading them all (admin function)
+    StreamingResponseBody streamAllCarts();
 
     // Get a specific cart by email and cart ID
     CartDto getCart(String emailId, Long cartId);
@@ -27,6 +33,9 @@ public interface ICartService {
     // Remove a product from cart
     String deleteProductFromCart(Long cartId, Long productId);
 
+    // Remove the ordered products from a cart in one statement and recalculate its total
+    void removeOrderedProducts(Long cartId, Collection<Long> productIds);
+
     // Update cart when product price changes
     void updateProductInCarts(Long cartId, Long productId);
 
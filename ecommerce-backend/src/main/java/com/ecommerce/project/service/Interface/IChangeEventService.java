@@ -0,0 +1,26 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.ChangeEventResponse;
+import com.ecommerce.project.DTO.OrderDto;
+import com.ecommerce.project.DTO.ProductDTO;
+
+/**
+ * Service interface for the order/product change outbox
+ * Records changes in the caller's transaction and relays them to the configured sink
+ */
+public interface IChangeEventService {
+    // Record an order change in the current transaction
+    void recordOrderEvent(String eventType, OrderDto order);
+
+    // Record a product change in the current transaction
+    void recordProductEvent(String eventType, ProductDTO product);
+
+    // Get published events after a feed position (cursor-based, no OFFSET)
+    ChangeEventResponse getEvents(Long afterPosition, Integer limit);
+
+    // Publish the next batches of unpublished events to the sink (returns number published)
+    int relayPendingEvents();
+
+    // Remove published events older than the retention window
+    int purgePublishedEvents();
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.HotSkuStatusDto;
+
+/**
+ * Service interface for hot SKU (flash-sale) stock
+ * Splits a product's stock into shards so concurrent checkouts do not queue on one row lock
+ */
+public interface IHotSkuStockService {
+    // Move a product's stock into the given number of shards
+    HotSkuStatusDto enableHotSku(Long productId, Integer shardCount);
+
+    // Fold the shards back into the product row and leave hot SKU mode
+    HotSkuStatusDto disableHotSku(Long productId);
+
+    // Get current shard distribution for a product
+    HotSkuStatusDto getHotSkuStatus(Long productId);
+
+    // Take purchased units from one of the product's shards (throws if not enough stock)
+    void decrementStock(Long productId, int purchaseQuantity);
+
+    // Even out remaining stock between shards and publish totals to the product rows
+    void rebalanceShards();
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.OrderDto;
+import com.ecommerce.project.DTO.OrderRequestDto;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for idempotent order placement
+ * Makes client retries carrying the same Idempotency-Key return the original order
+ */
+public interface IIdempotencyService {
+    // Run the order placement once per (customer, key); repeats and concurrent duplicates get the same order
+    OrderDto placeOrderOnce(String emailId, String idempotencyKey, OrderRequestDto orderRequest, Supplier<OrderDto> orderPlacement);
+
+    // Remove keys whose time-to-live has passed
+    int purgeExpiredKeys();
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.ProductImagesDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Service interface for the product image pipeline
+ * Stores uploaded images together with resized renditions
+ */
+public interface IImageService {
+    // Store an uploaded product image and its thumbnail/medium/large renditions, returns where each was stored
+    ProductImagesDto storeProductImage(MultipartFile imageFile) throws IOException;
+
+    // Same as above for an image already on local disk (the file is left in place)
+    ProductImagesDto storeProductImage(Path imageFile) throws IOException;
+}
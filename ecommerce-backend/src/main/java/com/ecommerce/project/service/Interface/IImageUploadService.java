@@ -0,0 +1,30 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.ImageUploadJobClaim;
+import com.ecommerce.project.DTO.ImageUploadJobDto;
+import com.ecommerce.project.DTO.ImageUploadStatsDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Service interface for background product image uploads
+ * Stages uploads locally, then stores them and updates the product off the request thread
+ */
+public interface IImageUploadService {
+    // Stage an uploaded image and queue it for the background uploader (returns the PENDING job)
+    ImageUploadJobDto submitProductImage(Long productId, MultipartFile image) throws IOException;
+
+    // Get the status of an upload job
+    ImageUploadJobDto getUploadJob(Long jobId);
+
+    // Claim due jobs for this instance's uploaders (none while the circuit breaker is open)
+    List<ImageUploadJobClaim> claimUploadJobs(int batchSize);
+
+    // Upload one claimed job and point its product at the stored images (failures are retried with backoff; stale claims do nothing)
+    void processUploadJob(ImageUploadJobClaim claim);
+
+    // Get queue depth, upload latency and circuit breaker state
+    ImageUploadStatsDto getUploadStats();
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.project.service.Interface;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Service interface for serving images from local file storage
+ * Resolves image files safely and keeps their validators and small hot files cached
+ */
+public interface ILocalImageService {
+
+    /**
+     * A servable image: its file, validators, and its bytes when they are cached off-heap.
+     */
+    record LocalImage(Path file, long contentLength, long lastModified, String etag, String contentType,
+                      ByteBuffer cachedContent) {
+    }
+
+    // Find an image in the local image folder (empty for unknown or unsafe names)
+    Optional<LocalImage> findImage(String fileName) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.project.service.Interface;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for bulk order exports
+ * Streams order lines as CSV or NDJSON without loading them into memory
+ */
+public interface IOrderExportService {
+    // Validate the filters and return a body that streams matching order lines (format: csv or ndjson)
+    StreamingResponseBody exportOrders(String format, LocalDate fromDate, LocalDate toDate, String status);
+}
@@ -1,9 +1,12 @@
 package com.ecommerce.project.service.Interface;
 
+import com.ecommerce.project.DTO.OrderCommandClaim;
 import com.ecommerce.project.DTO.OrderDto;
 import com.ecommerce.project.DTO.OrderResponse;
 import jakarta.transaction.Transactional;
 
+import java.util.List;
+
 /**
  * Service interface for order operations
  * Handles order placement, tracking, and status management
@@ -13,6 +16,24 @@ public interface IOrderService {
     @Transactional
     OrderDto placeOrder(String emailId, Long addressId, String paymentMethod, String pgName, String pgPaymentId, String pgStatus, String pgResponseMessage);
 
+    // Validate the cart and queue the order for the pipeline (returns the order in Pending status)
+    OrderDto submitOrder(String emailId, Long addressId, String paymentMethod, String pgName, String pgPaymentId, String pgStatus, String pgResponseMessage);
+
+    // Claim the next batch of queued order commands for this worker (returns the claims to process)
+    List<OrderCommandClaim> claimOrderCommands(int batchSize);
+
+    // Record payment, reduce inventory and clear the cart for one claimed command (no-op if the claim is stale)
+    void processOrderCommand(OrderCommandClaim claim);
+
+    // Requeue a failed command, or mark it and its order as failed once it cannot succeed (no-op if the claim is stale)
+    void recordOrderCommandFailure(OrderCommandClaim claim, String reason, boolean retryable);
+
+    // Get a single order with its items
+    OrderDto getOrderById(Long orderId);
+
+    // Get one of the user's own orders (used to poll the status of a queued order)
+    OrderDto getUserOrder(String emailId, Long orderId);
+
     // Get all orders in system with pagination
     OrderResponse getAllOrders(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder);
 
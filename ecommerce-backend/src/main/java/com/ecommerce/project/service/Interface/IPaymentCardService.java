@@ -1,7 +1,9 @@
 package com.ecommerce.project.service.Interface;
 
 import com.ecommerce.project.model.User;
+import com.ecommerce.project.DTO.KeysetResponse;
 import com.ecommerce.project.DTO.PaymentCardDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,8 +15,11 @@ public interface IPaymentCardService {
     // Create a new payment card for a user
     PaymentCardDTO createPaymentCard(PaymentCardDTO paymentCardDTO, User user);
 
-    // Get all payment cards in system (admin function)
-    List<PaymentCardDTO> getPaymentCards();
+    // Get one page of payment cards with an ID greater than afterCardId (admin function)
+    KeysetResponse<PaymentCardDTO> getPaymentCards(Long afterCardId, Integer limit);
+
+    // Stream every payment card as one JSON array without loading them all (admin function)
+    StreamingResponseBody streamPaymentCards();
 
     // Get a specific payment card by ID
     PaymentCardDTO getPaymentCardById(Long cardId);
@@ -0,0 +1,20 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.ProductImportJobDto;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk product imports
+ * Reads CSV or NDJSON product rows from a stream and inserts them in committed chunks
+ */
+public interface IProductImportService {
+    // Start a new import from the given stream (format: csv or ndjson)
+    ProductImportJobDto importProducts(String format, InputStream source);
+
+    // Continue a failed import from the same source; rows already committed are skipped
+    ProductImportJobDto resumeImport(Long jobId, InputStream source);
+
+    // Get the progress and first rejected rows of an import
+    ProductImportJobDto getImportJob(Long jobId);
+}
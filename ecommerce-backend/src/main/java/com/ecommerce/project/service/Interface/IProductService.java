@@ -1,6 +1,7 @@
 package com.ecommerce.project.service.Interface;
 
 import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.DTO.ProductImagesDto;
 import com.ecommerce.project.DTO.ProductResponse;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -32,6 +33,9 @@ public interface IProductService {
     // Upload/update product image
     ProductDTO updateProductImage(Long productId, MultipartFile image) throws IOException;
 
+    // Point a product at an already stored image and its renditions
+    ProductDTO applyProductImages(Long productId, ProductImagesDto storedImages);
+
     // Get all products for admin dashboard (no filters)
     ProductResponse getAllProductsForAdmin(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder);
 
@@ -0,0 +1,33 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.BasketSummaryDto;
+import com.ecommerce.project.DTO.SalesBucketDto;
+import com.ecommerce.project.DTO.TopSellerDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for time-series sales analytics
+ * Answers range queries from an in-memory rollup instead of scanning the orders table;
+ * the rollup follows the published change-event feed
+ */
+public interface ISalesAnalyticsService {
+    // Get orders, units and revenue per day or hour over [from, to)
+    List<SalesBucketDto> getSalesSeries(LocalDateTime from, LocalDateTime to, String granularity);
+
+    // Get the best-selling products over the days in the range, by units or revenue
+    List<TopSellerDto> getTopProducts(LocalDateTime from, LocalDateTime to, Integer limit, String sortBy);
+
+    // Get the best-selling categories over the days in the range, by units or revenue
+    List<TopSellerDto> getTopCategories(LocalDateTime from, LocalDateTime to, Integer limit, String sortBy);
+
+    // Get order count, units, revenue and average basket size over [from, to)
+    BasketSummaryDto getBasketSummary(LocalDateTime from, LocalDateTime to);
+
+    // Rebuild the in-memory rollup from the orders table and the feed position it covers
+    void rebuildSeries();
+
+    // Apply order change events published since the rollup's feed position; returns the number of events read
+    int catchUpSeries();
+}
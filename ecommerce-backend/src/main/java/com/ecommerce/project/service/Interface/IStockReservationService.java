@@ -0,0 +1,27 @@
+package com.ecommerce.project.service.Interface;
+
+import com.ecommerce.project.DTO.StockReservationDto;
+import com.ecommerce.project.model.Product;
+
+import java.util.List;
+
+/**
+ * Service interface for checkout stock reservations
+ * Holds stock for a customer's cart while they complete checkout
+ */
+public interface IStockReservationService {
+    // Hold stock for every item in the customer's cart (replaces any previous holds)
+    List<StockReservationDto> reserveCart(String emailId);
+
+    // Get the customer's active holds
+    List<StockReservationDto> getActiveReservations(String emailId);
+
+    // Release all holds owned by the customer
+    void releaseReservations(String emailId);
+
+    // Units of a product the customer can still take (stock minus other customers' active holds)
+    int availableQuantity(Product product, String emailId);
+
+    // Remove holds whose time-to-live has passed
+    int purgeExpiredReservations();
+}
@@ -0,0 +1,93 @@
+package com.ecommerce.project.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.project.DTO.OrderCommandClaim;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ResourceNotFoundException;
+import com.ecommerce.project.service.Interface.IOrderService;
+
+/**
+ * Background worker for the queued checkout pipeline
+ * Business logic: Each poll claims a batch of order commands (skipping rows claimed by other
+ * instances) and processes them on a fixed pool of worker threads, one transaction per command.
+ * Business failures such as running out of stock fail the order straight away; unexpected errors
+ * put the command back in the queue until it runs out of attempts. Every call carries the claim
+ * (command and attempt number), so a worker whose command was requeued after the stall timeout
+ * and claimed again elsewhere cannot process or fail it a second time.
+ */
+@Component
+public class OrderPipelineWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderPipelineWorker.class);
+
+    private final IOrderService orderService;
+    private final ExecutorService workerPool;
+    private final int batchSize;
+
+    public OrderPipelineWorker(IOrderService orderService,
+                               @Value("${orders.pipeline.worker-threads:4}") int workerThreads,
+                               @Value("${orders.pipeline.batch-size:50}") int batchSize,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                               ContextSnapshotFactory contextSnapshotFactory) {
+        this.orderService = orderService;
+        this.batchSize = batchSize;
+        // Commands mostly wait on the database, so in virtual-thread mode they don't hold platform threads.
+        // Each command runs in the trace of the scheduled poll that claimed it
+        this.workerPool = ContextExecutorService.wrap(Executors.newFixedThreadPool(workerThreads, virtualThreads
+                ? Thread.ofVirtual().name("order-pipeline-", 0).factory()
+                : Thread.ofPlatform().name("order-pipeline-", 0).factory()), contextSnapshotFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.pipeline.poll-interval-ms:500}")
+    public void processQueuedOrders() {
+        List<OrderCommandClaim> claims = orderService.claimOrderCommands(batchSize);
+        if (claims.isEmpty()) {
+            return;
+        }
+
+        // Wait for the whole batch so the next poll never claims more than the pool can take
+        CompletableFuture<?>[] runningCommands = claims.stream()
+                .map(claim -> CompletableFuture.runAsync(() -> processCommand(claim), workerPool))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(runningCommands).join();
+        logger.debug("Processed {} queued orders", claims.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    private void processCommand(OrderCommandClaim claim) {
+        try {
+            orderService.processOrderCommand(claim);
+        } catch (APIErrorHandler | ResourceNotFoundException exception) {
+            recordFailure(claim, exception.getMessage(), false);
+        } catch (RuntimeException exception) {
+            logger.warn("Order command {} failed, will retry if attempts remain", claim.getCommandId(), exception);
+            recordFailure(claim, exception.getMessage(), true);
+        }
+    }
+
+    // A command left in PROCESSING here is requeued later by the stall timeout
+    private void recordFailure(OrderCommandClaim claim, String reason, boolean retryable) {
+        try {
+            orderService.recordOrderCommandFailure(claim, reason, retryable);
+        } catch (RuntimeException exception) {
+            logger.error("Could not record failure of order command {}", claim.getCommandId(), exception);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+-- Baseline schema: the tables Hibernate's ddl-auto created before schema migrations existed.
+-- Databases that ddl-auto already created are baselined at this version and skip this script,
+-- so it must stay exactly that schema; later tables, columns and indexes go in later versions.
+
+CREATE TABLE users (
+    user_id  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(20)  NOT NULL,
+    email    varchar(50)  NOT NULL,
+    password varchar(120) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE roles (
+    role_id   integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name varchar(20) CHECK (role_name IN ('ROLE_USER', 'ROLE_ADMIN'))
+);
+
+CREATE TABLE user_role (
+    user_id bigint  NOT NULL REFERENCES users (user_id),
+    role_id integer NOT NULL REFERENCES roles (role_id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE categories (
+    category_id   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_name varchar(255) NOT NULL
+);
+
+-- Product IDs come from a pooled sequence (GenerationType.AUTO), 50 values per allocation
+CREATE SEQUENCE products_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE products (
+    product_id    bigint PRIMARY KEY,
+    product_name  varchar(255) NOT NULL,
+    model         varchar(255),
+    image         varchar(255),
+    description   varchar(255) NOT NULL,
+    quantity      integer,
+    price         float(53) NOT NULL,
+    category_id   bigint REFERENCES categories (category_id),
+    user_id       bigint REFERENCES users (user_id)
+);
+
+CREATE TABLE carts (
+    cart_id     bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    total_price float(53),
+    user_id     bigint REFERENCES users (user_id),
+    CONSTRAINT uk_carts_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE cart_items (
+    cart_item_id  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cart_id       bigint REFERENCES carts (cart_id),
+    product_id    bigint REFERENCES products (product_id),
+    qty           integer,
+    product_price float(53) NOT NULL
+);
+
+CREATE TABLE addresses (
+    address_id    bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       bigint REFERENCES users (user_id),
+    street        varchar(255) NOT NULL,
+    building_name varchar(255) NOT NULL,
+    city          varchar(255) NOT NULL,
+    state         varchar(255) NOT NULL,
+    country       varchar(255) NOT NULL,
+    pincode       varchar(255) NOT NULL
+);
+
+CREATE TABLE payment_cards (
+    card_id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    card_number     varchar(19)  NOT NULL,
+    cardholder_name varchar(255) NOT NULL,
+    expiry_month    integer NOT NULL CHECK (expiry_month >= 1 AND expiry_month <= 12),
+    expiry_year     integer NOT NULL CHECK (expiry_year >= 2024),
+    cvv             varchar(4)   NOT NULL,
+    is_default      boolean,
+    user_id         bigint REFERENCES users (user_id)
+);
+
+CREATE TABLE payments (
+    payment_id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    payment_method      varchar(255) NOT NULL,
+    pg_payment_id       varchar(255),
+    pg_status           varchar(255),
+    pg_response_message varchar(255),
+    pg_name             varchar(255)
+);
+
+CREATE TABLE orders (
+    order_id     bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email        varchar(255) NOT NULL,
+    order_date   date,
+    payment_id   bigint REFERENCES payments (payment_id),
+    total_amount float(53),
+    order_status varchar(255),
+    address_id   bigint REFERENCES addresses (address_id),
+    CONSTRAINT uk_orders_payment_id UNIQUE (payment_id)
+);
+
+CREATE TABLE order_items (
+    order_item_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id    bigint REFERENCES products (product_id),
+    order_id      bigint REFERENCES orders (order_id),
+    qty           integer,
+    product_price float(53) NOT NULL
+);
@@ -0,0 +1,6 @@
+-- Roles every account is assigned from; the default users are only seeded outside production
+INSERT INTO roles (role_name)
+SELECT 'ROLE_USER' WHERE NOT EXISTS (SELECT 1 FROM roles WHERE role_name = 'ROLE_USER');
+
+INSERT INTO roles (role_name)
+SELECT 'ROLE_ADMIN' WHERE NOT EXISTS (SELECT 1 FROM roles WHERE role_name = 'ROLE_ADMIN');
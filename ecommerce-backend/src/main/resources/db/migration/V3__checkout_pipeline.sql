@@ -0,0 +1,64 @@
+-- Checkout: stock holds, sharded hot-SKU stock, idempotent submits and the queued order pipeline.
+-- IF NOT EXISTS lets this apply to databases that ddl-auto brought partway up to date.
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS created_at timestamp(6);
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS hot_sku boolean DEFAULT false NOT NULL;
+
+CREATE TABLE IF NOT EXISTS stock_reservations (
+    reservation_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id     bigint NOT NULL REFERENCES products (product_id),
+    email          varchar(255) NOT NULL,
+    quantity       integer NOT NULL,
+    expires_at     timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_product_expiry ON stock_reservations (product_id, expires_at);
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_email ON stock_reservations (email);
+
+CREATE TABLE IF NOT EXISTS product_stock_shards (
+    shard_id    bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id  bigint  NOT NULL REFERENCES products (product_id),
+    shard_index integer NOT NULL,
+    quantity    bigint  NOT NULL,
+    CONSTRAINT uk_product_stock_shards_product_shard UNIQUE (product_id, shard_index)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    idempotency_key varchar(100) NOT NULL,
+    email           varchar(255) NOT NULL,
+    request_hash    varchar(64)  NOT NULL,
+    order_id        bigint,
+    created_at      timestamp(6) NOT NULL,
+    expires_at      timestamp(6) NOT NULL,
+    CONSTRAINT uk_idempotency_keys_email_key UNIQUE (email, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+CREATE TABLE IF NOT EXISTS order_commands (
+    command_id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id            bigint NOT NULL,
+    email               varchar(255) NOT NULL,
+    cart_id             bigint NOT NULL,
+    payment_method      varchar(255),
+    pg_name             varchar(255),
+    pg_payment_id       varchar(255),
+    pg_status           varchar(255),
+    pg_response_message varchar(255),
+    status              varchar(20) NOT NULL,
+    attempts            integer NOT NULL,
+    last_error          varchar(500),
+    created_at          timestamp(6) NOT NULL,
+    claimed_at          timestamp(6),
+    processed_at        timestamp(6),
+    CONSTRAINT uk_order_commands_order_id UNIQUE (order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_commands_status ON order_commands (status, command_id);
+
+-- At most one queued or in-progress checkout per customer. IOrderServiceImpl checks this before
+-- queueing, but two concurrent submits can both pass that check; the second insert fails here instead.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_order_commands_active_email
+    ON order_commands (email) WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,25 @@
+-- Change feed outbox and the sales analytics rollups.
+
+CREATE TABLE IF NOT EXISTS change_events (
+    event_id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    feed_position  bigint,
+    aggregate_type varchar(30) NOT NULL,
+    aggregate_id   bigint      NOT NULL,
+    event_type     varchar(50) NOT NULL,
+    payload        text        NOT NULL,
+    created_at     timestamp(6) NOT NULL,
+    published_at   timestamp(6),
+    CONSTRAINT uk_change_events_feed_position UNIQUE (feed_position)
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_events_published_at ON change_events (published_at, event_id);
+
+CREATE TABLE IF NOT EXISTS analytics_rollups (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    metric     varchar(60) NOT NULL,
+    bucket     varchar(10) NOT NULL,
+    slot       integer   NOT NULL,
+    item_count bigint    NOT NULL,
+    amount     float(53) NOT NULL,
+    CONSTRAINT uk_analytics_rollups_metric_bucket_slot UNIQUE (metric, bucket, slot)
+);
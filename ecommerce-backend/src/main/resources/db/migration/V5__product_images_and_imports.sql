@@ -0,0 +1,55 @@
+-- Product image renditions, background image uploads, content-addressed image dedupe and bulk
+-- product imports. Existing products get their renditions filled in by V7.
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS thumbnail_url varchar(255);
+ALTER TABLE products ADD COLUMN IF NOT EXISTS medium_url varchar(255);
+ALTER TABLE products ADD COLUMN IF NOT EXISTS large_url varchar(255);
+
+CREATE TABLE IF NOT EXISTS image_upload_jobs (
+    job_id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id      bigint       NOT NULL,
+    staged_file     varchar(500) NOT NULL,
+    status          varchar(20)  NOT NULL,
+    attempts        integer      NOT NULL,
+    next_attempt_at timestamp(6) NOT NULL,
+    last_error      varchar(500),
+    created_at      timestamp(6) NOT NULL,
+    claimed_at      timestamp(6),
+    completed_at    timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_upload_jobs_status ON image_upload_jobs (status, next_attempt_at);
+
+CREATE TABLE IF NOT EXISTS stored_images (
+    stored_image_id   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content_hash      varchar(64)  NOT NULL,
+    rendition_profile varchar(100) NOT NULL,
+    image             varchar(500) NOT NULL,
+    thumbnail_url     varchar(500),
+    medium_url        varchar(500),
+    large_url         varchar(500),
+    created_at        timestamp(6) NOT NULL,
+    CONSTRAINT ux_stored_images_content_hash UNIQUE (content_hash)
+);
+
+CREATE TABLE IF NOT EXISTS product_import_jobs (
+    job_id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    format         varchar(10) NOT NULL,
+    status         varchar(20) NOT NULL,
+    user_id        bigint NOT NULL,
+    rows_processed bigint NOT NULL,
+    imported_count bigint NOT NULL,
+    failed_count   bigint NOT NULL,
+    last_error     varchar(500),
+    created_at     timestamp(6) NOT NULL,
+    updated_at     timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS product_import_errors (
+    error_id   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id     bigint       NOT NULL,
+    source_row bigint       NOT NULL,
+    message    varchar(500) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_import_errors_job ON product_import_errors (job_id, source_row);
@@ -0,0 +1,4 @@
+-- Unique product names per category regardless of case; backs ProductDAO.existsByCategoryAndProductNameIgnoreCase.
+-- Case-insensitive duplicate names left over from before the check existed must be renamed before this can apply.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_products_category_lower_name
+    ON products (category_id, lower(product_name));
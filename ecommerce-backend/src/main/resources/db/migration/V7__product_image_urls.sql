@@ -0,0 +1,20 @@
+-- Products store public image URLs, resolved by ImageUrlResolver when they are written, so reads
+-- copy them as-is. Rows written before that hold bare local file names; they get the image base URL
+-- in front. ${imageBaseUrl} is spring.flyway.placeholders.imageBaseUrl (image.base.url). A later base
+-- URL change is applied by ImageBaseUrlRewriteConfig (images.previous-base-url).
+
+UPDATE products SET image = rtrim('${imageBaseUrl}', '/') || '/' || image
+    WHERE image NOT LIKE 'http://%' AND image NOT LIKE 'https://%';
+UPDATE products SET thumbnail_url = rtrim('${imageBaseUrl}', '/') || '/' || thumbnail_url
+    WHERE thumbnail_url NOT LIKE 'http://%' AND thumbnail_url NOT LIKE 'https://%';
+UPDATE products SET medium_url = rtrim('${imageBaseUrl}', '/') || '/' || medium_url
+    WHERE medium_url NOT LIKE 'http://%' AND medium_url NOT LIKE 'https://%';
+UPDATE products SET large_url = rtrim('${imageBaseUrl}', '/') || '/' || large_url
+    WHERE large_url NOT LIKE 'http://%' AND large_url NOT LIKE 'https://%';
+
+-- Images uploaded before renditions existed use the original for every rendition
+UPDATE products SET
+    thumbnail_url = COALESCE(thumbnail_url, image),
+    medium_url = COALESCE(medium_url, image),
+    large_url = COALESCE(large_url, image)
+    WHERE image IS NOT NULL AND (thumbnail_url IS NULL OR medium_url IS NULL OR large_url IS NULL);
@@ -0,0 +1,74 @@
+package com.ecommerce.project;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the prod profile against a database that ddl-auto built before schema migrations existed:
+ * the V1 tables with a product and the roles in them, and no Flyway history. Flyway has to baseline
+ * it at V1 and apply every later migration, and Hibernate then has to accept the result (ddl-auto=validate).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BaselineMigrationTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Test
+	void aDatabaseCreatedByDdlAutoIsBaselinedAndMigratedToLatest() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		createPreMigrationSchema(dataSource, jdbcTemplate);
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceApplication.class)
+				.profiles("prod")
+				.run("--server.port=0",
+						"--spring.datasource.url=" + postgres.getJdbcUrl(),
+						"--spring.datasource.username=" + postgres.getUsername(),
+						"--spring.datasource.password=" + postgres.getPassword(),
+						"--spring.jpa.hibernate.ddl-auto=validate",
+						"--orders.pipeline.poll-interval-ms=3600000",
+						"--cloudinary.cloud-name=test",
+						"--cloudinary.api-key=test",
+						"--cloudinary.api-secret=test",
+						"--project.image=images/",
+						"--image.base.url=http://localhost/images",
+						"--frontend.url=http://localhost",
+						"--management.tracing.sampling.probability=0")) {
+			String latestVersion = Flyway.configure().dataSource(dataSource).load().info().current().getVersion().getVersion();
+
+			assertEquals("1", jdbcTemplate.queryForObject("SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class));
+			assertEquals(latestVersion, jdbcTemplate.queryForObject(
+					"SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank DESC LIMIT 1", String.class));
+			assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles", Integer.class));
+			assertEquals(List.of("http://localhost/images/legacy.jpg", "http://localhost/images/legacy.jpg", "http://localhost/images/legacy.jpg",
+					"http://localhost/images/legacy.jpg", "false"), jdbcTemplate.queryForObject(
+					"SELECT image, thumbnail_url, medium_url, large_url, hot_sku FROM products WHERE product_id = 1",
+					(resultSet, rowNumber) -> List.of(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+							resultSet.getString(4), String.valueOf(resultSet.getBoolean(5)))));
+			assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_commands", Integer.class));
+		}
+	}
+
+	// V1 is the schema ddl-auto created; dropping its history leaves the database as ddl-auto left it
+	private void createPreMigrationSchema(DriverManagerDataSource dataSource, JdbcTemplate jdbcTemplate) {
+		Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+		jdbcTemplate.execute("DROP TABLE flyway_schema_history");
+
+		jdbcTemplate.update("INSERT INTO roles (role_name) VALUES ('ROLE_USER'), ('ROLE_ADMIN')");
+		Long categoryId = jdbcTemplate.queryForObject("INSERT INTO categories (category_name) VALUES ('Legacy') RETURNING category_id", Long.class);
+		jdbcTemplate.update("INSERT INTO products (product_id, product_name, description, quantity, price, image, category_id) " +
+				"VALUES (1, 'Legacy product', 'Sold before migrations', 3, 9.5, 'legacy.jpg', ?)", categoryId);
+	}
+}
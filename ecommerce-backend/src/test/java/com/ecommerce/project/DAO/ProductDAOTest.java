@@ -0,0 +1,108 @@
+package com.ecommerce.project.DAO;
+
+import com.ecommerce.project.config.SqlStatementCountingConfig;
+import com.ecommerce.project.model.Category;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static com.ecommerce.project.helper.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The Flyway migrations are Postgres-only (expression indexes), so H2 gets its schema from Hibernate
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(SqlStatementCountingConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductDAOTest {
+
+	private static final int CATEGORY_SIZE = 100_000;
+
+	@Autowired
+	private ProductDAO productDAO;
+
+	@Autowired
+	private CategoryDAO categoryDAO;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Category largeCategory;
+
+	// Seeded once and committed outside the per-test transactions, which only roll back their own changes
+	@BeforeAll
+	void seedLargeCategory() {
+		largeCategory = categoryDAO.saveAndFlush(new Category(null, "Electronics", null));
+		Long categoryId = largeCategory.getCategoryId();
+
+		jdbcTemplate.batchUpdate("INSERT INTO products (product_id, product_name, description, quantity, price, hot_sku, category_id) " +
+				"VALUES (?, ?, ?, ?, ?, false, ?)", new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement statement, int row) throws SQLException {
+				statement.setLong(1, row + 1);
+				statement.setString(2, "Product " + row);
+				statement.setString(3, "Bulk seeded product");
+				statement.setInt(4, 10);
+				statement.setDouble(5, 9.99);
+				statement.setLong(6, categoryId);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return CATEGORY_SIZE;
+			}
+		});
+	}
+
+	@AfterAll
+	void removeLargeCategory() {
+		jdbcTemplate.update("DELETE FROM products WHERE category_id = ?", largeCategory.getCategoryId());
+		categoryDAO.deleteById(largeCategory.getCategoryId());
+	}
+
+	@Test
+	void existsByNameIgnoresCaseWithoutLoadingTheCategory() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertTrue(productDAO.existsByCategoryAndProductNameIgnoreCase(largeCategory, "PRODUCT 99999"));
+		assertFalse(productDAO.existsByCategoryAndProductNameIgnoreCase(largeCategory, "Product 100000"));
+
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getCollectionLoadCount());
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void existsByNameIssuesASingleStatement() {
+		assertTrue(assertMaxStatements(1, () -> productDAO.existsByCategoryAndProductNameIgnoreCase(largeCategory, "Product 42")));
+	}
+
+	@Test
+	void existsByNameIsScopedToTheCategory() {
+		Category otherCategory = categoryDAO.saveAndFlush(new Category(null, "Clothing", null));
+
+		assertFalse(productDAO.existsByCategoryAndProductNameIgnoreCase(otherCategory, "Product 1"));
+	}
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.project;
+
+import com.ecommerce.project.config.ImageBaseUrlRewriteConfig;
+import com.ecommerce.project.helper.ImageUrlResolver;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs V7 over product rows in the older image formats: bare file names get the image base URL,
+ * stored URLs stay, and missing renditions take the original. Then moves the stored URLs to a
+ * new base URL the way ImageBaseUrlRewriteConfig does after image.base.url changes.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductImageUrlMigrationTest {
+
+	private static final String IMAGE_BASE_URL = "http://localhost:8080/images/";
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Test
+	void productImagesHoldPublicUrlsAfterTheMigrationAndFollowABaseUrlChange() throws Exception {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		migrate(dataSource, "6");
+
+		Long categoryId = jdbcTemplate.queryForObject("INSERT INTO categories (category_name) VALUES ('Images') RETURNING category_id", Long.class);
+		insertProduct(jdbcTemplate, categoryId, 1, "legacy.jpg", null, null, null);
+		insertProduct(jdbcTemplate, categoryId, 2, IMAGE_BASE_URL + "a.jpg", IMAGE_BASE_URL + "a-thumbnail.webp",
+				IMAGE_BASE_URL + "a-medium.webp", IMAGE_BASE_URL + "a-large.webp");
+		insertProduct(jdbcTemplate, categoryId, 3, "https://res.cloudinary.com/demo/b.jpg", "https://res.cloudinary.com/demo/b-thumbnail.webp",
+				"https://res.cloudinary.com/demo/b-medium.webp", "https://res.cloudinary.com/demo/b-large.webp");
+
+		migrate(dataSource, "latest");
+
+		assertEquals(List.of(IMAGE_BASE_URL + "legacy.jpg", IMAGE_BASE_URL + "legacy.jpg", IMAGE_BASE_URL + "legacy.jpg",
+				IMAGE_BASE_URL + "legacy.jpg"), imagesOf(jdbcTemplate, 1));
+		assertEquals(List.of(IMAGE_BASE_URL + "a.jpg", IMAGE_BASE_URL + "a-thumbnail.webp", IMAGE_BASE_URL + "a-medium.webp",
+				IMAGE_BASE_URL + "a-large.webp"), imagesOf(jdbcTemplate, 2));
+		assertEquals(List.of("https://res.cloudinary.com/demo/b.jpg", "https://res.cloudinary.com/demo/b-thumbnail.webp",
+				"https://res.cloudinary.com/demo/b-medium.webp", "https://res.cloudinary.com/demo/b-large.webp"), imagesOf(jdbcTemplate, 3));
+
+		new ImageBaseUrlRewriteConfig()
+				.rewriteProductImageBaseUrl(jdbcTemplate, new ImageUrlResolver("https://cdn.example.com/images"), "http://localhost:8080/images")
+				.run();
+
+		assertEquals(List.of("https://cdn.example.com/images/a.jpg", "https://cdn.example.com/images/a-thumbnail.webp",
+				"https://cdn.example.com/images/a-medium.webp", "https://cdn.example.com/images/a-large.webp"), imagesOf(jdbcTemplate, 2));
+		assertEquals("https://res.cloudinary.com/demo/b.jpg", imagesOf(jdbcTemplate, 3).get(0));
+	}
+
+	// The base URL is configured without the trailing slash the stored URLs have
+	private void migrate(DriverManagerDataSource dataSource, String targetVersion) {
+		Flyway.configure()
+				.dataSource(dataSource)
+				.placeholders(Map.of("imageBaseUrl", "http://localhost:8080/images"))
+				.target(targetVersion)
+				.load()
+				.migrate();
+	}
+
+	private void insertProduct(JdbcTemplate jdbcTemplate, Long categoryId, long productId,
+			String image, String thumbnailUrl, String mediumUrl, String largeUrl) {
+		jdbcTemplate.update("INSERT INTO products (product_id, product_name, description, quantity, price, image, " +
+						"thumbnail_url, medium_url, large_url, category_id) VALUES (?, ?, 'Test product', 1, 5.0, ?, ?, ?, ?, ?)",
+				productId, "Product " + productId, image, thumbnailUrl, mediumUrl, largeUrl, categoryId);
+	}
+
+	private List<String> imagesOf(JdbcTemplate jdbcTemplate, long productId) {
+		return jdbcTemplate.queryForObject("SELECT image, thumbnail_url, medium_url, large_url FROM products WHERE product_id = ?",
+				(resultSet, rowNumber) -> List.of(resultSet.getString(1), resultSet.getString(2),
+						resultSet.getString(3), resultSet.getString(4)), productId);
+	}
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.project;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application with the prod profile against an empty database: the migrations have to
+ * build a schema Hibernate accepts (ddl-auto=validate here, none in production), the seed-data
+ * runner must stay off, and startup has to finish within the budget
+ * (-Dstartup.budget-ms, 30 seconds by default, generous enough for shared CI machines).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductionStartupTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProductionStartupTest.class);
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Test
+	void startsFromMigrationsWithinTheBudget() {
+		long budgetMillis = Long.getLong("startup.budget-ms", 30000);
+
+		long startedAt = System.nanoTime();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceApplication.class)
+				.profiles("prod")
+				.run("--server.port=0",
+						"--spring.datasource.url=" + postgres.getJdbcUrl(),
+						"--spring.datasource.username=" + postgres.getUsername(),
+						"--spring.datasource.password=" + postgres.getPassword(),
+						"--spring.jpa.hibernate.ddl-auto=validate",
+						"--spring.datasource.hikari.minimum-idle=2",
+						"--cloudinary.cloud-name=test",
+						"--cloudinary.api-key=test",
+						"--cloudinary.api-secret=test",
+						"--project.image=images/",
+						"--image.base.url=http://localhost/images",
+						"--frontend.url=http://localhost",
+						"--management.tracing.sampling.probability=0")) {
+			long startupMillis = (System.nanoTime() - startedAt) / 1_000_000;
+			logger.info("Production profile started in {} ms (budget {} ms)", startupMillis, budgetMillis);
+
+			JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+			assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles", Integer.class));
+			assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+			assertTrue(startupMillis <= budgetMillis,
+					"Startup took " + startupMillis + " ms, over the " + budgetMillis + " ms budget");
+		}
+	}
+}
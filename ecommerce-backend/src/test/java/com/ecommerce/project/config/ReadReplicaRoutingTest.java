@@ -0,0 +1,156 @@
+package com.ecommerce.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two independent Postgres containers stand in for the primary and the replica; each holds a row
+ * naming itself, so a query shows which one a transaction was routed to.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Container
+	private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	// Named like a service method, since only service-level read-only transactions may use the replica
+	private static final String SERVICE_TRANSACTION = "com.ecommerce.project.service.IProductServiceImpl.getAllProducts";
+
+	private static HikariDataSource primaryPool;
+	private static HikariDataSource replicaPool;
+
+	@BeforeAll
+	static void createPools() {
+		primaryPool = pool(primary, "primary");
+		replicaPool = pool(replica, "replica");
+		nameNode(primaryPool, "primary");
+		nameNode(replicaPool, "replica");
+	}
+
+	@AfterAll
+	static void closePools() {
+		primaryPool.close();
+		replicaPool.close();
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPool, 5);
+		monitor.checkLag();
+		assertTrue(monitor.isReplicaUsable());
+
+		DataSource routingDataSource = ReadReplicaDataSourceConfig.buildRoutingDataSource(primaryPool, replicaPool, monitor);
+
+		assertEquals("replica", nodeName(routingDataSource, true));
+		assertEquals("primary", nodeName(routingDataSource, false));
+	}
+
+	@Test
+	void aRepositoryCallOutsideAServiceTransactionUsesThePrimary() {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPool, 5);
+		monitor.checkLag();
+		DataSource routingDataSource = ReadReplicaDataSourceConfig.buildRoutingDataSource(primaryPool, replicaPool, monitor);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+		NodeRepository nodeRepository = transactionalRepository(new NodeRepository(new JdbcTemplate(routingDataSource)), transactionManager);
+
+		// On its own the repository opens its own read-only transaction, like a Spring Data repository method
+		assertEquals("primary", nodeRepository.currentNode());
+
+		// Inside a read-only service transaction it joins that transaction and reads the replica
+		TransactionTemplate serviceTransaction = new TransactionTemplate(transactionManager);
+		serviceTransaction.setReadOnly(true);
+		serviceTransaction.setName(SERVICE_TRANSACTION);
+		assertEquals("replica", serviceTransaction.execute(status -> nodeRepository.currentNode()));
+	}
+
+	@Test
+	void readOnlyTransactionsFallBackToThePrimaryWhileTheReplicaLags() {
+		// Any lag, even 0, is over a negative limit
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPool, -1);
+		monitor.checkLag();
+		assertFalse(monitor.isReplicaUsable());
+
+		DataSource routingDataSource = ReadReplicaDataSourceConfig.buildRoutingDataSource(primaryPool, replicaPool, monitor);
+
+		assertEquals("primary", nodeName(routingDataSource, true));
+	}
+
+	@Test
+	void anUnreachableReplicaIsSkipped() {
+		HikariDataSource closedPool = pool(replica, "closed-replica");
+		closedPool.close();
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(closedPool, 5);
+		monitor.checkLag();
+
+		assertFalse(monitor.isReplicaUsable());
+		assertEquals(-1, monitor.getLagSeconds());
+		assertEquals("primary", nodeName(ReadReplicaDataSourceConfig.buildRoutingDataSource(primaryPool, closedPool, monitor), true));
+	}
+
+	private static String nodeName(DataSource routingDataSource, boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routingDataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		transactionTemplate.setName(SERVICE_TRANSACTION);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+		return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+	}
+
+	private static NodeRepository transactionalRepository(NodeRepository repository, DataSourceTransactionManager transactionManager) {
+		ProxyFactory proxyFactory = new ProxyFactory(repository);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager, new AnnotationTransactionAttributeSource()));
+		return (NodeRepository) proxyFactory.getProxy();
+	}
+
+	private static HikariDataSource pool(PostgreSQLContainer<?> container, String poolName) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setJdbcUrl(container.getJdbcUrl());
+		pool.setUsername(container.getUsername());
+		pool.setPassword(container.getPassword());
+		pool.setMaximumPoolSize(2);
+		pool.setPoolName(poolName);
+		return pool;
+	}
+
+	private static void nameNode(DataSource dataSource, String nodeName) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE node (name varchar(32))");
+		jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", nodeName);
+	}
+
+	// Read-only by default, the way SimpleJpaRepository declares its methods
+	@Transactional(readOnly = true)
+	static class NodeRepository {
+		private final JdbcTemplate jdbcTemplate;
+
+		NodeRepository(JdbcTemplate jdbcTemplate) {
+			this.jdbcTemplate = jdbcTemplate;
+		}
+
+		public String currentNode() {
+			return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ByteRangeTest {
+
+	@Test
+	void parsesClosedOpenAndSuffixRanges() {
+		assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=0-99", 1000));
+		assertEquals(new ByteRange(500, 999), ByteRange.parse("bytes=500-", 1000));
+		assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", 1000));
+	}
+
+	@Test
+	void clampsRangesToTheFile() {
+		assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-5000", 1000));
+		assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", 1000));
+	}
+
+	@Test
+	void rangesPastTheEndAreUnsatisfiable() {
+		assertFalse(ByteRange.parse("bytes=1000-", 1000).isSatisfiable());
+		assertFalse(ByteRange.parse("bytes=-0", 1000).isSatisfiable());
+	}
+
+	@Test
+	void ignoresMalformedAndMultiRangeHeaders() {
+		assertNull(ByteRange.parse(null, 1000));
+		assertNull(ByteRange.parse("items=0-10", 1000));
+		assertNull(ByteRange.parse("bytes=0-10,20-30", 1000));
+		assertNull(ByteRange.parse("bytes=20-10", 1000));
+		assertNull(ByteRange.parse("bytes=abc-", 1000));
+	}
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final CircuitBreaker breaker = new CircuitBreaker(3, 1000, clock::get);
+
+	@Test
+	void opensAfterConsecutiveFailures() {
+		breaker.recordFailure();
+		breaker.recordFailure();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+		breaker.recordFailure();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+	}
+
+	@Test
+	void successResetsTheFailureCount() {
+		breaker.recordFailure();
+		breaker.recordFailure();
+		breaker.recordSuccess();
+		breaker.recordFailure();
+
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+	}
+
+	@Test
+	void halfOpenTrialClosesOrReopens() {
+		for (int failure = 0; failure < 3; failure++) {
+			breaker.recordFailure();
+		}
+
+		clock.addAndGet(1000);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+		breaker.recordFailure();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+		clock.addAndGet(1000);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+		breaker.recordSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+	}
+}
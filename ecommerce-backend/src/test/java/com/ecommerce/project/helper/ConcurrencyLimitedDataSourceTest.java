@@ -0,0 +1,55 @@
+package com.ecommerce.project.helper;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitedDataSourceTest {
+
+	private final ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(h2DataSource(), 2, 50);
+
+	@Test
+	void closingAConnectionReturnsItsPermit() throws Exception {
+		Connection first = dataSource.getConnection();
+		Connection second = dataSource.getConnection();
+		assertEquals(2, dataSource.getActiveConnections());
+
+		first.close();
+		assertEquals(1, dataSource.getActiveConnections());
+
+		try (Connection third = dataSource.getConnection()) {
+			assertTrue(third.isValid(1));
+		}
+		second.close();
+		assertEquals(0, dataSource.getActiveConnections());
+	}
+
+	@Test
+	void waitingPastTheTimeoutFails() throws Exception {
+		try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+			assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+		}
+		assertEquals(0, dataSource.getActiveConnections());
+	}
+
+	@Test
+	void closingTwiceReleasesOnce() throws Exception {
+		Connection connection = dataSource.getConnection();
+		connection.close();
+		connection.close();
+
+		assertEquals(0, dataSource.getActiveConnections());
+	}
+
+	private static JdbcDataSource h2DataSource() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+		return h2;
+	}
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentHashesTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void hashesTextAsLowercaseHex() {
+		assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", ContentHashes.sha256Hex("abc"));
+	}
+
+	@Test
+	void hashesAFileLargerThanTheReadBufferLikeItsBytes() throws IOException {
+		byte[] content = "product image ".repeat(20_000).getBytes(StandardCharsets.UTF_8);
+		Path file = Files.write(tempDir.resolve("image.bin"), content);
+
+		assertArrayEquals(ContentHashes.sha256(content), ContentHashes.sha256(file));
+	}
+
+	@Test
+	void hashesAnEmptyFile() throws IOException {
+		Path file = Files.createFile(tempDir.resolve("empty.bin"));
+
+		assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+				HexFormat.of().formatHex(ContentHashes.sha256(file)));
+	}
+}
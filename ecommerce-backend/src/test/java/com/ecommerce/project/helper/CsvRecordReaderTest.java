@@ -0,0 +1,40 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRecordReaderTest {
+
+	@Test
+	void readsPlainRecordsWithMixedLineEndings() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,c\r\n1,,3\n\nx,y,z"));
+
+		assertEquals(List.of("a", "b", "c"), reader.nextRecord());
+		assertEquals(List.of("1", "", "3"), reader.nextRecord());
+		assertEquals(List.of("x", "y", "z"), reader.nextRecord());
+		assertNull(reader.nextRecord());
+	}
+
+	@Test
+	void readsQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(
+				"\"Phone, 128GB\",\"The \"\"best\"\" one\",\"line one\nline two\"\n"));
+
+		assertEquals(List.of("Phone, 128GB", "The \"best\" one", "line one\nline two"), reader.nextRecord());
+		assertNull(reader.nextRecord());
+	}
+
+	@Test
+	void rejectsUnterminatedQuotedField() {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader("\"never closed,1\n"));
+
+		assertThrows(IOException.class, reader::nextRecord);
+	}
+}
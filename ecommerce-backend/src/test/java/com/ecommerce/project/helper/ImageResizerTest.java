@@ -0,0 +1,36 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImageResizerTest {
+
+	@Test
+	void keepsAspectRatioWhenShrinking() {
+		BufferedImage resized = ImageResizer.resizeToWidth(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 600);
+
+		assertEquals(600, resized.getWidth());
+		assertEquals(450, resized.getHeight());
+	}
+
+	@Test
+	void neverEnlargesSmallImages() {
+		BufferedImage resized = ImageResizer.resizeToWidth(new BufferedImage(120, 80, BufferedImage.TYPE_INT_RGB), 600);
+
+		assertEquals(120, resized.getWidth());
+		assertEquals(80, resized.getHeight());
+	}
+
+	@Test
+	void fillsTransparentPixelsWithWhite() {
+		BufferedImage transparent = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+
+		BufferedImage resized = ImageResizer.resizeToWidth(transparent, 10);
+
+		assertEquals(BufferedImage.TYPE_INT_RGB, resized.getType());
+		assertEquals(0xFFFFFF, resized.getRGB(5, 5) & 0xFFFFFF);
+	}
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.project.helper;
+
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.model.Product;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ImageUrlResolverTest {
+
+	private final ImageUrlResolver resolver = new ImageUrlResolver("http://localhost:8080/images");
+
+	@Test
+	void prefixesLocalNamesAndKeepsAbsoluteUrls() {
+		assertEquals("http://localhost:8080/images/a.jpg", resolver.resolve("a.jpg"));
+		assertEquals("https://res.cloudinary.com/demo/a.jpg", resolver.resolve("https://res.cloudinary.com/demo/a.jpg"));
+		assertNull(resolver.resolve(null));
+	}
+
+	@Test
+	void baseUrlWithTrailingSlashIsNotDoubled() {
+		ImageUrlResolver slashResolver = new ImageUrlResolver("http://localhost:8080/images/");
+
+		assertEquals("http://localhost:8080/images/a.jpg", slashResolver.resolve("a.jpg"));
+	}
+
+	@Test
+	void productsStoreResolvedUrlsAndMissingRenditionsFallBackToTheOriginal() {
+		Product product = new Product();
+		resolver.assignImages(product, new ProductImagesDto("a.jpg", "a-thumbnail.webp", null, null));
+
+		assertEquals("http://localhost:8080/images/a.jpg", product.getImage());
+		assertEquals("http://localhost:8080/images/a-thumbnail.webp", product.getThumbnailUrl());
+		assertEquals("http://localhost:8080/images/a.jpg", product.getMediumUrl());
+		assertEquals("http://localhost:8080/images/a.jpg", product.getLargeUrl());
+	}
+
+	@Test
+	void absoluteUploadResultsAreStoredUnchanged() {
+		Product product = new Product();
+		resolver.assignImages(product, new ProductImagesDto("https://res.cloudinary.com/demo/a.jpg",
+				"https://res.cloudinary.com/demo/a-thumbnail.webp", null, null));
+
+		assertEquals("https://res.cloudinary.com/demo/a.jpg", product.getImage());
+		assertEquals("https://res.cloudinary.com/demo/a-thumbnail.webp", product.getThumbnailUrl());
+		assertEquals("https://res.cloudinary.com/demo/a.jpg", product.getLargeUrl());
+	}
+}
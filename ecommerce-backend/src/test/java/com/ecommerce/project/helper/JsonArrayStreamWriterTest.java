@@ -0,0 +1,64 @@
+package com.ecommerce.project.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonArrayStreamWriterTest {
+
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+
+	@Test
+	void writesElementsAsOneArray() throws IOException {
+		ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+		JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(responseStream, jsonMapper, 100);
+
+		arrayWriter.write(Map.of("id", 1));
+		arrayWriter.write(Map.of("id", 2));
+		arrayWriter.finish();
+
+		assertEquals("[{\"id\":1},{\"id\":2}]", responseStream.toString(StandardCharsets.UTF_8));
+		assertEquals(2, arrayWriter.getWrittenElements());
+	}
+
+	@Test
+	void anEmptyStreamIsAnEmptyArray() throws IOException {
+		ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+		new JsonArrayStreamWriter(responseStream, jsonMapper, 100).finish();
+
+		assertEquals("[]", responseStream.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void flushesOnlyEveryNElements() throws IOException {
+		ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+		JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(responseStream, jsonMapper, 2);
+
+		arrayWriter.write(1);
+		assertEquals(0, responseStream.size());
+		arrayWriter.write(2);
+		assertEquals("[1,2", responseStream.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void aClosedClientConnectionFailsTheWrite() throws IOException {
+		OutputStream brokenStream = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+		JsonArrayStreamWriter arrayWriter = new JsonArrayStreamWriter(brokenStream, jsonMapper, 1);
+
+		assertThrows(UncheckedIOException.class, () -> arrayWriter.write("value"));
+	}
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapLruCacheTest {
+
+	@Test
+	void storesContentOffHeap() {
+		OffHeapLruCache cache = new OffHeapLruCache(1024, 256);
+		cache.put("thumb.jpg", ByteBuffer.wrap("thumbnail".getBytes(StandardCharsets.UTF_8)));
+
+		ByteBuffer cached = cache.get("thumb.jpg");
+		assertTrue(cached.isDirect());
+		assertTrue(cached.isReadOnly());
+		byte[] content = new byte[cached.remaining()];
+		cached.get(content);
+		assertEquals("thumbnail", new String(content, StandardCharsets.UTF_8));
+		assertEquals(9, cache.get("thumb.jpg").remaining());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesOverBudget() {
+		OffHeapLruCache cache = new OffHeapLruCache(300, 100);
+		cache.put("a", ByteBuffer.allocate(100));
+		cache.put("b", ByteBuffer.allocate(100));
+		cache.put("c", ByteBuffer.allocate(100));
+		cache.get("a");
+
+		cache.put("d", ByteBuffer.allocate(100));
+
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals(3, cache.size());
+		assertEquals(300, cache.usedBytes());
+	}
+
+	@Test
+	void refusesEntriesOverTheEntryLimit() {
+		OffHeapLruCache cache = new OffHeapLruCache(1024, 100);
+
+		assertFalse(cache.put("large.jpg", ByteBuffer.allocate(101)));
+		assertNull(cache.get("large.jpg"));
+		assertEquals(0, cache.usedBytes());
+	}
+
+	@Test
+	void replacingAnEntryKeepsTheByteCountAccurate() {
+		OffHeapLruCache cache = new OffHeapLruCache(1024, 100);
+		cache.put("a", ByteBuffer.allocate(60));
+		cache.put("a", ByteBuffer.allocate(40));
+		assertEquals(40, cache.usedBytes());
+
+		cache.remove("a");
+		assertEquals(0, cache.usedBytes());
+	}
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SalesTimeSeriesTest {
+
+	private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 9, 15);
+
+	@Test
+	void totalsOnlyIncludeHoursInsideTheRange() {
+		SalesTimeSeries series = new SalesTimeSeries();
+		series.addOrder(MORNING, 1, 3, 30.0);
+		series.addOrder(MORNING.plusHours(2), 1, 1, 12.5);
+		series.addOrder(MORNING.plusDays(1), 1, 2, 20.0);
+
+		SalesTimeSeries.SalesTotals sameDay = series.totalsBetween(MORNING.withHour(0), MORNING.withHour(0).plusDays(1));
+		assertEquals(2, sameDay.orders());
+		assertEquals(4, sameDay.units());
+		assertEquals(42.5, sameDay.revenue(), 0.0001);
+
+		SalesTimeSeries.SalesTotals partialHour = series.totalsBetween(MORNING.withMinute(0), MORNING.withMinute(30));
+		assertEquals(1, partialHour.orders());
+	}
+
+	@Test
+	void earlierOrdersAndRemovalsAreApplied() {
+		SalesTimeSeries series = new SalesTimeSeries();
+		series.addOrder(MORNING, 1, 2, 10.0);
+		series.addOrder(MORNING.minusDays(40), 1, 5, 50.0);
+		series.addOrder(MORNING, -1, 2, 10.0);
+
+		SalesTimeSeries.SalesTotals everything = series.totalsBetween(MORNING.minusYears(1), MORNING.plusYears(1));
+		assertEquals(1, everything.orders());
+		assertEquals(5, everything.units());
+		assertEquals(50.0, everything.revenue(), 0.0001);
+	}
+
+	@Test
+	void productSalesAreSummedAcrossDays() {
+		SalesTimeSeries series = new SalesTimeSeries();
+		LocalDate day = MORNING.toLocalDate();
+		series.addProductSale(day, 7, 1, 1, 2, 20.0);
+		series.addProductSale(day, 3, 2, 1, 1, 5.0);
+		series.addProductSale(day.plusDays(1), 7, 1, 1, 4, 40.0);
+		series.addProductSale(day.plusDays(5), 7, 1, 1, 100, 1000.0);
+
+		List<SalesTimeSeries.ProductSales> sales = series.productSalesBetween(day, day.plusDays(1));
+		assertEquals(2, sales.size());
+		assertEquals(new SalesTimeSeries.ProductSales(3, 2, 1, 5.0), sales.get(0));
+		assertEquals(new SalesTimeSeries.ProductSales(7, 1, 6, 60.0), sales.get(1));
+	}
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.project.helper;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test utility for statement budgets: runs a block and fails if it executed more than the allowed
+ * number of SQL statements. Needs the DataSource wrapped by SqlStatementCountingConfig.
+ * For MockMvc tests, the X-SQL-Statement-Count response header carries the same count per request.
+ */
+public final class SqlStatementAssertions {
+
+	private SqlStatementAssertions() {
+	}
+
+	public static <T> T assertMaxStatements(int maxStatements, Supplier<T> action) {
+		try (SqlStatementCounter.Scope statementScope = SqlStatementCounter.open()) {
+			T result = action.get();
+			assertTrue(statementScope.statements() <= maxStatements,
+					"Expected at most " + maxStatements + " SQL statements but " + statementScope.statements() + " were issued");
+			return result;
+		}
+	}
+
+	public static void assertMaxStatements(int maxStatements, Runnable action) {
+		assertMaxStatements(maxStatements, () -> {
+			action.run();
+			return null;
+		});
+	}
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlStatementCounterTest {
+
+	@Test
+	void countsStatementsInsideTheScope() {
+		SqlStatementCounter.recordStatement();
+		try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+			SqlStatementCounter.recordStatement();
+			SqlStatementCounter.recordStatement();
+			assertEquals(2, scope.statements());
+		}
+	}
+
+	@Test
+	void nestedScopesCountTowardsTheirParents() {
+		try (SqlStatementCounter.Scope request = SqlStatementCounter.open()) {
+			SqlStatementCounter.recordStatement();
+			try (SqlStatementCounter.Scope block = SqlStatementCounter.open()) {
+				SqlStatementCounter.recordStatement();
+				assertEquals(1, block.statements());
+			}
+			SqlStatementCounter.recordStatement();
+			assertEquals(3, request.statements());
+		}
+	}
+
+	@Test
+	void otherThreadsAreNotCounted() throws InterruptedException {
+		try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+			Thread worker = new Thread(SqlStatementCounter::recordStatement);
+			worker.start();
+			worker.join();
+			assertEquals(0, scope.statements());
+		}
+	}
+
+	@Test
+	void assertionFailsOverTheBudget() {
+		SqlStatementAssertions.assertMaxStatements(2, () -> {
+			SqlStatementCounter.recordStatement();
+			SqlStatementCounter.recordStatement();
+		});
+
+		assertThrows(AssertionError.class, () -> SqlStatementAssertions.assertMaxStatements(1, () -> {
+			SqlStatementCounter.recordStatement();
+			SqlStatementCounter.recordStatement();
+		}));
+	}
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.project.helper;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementCountingDataSourceTest {
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void createDatabase() {
+		JdbcDataSource h2DataSource = new JdbcDataSource();
+		h2DataSource.setURL("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2DataSource));
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counted (id bigint)");
+	}
+
+	@Test
+	void jdbcTemplateQueriesAndUpdatesAreCounted() {
+		try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+			jdbcTemplate.update("INSERT INTO counted (id) VALUES (?)", 1L);
+			jdbcTemplate.query("SELECT id FROM counted", resultSet -> {
+			});
+			jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counted", Long.class);
+
+			assertEquals(3, scope.statements());
+		}
+	}
+
+	@Test
+	void aBatchCountsAsOneStatement() {
+		try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+			jdbcTemplate.batchUpdate("INSERT INTO counted (id) VALUES (?)", List.of(new Object[]{2L}, new Object[]{3L}));
+
+			assertEquals(1, scope.statements());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.project.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedStockCounterTest {
+
+	private static final int CONCURRENT_BUYERS = 64;
+
+	@Test
+	void splitEvenlyGivesRemainderToLowestShards() {
+		assertArrayEquals(new long[]{4, 3, 3}, StripedStockCounter.splitEvenly(10, 3));
+	}
+
+	@Test
+	void tryDecrementFallsBackToAnotherShard() {
+		StripedStockCounter counter = new StripedStockCounter(new long[]{0, 0, 5, 0});
+
+		assertEquals(2, counter.tryDecrement(3));
+		assertEquals(-1, counter.tryDecrement(3));
+		assertEquals(2, counter.total());
+	}
+
+	@Test
+	void concurrentBuyersNeverOversell() throws Exception {
+		long initialStock = 100_000;
+		StripedStockCounter counter = new StripedStockCounter(StripedStockCounter.splitEvenly(initialStock, 16));
+
+		ExecutorService buyers = Executors.newFixedThreadPool(CONCURRENT_BUYERS);
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Long>> soldPerBuyer = new ArrayList<>();
+		for (int buyer = 0; buyer < CONCURRENT_BUYERS; buyer++) {
+			soldPerBuyer.add(buyers.submit(() -> {
+				startSignal.await();
+				long sold = 0;
+				while (counter.tryDecrement(1) >= 0) {
+					sold++;
+				}
+				return sold;
+			}));
+		}
+
+		startSignal.countDown();
+		long totalSold = 0;
+		for (Future<Long> sold : soldPerBuyer) {
+			totalSold += sold.get(30, TimeUnit.SECONDS);
+		}
+		buyers.shutdown();
+
+		assertEquals(initialStock, totalSold);
+		assertEquals(0, counter.total());
+		assertTrue(buyers.awaitTermination(5, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,171 @@
+package com.ecommerce.project.service;
+
+import com.ecommerce.project.DTO.AddressDto;
+import com.ecommerce.project.DTO.CartDto;
+import com.ecommerce.project.DTO.KeysetResponse;
+import com.ecommerce.project.DTO.PaymentCardDTO;
+import com.ecommerce.project.DTO.ProductDTO;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.service.Interface.IAddrService;
+import com.ecommerce.project.service.Interface.ICartService;
+import com.ecommerce.project.service.Interface.IPaymentCardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Admin keyset pages against Postgres (the schema comes from the Flyway migrations): each page starts
+ * after the given id, holds at most limit items in id order, and hands back the id for the next page.
+ * Each test pages only through the rows it seeded, starting after the highest id that was already there.
+ */
+@SpringBootTest(properties = {
+		"orders.pipeline.poll-interval-ms=3600000",
+		"app.seed-data.enabled=false",
+		"management.tracing.sampling.probability=0",
+		"cloudinary.cloud-name=test",
+		"cloudinary.api-key=test",
+		"cloudinary.api-secret=test",
+		"project.image=images/",
+		"image.base.url=http://localhost/images",
+		"frontend.url=http://localhost"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class AdminKeysetPageTest {
+
+	private static final AtomicInteger userSequence = new AtomicInteger();
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private IAddrService addrService;
+
+	@Autowired
+	private ICartService cartService;
+
+	@Autowired
+	private IPaymentCardService paymentCardService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void addressPagesFollowTheAddressIds() {
+		long afterId = highestId("address_id", "addresses");
+		List<Long> seededIds = new ArrayList<>();
+		for (int address = 0; address < 5; address++) {
+			seededIds.add(jdbcTemplate.queryForObject("INSERT INTO addresses (user_id, street, building_name, city, state, country, pincode) " +
+					"VALUES (?, 'Main Street', 'Block A', 'Toronto', 'ON', 'Canada', 'M5V') RETURNING address_id", Long.class, seedUser()));
+		}
+
+		KeysetResponse<AddressDto> firstPage = addrService.getAddr(afterId, 2);
+		KeysetResponse<AddressDto> secondPage = addrService.getAddr(firstPage.getLastId(), 2);
+		KeysetResponse<AddressDto> lastPage = addrService.getAddr(secondPage.getLastId(), 2);
+
+		assertEquals(seededIds.subList(0, 2), firstPage.getContent().stream().map(AddressDto::getAddressId).toList());
+		assertEquals(seededIds.subList(2, 4), secondPage.getContent().stream().map(AddressDto::getAddressId).toList());
+		assertEquals(seededIds.subList(4, 5), lastPage.getContent().stream().map(AddressDto::getAddressId).toList());
+		assertFalse(secondPage.isLastPage());
+		assertTrue(lastPage.isLastPage());
+		assertEquals(seededIds.get(4), lastPage.getLastId());
+	}
+
+	@Test
+	void paymentCardPagesFollowTheCardIds() {
+		long afterId = highestId("card_id", "payment_cards");
+		Long userId = seedUser();
+		List<Long> seededIds = new ArrayList<>();
+		for (int card = 0; card < 3; card++) {
+			seededIds.add(jdbcTemplate.queryForObject("INSERT INTO payment_cards (card_number, cardholder_name, expiry_month, expiry_year, cvv, is_default, user_id) " +
+					"VALUES ('4111111111111111', 'Test Holder', 12, 2030, '123', false, ?) RETURNING card_id", Long.class, userId));
+		}
+
+		KeysetResponse<PaymentCardDTO> firstPage = paymentCardService.getPaymentCards(afterId, 2);
+		KeysetResponse<PaymentCardDTO> lastPage = paymentCardService.getPaymentCards(firstPage.getLastId(), 2);
+		KeysetResponse<PaymentCardDTO> emptyPage = paymentCardService.getPaymentCards(lastPage.getLastId(), 2);
+
+		assertEquals(seededIds.subList(0, 2), firstPage.getContent().stream().map(PaymentCardDTO::getCardId).toList());
+		assertFalse(firstPage.isLastPage());
+		assertEquals(seededIds.subList(2, 3), lastPage.getContent().stream().map(PaymentCardDTO::getCardId).toList());
+		assertTrue(lastPage.isLastPage());
+		assertTrue(emptyPage.getContent().isEmpty());
+		assertEquals(lastPage.getLastId(), emptyPage.getLastId());
+	}
+
+	@Test
+	void cartPageLimitCountsCartsRatherThanLines() {
+		long afterId = highestId("cart_id", "carts");
+		Long categoryId = jdbcTemplate.queryForObject("INSERT INTO categories (category_name) VALUES (?) RETURNING category_id",
+				Long.class, "Keyset category " + userSequence.incrementAndGet());
+		List<Long> productIds = new ArrayList<>();
+		for (int product = 0; product < 3; product++) {
+			productIds.add(jdbcTemplate.queryForObject("INSERT INTO products (product_id, product_name, description, quantity, price, category_id) " +
+					"VALUES (nextval('products_seq'), ?, 'Test product', 10, 5.0, ?) RETURNING product_id",
+					Long.class, "Keyset product " + product, categoryId));
+		}
+		Long fullCartId = seedCart(productIds);
+		Long emptyCartId = seedCart(List.of());
+		Long singleLineCartId = seedCart(productIds.subList(0, 1));
+
+		KeysetResponse<CartDto> firstPage = cartService.getCarts(afterId, 2);
+		KeysetResponse<CartDto> lastPage = cartService.getCarts(firstPage.getLastId(), 2);
+
+		assertEquals(List.of(fullCartId, emptyCartId), firstPage.getContent().stream().map(CartDto::getCartId).toList());
+		assertEquals(productIds, firstPage.getContent().get(0).getProducts().stream().map(ProductDTO::getProductId).toList());
+		assertTrue(firstPage.getContent().get(1).getProducts().isEmpty());
+		assertFalse(firstPage.isLastPage());
+		assertEquals(emptyCartId, firstPage.getLastId());
+		assertEquals(List.of(singleLineCartId), lastPage.getContent().stream().map(CartDto::getCartId).toList());
+		assertEquals(1, lastPage.getContent().get(0).getProducts().size());
+		assertTrue(lastPage.isLastPage());
+	}
+
+	@Test
+	void aPageRequestOutsideTheLimitsIsRejected() {
+		assertThrows(APIErrorHandler.class, () -> addrService.getAddr(-1L, 10));
+		assertThrows(APIErrorHandler.class, () -> cartService.getCarts(0L, 0));
+		assertThrows(APIErrorHandler.class, () -> paymentCardService.getPaymentCards(0L, KeysetResponse.MAX_PAGE_SIZE + 1));
+	}
+
+	private long highestId(String idColumn, String table) {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+	}
+
+	private Long seedUser() {
+		int userNumber = userSequence.incrementAndGet();
+		return jdbcTemplate.queryForObject("INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING user_id",
+				Long.class, "keyset" + userNumber, "keyset" + userNumber + "@example.com");
+	}
+
+	// A cart for a fresh user with one unit of each given product
+	private Long seedCart(List<Long> productIds) {
+		Long cartId = jdbcTemplate.queryForObject("INSERT INTO carts (total_price, user_id) VALUES (?, ?) RETURNING cart_id",
+				Long.class, 5.0 * productIds.size(), seedUser());
+		for (Long productId : productIds) {
+			jdbcTemplate.update("INSERT INTO cart_items (cart_id, product_id, qty, product_price) VALUES (?, ?, 1, 5.0)", cartId, productId);
+		}
+		return cartId;
+	}
+}
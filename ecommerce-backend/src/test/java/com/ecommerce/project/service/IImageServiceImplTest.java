@@ -0,0 +1,229 @@
+package com.ecommerce.project.service;
+
+import com.ecommerce.project.DAO.StoredImageDAO;
+import com.ecommerce.project.DTO.ProductImagesDto;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.errorHandler.ServiceBusyException;
+import com.ecommerce.project.model.StoredImage;
+import com.ecommerce.project.service.Interface.FileService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IImageServiceImplTest {
+
+	@TempDir
+	Path tempDir;
+
+	private RecordingFileService fileService;
+	private final Map<String, StoredImage> storedImages = new ConcurrentHashMap<>();
+	private IImageServiceImpl imageService;
+
+	@BeforeEach
+	void createService() {
+		fileService = new RecordingFileService();
+		imageService = createService(2, 32);
+	}
+
+	@AfterEach
+	void shutdownService() {
+		imageService.shutdown();
+	}
+
+	@Test
+	void storesTheOriginalAndThreeRenditions() throws IOException {
+		ProductImagesDto storedImages = imageService.storeProductImage(writePng(800, 600));
+
+		assertTrue(storedImages.getImage().endsWith(".png"));
+		assertTrue(storedImages.getThumbnailUrl().contains("-thumbnail."));
+		assertTrue(storedImages.getMediumUrl().contains("-medium."));
+		assertTrue(storedImages.getLargeUrl().contains("-large."));
+		assertEquals(4, fileService.storedNames.size());
+	}
+
+	@Test
+	void rejectsAnImageOverThePixelLimitWithoutStoringAnything() throws IOException {
+		ReflectionTestUtils.setField(imageService, "maxPixels", 1000L);
+
+		assertThrows(APIErrorHandler.class, () -> imageService.storeProductImage(writePng(100, 100)));
+		assertTrue(fileService.storedNames.isEmpty());
+	}
+
+	@Test
+	void aFailedRenditionDeletesTheStoredOriginalAndRenditions() throws IOException {
+		fileService.failingName = "-medium.";
+
+		assertThrows(IOException.class, () -> imageService.storeProductImage(writePng(800, 600)));
+		assertTrue(fileService.storedNames.isEmpty());
+		assertTrue(fileService.deletedNames.stream().anyMatch(deletedName -> deletedName.endsWith(".png")));
+	}
+
+	@Test
+	void aBusyPoolRefusesTheUploadBeforeDecodingIt() throws Exception {
+		imageService.shutdown();
+		// One worker and two queue slots leave room for a single upload's three renditions
+		imageService = createService(1, 2);
+		fileService.blockStores = new CountDownLatch(1);
+		Path firstUpload = writePng(800, 600);
+
+		CompletableFuture<ProductImagesDto> inFlight = CompletableFuture.supplyAsync(() -> {
+			try {
+				return imageService.storeProductImage(firstUpload);
+			} catch (IOException exception) {
+				throw new IllegalStateException(exception);
+			}
+		});
+		assertTrue(fileService.storeStarted.await(5, TimeUnit.SECONDS));
+
+		assertThrows(ServiceBusyException.class, () -> imageService.storeProductImage(writePng(800, 600)));
+
+		fileService.blockStores.countDown();
+		inFlight.get(5, TimeUnit.SECONDS);
+		assertEquals(4, fileService.storedNames.size());
+	}
+
+	@Test
+	void anIdenticalUploadReusesTheStoredImages() throws IOException {
+		useDedupe();
+		Path upload = writePng(800, 600);
+
+		ProductImagesDto firstImages = imageService.storeProductImage(upload);
+		ProductImagesDto secondImages = imageService.storeProductImage(upload);
+
+		assertEquals(firstImages.getImage(), secondImages.getImage());
+		assertEquals(firstImages.getLargeUrl(), secondImages.getLargeUrl());
+		assertEquals(4, fileService.storedNames.size());
+	}
+
+	@Test
+	void anUploadIsStoredAgainWhenItsStoredCopyIsGone() throws IOException {
+		useDedupe();
+		Path upload = writePng(800, 600);
+		ProductImagesDto firstImages = imageService.storeProductImage(upload);
+		fileService.storedNames.remove(firstImages.getMediumUrl().substring("images/".length()));
+
+		ProductImagesDto secondImages = imageService.storeProductImage(upload);
+
+		assertNotEquals(firstImages.getImage(), secondImages.getImage());
+		assertEquals(1, storedImages.size());
+		assertEquals(secondImages.getImage(), storedImages.values().iterator().next().getImage());
+		assertEquals(7, fileService.storedNames.size());
+	}
+
+	@Test
+	void aRecentlyCheckedImageIsReusedWithoutAskingTheStoreAgain() throws IOException {
+		useDedupe();
+		ReflectionTestUtils.setField(imageService, "verifyTtlMinutes", 60L);
+		Path upload = writePng(800, 600);
+
+		imageService.storeProductImage(upload);
+		imageService.storeProductImage(upload);
+		imageService.storeProductImage(upload);
+
+		assertEquals(0, fileService.existenceChecks.get());
+		assertEquals(4, fileService.storedNames.size());
+	}
+
+	private void useDedupe() {
+		ReflectionTestUtils.setField(imageService, "storedImageDAO", inMemoryStoredImageDAO());
+		ReflectionTestUtils.setField(imageService, "dedupeEnabled", true);
+	}
+
+	// Only the two calls the pipeline makes are backed by the map
+	private StoredImageDAO inMemoryStoredImageDAO() {
+		return (StoredImageDAO) Proxy.newProxyInstance(StoredImageDAO.class.getClassLoader(), new Class<?>[]{StoredImageDAO.class},
+				(proxy, method, arguments) -> switch (method.getName()) {
+					case "findByContentHash" -> Optional.ofNullable(storedImages.get((String) arguments[0]));
+					case "save" -> {
+						StoredImage indexEntry = (StoredImage) arguments[0];
+						storedImages.put(indexEntry.getContentHash(), indexEntry);
+						yield indexEntry;
+					}
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private IImageServiceImpl createService(int workerThreads, int queueCapacity) {
+		IImageServiceImpl service = new IImageServiceImpl(fileService, null, workerThreads, queueCapacity, false,
+				ContextSnapshotFactory.builder().build());
+		ReflectionTestUtils.setField(service, "imageStoragePath", "images");
+		ReflectionTestUtils.setField(service, "thumbnailWidth", 150);
+		ReflectionTestUtils.setField(service, "mediumWidth", 300);
+		ReflectionTestUtils.setField(service, "largeWidth", 600);
+		ReflectionTestUtils.setField(service, "renditionQuality", 0.85f);
+		ReflectionTestUtils.setField(service, "maxPixels", 40_000_000L);
+		ReflectionTestUtils.setField(service, "dedupeEnabled", false);
+		// Every dedupe hit asks the store unless a test sets a TTL
+		ReflectionTestUtils.setField(service, "verifyTtlMinutes", 0L);
+		return service;
+	}
+
+	private Path writePng(int width, int height) throws IOException {
+		Path imageFile = Files.createTempFile(tempDir, "upload-", ".png");
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", imageFile.toFile());
+		return imageFile;
+	}
+
+	// Keeps stored names in memory; can fail one name or hold every store until released
+	private static class RecordingFileService implements FileService {
+		private final Set<String> storedNames = ConcurrentHashMap.newKeySet();
+		private final Set<String> deletedNames = ConcurrentHashMap.newKeySet();
+		private final CountDownLatch storeStarted = new CountDownLatch(1);
+		private final AtomicInteger existenceChecks = new AtomicInteger();
+		private volatile String failingName;
+		private volatile CountDownLatch blockStores;
+
+		@Override
+		public String storeImage(String folder, String fileName, Path imageFile) throws IOException {
+			storeStarted.countDown();
+			if (blockStores != null) {
+				try {
+					blockStores.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (failingName != null && fileName.contains(failingName)) {
+				throw new IOException("Store failed for " + fileName);
+			}
+			storedNames.add(fileName);
+			return folder + "/" + fileName;
+		}
+
+		@Override
+		public boolean imagesExist(String folder, List<String> storedImages) {
+			existenceChecks.incrementAndGet();
+			return storedImages.stream().allMatch(storedImage -> storedNames.contains(storedImage.substring(folder.length() + 1)));
+		}
+
+		@Override
+		public void deleteImage(String folder, String fileName) {
+			storedNames.remove(fileName);
+			deletedNames.add(fileName);
+		}
+	}
+}
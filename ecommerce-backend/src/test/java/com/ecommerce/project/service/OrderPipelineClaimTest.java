@@ -0,0 +1,219 @@
+package com.ecommerce.project.service;
+
+import com.ecommerce.project.DTO.OrderCommandClaim;
+import com.ecommerce.project.errorHandler.APIErrorHandler;
+import com.ecommerce.project.service.Interface.IOrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Queued checkout against Postgres (the schema comes from the Flyway migrations): a command that
+ * was requeued after the stall timeout and claimed again is processed once, by the newer claim,
+ * and a customer can never have two queued orders. The background worker only polls once an hour here.
+ */
+@SpringBootTest(properties = {
+		"orders.pipeline.poll-interval-ms=3600000",
+		"app.seed-data.enabled=false",
+		"management.tracing.sampling.probability=0",
+		"cloudinary.cloud-name=test",
+		"cloudinary.api-key=test",
+		"cloudinary.api-secret=test",
+		"project.image=images/",
+		"image.base.url=http://localhost/images",
+		"frontend.url=http://localhost"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class OrderPipelineClaimTest {
+
+	private static final int INITIAL_STOCK = 10;
+	private static final AtomicInteger customerSequence = new AtomicInteger();
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private IOrderService orderService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void aReclaimedCommandIsProcessedOnlyByTheNewerClaim() {
+		Customer customer = seedCustomerWithCart();
+		orderService.submitOrder(customer.email(), customer.addressId(), "CARD", "stripe", "pg-1", "SUCCEEDED", "ok");
+		Long commandId = commandIdOf(customer.email());
+
+		OrderCommandClaim staleClaim = claim(commandId);
+		simulateStall(commandId);
+		OrderCommandClaim currentClaim = claim(commandId);
+		assertEquals(staleClaim.getAttempt() + 1, currentClaim.getAttempt());
+
+		orderService.processOrderCommand(staleClaim);
+		assertEquals("PROCESSING", commandStatus(commandId));
+		assertNull(paymentIdOf(customer.email()));
+
+		orderService.processOrderCommand(currentClaim);
+		orderService.processOrderCommand(staleClaim);
+
+		assertEquals("COMPLETED", commandStatus(commandId));
+		assertEquals("Accepted", orderStatusOf(customer.email()));
+		assertEquals(INITIAL_STOCK - 2, jdbcTemplate.queryForObject(
+				"SELECT quantity FROM products WHERE product_id = ?", Integer.class, customer.productId()));
+	}
+
+	@Test
+	void aStaleClaimCannotFailTheCommand() {
+		Customer customer = seedCustomerWithCart();
+		orderService.submitOrder(customer.email(), customer.addressId(), "CARD", "stripe", "pg-2", "SUCCEEDED", "ok");
+		Long commandId = commandIdOf(customer.email());
+
+		OrderCommandClaim staleClaim = claim(commandId);
+		simulateStall(commandId);
+		claim(commandId);
+
+		orderService.recordOrderCommandFailure(staleClaim, "Worker timed out", false);
+
+		assertEquals("PROCESSING", commandStatus(commandId));
+		assertEquals("Pending", orderStatusOf(customer.email()));
+	}
+
+	@Test
+	void aCommandWhoseWorkerKeepsDyingFailsAfterTheLastAttempt() {
+		Customer customer = seedCustomerWithCart();
+		orderService.submitOrder(customer.email(), customer.addressId(), "CARD", "stripe", "pg-5", "SUCCEEDED", "ok");
+		Long commandId = commandIdOf(customer.email());
+
+		// orders.pipeline.max-attempts defaults to 3; each claimed worker dies without recording a failure
+		for (int attempt = 1; attempt <= 3; attempt++) {
+			assertEquals(attempt, claim(commandId).getAttempt());
+			simulateStall(commandId);
+		}
+		orderService.claimOrderCommands(50);
+
+		assertEquals("FAILED", commandStatus(commandId));
+		assertEquals("Failed", orderStatusOf(customer.email()));
+	}
+
+	@Test
+	void concurrentSubmitsQueueOneOrder() throws Exception {
+		Customer customer = seedCustomerWithCart();
+
+		ExecutorService submitters = Executors.newFixedThreadPool(2);
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<?>> submits = new ArrayList<>();
+		for (int submitter = 0; submitter < 2; submitter++) {
+			submits.add(submitters.submit(() -> {
+				startSignal.await();
+				return orderService.submitOrder(customer.email(), customer.addressId(), "CARD", "stripe", "pg-3", "SUCCEEDED", "ok");
+			}));
+		}
+		startSignal.countDown();
+
+		int rejectedSubmits = 0;
+		for (Future<?> submit : submits) {
+			try {
+				submit.get(30, TimeUnit.SECONDS);
+			} catch (ExecutionException exception) {
+				assertTrue(exception.getCause() instanceof APIErrorHandler, exception.getCause().toString());
+				rejectedSubmits++;
+			}
+		}
+		submitters.shutdown();
+
+		assertEquals(1, rejectedSubmits);
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM order_commands WHERE email = ?", Integer.class, customer.email()));
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM orders WHERE email = ?", Integer.class, customer.email()));
+	}
+
+	@Test
+	void theDatabaseRejectsASecondActiveCommand() {
+		Customer customer = seedCustomerWithCart();
+		orderService.submitOrder(customer.email(), customer.addressId(), "CARD", "stripe", "pg-4", "SUCCEEDED", "ok");
+
+		assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+				"INSERT INTO order_commands (order_id, email, cart_id, status, attempts, created_at) " +
+						"VALUES (-1, ?, ?, 'PENDING', 0, now())", customer.email(), customer.cartId()));
+	}
+
+	private OrderCommandClaim claim(Long commandId) {
+		return orderService.claimOrderCommands(50).stream()
+				.filter(claim -> claim.getCommandId().equals(commandId))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	// Backdates the claim past the stall timeout, as if its worker had hung
+	private void simulateStall(Long commandId) {
+		jdbcTemplate.update("UPDATE order_commands SET claimed_at = now() - interval '1 hour' WHERE command_id = ?", commandId);
+	}
+
+	private Long commandIdOf(String email) {
+		return jdbcTemplate.queryForObject("SELECT command_id FROM order_commands WHERE email = ?", Long.class, email);
+	}
+
+	private String commandStatus(Long commandId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM order_commands WHERE command_id = ?", String.class, commandId);
+	}
+
+	private String orderStatusOf(String email) {
+		return jdbcTemplate.queryForObject("SELECT order_status FROM orders WHERE email = ?", String.class, email);
+	}
+
+	private Long paymentIdOf(String email) {
+		return jdbcTemplate.queryForObject("SELECT payment_id FROM orders WHERE email = ?", Long.class, email);
+	}
+
+	// A customer with an address and a cart holding two units of a fresh product
+	private Customer seedCustomerWithCart() {
+		int customerNumber = customerSequence.incrementAndGet();
+		String email = "buyer" + customerNumber + "@example.com";
+		Long userId = jdbcTemplate.queryForObject("INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING user_id",
+				Long.class, "buyer" + customerNumber, email);
+		Long categoryId = jdbcTemplate.queryForObject("INSERT INTO categories (category_name) VALUES (?) RETURNING category_id",
+				Long.class, "Category " + customerNumber);
+		Long productId = jdbcTemplate.queryForObject("INSERT INTO products (product_id, product_name, description, quantity, price, category_id) " +
+				"VALUES (nextval('products_seq'), ?, 'Test product', ?, 5.0, ?) RETURNING product_id",
+				Long.class, "Product " + customerNumber, INITIAL_STOCK, categoryId);
+		Long addressId = jdbcTemplate.queryForObject("INSERT INTO addresses (user_id, street, building_name, city, state, country, pincode) " +
+				"VALUES (?, 'Main Street', 'Block A', 'Toronto', 'ON', 'Canada', 'M5V') RETURNING address_id", Long.class, userId);
+		Long cartId = jdbcTemplate.queryForObject("INSERT INTO carts (total_price, user_id) VALUES (10.0, ?) RETURNING cart_id",
+				Long.class, userId);
+		jdbcTemplate.update("INSERT INTO cart_items (cart_id, product_id, qty, product_price) VALUES (?, ?, 2, 5.0)", cartId, productId);
+		return new Customer(email, addressId, cartId, productId);
+	}
+
+	private record Customer(String email, Long addressId, Long cartId, Long productId) {
+	}
+}